@@ -0,0 +1,65 @@
+package greencity.benchmark;
+
+import greencity.entity.EcoNews;
+import greencity.filters.EcoNewsSpecification;
+import greencity.filters.SearchCriteria;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link EcoNewsSpecification#toPredicate} construction for
+ * management eco news filter with every supported criteria filled. Criteria api
+ * is stubbed, so only work done by specification itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EcoNewsSpecificationBenchmark {
+    private EcoNewsSpecification ecoNewsSpecification;
+    private Root<EcoNews> root;
+    private CriteriaQuery<?> criteriaQuery;
+    private CriteriaBuilder criteriaBuilder;
+
+    /**
+     * Builds search criteria as eco news management page sends them.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ecoNewsSpecification = new EcoNewsSpecification(List.of(
+            SearchCriteria.builder().key("id").type("id").value("1").build(),
+            SearchCriteria.builder().key("title").type("title").value("eco").build(),
+            SearchCriteria.builder().key("author").type("author").value("Taras").build(),
+            SearchCriteria.builder().key("creationDate").type("dateRange")
+                .value(new String[] {"2020-01-01", "2021-12-31"}).build(),
+            SearchCriteria.builder().key("tags").type("tags").value("news").build()));
+        root = Stubs.deepStub(Root.class);
+        criteriaQuery = Stubs.deepStub(CriteriaQuery.class);
+        criteriaBuilder = Stubs.deepStub(CriteriaBuilder.class);
+    }
+
+    /**
+     * Builds predicate from all criteria.
+     */
+    @Benchmark
+    public Predicate toPredicate() {
+        return ecoNewsSpecification.toPredicate(root, criteriaQuery, criteriaBuilder);
+    }
+}
@@ -0,0 +1,138 @@
+package greencity.benchmark;
+
+import greencity.recommendation.FriendRecommendationIndex;
+import greencity.repository.FriendRecommendationRepo;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static greencity.repository.FriendRecommendationRepo.COMMENTED_ECO_NEWS;
+import static greencity.repository.FriendRecommendationRepo.HABITS;
+import static greencity.repository.FriendRecommendationRepo.MUTUAL_FRIENDS;
+
+/**
+ * Benchmark of friend recommendation lookups in
+ * {@link FriendRecommendationIndex} built from a seeded dataset of habit
+ * assigns, eco news comments and friendships. Database is not involved, so
+ * only the top-N lookup is measured, neither {@code fn_recommended_friends} nor
+ * the rebuild query are.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FriendRecommendationBenchmark {
+    private static final int RECOMMENDED_AMOUNT = 6;
+
+    @Param({"10000", "50000"})
+    private int usersAmount;
+
+    private long[][] habitAssigns;
+    private long[][] ecoNewsComments;
+    private long[][] friendships;
+    private FriendRecommendationIndex friendRecommendationIndex;
+    private Random random;
+
+    /**
+     * Seeds every user with habits, comments and friends, then builds the index.
+     */
+    @Setup
+    public void setUp() {
+        Random seeded = new Random(42);
+        habitAssigns = seed(seeded, 3, 200);
+        ecoNewsComments = seed(seeded, 5, 2000);
+        friendships = seed(seeded, 4, usersAmount);
+        FriendRecommendationRepo friendRecommendationRepo = new FriendRecommendationRepo(null) {
+            @Override
+            public long findMaxUserId() {
+                return usersAmount;
+            }
+
+            @Override
+            public void findCandidateCounts(long fromUserId, long toUserId, int maxSharedUsers,
+                CandidateCountHandler handler) {
+                Map<Long, Map<Long, int[]>> counts = new TreeMap<>();
+                countShared(habitAssigns, HABITS, fromUserId, toUserId, maxSharedUsers,
+                    counts);
+                countShared(ecoNewsComments, COMMENTED_ECO_NEWS, fromUserId, toUserId, maxSharedUsers,
+                    counts);
+                countShared(friendships, MUTUAL_FRIENDS, fromUserId, toUserId, maxSharedUsers,
+                    counts);
+                counts.forEach((userId, candidates) -> candidates.forEach((candidateId, kinds) -> {
+                    for (int kind = 0; kind < kinds.length; kind++) {
+                        if (kinds[kind] > 0) {
+                            handler.accept(userId, candidateId, kind, kinds[kind]);
+                        }
+                    }
+                }));
+            }
+        };
+        friendRecommendationIndex =
+            new FriendRecommendationIndex(friendRecommendationRepo, userId -> LongStream.empty(), 100, 1000, 5000);
+        friendRecommendationIndex.rebuild();
+        random = new Random(7);
+    }
+
+    /**
+     * Recommends friends with a top-N lookup in the index.
+     */
+    @Benchmark
+    public List<Long> index() {
+        return friendRecommendationIndex.findRecommendedIds(1L + random.nextInt(usersAmount), RECOMMENDED_AMOUNT);
+    }
+
+    private long[][] seed(Random seeded, int perUser, int targetsAmount) {
+        long[][] rows = new long[usersAmount * perUser][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new long[] {1 + i / perUser, 1 + seeded.nextInt(targetsAmount)};
+        }
+        return rows;
+    }
+
+    /**
+     * Counts users sharing target with users of given range, as the candidate
+     * counts query does.
+     */
+    private static void countShared(long[][] rows, int kind, long fromUserId, long toUserId, int maxSharedUsers,
+        Map<Long, Map<Long, int[]>> counts) {
+        Map<Long, Set<Long>> userIdsByTargetId = new HashMap<>();
+        for (long[] row : rows) {
+            userIdsByTargetId.computeIfAbsent(row[1], id -> new HashSet<>()).add(row[0]);
+        }
+        for (Set<Long> userIds : userIdsByTargetId.values()) {
+            if (userIds.size() > maxSharedUsers) {
+                continue;
+            }
+            for (Long userId : userIds) {
+                if (userId < fromUserId || userId > toUserId) {
+                    continue;
+                }
+                for (Long candidateId : userIds) {
+                    if (!candidateId.equals(userId)) {
+                        counts.computeIfAbsent(userId, id -> new HashMap<>())
+                            .computeIfAbsent(candidateId, id -> new int[3])[kind]++;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package greencity.benchmark;
+
+import greencity.ModelUtils;
+import greencity.dto.habit.HabitAssignDto;
+import greencity.dto.habit.HabitsDateEnrollmentDto;
+import greencity.dto.habitstatuscalendar.HabitEnrollDateDto;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import greencity.mapping.HabitAssignDtoMapper;
+import greencity.mapping.HabitDtoMapper;
+import greencity.repository.HabitAssignRepo;
+import greencity.repository.HabitStatusCalendarRepo;
+import greencity.service.HabitAssignServiceImpl;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of {@link HabitAssignServiceImpl} methods which do per request
+ * work proportional to amount of enrolled days: streak counting (measured
+ * through {@code unenrollHabit}, which recounts streak from the whole calendar)
+ * and building of enrollment calendar between dates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HabitAssignBenchmark {
+    private static final Long USER_ID = 1L;
+    private static final String LANGUAGE = "en";
+
+    @Param({"30", "365"})
+    private int enrolledDays;
+
+    @Param({"5"})
+    private int habitAssignsAmount;
+
+    private HabitAssignServiceImpl habitAssignService;
+    private HabitAssign enrolledHabitAssign;
+    private LocalDate today;
+
+    /**
+     * Builds habit assigns enrolled every day for {@code enrolledDays} days and
+     * service with stubbed repositories.
+     */
+    @Setup
+    public void setUp() {
+        today = LocalDate.now();
+        List<HabitAssign> habitAssigns = new ArrayList<>(habitAssignsAmount);
+        for (int i = 0; i < habitAssignsAmount; i++) {
+            habitAssigns.add(createEnrolledHabitAssign((long) i + 1));
+        }
+        enrolledHabitAssign = habitAssigns.get(0);
+        List<HabitEnrollDateDto> enrollDates = new ArrayList<>();
+        for (HabitAssign habitAssign : habitAssigns) {
+            for (HabitStatusCalendar calendar : habitAssign.getHabitStatusCalendars()) {
+                enrollDates.add(new HabitEnrollDateDto(habitAssign.getId(), calendar.getEnrollDate()));
+            }
+        }
+        HabitStatusCalendar notEnrolledDay = HabitStatusCalendar.builder()
+            .id(-1L)
+            .enrollDate(today.minusYears(10))
+            .build();
+
+        HabitAssignRepo habitAssignRepo = Stubs.stub(HabitAssignRepo.class, Map.of(
+            "findById", args -> Optional.of(enrolledHabitAssign),
+            "findAllHabitAssignsBetweenDates", args -> habitAssigns,
+            "save", args -> args[0]));
+        HabitStatusCalendarRepo habitStatusCalendarRepo = Stubs.stub(HabitStatusCalendarRepo.class, Map.of(
+            "findHabitStatusCalendarByEnrollDateAndHabitAssign", args -> notEnrolledDay,
+            "findEnrollDatesByHabitAssignIdsBetween", args -> enrollDates));
+        HabitAssignDtoMapper habitAssignDtoMapper = new HabitAssignDtoMapper();
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.addConverter(habitAssignDtoMapper);
+
+        habitAssignService = new HabitAssignServiceImpl(habitAssignRepo, null, null, null, null, null, null,
+            habitStatusCalendarRepo, null, null, null, null, null, modelMapper, habitAssignDtoMapper,
+            new HabitDtoMapper());
+    }
+
+    private HabitAssign createEnrolledHabitAssign(Long id) {
+        HabitAssign habitAssign = ModelUtils.getHabitAssign();
+        habitAssign.setId(id);
+        habitAssign.setCreateDate(ZonedDateTime.now().minusDays(enrolledDays));
+        habitAssign.setDuration(enrolledDays + 1);
+        habitAssign.setWorkingDays(enrolledDays);
+        List<HabitStatusCalendar> calendars = new ArrayList<>(enrolledDays);
+        for (int day = 0; day < enrolledDays; day++) {
+            calendars.add(HabitStatusCalendar.builder()
+                .id(id * 1000 + day)
+                .enrollDate(today.minusDays(day))
+                .build());
+        }
+        habitAssign.setHabitStatusCalendars(calendars);
+        return habitAssign;
+    }
+
+    /**
+     * Recounts habit streak of habit assign enrolled every day.
+     */
+    @Benchmark
+    public HabitAssignDto countNewHabitStreak() {
+        return habitAssignService.unenrollHabit(enrolledHabitAssign.getId(), USER_ID, today.minusYears(10));
+    }
+
+    /**
+     * Builds enrollment calendar for whole duration of habit assigns.
+     */
+    @Benchmark
+    public List<HabitsDateEnrollmentDto> findHabitAssignsBetweenDates() {
+        return habitAssignService.findHabitAssignsBetweenDates(USER_ID, today.minusDays(enrolledDays), today,
+            LANGUAGE);
+    }
+}
@@ -0,0 +1,107 @@
+package greencity.benchmark;
+
+import greencity.ModelUtils;
+import greencity.enums.Role;
+import greencity.security.dto.VerifiedAccessTokenDto;
+import greencity.security.jwt.JwtTool;
+import greencity.security.service.AccessTokenVerificationServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Benchmarks of {@link JwtTool} token parsing done for every authenticated
+ * request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtToolBenchmark {
+    private static final String TOKEN_KEY = "benchmark-access-token-key";
+
+    private JwtTool jwtTool;
+    private AccessTokenVerificationServiceImpl accessTokenVerificationService;
+    private String accessToken;
+    private MockHttpServletRequest request;
+
+    /**
+     * Creates access token and request carrying it.
+     */
+    @Setup
+    public void setUp() {
+        jwtTool = new JwtTool(120, 480, TOKEN_KEY);
+        accessTokenVerificationService = new AccessTokenVerificationServiceImpl(jwtTool, 10000, 60);
+        accessToken = jwtTool.createAccessToken(ModelUtils.getUser().getEmail(), Role.ROLE_USER);
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + accessToken);
+    }
+
+    /**
+     * Extracts token from authorization header.
+     */
+    @Benchmark
+    public String getTokenFromHttpServletRequest() {
+        return jwtTool.getTokenFromHttpServletRequest(request);
+    }
+
+    /**
+     * Validates token signature.
+     */
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtTool.isTokenValid(accessToken, jwtTool.getAccessTokenKey());
+    }
+
+    /**
+     * Reads email from token without signature check.
+     */
+    @Benchmark
+    public String getEmailOutOfAccessToken() {
+        return jwtTool.getEmailOutOfAccessToken(accessToken);
+    }
+
+    /**
+     * Parses signed claims with key decoded from its Base64 string on every call.
+     */
+    @Benchmark
+    public Claims parseClaims() {
+        return Jwts.parser()
+            .setSigningKey(jwtTool.getAccessTokenKey())
+            .parseClaimsJws(accessToken)
+            .getBody();
+    }
+
+    /**
+     * Parses signed claims with precomputed key.
+     */
+    @Benchmark
+    public Claims parseClaimsWithSecretKey() {
+        return Jwts.parser()
+            .setSigningKey(jwtTool.getAccessSecretKey())
+            .parseClaimsJws(accessToken)
+            .getBody();
+    }
+
+    /**
+     * Verifies token as authentication provider does, repeated tokens are served
+     * from the verified token cache.
+     */
+    @Benchmark
+    public VerifiedAccessTokenDto verifyAccessToken() {
+        return accessTokenVerificationService.verify(accessToken);
+    }
+}
@@ -0,0 +1,226 @@
+package greencity.benchmark;
+
+import greencity.ModelUtils;
+import greencity.dto.econews.EcoNewsDto;
+import greencity.dto.econewscomment.EcoNewsCommentDto;
+import greencity.dto.habit.HabitAssignDto;
+import greencity.dto.habit.HabitDto;
+import greencity.entity.EcoNews;
+import greencity.entity.EcoNewsComment;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitTranslation;
+import greencity.mapping.EcoNewsCommentDtoMapper;
+import greencity.mapping.EcoNewsDtoMapper;
+import greencity.mapping.HabitAssignDtoMapper;
+import greencity.mapping.HabitDtoMapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares mapping of the hottest entity/dto pairs with plain reflective
+ * {@link ModelMapper} without converters as baseline, through
+ * {@link ModelMapper} with registered converters as it was done in services,
+ * and with direct calls of {@code greencity.mapping} converters. Plain mapper
+ * fills only fields matched by name, so its dtos are incomplete and it shows
+ * the lower bound of reflective mapping cost. Run with {@code -prof gc} to see
+ * allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"1", "20"})
+    private int size;
+
+    private final EcoNewsDtoMapper ecoNewsDtoMapper = new EcoNewsDtoMapper();
+    private final HabitAssignDtoMapper habitAssignDtoMapper = new HabitAssignDtoMapper();
+    private final HabitDtoMapper habitDtoMapper = new HabitDtoMapper();
+    private final EcoNewsCommentDtoMapper ecoNewsCommentDtoMapper = new EcoNewsCommentDtoMapper();
+    private ModelMapper plainModelMapper;
+    private ModelMapper modelMapper;
+    private List<EcoNews> ecoNews;
+    private List<HabitAssign> habitAssigns;
+    private List<HabitTranslation> habitTranslations;
+    private List<EcoNewsComment> ecoNewsComments;
+
+    /**
+     * Builds plain {@link ModelMapper}, {@link ModelMapper} configured as in
+     * application and fixtures.
+     */
+    @Setup
+    public void setUp() {
+        plainModelMapper = new ModelMapper();
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+            .setMatchingStrategy(MatchingStrategies.STRICT)
+            .setFieldMatchingEnabled(true)
+            .setSkipNullEnabled(true)
+            .setFieldAccessLevel(AccessLevel.PRIVATE);
+        modelMapper.addConverter(ecoNewsDtoMapper);
+        modelMapper.addConverter(habitAssignDtoMapper);
+        modelMapper.addConverter(habitDtoMapper);
+        modelMapper.addConverter(ecoNewsCommentDtoMapper);
+
+        ecoNews = new ArrayList<>(size);
+        habitAssigns = new ArrayList<>(size);
+        habitTranslations = new ArrayList<>(size);
+        ecoNewsComments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EcoNews news = ModelUtils.getEcoNews();
+            news.setUsersLikedNews(Collections.singleton(ModelUtils.getUser()));
+            ecoNews.add(news);
+            habitAssigns.add(ModelUtils.getHabitAssign());
+            habitTranslations.add(ModelUtils.getHabitTranslation());
+            EcoNewsComment comment = ModelUtils.getEcoNewsComment();
+            comment.setUsersLiked(Collections.singleton(ModelUtils.getUser()));
+            ecoNewsComments.add(comment);
+        }
+    }
+
+    /**
+     * Maps eco news through plain {@link ModelMapper} without converters.
+     */
+    @Benchmark
+    public List<EcoNewsDto> ecoNewsPlainModelMapper() {
+        List<EcoNewsDto> result = new ArrayList<>(size);
+        for (EcoNews news : ecoNews) {
+            result.add(plainModelMapper.map(news, EcoNewsDto.class));
+        }
+        return result;
+    }
+
+    /**
+     * Maps eco news through {@link ModelMapper} with registered converters.
+     */
+    @Benchmark
+    public List<EcoNewsDto> ecoNewsModelMapper() {
+        List<EcoNewsDto> result = new ArrayList<>(size);
+        for (EcoNews news : ecoNews) {
+            result.add(modelMapper.map(news, EcoNewsDto.class));
+        }
+        return result;
+    }
+
+    /**
+     * Maps eco news with {@link EcoNewsDtoMapper}.
+     */
+    @Benchmark
+    public List<EcoNewsDto> ecoNewsConverter() {
+        return ecoNewsDtoMapper.mapAllToList(ecoNews);
+    }
+
+    /**
+     * Maps habit assigns through plain {@link ModelMapper} without converters.
+     */
+    @Benchmark
+    public List<HabitAssignDto> habitAssignPlainModelMapper() {
+        List<HabitAssignDto> result = new ArrayList<>(size);
+        for (HabitAssign habitAssign : habitAssigns) {
+            result.add(plainModelMapper.map(habitAssign, HabitAssignDto.class));
+        }
+        return result;
+    }
+
+    /**
+     * Maps habit assigns through {@link ModelMapper} with registered converters.
+     */
+    @Benchmark
+    public List<HabitAssignDto> habitAssignModelMapper() {
+        List<HabitAssignDto> result = new ArrayList<>(size);
+        for (HabitAssign habitAssign : habitAssigns) {
+            result.add(modelMapper.map(habitAssign, HabitAssignDto.class));
+        }
+        return result;
+    }
+
+    /**
+     * Maps habit assigns with {@link HabitAssignDtoMapper}.
+     */
+    @Benchmark
+    public List<HabitAssignDto> habitAssignConverter() {
+        return habitAssignDtoMapper.mapAllToList(habitAssigns);
+    }
+
+    /**
+     * Maps habit translations through plain {@link ModelMapper} without converters.
+     */
+    @Benchmark
+    public List<HabitDto> habitPlainModelMapper() {
+        List<HabitDto> result = new ArrayList<>(size);
+        for (HabitTranslation habitTranslation : habitTranslations) {
+            result.add(plainModelMapper.map(habitTranslation, HabitDto.class));
+        }
+        return result;
+    }
+
+    /**
+     * Maps habit translations through {@link ModelMapper} with registered converters.
+     */
+    @Benchmark
+    public List<HabitDto> habitModelMapper() {
+        List<HabitDto> result = new ArrayList<>(size);
+        for (HabitTranslation habitTranslation : habitTranslations) {
+            result.add(modelMapper.map(habitTranslation, HabitDto.class));
+        }
+        return result;
+    }
+
+    /**
+     * Maps habit translations with {@link HabitDtoMapper}.
+     */
+    @Benchmark
+    public List<HabitDto> habitConverter() {
+        return habitDtoMapper.mapAllToList(habitTranslations);
+    }
+
+    /**
+     * Maps eco news comments through plain {@link ModelMapper} without converters.
+     */
+    @Benchmark
+    public List<EcoNewsCommentDto> ecoNewsCommentPlainModelMapper() {
+        List<EcoNewsCommentDto> result = new ArrayList<>(size);
+        for (EcoNewsComment comment : ecoNewsComments) {
+            result.add(plainModelMapper.map(comment, EcoNewsCommentDto.class));
+        }
+        return result;
+    }
+
+    /**
+     * Maps eco news comments through {@link ModelMapper} with registered converters.
+     */
+    @Benchmark
+    public List<EcoNewsCommentDto> ecoNewsCommentModelMapper() {
+        List<EcoNewsCommentDto> result = new ArrayList<>(size);
+        for (EcoNewsComment comment : ecoNewsComments) {
+            result.add(modelMapper.map(comment, EcoNewsCommentDto.class));
+        }
+        return result;
+    }
+
+    /**
+     * Maps eco news comments with {@link EcoNewsCommentDtoMapper}.
+     */
+    @Benchmark
+    public List<EcoNewsCommentDto> ecoNewsCommentConverter() {
+        return ecoNewsCommentDtoMapper.mapAllToList(ecoNewsComments);
+    }
+}
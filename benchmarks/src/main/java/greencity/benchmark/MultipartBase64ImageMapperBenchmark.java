@@ -0,0 +1,84 @@
+package greencity.benchmark;
+
+import greencity.mapping.MultipartBase64ImageMapper;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Throughput benchmark of {@link MultipartBase64ImageMapper#convert} for images
+ * sent by client as Base64 data url. Images up to 2048 pixels are passed
+ * through, larger ones go through downscaling and re-encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultipartBase64ImageMapperBenchmark {
+    @Param({"256", "1024", "4096"})
+    private int imageSide;
+
+    @Param({"png", "jpg"})
+    private String format;
+
+    private final MultipartBase64ImageMapper mapper = new MultipartBase64ImageMapper();
+    private String base64Image;
+
+    /**
+     * Draws image of given size and format and encodes it as data url.
+     */
+    @Setup
+    public void setUp() {
+        BufferedImage image = new BufferedImage(imageSide, imageSide, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.GREEN);
+        graphics.fillOval(0, 0, imageSide, imageSide);
+        graphics.dispose();
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            ImageIO.write(image, format, outputStream);
+            base64Image = "data:image/" + format + ";base64,"
+                + Base64.getEncoder().encodeToString(outputStream.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Converts Base64 image into {@link MultipartFile} in one thread.
+     */
+    @Benchmark
+    public MultipartFile convert() {
+        return mapper.convert(base64Image);
+    }
+
+    /**
+     * Converts Base64 image into {@link MultipartFile} from several threads at
+     * once, as concurrent uploads do.
+     */
+    @Benchmark
+    @Threads(4)
+    public MultipartFile convertConcurrently() {
+        return mapper.convert(base64Image);
+    }
+}
@@ -0,0 +1,79 @@
+package greencity.benchmark;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Lightweight interface stubs for benchmarks. Mockito records every invocation
+ * and would dominate measured time, so repositories and JPA criteria api are
+ * replaced with plain dynamic proxies.
+ */
+final class Stubs {
+    private Stubs() {
+    }
+
+    /**
+     * Creates stub which answers methods by name with given functions of arguments.
+     * Other methods return {@code null} or default primitive value.
+     *
+     * @param type    interface to stub.
+     * @param answers answers by method name.
+     * @return stub instance.
+     */
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> {
+                Function<Object[], Object> answer = answers.get(method.getName());
+                if (answer != null) {
+                    return answer.apply(args);
+                }
+                return objectMethod(proxy, method, args);
+            }));
+    }
+
+    /**
+     * Creates stub which returns new deep stub for every method returning an
+     * interface, so chains like {@code root.join(..).get(..).as(..)} work.
+     *
+     * @param type interface to stub.
+     * @return stub instance.
+     */
+    static <T> T deepStub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> {
+                Class<?> returnType = method.getReturnType();
+                if (returnType.isInterface() && method.getDeclaringClass() != Object.class) {
+                    return deepStub(returnType);
+                }
+                return objectMethod(proxy, method, args);
+            }));
+    }
+
+    private static Object objectMethod(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "stub";
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -3,7 +3,8 @@ package greencity.config;
 import greencity.security.filters.AccessTokenAuthenticationFilter;
 import greencity.security.jwt.JwtTool;
 import greencity.security.providers.JwtAuthenticationProvider;
-import greencity.service.UserService;
+import greencity.security.service.AccessTokenVerificationService;
+import greencity.service.UserPrincipalCacheService;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -55,16 +56,19 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private static final String HABIT_ASSIGN_ID = "/habit/assign/{habitId}";
     private static final String USER_SHOPPING_LIST = "/user/shopping-list-items";
     private final JwtTool jwtTool;
-    private final UserService userService;
+    private final UserPrincipalCacheService userPrincipalCacheService;
+    private final AccessTokenVerificationService accessTokenVerificationService;
 
     /**
      * Constructor.
      */
 
     @Autowired
-    public SecurityConfig(JwtTool jwtTool, UserService userService) {
+    public SecurityConfig(JwtTool jwtTool, UserPrincipalCacheService userPrincipalCacheService,
+        AccessTokenVerificationService accessTokenVerificationService) {
         this.jwtTool = jwtTool;
-        this.userService = userService;
+        this.userPrincipalCacheService = userPrincipalCacheService;
+        this.accessTokenVerificationService = accessTokenVerificationService;
     }
 
     /**
@@ -89,7 +93,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             .and()
             .addFilterBefore(
-                new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), userService),
+                new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), userPrincipalCacheService),
                 UsernamePasswordAuthenticationFilter.class)
             .exceptionHandling()
             .authenticationEntryPoint((req, resp, exc) -> resp.sendError(SC_UNAUTHORIZED, "Authorize first."))
@@ -106,6 +110,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             .antMatchers(HttpMethod.GET,
                 ECONEWS_COMMENTS)
             .hasAnyRole(ADMIN)
+            .antMatchers(HttpMethod.GET,
+                "/econews/byUserCursor")
+            .hasAnyRole(USER, ADMIN, MODERATOR, UBS_EMPLOYEE)
             .antMatchers(HttpMethod.GET,
                 "/ownSecurity/verifyEmail",
                 "/ownSecurity/updateAccessToken",
@@ -138,6 +145,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 "/econews/tags",
                 "/econews/tags/all",
                 "/econews/recommended",
+                "/econews/cursor",
                 "/econews/{id}",
                 "/econews/countLikes/{econewsId}",
                 "/econews/comments/count/comments/{ecoNewsId}",
@@ -381,7 +389,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
      */
     @Override
     protected void configure(AuthenticationManagerBuilder auth) {
-        auth.authenticationProvider(new JwtAuthenticationProvider(jwtTool));
+        auth.authenticationProvider(new JwtAuthenticationProvider(accessTokenVerificationService));
     }
 
     /**
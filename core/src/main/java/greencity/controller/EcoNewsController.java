@@ -8,6 +8,7 @@ import greencity.annotations.ValidEcoNewsDtoRequest;
 import greencity.annotations.ValidLanguage;
 import greencity.constant.HttpStatuses;
 import greencity.constant.SwaggerExampleModel;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.econews.*;
 import greencity.dto.tag.TagDto;
@@ -15,7 +16,7 @@ import greencity.dto.tag.TagVO;
 import greencity.dto.user.UserVO;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.service.EcoNewsService;
-import greencity.service.FileService;
+import greencity.service.ImageVariantService;
 import greencity.service.TagsService;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -26,6 +27,8 @@ import java.security.Principal;
 import java.util.List;
 import java.util.Locale;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -44,7 +47,7 @@ import springfox.documentation.annotations.ApiIgnore;
 public class EcoNewsController {
     private final EcoNewsService ecoNewsService;
     private final TagsService tagService;
-    private final FileService fileService;
+    private final ImageVariantService imageVariantService;
 
     /**
      * Method for getting three last eco news.
@@ -139,7 +142,7 @@ public class EcoNewsController {
     })
     @DeleteMapping("/deleteImage")
     public void deleteImage(@RequestParam String imagePath) {
-        fileService.delete(imagePath);
+        imageVariantService.delete(imagePath);
     }
 
     /**
@@ -240,6 +243,48 @@ public class EcoNewsController {
         return ResponseEntity.status(HttpStatus.OK).body(ecoNewsService.findAllByUser(user, page));
     }
 
+    /**
+     * Method for getting eco news feed page by cursor. Does not return total amount
+     * of eco news, use {@link #findAll(Pageable)} when it is needed.
+     *
+     * @param cursor cursor of next page from previous response, empty for first
+     *               page.
+     * @param size   amount of eco news on page.
+     * @return CursorPageDto of {@link EcoNewsGenericDto} instances.
+     */
+    @ApiOperation(value = "Find eco news feed page by cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = HttpStatuses.OK),
+        @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<EcoNewsGenericDto>> findAllByCursor(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(ecoNewsService.findGenericAllByCursor(cursor, size));
+    }
+
+    /**
+     * Method for getting page of authorised user eco news by cursor.
+     *
+     * @param cursor cursor of next page from previous response, empty for first
+     *               page.
+     * @param size   amount of eco news on page.
+     * @return CursorPageDto of {@link EcoNewsGenericDto} instances.
+     */
+    @ApiOperation(value = "Find user eco news page by cursor.")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = HttpStatuses.OK),
+        @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
+    })
+    @GetMapping("/byUserCursor")
+    public ResponseEntity<CursorPageDto<EcoNewsGenericDto>> getEcoNewsByUserByCursor(
+        @ApiIgnore @CurrentUser UserVO user,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(ecoNewsService.findAllByUserByCursor(user, cursor, size));
+    }
+
     /**
      * Method for deleting {@link EcoNewsVO} by its id.
      *
@@ -0,0 +1,47 @@
+package greencity.controller;
+
+import greencity.annotations.CurrentUserId;
+import greencity.constant.HttpStatuses;
+import greencity.dto.user.RecommendedFriendDto;
+import greencity.service.FriendRecommendationService;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/user")
+public class FriendRecommendationController {
+    private final FriendRecommendationService friendRecommendationService;
+
+    /**
+     * Method for finding users recommended as friends for current user.
+     *
+     * @param userId id of current user.
+     * @param limit  max amount of recommended users.
+     * @return list of {@link RecommendedFriendDto}, the most relevant first.
+     */
+    @ApiOperation(value = "Find users recommended as friends for current user.")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = HttpStatuses.OK),
+        @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST),
+        @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+    })
+    @GetMapping("/{userId}/recommendedFriends/")
+    public ResponseEntity<List<RecommendedFriendDto>> findRecommendedFriends(
+        @ApiParam("Id of current user. Cannot be empty.") @PathVariable @CurrentUserId Long userId,
+        @ApiParam("Max amount of recommended users.") @RequestParam(defaultValue = "6") int limit) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(friendRecommendationService.findRecommendedFriends(userId, limit));
+    }
+}
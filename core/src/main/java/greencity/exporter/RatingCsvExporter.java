@@ -0,0 +1,70 @@
+package greencity.exporter;
+
+import greencity.dto.ratingstatistics.RatingStatisticsDto;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * This class is used for export {@link greencity.entity.RatingStatistics} data
+ * to CSV file.
+ */
+@Slf4j
+@Component
+public class RatingCsvExporter {
+    private static final String HEADER = "Id,Event,Date,UserId,User email,Points changed,Current rating";
+
+    /**
+     * Export {@link greencity.entity.RatingStatistics} data to CSV file. Rows are
+     * written one by one as they are read.
+     *
+     * @param outputStream     stream to write file to.
+     * @param ratingStatistics rows to export.
+     */
+    public void export(OutputStream outputStream, Stream<RatingStatisticsDto> ratingStatistics) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(HEADER);
+            writer.write("\r\n");
+            Iterator<RatingStatisticsDto> iterator = ratingStatistics.iterator();
+            while (iterator.hasNext()) {
+                RatingStatisticsDto dto = iterator.next();
+                writer.write(dto.getId().toString());
+                writer.write(',');
+                writer.write(dto.getRatingCalculationEnum().toString());
+                writer.write(',');
+                writer.write(dto.getCreateDate().toString());
+                writer.write(',');
+                writer.write(dto.getUser().getId().toString());
+                writer.write(',');
+                writer.write(escape(dto.getUser().getEmail()));
+                writer.write(',');
+                writer.write(Float.toString(dto.getPointsChanged()));
+                writer.write(',');
+                writer.write(Float.toString(dto.getRating()));
+                writer.write("\r\n");
+            }
+            writer.flush();
+        } catch (IOException ex) {
+            log.error("Export to csv file error {}", ex.getMessage());
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
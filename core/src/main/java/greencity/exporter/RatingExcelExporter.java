@@ -3,15 +3,15 @@ package greencity.exporter;
 import greencity.dto.ratingstatistics.RatingStatisticsDto;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.List;
+import java.util.Iterator;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 /**
@@ -24,44 +24,60 @@ import org.springframework.stereotype.Component;
 @Component
 public class RatingExcelExporter {
     /**
-     * Export {@link greencity.entity.RatingStatistics} data to Excel file.
+     * Amount of rows kept in memory, older rows are flushed to temporary file.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    private static final String[] HEADERS =
+        {"Id", "Event", "Date", "UserId", "User email", "Points changed", "Current rating"};
+
+    /**
+     * Export {@link greencity.entity.RatingStatistics} data to Excel file. Rows are
+     * written with streaming workbook and columns are sized once after all rows are
+     * written, so memory use does not depend on amount of rows.
      *
+     * @param outputStream            stream to write file to.
+     * @param ratingStatisticsDtoList rows to export.
      * @author Dovganyuk Taras
      */
-    public void export(OutputStream outputStream, List<RatingStatisticsDto> ratingStatisticsDtoList) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+    public void export(OutputStream outputStream, Stream<RatingStatisticsDto> ratingStatisticsDtoList) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        try {
             CellStyle style = workbook.createCellStyle();
-            XSSFFont font = workbook.createFont();
+            Font font = workbook.createFont();
             font.setBold(true);
-            font.setFontHeight(14);
+            font.setFontHeightInPoints((short) 14);
             style.setFont(font);
 
-            XSSFSheet sheet = workbook.createSheet("Rating");
+            SXSSFSheet sheet = workbook.createSheet("Rating");
+            sheet.trackAllColumnsForAutoSizing();
             Row row = sheet.createRow(0);
-            setCell(row, 0, style, "Id");
-            setCell(row, 1, style, "Event");
-            setCell(row, 2, style, "Date");
-            setCell(row, 3, style, "UserId");
-            setCell(row, 4, style, "User email");
-            setCell(row, 5, style, "Points changed");
-            setCell(row, 6, style, "Current rating");
+            for (int i = 0; i < HEADERS.length; i++) {
+                setCell(row, i, style, HEADERS[i]);
+            }
 
             int rowCount = 1;
-            for (RatingStatisticsDto dto : ratingStatisticsDtoList) {
+            Iterator<RatingStatisticsDto> iterator = ratingStatisticsDtoList.iterator();
+            while (iterator.hasNext()) {
+                RatingStatisticsDto dto = iterator.next();
                 row = sheet.createRow(rowCount++);
 
-                setCell(row, 0, dto.getId().toString(), sheet);
-                setCell(row, 1, dto.getRatingCalculationEnum().toString(), sheet);
-                setCell(row, 2, dto.getCreateDate().toString(), sheet);
-                setCell(row, 3, dto.getUser().getId().toString(), sheet);
-                setCell(row, 4, dto.getUser().getEmail(), sheet);
-                setCell(row, 5, Float.toString(dto.getPointsChanged()), sheet);
-                setCell(row, 6, Float.toString(dto.getRating()), sheet);
+                setCell(row, 0, dto.getId().toString());
+                setCell(row, 1, dto.getRatingCalculationEnum().toString());
+                setCell(row, 2, dto.getCreateDate().toString());
+                setCell(row, 3, dto.getUser().getId().toString());
+                setCell(row, 4, dto.getUser().getEmail());
+                setCell(row, 5, Float.toString(dto.getPointsChanged()));
+                setCell(row, 6, Float.toString(dto.getRating()));
+            }
+            for (int i = 0; i < HEADERS.length; i++) {
+                sheet.autoSizeColumn(i);
             }
 
             workbook.write(outputStream);
         } catch (IOException ex) {
             log.error("Export to excel file error {}", ex.getMessage());
+        } finally {
+            workbook.dispose();
         }
     }
 
@@ -71,9 +87,7 @@ public class RatingExcelExporter {
         cell.setCellValue(cellName);
     }
 
-    private static void setCell(Row row, Integer cellNumber, String value, Sheet sheet) {
-        Cell cell = row.createCell(cellNumber);
-        cell.setCellValue(value);
-        sheet.autoSizeColumn(cellNumber);
+    private static void setCell(Row row, Integer cellNumber, String value) {
+        row.createCell(cellNumber).setCellValue(value);
     }
 }
@@ -1,8 +1,8 @@
 package greencity.security.filters;
 
-import greencity.dto.user.UserVO;
+import greencity.dto.user.UserPrincipalVO;
 import greencity.security.jwt.JwtTool;
-import greencity.service.UserService;
+import greencity.service.UserPrincipalCacheService;
 import io.jsonwebtoken.ExpiredJwtException;
 import java.io.IOException;
 import java.util.Arrays;
@@ -29,16 +29,16 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTool jwtTool;
     private final AuthenticationManager authenticationManager;
-    private final UserService userService;
+    private final UserPrincipalCacheService userPrincipalCacheService;
 
     /**
      * Constructor.
      */
     public AccessTokenAuthenticationFilter(JwtTool jwtTool, AuthenticationManager authenticationManager,
-        UserService userService) {
+        UserPrincipalCacheService userPrincipalCacheService) {
         this.jwtTool = jwtTool;
         this.authenticationManager = authenticationManager;
-        this.userService = userService;
+        this.userPrincipalCacheService = userPrincipalCacheService;
     }
 
     private String getTokenFromCookies(Cookie[] cookies) {
@@ -77,7 +77,8 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
             try {
                 Authentication authentication = authenticationManager
                     .authenticate(new UsernamePasswordAuthenticationToken(token, null));
-                Optional<UserVO> user = userService.findNotDeactivatedByEmail((String) authentication.getPrincipal());
+                Optional<UserPrincipalVO> user = userPrincipalCacheService
+                    .findNotDeactivatedByEmail((String) authentication.getPrincipal());
                 if (user.isPresent()) {
                     log.debug("User successfully authenticate - {}", authentication.getPrincipal());
                     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,11 +1,8 @@
 package greencity.security.providers;
 
-import static greencity.constant.AppConstant.ROLE;
-
-import greencity.security.jwt.JwtTool;
-import io.jsonwebtoken.Jwts;
+import greencity.security.dto.VerifiedAccessTokenDto;
+import greencity.security.service.AccessTokenVerificationService;
 import io.jsonwebtoken.UnsupportedJwtException;
-import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -19,19 +16,20 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
  * @version 1.1
  */
 public class JwtAuthenticationProvider implements AuthenticationProvider {
-    private final JwtTool jwtTool;
+    private final AccessTokenVerificationService accessTokenVerificationService;
 
     /**
      * Constructor.
-     * 
-     * @param jwtTool {@link JwtTool}
+     *
+     * @param accessTokenVerificationService {@link AccessTokenVerificationService}
      */
-    public JwtAuthenticationProvider(JwtTool jwtTool) {
-        this.jwtTool = jwtTool;
+    public JwtAuthenticationProvider(AccessTokenVerificationService accessTokenVerificationService) {
+        this.accessTokenVerificationService = accessTokenVerificationService;
     }
 
     /**
-     * Method that provide authentication.
+     * Method that provide authentication. Access token is parsed and verified once,
+     * subject and roles are taken from the same verified claims.
      *
      * @param authentication {@link Authentication} - authentication that has jwt
      *                       access token.
@@ -46,21 +44,11 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
      */
     @Override
     public Authentication authenticate(Authentication authentication) {
-        String email = Jwts.parser()
-            .setSigningKey(jwtTool.getAccessTokenKey())
-            .parseClaimsJws(authentication.getName())
-            .getBody()
-            .getSubject();
-        @SuppressWarnings({"unchecked, rawtype"})
-        List<String> authorities = (List<String>) Jwts.parser()
-            .setSigningKey(jwtTool.getAccessTokenKey())
-            .parseClaimsJws(authentication.getName())
-            .getBody()
-            .get(ROLE);
+        VerifiedAccessTokenDto token = accessTokenVerificationService.verify(authentication.getName());
         return new UsernamePasswordAuthenticationToken(
-            email,
+            token.getEmail(),
             "",
-            authorities.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList()));
+            token.getRoles().stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList()));
     }
 
     /**
@@ -0,0 +1,40 @@
+package greencity.webcontroller;
+
+import greencity.constant.HttpStatuses;
+import greencity.dto.cache.CacheStatisticsDto;
+import greencity.service.CacheStatisticsService;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/management/caches")
+public class ManagementCacheController {
+    private final CacheStatisticsService cacheStatisticsService;
+
+    /**
+     * Method for getting hit ratio, eviction count and load time of every
+     * application cache.
+     *
+     * @return list of {@link CacheStatisticsDto}.
+     */
+    @ApiOperation(value = "Get statistics of application caches.")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = HttpStatuses.OK, response = CacheStatisticsDto.class,
+            responseContainer = "List"),
+        @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+        @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN)
+    })
+    @GetMapping("/statistics")
+    public ResponseEntity<List<CacheStatisticsDto>> getStatistics() {
+        return ResponseEntity.status(HttpStatus.OK).body(cacheStatisticsService.getAllStatistics());
+    }
+}
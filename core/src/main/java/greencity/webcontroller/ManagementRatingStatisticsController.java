@@ -2,25 +2,29 @@ package greencity.webcontroller;
 
 import greencity.annotations.ApiPageable;
 import greencity.dto.PageableAdvancedDto;
-import greencity.dto.ratingstatistics.RatingStatisticsDto;
+import greencity.dto.ratingstatistics.RatingEventPipelineStatisticsDto;
 import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
 import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
+import greencity.exporter.RatingCsvExporter;
 import greencity.exporter.RatingExcelExporter;
+import greencity.service.RatingEventPipelineService;
 import greencity.service.RatingStatisticsService;
 import io.swagger.annotations.ApiOperation;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.List;
 import javax.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,6 +37,8 @@ import springfox.documentation.annotations.ApiIgnore;
 public class ManagementRatingStatisticsController {
     private RatingStatisticsService ratingStatisticsService;
     private RatingExcelExporter ratingExcelExporter;
+    private RatingCsvExporter ratingCsvExporter;
+    private RatingEventPipelineService ratingEventPipelineService;
     private final DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
 
     /**
@@ -40,9 +46,13 @@ public class ManagementRatingStatisticsController {
      */
     @Autowired
     public ManagementRatingStatisticsController(RatingStatisticsService ratingStatisticsService,
-        RatingExcelExporter ratingExcelExporter) {
+        RatingExcelExporter ratingExcelExporter,
+        RatingCsvExporter ratingCsvExporter,
+        RatingEventPipelineService ratingEventPipelineService) {
         this.ratingStatisticsService = ratingStatisticsService;
         this.ratingExcelExporter = ratingExcelExporter;
+        this.ratingCsvExporter = ratingCsvExporter;
+        this.ratingEventPipelineService = ratingEventPipelineService;
     }
 
     /**
@@ -71,17 +81,7 @@ public class ManagementRatingStatisticsController {
      */
     @GetMapping("/export")
     public void exportToExcel(HttpServletResponse response) throws IOException {
-        response.setContentType("application/octet-stream");
-        String headerKey = "Content-Disposition";
-
-        String currentDate = dateFormat.format(new Date());
-        String fileName = "user_rating_statistics" + currentDate + ".xlsx";
-        String headerValue = "attachment; filename=" + fileName;
-
-        response.setHeader(headerKey, headerValue);
-
-        List<RatingStatisticsDto> ratingStatisticsList = ratingStatisticsService.getAllRatingStatistics();
-        ratingExcelExporter.export(response.getOutputStream(), ratingStatisticsList);
+        writeExcel(response, null);
     }
 
     /**
@@ -93,19 +93,48 @@ public class ManagementRatingStatisticsController {
     public void exportFilteredToExcel(HttpServletResponse response,
         RatingStatisticsViewDto ratingStatisticsViewDto)
         throws IOException {
-        response.setContentType("application/octet-stream");
-        String headerKey = "Content-Disposition";
+        writeExcel(response, ratingStatisticsViewDto);
+    }
 
-        String currentDate = dateFormat.format(new Date());
-        String fileName = "user_rating_statistics" + currentDate + ".xlsx";
-        String headerValue = "attachment; filename=" + fileName;
+    /**
+     * Export {@link RatingStatisticsVO} to CSV file.
+     */
+    @GetMapping("/export/csv")
+    public void exportToCsv(HttpServletResponse response) throws IOException {
+        writeCsv(response, null);
+    }
+
+    /**
+     * Export filtered {@link RatingStatisticsVO} to CSV file.
+     */
+    @PostMapping(value = "/exportFiltered/csv", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public void exportFilteredToCsv(HttpServletResponse response,
+        RatingStatisticsViewDto ratingStatisticsViewDto)
+        throws IOException {
+        writeCsv(response, ratingStatisticsViewDto);
+    }
 
-        response.setHeader(headerKey, headerValue);
+    private void writeExcel(HttpServletResponse response, RatingStatisticsViewDto ratingStatisticsViewDto)
+        throws IOException {
+        setAttachmentHeaders(response, "application/octet-stream", ".xlsx");
+        OutputStream outputStream = response.getOutputStream();
+        ratingStatisticsService.exportRatingStatistics(ratingStatisticsViewDto,
+            ratingStatistics -> ratingExcelExporter.export(outputStream, ratingStatistics));
+    }
 
-        List<RatingStatisticsDto> ratingStatisticsList =
-            ratingStatisticsService
-                .getFilteredRatingStatisticsForExcel(ratingStatisticsViewDto);
-        ratingExcelExporter.export(response.getOutputStream(), ratingStatisticsList);
+    private void writeCsv(HttpServletResponse response, RatingStatisticsViewDto ratingStatisticsViewDto)
+        throws IOException {
+        setAttachmentHeaders(response, "text/csv; charset=UTF-8", ".csv");
+        OutputStream outputStream = response.getOutputStream();
+        ratingStatisticsService.exportRatingStatistics(ratingStatisticsViewDto,
+            ratingStatistics -> ratingCsvExporter.export(outputStream, ratingStatistics));
+    }
+
+    private void setAttachmentHeaders(HttpServletResponse response, String contentType, String extension) {
+        response.setContentType(contentType);
+        String currentDate = dateFormat.format(new Date());
+        String fileName = "user_rating_statistics" + currentDate + extension;
+        response.setHeader("Content-Disposition", "attachment; filename=" + fileName);
     }
 
     /**
@@ -127,4 +156,15 @@ public class ManagementRatingStatisticsController {
         model.addAttribute("fields", ratingStatisticsViewDto);
         return "core/management_user_rating";
     }
+
+    /**
+     * Returns counters and queue sizes of rating event pipeline.
+     *
+     * @return {@link RatingEventPipelineStatisticsDto}.
+     */
+    @ApiOperation(value = "Get statistics of rating event pipeline.")
+    @GetMapping("/events/statistics")
+    public ResponseEntity<RatingEventPipelineStatisticsDto> getRatingEventStatistics() {
+        return ResponseEntity.status(HttpStatus.OK).body(ratingEventPipelineService.getStatistics());
+    }
 }
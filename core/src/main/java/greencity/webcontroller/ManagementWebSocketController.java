@@ -0,0 +1,38 @@
+package greencity.webcontroller;
+
+import greencity.constant.HttpStatuses;
+import greencity.dto.econewscomment.CommentLikesBroadcastStatisticsDto;
+import greencity.service.CommentLikesBroadcastService;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/management/websocket")
+public class ManagementWebSocketController {
+    private final CommentLikesBroadcastService commentLikesBroadcastService;
+
+    /**
+     * Method for getting message rates of comment likes broadcasting and depth of
+     * broker outbound queue.
+     *
+     * @return {@link CommentLikesBroadcastStatisticsDto}.
+     */
+    @ApiOperation(value = "Get statistics of comment likes broadcasting.")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = HttpStatuses.OK, response = CommentLikesBroadcastStatisticsDto.class),
+        @ApiResponse(code = 401, message = HttpStatuses.UNAUTHORIZED),
+        @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN)
+    })
+    @GetMapping("/comment-likes/statistics")
+    public ResponseEntity<CommentLikesBroadcastStatisticsDto> getCommentLikesStatistics() {
+        return ResponseEntity.status(HttpStatus.OK).body(commentLikesBroadcastService.getStatistics());
+    }
+}
@@ -179,6 +179,24 @@ class EcoNewsControllerTest {
         verify(ecoNewsService).findAllByUser(null, pageable);
     }
 
+    @Test
+    @SneakyThrows
+    void findAllByCursorTest() {
+        mockMvc.perform(get(ecoNewsLink + "/cursor?cursor=abc&size=10"))
+            .andExpect(status().isOk());
+
+        verify(ecoNewsService).findGenericAllByCursor("abc", 10);
+    }
+
+    @Test
+    @SneakyThrows
+    void getEcoNewsByUserByCursorTest() {
+        mockMvc.perform(get(ecoNewsLink + "/byUserCursor"))
+            .andExpect(status().isOk());
+
+        verify(ecoNewsService).findAllByUserByCursor(null, null, 20);
+    }
+
     @Test
     void deleteTest() throws Exception {
         UserVO userVO = getUserVO();
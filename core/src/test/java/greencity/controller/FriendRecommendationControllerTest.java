@@ -0,0 +1,47 @@
+package greencity.controller;
+
+import greencity.service.FriendRecommendationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class FriendRecommendationControllerTest {
+    private MockMvc mockMvc;
+
+    @Mock
+    private FriendRecommendationService friendRecommendationService;
+
+    @InjectMocks
+    private FriendRecommendationController friendRecommendationController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(friendRecommendationController).build();
+    }
+
+    @Test
+    void findRecommendedFriendsWithDefaultLimit() throws Exception {
+        mockMvc.perform(get("/user/{userId}/recommendedFriends/", 1L))
+            .andExpect(status().isOk());
+
+        verify(friendRecommendationService).findRecommendedFriends(1L, 6);
+    }
+
+    @Test
+    void findRecommendedFriendsWithLimit() throws Exception {
+        mockMvc.perform(get("/user/{userId}/recommendedFriends/", 1L).param("limit", "20"))
+            .andExpect(status().isOk());
+
+        verify(friendRecommendationService).findRecommendedFriends(1L, 20);
+    }
+}
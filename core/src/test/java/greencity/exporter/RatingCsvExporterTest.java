@@ -0,0 +1,31 @@
+package greencity.exporter;
+
+import greencity.annotations.RatingCalculationEnum;
+import greencity.dto.ratingstatistics.RatingStatisticsDto;
+import greencity.dto.user.UserVO;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RatingCsvExporterTest {
+    private final RatingCsvExporter ratingCsvExporter = new RatingCsvExporter();
+
+    @Test
+    void exportWritesHeaderAndEscapedRows() {
+        ZonedDateTime createDate = ZonedDateTime.of(2021, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+        RatingStatisticsDto dto = new RatingStatisticsDto(1L, createDate, RatingCalculationEnum.ADD_COMMENT, 2f, 7f,
+            UserVO.builder().id(3L).email("a,\"b\"@mail.com").build());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ratingCsvExporter.export(outputStream, Stream.of(dto));
+
+        assertEquals("Id,Event,Date,UserId,User email,Points changed,Current rating\r\n"
+            + "1,ADD_COMMENT,2021-01-02T03:04:05Z,3,\"a,\"\"b\"\"@mail.com\",2.0,7.0\r\n",
+            outputStream.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -1,8 +1,8 @@
 package greencity.security.filters;
 
-import greencity.client.RestClient;
-import greencity.dto.user.UserVO;
+import greencity.dto.user.UserPrincipalVO;
 import greencity.security.jwt.JwtTool;
+import greencity.service.UserPrincipalCacheService;
 import io.jsonwebtoken.ExpiredJwtException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -45,7 +45,7 @@ class AccessTokenAuthenticationFilterTest {
     @Mock
     AuthenticationManager authenticationManager;
     @Mock
-    RestClient restClient;
+    UserPrincipalCacheService userPrincipalCacheService;
 
     @InjectMocks
     private AccessTokenAuthenticationFilter authenticationFilter;
@@ -67,8 +67,8 @@ class AccessTokenAuthenticationFilterTest {
         when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn("SuperSecretAccessToken");
         when(authenticationManager.authenticate(any()))
             .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
-        when(restClient.findNotDeactivatedByEmail("test@mail.com"))
-            .thenReturn(Optional.of(UserVO.builder().id(1L).build()));
+        when(userPrincipalCacheService.findNotDeactivatedByEmail("test@mail.com"))
+            .thenReturn(Optional.of(UserPrincipalVO.builder().id(1L).build()));
         doNothing().when(chain).doFilter(request, response);
 
         authenticationFilter.doFilterInternal(request, response, chain);
@@ -94,7 +94,8 @@ class AccessTokenAuthenticationFilterTest {
         when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn(token);
         when(authenticationManager.authenticate(any()))
             .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
-        when(restClient.findNotDeactivatedByEmail("test@mail.com")).thenThrow(RuntimeException.class);
+        when(userPrincipalCacheService.findNotDeactivatedByEmail("test@mail.com"))
+            .thenThrow(RuntimeException.class);
         authenticationFilter.doFilterInternal(request, response, chain);
         verify(jwtTool).getTokenFromHttpServletRequest(request);
         verify(authenticationManager).authenticate(any());
@@ -6,19 +6,17 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import greencity.enums.Role;
 import greencity.security.jwt.JwtTool;
+import greencity.security.service.AccessTokenVerificationServiceImpl;
 import io.jsonwebtoken.ExpiredJwtException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
 
 /**
  * @author Yurii Koval
@@ -26,15 +24,13 @@ import static org.mockito.Mockito.when;
 class JwtAuthenticationProviderTest {
     private final Role expectedRole = Role.ROLE_ADMIN;
 
-    @Mock
-    JwtTool jwtTool;
-
     private JwtAuthenticationProvider jwtAuthenticationProvider;
 
     @BeforeEach
     public void setUp() {
-        MockitoAnnotations.initMocks(this);
-        jwtAuthenticationProvider = new JwtAuthenticationProvider(jwtTool);
+        JwtTool jwtTool = new JwtTool(120, 480, "123123123");
+        jwtAuthenticationProvider =
+            new JwtAuthenticationProvider(new AccessTokenVerificationServiceImpl(jwtTool, 10, 60));
     }
 
     @Test
@@ -42,7 +38,6 @@ class JwtAuthenticationProviderTest {
         final String accessToken = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJxcXFAZW1haWwu"
             + "Y29tIiwicm9sZSI6WyJST0xFX0FETUlOIl0sImlhdCI6MTY1NDYzNjc2OSwiZXh"
             + "wIjo2MTY1NDYzNjcwOX0.Ug-epWHV0a9f7BFPa1geKhqWysWkOdoG5wd4h2Hzpi4";
-        when(jwtTool.getAccessTokenKey()).thenReturn("123123123");
         Authentication authentication = new UsernamePasswordAuthenticationToken(
             accessToken,
             null);
@@ -60,7 +55,6 @@ class JwtAuthenticationProviderTest {
 
     @Test
     void authenticateWithExpiredAccessToken() {
-        when(jwtTool.getAccessTokenKey()).thenReturn("123123123");
         Authentication authentication = new UsernamePasswordAuthenticationToken(
             "eyJhbGciOiJIUzI1NiJ9"
                 + ".eyJzdWIiOiJ0ZXN0QGdtYWlsLmNvbSIsImF1dGhvcml0aWVzIjpbIlJPTEVfVVNFUiJdLCJpYXQiOjE1Nz"
@@ -74,7 +68,6 @@ class JwtAuthenticationProviderTest {
 
     @Test
     void authenticateWithMalformedAccessToken() {
-        when(jwtTool.getAccessTokenKey()).thenReturn("123123123");
         Authentication authentication = new UsernamePasswordAuthenticationToken(
             "Malformed"
                 + ".eyJzdWIiOiJ0ZXN0QGdtYWlsLmNvbSIsImF1dGhvcml0aWVzIjpbIlJPTEVfVVNFUiJdLCJpYXQiOjE1Nz"
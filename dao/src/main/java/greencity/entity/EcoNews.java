@@ -61,4 +61,7 @@ public class EcoNews {
         joinColumns = @JoinColumn(name = "eco_news_id"),
         inverseJoinColumns = @JoinColumn(name = "users_id"))
     private Set<User> usersDislikedNews = new HashSet<>();
+
+    @Column(insertable = false, updatable = false)
+    private String imageVariants;
 }
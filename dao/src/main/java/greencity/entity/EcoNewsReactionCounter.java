@@ -0,0 +1,31 @@
+package greencity.entity;
+
+import javax.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Denormalized amount of likes and dislikes of eco news. Rows are maintained by
+ * database triggers on eco_news_users_likes and eco_news_users_dislikes tables.
+ */
+@Entity
+@Immutable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+@ToString
+@Table(name = "eco_news_reaction_counters")
+public class EcoNewsReactionCounter {
+    @Id
+    @Column(name = "eco_news_id")
+    private Long ecoNewsId;
+
+    @Column(name = "likes_count", nullable = false)
+    private Integer likesCount;
+
+    @Column(name = "dislikes_count", nullable = false)
+    private Integer dislikesCount;
+}
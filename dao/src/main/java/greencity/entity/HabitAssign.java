@@ -21,6 +21,7 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
 
@@ -55,6 +56,12 @@ public class HabitAssign {
     @Column(name = "habit_streak", nullable = false)
     private Integer habitStreak;
 
+    @Column(name = "longest_habit_streak", nullable = false)
+    private int longestHabitStreak;
+
+    @Column(name = "last_enroll_date")
+    private LocalDate lastEnrollDate;
+
     @Column(name = "last_enrollment", nullable = false)
     private ZonedDateTime lastEnrollmentDate;
 
@@ -0,0 +1,45 @@
+package greencity.entity;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import javax.persistence.*;
+import lombok.*;
+
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+@ToString
+@Table(name = "habit_notification_checkpoints")
+public class HabitNotificationCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, unique = true)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId;
+
+    @Column(name = "processed_users", nullable = false)
+    private Long processedUsers;
+
+    @Column(name = "sent_notifications", nullable = false)
+    private Long sentNotifications;
+
+    @Column(name = "failed_notifications", nullable = false)
+    private Long failedNotifications;
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed;
+
+    @Column(name = "heartbeat")
+    private ZonedDateTime heartbeat;
+}
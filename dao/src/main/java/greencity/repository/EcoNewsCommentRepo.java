@@ -1,11 +1,16 @@
 package greencity.repository;
 
+import greencity.dto.econewscomment.EcoNewsCommentAmountDto;
 import greencity.entity.EcoNews;
 import greencity.entity.EcoNewsComment;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,6 +23,7 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
      *                  search.
      * @return all {@link EcoNewsComment} by page.
      */
+    @EntityGraph(attributePaths = "user")
     Page<EcoNewsComment> findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(Pageable pageable,
         Long ecoNewsId);
 
@@ -29,6 +35,7 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
      * @param parentCommentId id of comment, replies to which we get.
      * @return all replies to comment, specified by parentCommentId and page.
      */
+    @EntityGraph(attributePaths = "user")
     Page<EcoNewsComment> findAllByParentCommentIdOrderByCreatedDateDesc(Pageable pageable,
         Long parentCommentId);
 
@@ -70,6 +77,7 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
      * @return all active {@link EcoNewsComment} by page.
      * @author Dovganyuk Taras
      */
+    @EntityGraph(attributePaths = "user")
     Page<EcoNewsComment> findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(
         Pageable pageable,
         Long ecoNewsId);
@@ -82,6 +90,46 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
      * @return all replies to comment, specified by parentCommentId and page.
      * @author Dovganyuk Taras
      */
+    @EntityGraph(attributePaths = "user")
     Page<EcoNewsComment> findAllByParentCommentIdAndDeletedFalseOrderByCreatedDateDesc(Pageable pageable,
         Long parentCommentId);
+
+    /**
+     * Method returns amounts of not deleted replies to comments specified by ids.
+     * Comments without replies are absent in result.
+     *
+     * @param parentCommentIds ids of comments, replies to which we count.
+     * @return list of {@link EcoNewsCommentAmountDto}.
+     */
+    @Query("SELECT new greencity.dto.econewscomment.EcoNewsCommentAmountDto(ec.parentComment.id, count(ec)) "
+        + "FROM EcoNewsComment ec "
+        + "WHERE ec.parentComment.id IN :parentCommentIds AND ec.deleted = FALSE "
+        + "GROUP BY ec.parentComment.id")
+    List<EcoNewsCommentAmountDto> countRepliesByParentCommentIds(
+        @Param("parentCommentIds") Collection<Long> parentCommentIds);
+
+    /**
+     * Method returns amounts of likes of comments specified by ids. Comments
+     * without likes are absent in result.
+     *
+     * @param commentIds ids of comments, likes of which we count.
+     * @return list of {@link EcoNewsCommentAmountDto}.
+     */
+    @Query("SELECT new greencity.dto.econewscomment.EcoNewsCommentAmountDto(ec.id, count(u)) "
+        + "FROM EcoNewsComment ec JOIN ec.usersLiked u "
+        + "WHERE ec.id IN :commentIds "
+        + "GROUP BY ec.id")
+    List<EcoNewsCommentAmountDto> countLikesByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * Method returns ids of comments, liked by user, among comments specified by
+     * ids.
+     *
+     * @param commentIds ids of comments to check.
+     * @param userId     id of user.
+     * @return ids of liked comments.
+     */
+    @Query("SELECT ec.id FROM EcoNewsComment ec JOIN ec.usersLiked u "
+        + "WHERE ec.id IN :commentIds AND u.id = :userId")
+    List<Long> findIdsLikedByUser(@Param("commentIds") Collection<Long> commentIds, @Param("userId") Long userId);
 }
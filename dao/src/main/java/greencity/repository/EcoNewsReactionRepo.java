@@ -0,0 +1,76 @@
+package greencity.repository;
+
+import greencity.entity.EcoNewsReactionCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Store of eco news likes and dislikes. Every reaction is a single idempotent
+ * insert or delete of join table row, counters are kept up to date by database
+ * triggers.
+ */
+@Repository
+public interface EcoNewsReactionRepo extends JpaRepository<EcoNewsReactionCounter, Long> {
+    /**
+     * Method adds like of user to eco news if it is not added yet.
+     *
+     * @param ecoNewsId id of eco news.
+     * @param userId    id of user.
+     * @return amount of added likes, {@code 0} if user already liked eco news.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO eco_news_users_likes (eco_news_id, users_id) "
+        + "VALUES (:ecoNewsId, :userId) ON CONFLICT DO NOTHING")
+    int addLike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method removes like of user from eco news.
+     *
+     * @param ecoNewsId id of eco news.
+     * @param userId    id of user.
+     * @return amount of removed likes.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM eco_news_users_likes "
+        + "WHERE eco_news_id = :ecoNewsId AND users_id = :userId")
+    int removeLike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method adds dislike of user to eco news if it is not added yet.
+     *
+     * @param ecoNewsId id of eco news.
+     * @param userId    id of user.
+     * @return amount of added dislikes, {@code 0} if user already disliked eco
+     *         news.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO eco_news_users_dislikes (eco_news_id, users_id) "
+        + "VALUES (:ecoNewsId, :userId) ON CONFLICT DO NOTHING")
+    int addDislike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method removes dislike of user from eco news.
+     *
+     * @param ecoNewsId id of eco news.
+     * @param userId    id of user.
+     * @return amount of removed dislikes.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM eco_news_users_dislikes "
+        + "WHERE eco_news_id = :ecoNewsId AND users_id = :userId")
+    int removeDislike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method checks if user liked eco news.
+     *
+     * @param ecoNewsId id of eco news.
+     * @param userId    id of user.
+     * @return {@code true} if user liked eco news.
+     */
+    @Query(nativeQuery = true, value = "SELECT EXISTS(SELECT 1 FROM eco_news_users_likes "
+        + "WHERE eco_news_id = :ecoNewsId AND users_id = :userId)")
+    boolean existsLike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+}
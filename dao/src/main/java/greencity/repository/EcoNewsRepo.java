@@ -1,6 +1,8 @@
 package greencity.repository;
 
+import greencity.dto.econews.EcoNewsTagIdDto;
 import greencity.entity.EcoNews;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +15,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificationExecutor<EcoNews> {
@@ -35,15 +38,14 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
     void deleteEcoNewsWithIds(List<Long> ids);
 
     /**
-     * Method for getting three recommended eco news. Query is based on database
-     * function fn_Recommended_EcoNews_By_Opened_Eco_News
+     * Method for getting pairs of eco news and its tags used for building
+     * recommendation index.
      *
-     * @param openedEcoNewsId id of opened eco news.
-     * @return list of three recommended {@link EcoNews} instances.
+     * @return list of {@link EcoNewsTagIdDto}.
      */
-    @Query(nativeQuery = true,
-        value = "SELECT * FROM fn_Recommended_EcoNews_By_Opened_Eco_News(:openedEcoNewsId)")
-    List<EcoNews> getThreeRecommendedEcoNews(Long openedEcoNewsId);
+    @Query("SELECT new greencity.dto.econews.EcoNewsTagIdDto(e.id, e.creationDate, t.id) "
+        + "FROM EcoNews e JOIN e.tags t")
+    List<EcoNewsTagIdDto> findAllEcoNewsTagIds();
 
     /**
      * Method returns {@link EcoNews} for specific tags.
@@ -76,6 +78,54 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
      */
     Page<EcoNews> findAllByAuthorOrderByCreationDateDesc(User user, Pageable page);
 
+    /**
+     * Method returns first {@link EcoNews} of feed ordered by creation date and id
+     * without counting all of them.
+     *
+     * @param page page of news, only its size is used.
+     * @return list of {@link EcoNews}.
+     */
+    List<EcoNews> findAllByOrderByCreationDateDescIdDesc(Pageable page);
+
+    /**
+     * Method returns {@link EcoNews} of feed which go after given keyset cursor.
+     *
+     * @param creationDate creation date of last news of previous page.
+     * @param id           id of last news of previous page.
+     * @param page         page of news, only its size is used.
+     * @return list of {@link EcoNews}.
+     */
+    @Query("SELECT e FROM EcoNews e WHERE e.creationDate < :creationDate "
+        + "OR (e.creationDate = :creationDate AND e.id < :id) "
+        + "ORDER BY e.creationDate DESC, e.id DESC")
+    List<EcoNews> findAllAfterCursor(@Param("creationDate") ZonedDateTime creationDate, @Param("id") Long id,
+        Pageable page);
+
+    /**
+     * Method returns first users {@link EcoNews} ordered by creation date and id
+     * without counting all of them.
+     *
+     * @param authorId id of author of news.
+     * @param page     page of news, only its size is used.
+     * @return list of {@link EcoNews}.
+     */
+    List<EcoNews> findAllByAuthorIdOrderByCreationDateDescIdDesc(Long authorId, Pageable page);
+
+    /**
+     * Method returns users {@link EcoNews} which go after given keyset cursor.
+     *
+     * @param authorId     id of author of news.
+     * @param creationDate creation date of last news of previous page.
+     * @param id           id of last news of previous page.
+     * @param page         page of news, only its size is used.
+     * @return list of {@link EcoNews}.
+     */
+    @Query("SELECT e FROM EcoNews e WHERE e.author.id = :authorId AND (e.creationDate < :creationDate "
+        + "OR (e.creationDate = :creationDate AND e.id < :id)) "
+        + "ORDER BY e.creationDate DESC, e.id DESC")
+    List<EcoNews> findAllByAuthorIdAfterCursor(@Param("authorId") Long authorId,
+        @Param("creationDate") ZonedDateTime creationDate, @Param("id") Long id, Pageable page);
+
     /**
      * Method that finds {@link EcoNews} by id.
      *
@@ -148,4 +198,16 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
     @Query(nativeQuery = true,
         value = "select count(id) from eco_news")
     int totalCountOfCreationNews();
-}
\ No newline at end of file
+
+    /**
+     * Method records resized variants generated for eco news image.
+     *
+     * @param imagePath     url of original image.
+     * @param imageVariants generated variants of the image.
+     * @return amount of updated eco news.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EcoNews e SET e.imageVariants = :imageVariants WHERE e.imagePath = :imagePath")
+    int updateImageVariants(@Param("imagePath") String imagePath, @Param("imageVariants") String imageVariants);
+}
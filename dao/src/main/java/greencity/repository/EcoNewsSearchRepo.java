@@ -1,31 +1,37 @@
 package greencity.repository;
 
 import greencity.entity.EcoNews;
-import greencity.entity.Tag;
-import greencity.entity.localization.TagTranslation;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
-import javax.persistence.TypedQuery;
-import javax.persistence.criteria.*;
-import java.util.ArrayList;
+import javax.persistence.Query;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Repository
 public class EcoNewsSearchRepo {
+    /**
+     * Amount of found eco news after which approximate count stops counting.
+     */
+    public static final int APPROXIMATE_COUNT_LIMIT = 1000;
+    private static final String MATCH_CONDITION = "(en.%1$s @@ to_tsquery(cast(:dictionary AS regconfig), :query) "
+        + "OR en.id IN (SELECT ent.eco_news_id FROM eco_news_tags AS ent "
+        + "JOIN tag_translations AS tt ON tt.tag_id = ent.tags_id "
+        + "JOIN languages AS l ON l.id = tt.language_id "
+        + "WHERE l.code = :languageCode "
+        + "AND to_tsvector(cast(:dictionary AS regconfig), tt.name) "
+        + "@@ to_tsquery(cast(:dictionary AS regconfig), :query)))";
     private final EntityManager entityManager;
-    private final CriteriaBuilder criteriaBuilder;
 
     /**
      * Initialization constructor.
      */
     public EcoNewsSearchRepo(EntityManager entityManager) {
         this.entityManager = entityManager;
-        this.criteriaBuilder = entityManager.getCriteriaBuilder();
     }
 
     /**
@@ -36,77 +42,103 @@ public class EcoNewsSearchRepo {
      * @return all finding eco news, their tags and also count of finding eco news.
      */
     public Page<EcoNews> find(Pageable pageable, String searchingText, String languageCode) {
-        CriteriaQuery<EcoNews> criteriaQuery =
-            criteriaBuilder.createQuery(EcoNews.class);
-        Root<EcoNews> root = criteriaQuery.from(EcoNews.class);
-
-        Predicate predicate = getPredicate(criteriaQuery, searchingText, languageCode, root);
-
-        criteriaQuery.select(root).distinct(true).where(predicate);
-        TypedQuery<EcoNews> typedQuery = entityManager.createQuery(criteriaQuery);
-        typedQuery.setFirstResult(pageable.getPageNumber() * pageable.getPageSize());
-        typedQuery.setMaxResults(pageable.getPageSize());
-        List<EcoNews> resultList = typedQuery.getResultList();
+        return find(pageable, searchingText, languageCode, false);
+    }
 
-        return new PageImpl<>(resultList, pageable, getEcoNewsCount(predicate));
+    /**
+     * Method for full-text search of eco news by title, text, short info and tag
+     * name. Words of searching text are matched as prefixes with stemming of given
+     * language, results are ordered by rank and creation date.
+     *
+     * @param searchingText    - text criteria for searching.
+     * @param languageCode     - code of needed language for finding tag.
+     * @param approximateCount - if {@code true} counting stops at
+     *                         {@link #APPROXIMATE_COUNT_LIMIT}.
+     * @return all finding eco news, their tags and also count of finding eco news.
+     */
+    public Page<EcoNews> find(Pageable pageable, String searchingText, String languageCode,
+        boolean approximateCount) {
+        String tsQuery = toTsQuery(searchingText);
+        if (tsQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        SearchDictionary dictionary = SearchDictionary.of(languageCode);
+        String matchCondition = String.format(MATCH_CONDITION, dictionary.getColumn());
+
+        Query query = entityManager.createNativeQuery("SELECT en.* FROM eco_news AS en WHERE " + matchCondition
+            + " ORDER BY ts_rank(en." + dictionary.getColumn() + ", to_tsquery(cast(:dictionary AS regconfig), :query))"
+            + " DESC, en.creation_date DESC, en.id", EcoNews.class);
+        setParameters(query, dictionary, tsQuery, languageCode);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        @SuppressWarnings("unchecked")
+        List<EcoNews> resultList = query.getResultList();
+
+        return PageableExecutionUtils.getPage(resultList, pageable,
+            () -> count(matchCondition, dictionary, tsQuery, languageCode, approximateCount));
     }
 
-    private long getEcoNewsCount(Predicate predicate) {
-        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
-        Root<EcoNews> countEcoNewsRoot = countQuery.from(EcoNews.class);
-        countQuery.select(criteriaBuilder.count(countEcoNewsRoot)).where(predicate);
-        return entityManager.createQuery(countQuery).getSingleResult();
+    private long count(String matchCondition, SearchDictionary dictionary, String tsQuery, String languageCode,
+        boolean approximateCount) {
+        Query countQuery;
+        if (approximateCount) {
+            countQuery = entityManager.createNativeQuery("SELECT count(*) FROM (SELECT 1 FROM eco_news AS en WHERE "
+                + matchCondition + " LIMIT :limit) AS matched");
+            countQuery.setParameter("limit", APPROXIMATE_COUNT_LIMIT);
+        } else {
+            countQuery = entityManager.createNativeQuery("SELECT count(*) FROM eco_news AS en WHERE " + matchCondition);
+        }
+        setParameters(countQuery, dictionary, tsQuery, languageCode);
+        return ((Number) countQuery.getSingleResult()).longValue();
     }
 
-    private List<Predicate> formEcoNewsLikePredicate(String searcingText, Root<EcoNews> root) {
-        Expression<String> title = root.get("title").as(String.class);
-        Expression<String> text = root.get("text").as(String.class);
-        Expression<String> shortInfo = root.get("shortInfo").as(String.class);
-
-        List<Predicate> predicateList = new ArrayList<>();
-        Arrays.stream(searcingText.split(" ")).forEach(partOfSearchingText -> predicateList.add(
-            criteriaBuilder.or(
-                criteriaBuilder.like(criteriaBuilder.lower(title), "%" + partOfSearchingText.toLowerCase() + "%"),
-                criteriaBuilder.like(criteriaBuilder.lower(text), "%" + partOfSearchingText.toLowerCase() + "%"),
-                criteriaBuilder.like(criteriaBuilder.lower(shortInfo),
-                    "%" + partOfSearchingText.toLowerCase() + "%"))));
-        return predicateList;
+    private void setParameters(Query query, SearchDictionary dictionary, String tsQuery, String languageCode) {
+        query.setParameter("dictionary", dictionary.getName());
+        query.setParameter("query", tsQuery);
+        query.setParameter("languageCode", languageCode);
     }
 
-    private Predicate formTagTranslationsPredicate(CriteriaQuery<EcoNews> criteriaQuery, String searchingText,
-        String languageCode, Root<EcoNews> root) {
-        Subquery<Tag> tagSubquery = criteriaQuery.subquery(Tag.class);
-        Root<Tag> tagRoot = tagSubquery.from(Tag.class);
-        Join<EcoNews, Tag> ecoNewsTagJoin = tagRoot.join("ecoNews");
+    /**
+     * Converts searching text to tsquery which matches any of its words as prefix.
+     * Everything except letters and digits is dropped, so user input can not break
+     * tsquery syntax.
+     *
+     * @param searchingText text entered by user.
+     * @return tsquery or empty string if there are no words in text.
+     */
+    private static String toTsQuery(String searchingText) {
+        if (searchingText == null) {
+            return "";
+        }
+        return Arrays.stream(searchingText.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> !word.isEmpty())
+            .distinct()
+            .map(word -> word + ":*")
+            .collect(Collectors.joining(" | "));
+    }
 
-        Subquery<TagTranslation> tagTranslationSubquery = criteriaQuery.subquery(TagTranslation.class);
-        Root<Tag> tagTranslationRoot = tagTranslationSubquery.correlate(tagRoot);
+    private enum SearchDictionary {
+        EN("search_vector_en", "english"),
+        UA("search_vector_ua", "simple");
 
-        Join<TagTranslation, Tag> tagTranslationTagJoin = tagTranslationRoot.join("tagTranslations");
+        private final String column;
+        private final String name;
 
-        Predicate predicate = predicateForTags(searchingText, languageCode, tagTranslationTagJoin);
-        tagTranslationSubquery.select(tagTranslationTagJoin.get("name"))
-            .where(predicate);
+        SearchDictionary(String column, String name) {
+            this.column = column;
+            this.name = name;
+        }
 
-        tagSubquery.select(ecoNewsTagJoin).where(criteriaBuilder.exists(tagTranslationSubquery));
-        return criteriaBuilder.in(root.get("id")).value(tagSubquery);
-    }
+        static SearchDictionary of(String languageCode) {
+            return "ua".equalsIgnoreCase(languageCode) ? UA : EN;
+        }
 
-    private Predicate predicateForTags(String searchingText, String languageCode,
-        Join<TagTranslation, Tag> tagTranslationTagJoin) {
-        List<Predicate> predicateList = new ArrayList<>();
-        Arrays.stream(searchingText.split(" ")).forEach(partOfSearchingText -> predicateList.add(criteriaBuilder.and(
-            criteriaBuilder.like(criteriaBuilder.lower(tagTranslationTagJoin.get("name")),
-                "%" + partOfSearchingText.toLowerCase() + "%"),
-            criteriaBuilder.like(criteriaBuilder.lower(tagTranslationTagJoin.get("language").get("code")),
-                "%" + languageCode.toLowerCase() + "%"))));
-        return criteriaBuilder.or(predicateList.toArray(new Predicate[0]));
-    }
+        String getColumn() {
+            return column;
+        }
 
-    private Predicate getPredicate(CriteriaQuery<EcoNews> criteriaQuery, String searchingText,
-        String languageCode, Root<EcoNews> root) {
-        List<Predicate> predicateList = formEcoNewsLikePredicate(searchingText, root);
-        predicateList.add(formTagTranslationsPredicate(criteriaQuery, searchingText, languageCode, root));
-        return criteriaBuilder.or(predicateList.toArray(new Predicate[0]));
+        String getName() {
+            return name;
+        }
     }
 }
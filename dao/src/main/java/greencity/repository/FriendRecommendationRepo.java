@@ -0,0 +1,193 @@
+package greencity.repository;
+
+import java.util.List;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class FriendRecommendationRepo {
+    /**
+     * Kind of candidate count for shared habits.
+     */
+    public static final int HABITS = 0;
+    /**
+     * Kind of candidate count for eco news commented by both users.
+     */
+    public static final int COMMENTED_ECO_NEWS = 1;
+    /**
+     * Kind of candidate count for mutual friends.
+     */
+    public static final int MUTUAL_FRIENDS = 2;
+    private static final int FETCH_SIZE = 1000;
+    private static final String MAX_USER_ID = "SELECT COALESCE(MAX(id), 0) FROM users";
+    private static final String CANDIDATE_COUNTS = "WITH habits AS ("
+        + "SELECT DISTINCT user_id, habit_id AS target_id FROM habit_assign), "
+        + "habit_targets AS (SELECT target_id FROM habits GROUP BY target_id HAVING COUNT(*) <= ?), "
+        + "comments AS (SELECT DISTINCT user_id, eco_news_id AS target_id FROM econews_comment), "
+        + "comment_targets AS (SELECT target_id FROM comments GROUP BY target_id HAVING COUNT(*) <= ?), "
+        + "friends AS (SELECT user_id, friend_id AS target_id FROM users_friends WHERE status = 'FRIEND' "
+        + "UNION SELECT friend_id, user_id FROM users_friends WHERE status = 'FRIEND'), "
+        + "friend_targets AS (SELECT user_id AS target_id FROM friends GROUP BY user_id HAVING COUNT(*) <= ?) "
+        + "SELECT a.user_id, b.user_id, " + HABITS + ", COUNT(*) FROM habits a "
+        + "JOIN habit_targets t ON t.target_id = a.target_id "
+        + "JOIN habits b ON b.target_id = a.target_id AND b.user_id <> a.user_id "
+        + "WHERE a.user_id BETWEEN ? AND ? GROUP BY a.user_id, b.user_id "
+        + "UNION ALL "
+        + "SELECT a.user_id, b.user_id, " + COMMENTED_ECO_NEWS + ", COUNT(*) FROM comments a "
+        + "JOIN comment_targets t ON t.target_id = a.target_id "
+        + "JOIN comments b ON b.target_id = a.target_id AND b.user_id <> a.user_id "
+        + "WHERE a.user_id BETWEEN ? AND ? GROUP BY a.user_id, b.user_id "
+        + "UNION ALL "
+        + "SELECT a.user_id, b.target_id, " + MUTUAL_FRIENDS + ", COUNT(*) FROM friends a "
+        + "JOIN friend_targets t ON t.target_id = a.target_id "
+        + "JOIN friends b ON b.user_id = a.target_id AND b.target_id <> a.user_id "
+        + "WHERE a.user_id BETWEEN ? AND ? GROUP BY a.user_id, b.target_id "
+        + "ORDER BY 1";
+    private static final String RECOMMENDED_FRIEND_IDS = "SELECT id FROM fn_recommended_friends(?) "
+        + "ORDER BY rating DESC NULLS LAST, id LIMIT ?";
+    private static final String HABIT_USER_IDS = "SELECT DISTINCT user_id FROM habit_assign "
+        + "WHERE habit_id = ? LIMIT ?";
+    private static final String HABIT_ASSIGN_COUNT = "SELECT COUNT(*) FROM habit_assign "
+        + "WHERE user_id = ? AND habit_id = ?";
+    private static final String COMMENTING_USER_IDS = "SELECT DISTINCT user_id FROM econews_comment "
+        + "WHERE eco_news_id = ? LIMIT ?";
+    private static final String COMMENT_COUNT = "SELECT COUNT(*) FROM econews_comment "
+        + "WHERE user_id = ? AND eco_news_id = ?";
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Initialization constructor.
+     */
+    public FriendRecommendationRepo(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Method finds the biggest id of users, so candidates of users can be read in
+     * ranges of ids.
+     *
+     * @return the biggest user id or 0 if there are no users.
+     */
+    public long findMaxUserId() {
+        Long maxUserId = jdbcTemplate.queryForObject(MAX_USER_ID, Long.class);
+        return maxUserId == null ? 0 : maxUserId;
+    }
+
+    /**
+     * Method streams amounts of shared habits, co-commented eco news and mutual
+     * friends of users with ids in given range and their candidates. Counts are
+     * aggregated by database, rows are ordered by user id and fetched in batches,
+     * so every user is reported in one run of rows. Habits, eco news and friends
+     * shared by more than {@code maxSharedUsers} users are not counted.
+     *
+     * @param fromUserId     first user id of range, inclusive.
+     * @param toUserId       last user id of range, inclusive.
+     * @param maxSharedUsers max amount of users sharing habit, eco news or friend
+     *                       for it to be counted.
+     * @param handler        receives every row.
+     */
+    @Transactional(readOnly = true)
+    public void findCandidateCounts(long fromUserId, long toUserId, int maxSharedUsers,
+        CandidateCountHandler handler) {
+        Object[] args = {maxSharedUsers, maxSharedUsers, maxSharedUsers,
+            fromUserId, toUserId, fromUserId, toUserId, fromUserId, toUserId};
+        PreparedStatementSetter setter = ps -> {
+            ps.setFetchSize(FETCH_SIZE);
+            new ArgumentPreparedStatementSetter(args).setValues(ps);
+        };
+        jdbcTemplate.query(CANDIDATE_COUNTS, setter,
+            (RowCallbackHandler) rs -> handler.accept(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getInt(4)));
+    }
+
+    /**
+     * Method finds users recommended as friends by {@code fn_recommended_friends},
+     * users with the highest rating first. The function does not skip current
+     * friends of user.
+     *
+     * @param userId id of user.
+     * @param limit  max amount of user ids.
+     * @return ids of recommended users.
+     */
+    public List<Long> findRecommendedFriendIds(long userId, int limit) {
+        return jdbcTemplate.queryForList(RECOMMENDED_FRIEND_IDS, Long.class, userId, limit);
+    }
+
+    /**
+     * Method finds users who have habit assigned.
+     *
+     * @param habitId id of habit.
+     * @param limit   max amount of user ids.
+     * @return ids of users.
+     */
+    public List<Long> findHabitUserIds(long habitId, int limit) {
+        return jdbcTemplate.queryForList(HABIT_USER_IDS, Long.class, habitId, limit);
+    }
+
+    /**
+     * Method counts assigns of habit to user, as user may have several assigns of
+     * the same habit.
+     *
+     * @param userId  id of user.
+     * @param habitId id of habit.
+     * @return amount of assigns.
+     */
+    public int countHabitAssigns(long userId, long habitId) {
+        Integer count = jdbcTemplate.queryForObject(HABIT_ASSIGN_COUNT, Integer.class, userId, habitId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Method checks if user still has any assign of habit.
+     *
+     * @param userId  id of user.
+     * @param habitId id of habit.
+     * @return {@code true} if at least one assign of habit to user exists.
+     */
+    public boolean existsHabitAssign(long userId, long habitId) {
+        return countHabitAssigns(userId, habitId) > 0;
+    }
+
+    /**
+     * Method finds users who commented eco news.
+     *
+     * @param ecoNewsId id of eco news.
+     * @param limit     max amount of user ids.
+     * @return ids of users.
+     */
+    public List<Long> findCommentingUserIds(long ecoNewsId, int limit) {
+        return jdbcTemplate.queryForList(COMMENTING_USER_IDS, Long.class, ecoNewsId, limit);
+    }
+
+    /**
+     * Method counts comments of user to eco news.
+     *
+     * @param userId    id of user.
+     * @param ecoNewsId id of eco news.
+     * @return amount of comments.
+     */
+    public int countComments(long userId, long ecoNewsId) {
+        Integer count = jdbcTemplate.queryForObject(COMMENT_COUNT, Integer.class, userId, ecoNewsId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Receives rows of {@link #findCandidateCounts}.
+     */
+    @FunctionalInterface
+    public interface CandidateCountHandler {
+        /**
+         * Receives amount of one kind of links user shares with candidate.
+         *
+         * @param userId      id of user.
+         * @param candidateId id of user recommended to the user.
+         * @param kind        {@link #HABITS}, {@link #COMMENTED_ECO_NEWS} or
+         *                    {@link #MUTUAL_FRIENDS}.
+         * @param count       amount of shared links.
+         */
+        void accept(long userId, long candidateId, int kind, int count);
+    }
+}
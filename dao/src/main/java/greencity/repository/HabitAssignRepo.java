@@ -1,10 +1,12 @@
 package greencity.repository;
 
+import greencity.dto.habit.HabitAcquiredUsersDto;
 import greencity.entity.Habit;
 import greencity.entity.HabitAssign;
 import greencity.entity.User;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
@@ -177,20 +180,21 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
     int countHabitAssignsByUserIdAndAcquiredFalseAndCancelledFalse(@Param("userId") Long userId);
 
     /**
-     * Method for counting {@link HabitAssign} by {@link User} id and period between
-     * start/end {@link ZonedDateTime} (with not cancelled and not expired status).
+     * Method for finding ids of {@link User}s among given ones that have
+     * {@link HabitAssign}s in period between start/end {@link ZonedDateTime} (with
+     * not cancelled and not expired status).
      *
-     * @param userId {@link User} id.
-     * @param start  {@link ZonedDateTime} start time.
-     * @param end    {@link ZonedDateTime} end time.
-     * @return amount of items in Optional in case of absence such info.
+     * @param userIds {@link Collection} of {@link User} ids.
+     * @param start   {@link ZonedDateTime} start time.
+     * @param end     {@link ZonedDateTime} end time.
+     * @return list of {@link User} ids.
      */
-    @Query(value = "SELECT COUNT(ha) "
+    @Query(value = "SELECT DISTINCT ha.user.id "
         + "FROM HabitAssign ha "
         + "WHERE upper(ha.status) NOT IN ('CANCELLED','EXPIRED') "
-        + "AND ha.user.id = :userId "
+        + "AND ha.user.id IN (:userIds) "
         + "AND ha.createDate > :start AND ha.createDate < :end")
-    int countMarkedHabitAssignsByUserIdAndPeriod(@Param("userId") Long userId,
+    List<Long> findUserIdsWithMarkedHabitAssignsInPeriod(@Param("userIds") Collection<Long> userIds,
         @Param("start") ZonedDateTime start,
         @Param("end") ZonedDateTime end);
 
@@ -243,15 +247,53 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
         @Param("to") LocalDate to);
 
     /**
-     * Method to find all inprogress, habit assigns.
-     * 
-     * @return list of {@link HabitAssign} instances.
+     * Method to find the last id of the next chunk of inprogress
+     * {@link HabitAssign}s in keyset order.
+     *
+     * @param lastId    id after which the chunk starts.
+     * @param chunkSize maximum amount of {@link HabitAssign}s in the chunk.
+     * @return last id of the chunk or {@code null} if there are no more inprogress
+     *         {@link HabitAssign}s.
      */
-    @Query(value = "SELECT DISTINCT ha FROM HabitAssign ha "
-        + "JOIN FETCH ha.habit h JOIN FETCH h.habitTranslations ht "
-        + "JOIN FETCH ht.language l "
-        + "WHERE upper(ha.status) = 'INPROGRESS'")
-    List<HabitAssign> findAllInProgressHabitAssigns();
+    @Query(nativeQuery = true, value = "SELECT max(chunk.id) FROM "
+        + "(SELECT ha.id FROM habit_assign ha "
+        + "WHERE ha.id > :lastId AND upper(ha.status) = 'INPROGRESS' "
+        + "ORDER BY ha.id LIMIT :chunkSize) AS chunk")
+    Long findLastIdOfInProgressChunk(@Param("lastId") Long lastId, @Param("chunkSize") int chunkSize);
+
+    /**
+     * Method to set EXPIRED status to inprogress {@link HabitAssign}s with id in
+     * range (fromId, toId] which duration ended before given time.
+     *
+     * @param fromId exclusive lower bound of {@link HabitAssign} id.
+     * @param toId   inclusive upper bound of {@link HabitAssign} id.
+     * @param now    {@link ZonedDateTime} current time.
+     * @return amount of expired {@link HabitAssign}s.
+     */
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = "UPDATE habit_assign SET status = 'EXPIRED' "
+        + "WHERE id > :fromId AND id <= :toId AND upper(status) = 'INPROGRESS' "
+        + "AND create_date + duration * interval '1 day' < :now")
+    int setExpiredStatusInIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+        @Param("now") ZonedDateTime now);
+
+    /**
+     * Method to reset streaks of inprogress {@link HabitAssign}s with id in range
+     * (fromId, toId] which were not enrolled since the day before yesterday.
+     *
+     * @param fromId    exclusive lower bound of {@link HabitAssign} id.
+     * @param toId      inclusive upper bound of {@link HabitAssign} id.
+     * @param yesterday {@link LocalDate} of yesterday.
+     * @return amount of {@link HabitAssign}s with reset streak.
+     */
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = "UPDATE habit_assign SET habit_streak = 0 "
+        + "WHERE id > :fromId AND id <= :toId AND upper(status) = 'INPROGRESS' AND habit_streak > 0 "
+        + "AND (last_enroll_date IS NULL OR last_enroll_date < :yesterday)")
+    int resetMissedHabitStreaksInIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+        @Param("yesterday") LocalDate yesterday);
 
     /**
      * Method to find all habit assigns by status.
@@ -280,6 +322,31 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
         + "FROM HabitAssign ha WHERE ha.habit.id = :habitId AND ha.status='ACQUIRED'")
     Long findAmountOfUsersAcquired(@Param("habitId") Long habitId);
 
+    /**
+     * Method for getting amount of users who acquired each of given habits. Habits
+     * without such users are absent in result.
+     *
+     * @param habitIds ids of {@link Habit}.
+     * @return list of {@link HabitAcquiredUsersDto}.
+     */
+    @Query(value = "SELECT new greencity.dto.habit.HabitAcquiredUsersDto(ha.habit.id, count(ha)) "
+        + "FROM HabitAssign ha WHERE ha.habit.id IN (:habitIds) AND ha.status='ACQUIRED' "
+        + "GROUP BY ha.habit.id")
+    List<HabitAcquiredUsersDto> findAmountsOfUsersAcquired(@Param("habitIds") Collection<Long> habitIds);
+
+    /**
+     * Method to find not cancelled and not expired {@link HabitAssign}'s of user
+     * for given habits.
+     *
+     * @param habitIds ids of {@link Habit}.
+     * @param userId   {@link User} id.
+     * @return list of {@link HabitAssign} with fetched {@link Habit}.
+     */
+    @Query(value = "SELECT ha FROM HabitAssign ha JOIN FETCH ha.habit h"
+        + " WHERE h.id IN (:habitIds) AND ha.user.id = :userId AND upper(ha.status) NOT IN ('CANCELLED','EXPIRED')")
+    List<HabitAssign> findAllByHabitIdsAndUserId(@Param("habitIds") Collection<Long> habitIds,
+        @Param("userId") Long userId);
+
     /**
      * Method to change value progressNotificationHasDisplayed in
      * {@link HabitAssign} to true.
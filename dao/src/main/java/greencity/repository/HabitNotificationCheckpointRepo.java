@@ -0,0 +1,59 @@
+package greencity.repository;
+
+import greencity.entity.HabitNotificationCheckpoint;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface HabitNotificationCheckpointRepo extends JpaRepository<HabitNotificationCheckpoint, Long> {
+    /**
+     * Method to find {@link HabitNotificationCheckpoint} of notification job.
+     *
+     * @param jobName name of notification job.
+     * @return {@link Optional} of {@link HabitNotificationCheckpoint}.
+     */
+    Optional<HabitNotificationCheckpoint> findByJobName(String jobName);
+
+    /**
+     * Method claims notification job by setting its heartbeat. Job is claimed only
+     * if nobody refreshed its heartbeat after {@code staleBefore} and today's run
+     * is not completed yet, so only one thread of one instance runs the job.
+     *
+     * @param jobName     name of notification job.
+     * @param today       date of the current run.
+     * @param now         new heartbeat.
+     * @param staleBefore heartbeats before this time belong to dead runs.
+     * @return amount of claimed jobs, {@code 0} or {@code 1}.
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE HabitNotificationCheckpoint c SET c.heartbeat = :now WHERE c.jobName = :jobName "
+        + "AND (c.heartbeat IS NULL OR c.heartbeat < :staleBefore) "
+        + "AND (c.runDate <> :today OR c.completed = false)")
+    int claim(@Param("jobName") String jobName, @Param("today") LocalDate today, @Param("now") ZonedDateTime now,
+        @Param("staleBefore") ZonedDateTime staleBefore);
+
+    /**
+     * Method refreshes heartbeat of notification job if it was not changed since
+     * the job was claimed or refreshed last time.
+     *
+     * @param jobName   name of notification job.
+     * @param heartbeat heartbeat set by the current run.
+     * @param now       new heartbeat.
+     * @return amount of refreshed jobs, {@code 0} if the job was claimed by another
+     *         run.
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE HabitNotificationCheckpoint c SET c.heartbeat = :now "
+        + "WHERE c.jobName = :jobName AND c.heartbeat = :heartbeat")
+    int refreshHeartbeat(@Param("jobName") String jobName, @Param("heartbeat") ZonedDateTime heartbeat,
+        @Param("now") ZonedDateTime now);
+}
@@ -1,6 +1,8 @@
 package greencity.repository;
 
 import greencity.entity.Habit;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -43,4 +45,13 @@ public interface HabitRepo extends JpaRepository<Habit, Long>, JpaSpecificationE
         + "habit_shopping_list_items.shopping_list_item_id = :itemID"
         + " and habit_shopping_list_items.status like 'ACTUAL'")
     void upadateShopingListItemInHabit(@Param("habitID") Long habitID, @Param("itemID") Long itemID);
+
+    /**
+     * Method to find habits by ids together with their custom shopping list items.
+     *
+     * @param ids ids of {@link Habit}.
+     * @return list of {@link Habit}.
+     */
+    @Query("SELECT DISTINCT h FROM Habit h LEFT JOIN FETCH h.customShoppingListItems WHERE h.id IN (:ids)")
+    List<Habit> findAllByIdsWithCustomShoppingListItems(@Param("ids") Collection<Long> ids);
 }
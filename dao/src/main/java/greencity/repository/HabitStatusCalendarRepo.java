@@ -1,9 +1,11 @@
 package greencity.repository;
 
+import greencity.dto.habitstatuscalendar.HabitEnrollDateDto;
 import greencity.entity.HabitAssign;
 import greencity.entity.HabitStatusCalendar;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -49,6 +51,22 @@ public interface HabitStatusCalendarRepo extends JpaRepository<HabitStatusCalend
      */
     List<HabitStatusCalendar> findAllByEnrollDateBeforeAndHabitAssign(LocalDate dateTime, HabitAssign habitAssign);
 
+    /**
+     * Method returns enroll dates of all given {@link HabitAssign}s within the
+     * specified {@link LocalDate}s with one query.
+     *
+     * @param habitAssignIds ids of {@link HabitAssign}s.
+     * @param from           first date of the range.
+     * @param to             last date of the range.
+     * @return {@link List} of {@link HabitEnrollDateDto}.
+     */
+    @Query("SELECT new greencity.dto.habitstatuscalendar.HabitEnrollDateDto(hsc.habitAssign.id, hsc.enrollDate) "
+        + "FROM HabitStatusCalendar hsc "
+        + "WHERE hsc.habitAssign.id IN :habitAssignIds AND hsc.enrollDate BETWEEN :from AND :to")
+    List<HabitEnrollDateDto> findEnrollDatesByHabitAssignIdsBetween(
+        @Param("habitAssignIds") Collection<Long> habitAssignIds, @Param("from") LocalDate from,
+        @Param("to") LocalDate to);
+
     /**
      * Method deletes all {@link HabitStatusCalendar} by {@link HabitAssign}
      * instance.
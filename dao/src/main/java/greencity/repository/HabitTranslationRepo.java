@@ -8,6 +8,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,7 +17,8 @@ import org.springframework.data.repository.query.Param;
  *
  * @author Volodymyr Turko
  */
-public interface HabitTranslationRepo extends JpaRepository<HabitTranslation, Long> {
+public interface HabitTranslationRepo extends JpaRepository<HabitTranslation, Long>,
+    JpaSpecificationExecutor<HabitTranslation> {
     /**
      * Method with return {@link Optional} of {@link HabitTranslation}.
      *
@@ -98,253 +100,6 @@ public interface HabitTranslationRepo extends JpaRepository<HabitTranslation, Lo
         + "WHERE lower(tt.name) IN (:tags)))")
     Page<HabitTranslation> findAllByTagsAndLanguageCode(Pageable pageable, List<String> tags, String languageCode);
 
-    /**
-     * Method that find all habit's translations by language code and tags.
-     *
-     * @param pageable     {@link Pageable}
-     * @param tags         {@link List} of {@link String} tags
-     * @param languageCode language code {@link String}
-     *
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "JOIN h.tags AS t "
-        + "WHERE((h.isCustomHabit = true AND h.userId IN (:availableUsersIds)) OR (h.isCustomHabit = false ))"
-        + " AND t.id IN "
-        + "(SELECT tt.tag FROM TagTranslation AS tt "
-        + "WHERE lower(tt.name) IN (:tags)))")
-    Page<HabitTranslation> findAllByTagsAndLanguageCodeAndForAvailableUsersIfIsCustomHabitTrue(Pageable pageable,
-        List<String> tags, String languageCode,
-        List<Long> availableUsersIds);
-
-    /**
-     * Method that find all habit's translations by tags, complexities, language
-     * code in case when isCustomHabit false.
-     *
-     * @param pageable     {@link Pageable}.
-     * @param tags         {@link List} of {@link String}.
-     * @param complexities {@link List} of {@link Integer}.
-     * @param languageCode language code {@link String}.
-     * @return {@link List} of {@link HabitTranslation}.
-     *
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "JOIN h.tags AS t "
-        + "WHERE h.isCustomHabit = false AND h.complexity IN (:complexities) AND t.id IN "
-        + "(SELECT tt.tag FROM TagTranslation AS tt "
-        + "WHERE lower(tt.name) IN (:tags)))")
-    Page<HabitTranslation> findAllByDifferentParametersIsCustomHabitFalse(Pageable pageable, List<String> tags,
-        Optional<List<Integer>> complexities, String languageCode);
-
-    /**
-     * Method that find all habit's translations by tags, complexities, language
-     * code in case when isCustomHabit true.
-     *
-     * @param pageable          {@link Pageable}.
-     * @param tags              {@link List} of {@link String}.
-     * @param complexities      {@link List} of {@link Integer}.
-     * @param languageCode      language code {@link String}.
-     * @param availableUsersIds {@link Long}
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "JOIN h.tags AS t "
-        + "WHERE h.isCustomHabit = true AND h.userId IN (:availableUsersIds) "
-        + "AND h.complexity IN (:complexities) AND t.id IN"
-        + "(SELECT tt.tag FROM TagTranslation AS tt "
-        + "WHERE lower(tt.name) IN (:tags)))")
-    Page<HabitTranslation> findAllByDifferentParametersIsCustomHabitTrue(Pageable pageable, List<String> tags,
-        Optional<List<Integer>> complexities, String languageCode, List<Long> availableUsersIds);
-
-    /**
-     * Method that find all habit's translations by language code in case when
-     * isCustomHabit true.
-     *
-     * @param pageable     {@link Pageable}
-     * @param languageCode language code {@link String}
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "WHERE h.isCustomHabit = true AND h.userId IN (:availableUsersIds))")
-    Page<HabitTranslation> findAllByIsCustomHabitTrueAndLanguageCode(Pageable pageable,
-        String languageCode, List<Long> availableUsersIds);
-
-    /**
-     * Method that find all habit's translations by language code in case when
-     * isCustomHabit false.
-     *
-     * @param pageable     {@link Pageable}
-     * @param languageCode language code {@link String}
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "WHERE h.isCustomHabit = false)")
-    Page<HabitTranslation> findAllByIsCustomFalseHabitAndLanguageCode(Pageable pageable, String languageCode);
-
-    /**
-     * Method that find all habit's translations by complexities and language code.
-     *
-     * @param pageable     {@link Pageable}.
-     * @param complexities {@link List} of {@link Integer}.
-     * @param languageCode language code {@link String}.
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "WHERE (( h.isCustomHabit = true AND h.userId IN (:availableUsersIds )) OR (h.isCustomHabit = false)) "
-        + "AND h.complexity IN (:complexities))")
-    Page<HabitTranslation> findAllByComplexityAndLanguageCodeAndForAvailableUsersIfIsCustomHabit(Pageable pageable,
-        Optional<List<Integer>> complexities,
-        String languageCode, List<Long> availableUsersIds);
-
-    /**
-     * Method that find all habit's translations by tags, language code in case when
-     * isCustomHabit.
-     *
-     * @param pageable     {@link Pageable}
-     * @param tags         {@link List} of {@link String} tags
-     * @param languageCode language code {@link String}
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "JOIN h.tags AS t "
-        + "WHERE h.isCustomHabit = true AND h.userId IN (:availableUsersIds) AND t.id IN "
-        + "(SELECT tt.tag FROM TagTranslation AS tt "
-        + "WHERE lower(tt.name) IN (:tags)))")
-    Page<HabitTranslation> findAllByTagsAndIsCustomHabitTrueAndLanguageCode(Pageable pageable, List<String> tags,
-        String languageCode, List<Long> availableUsersIds);
-
-    /**
-     * Method that find all habit's translations by tags,and language code in case
-     * when isCustomHabit false.
-     *
-     * @param pageable     {@link Pageable}
-     * @param tags         {@link List} of {@link String} tags
-     * @param languageCode language code {@link String}
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "JOIN h.tags AS t "
-        + "WHERE h.isCustomHabit = false AND t.id IN "
-        + "(SELECT tt.tag FROM TagTranslation AS tt "
-        + "WHERE lower(tt.name) IN (:tags)))")
-    Page<HabitTranslation> findAllByTagsAndIsCustomHabitFalseAndLanguageCode(Pageable pageable, List<String> tags,
-        String languageCode);
-
-    /**
-     * Method that find all habit's translations by tags, complexities and language
-     * code.
-     *
-     * @param pageable     {@link Pageable}.
-     * @param tags         {@link List} of {@link String}.
-     * @param complexities {@link List} of {@link Integer}.
-     * @param languageCode language code {@link String}.
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "JOIN h.tags AS t "
-        + "WHERE ((h.isCustomHabit = true AND h.userId IN (:availableUsersIds)) OR (h.isCustomHabit = false )) "
-        + "AND h.complexity IN (:complexities) AND  t.id IN "
-        + "(SELECT tt.tag FROM TagTranslation AS tt "
-        + "WHERE lower(tt.name) IN (:tags)))")
-    Page<HabitTranslation> findAllByTagsAndComplexityAndLanguageCodeForAvailableUsersIfIsCustomTrue(Pageable pageable,
-        List<String> tags,
-        Optional<List<Integer>> complexities, String languageCode, List<Long> availableUsersIds);
-
-    /**
-     * Method that find all habit's translations in case when isCustomHabit true,
-     * complexities and language code.
-     *
-     * @param pageable     {@link Pageable}.
-     * @param complexities {@link List} of {@link Integer}.
-     * @param languageCode language code {@link String}.
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT  ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "WHERE h.isCustomHabit = true AND h.userId IN (:availableUsersIds) "
-        + "AND h.complexity IN (:complexities))")
-    Page<HabitTranslation> findAllByIsCustomHabitTrueAndComplexityAndLanguageCode(Pageable pageable,
-        Optional<List<Integer>> complexities, String languageCode, List<Long> availableUsersIds);
-
-    /**
-     * Method that find all habit's translations by in case when isCustomHabit false
-     * , complexities and language code.
-     *
-     * @param pageable     {@link Pageable}.
-     * @param complexities {@link List} of {@link Integer}.
-     * @param languageCode language code {@link String}.
-     * @return {@link List} of {@link HabitTranslation}.
-     * @author Lilia Mokhnatska
-     */
-
-    @Query("SELECT DISTINCT ht FROM HabitTranslation AS ht "
-        + "WHERE ht.language = "
-        + "(SELECT l FROM Language AS l WHERE l.code = :languageCode) "
-        + "AND ht.habit IN "
-        + "(SELECT h FROM Habit AS h "
-        + "WHERE h.isCustomHabit = false AND h.complexity IN (:complexities))")
-    Page<HabitTranslation> findAllByIsCustomHabitFalseAndComplexityAndLanguageCode(Pageable pageable,
-        Optional<List<Integer>> complexities, String languageCode);
-
     /**
      * Method return {@link List} of {@link HabitTranslation} by habit.
      *
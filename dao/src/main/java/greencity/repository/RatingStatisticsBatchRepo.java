@@ -0,0 +1,54 @@
+package greencity.repository;
+
+import greencity.entity.RatingStatistics;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class RatingStatisticsBatchRepo {
+    private static final String INSERT = "INSERT INTO rating_statistics "
+        + "(event, create_date, user_id, points_changed, current_rating) VALUES (?, ?, ?, ?, ?)";
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Initialization constructor.
+     */
+    public RatingStatisticsBatchRepo(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Method inserts given {@link RatingStatistics} with one JDBC batch. Identity
+     * generated ids prevent Hibernate from batching inserts, so rows are written
+     * with plain JDBC and ids of given entities are not set.
+     *
+     * @param ratingStatistics rows to insert, {@code user} must have id.
+     */
+    @Transactional
+    public void saveAll(List<RatingStatistics> ratingStatistics) {
+        jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RatingStatistics row = ratingStatistics.get(i);
+                ZonedDateTime createDate = row.getCreateDate() != null ? row.getCreateDate() : ZonedDateTime.now();
+                ps.setString(1, row.getRatingCalculationEnum().name());
+                ps.setTimestamp(2, Timestamp.from(createDate.toInstant()));
+                ps.setLong(3, row.getUser().getId());
+                ps.setDouble(4, row.getPointsChanged());
+                ps.setDouble(5, row.getRating());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ratingStatistics.size();
+            }
+        });
+    }
+}
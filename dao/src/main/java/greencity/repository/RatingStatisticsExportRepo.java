@@ -0,0 +1,80 @@
+package greencity.repository;
+
+import greencity.annotations.RatingCalculationEnum;
+import greencity.dto.ratingstatistics.RatingStatisticsDto;
+import greencity.dto.user.UserVO;
+import greencity.entity.RatingStatistics;
+import greencity.entity.RatingStatistics_;
+import greencity.entity.User;
+import greencity.entity.User_;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Root;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RatingStatisticsExportRepo {
+    private static final int FETCH_SIZE = 1000;
+    private final EntityManager entityManager;
+
+    /**
+     * Initialization constructor.
+     */
+    public RatingStatisticsExportRepo(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Method streams {@link RatingStatistics} matching given specification ordered
+     * by id. Rows are read with database cursor and mapped to
+     * {@link RatingStatisticsDto} without loading entities, so memory use does not
+     * depend on amount of rows. Must be called and consumed inside transaction.
+     *
+     * @param specification filter of rows, {@code null} for all rows.
+     * @return {@link Stream} of {@link RatingStatisticsDto}, must be closed.
+     */
+    public Stream<RatingStatisticsDto> streamAll(Specification<RatingStatistics> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<RatingStatistics> root = query.from(RatingStatistics.class);
+        Join<RatingStatistics, User> user = root.join(RatingStatistics_.user);
+        query.multiselect(
+            root.get(RatingStatistics_.id),
+            root.get(RatingStatistics_.createDate),
+            root.get(RatingStatistics_.ratingCalculationEnum),
+            root.get(RatingStatistics_.pointsChanged),
+            root.get(RatingStatistics_.rating),
+            user.get(User_.id),
+            user.get(User_.email));
+        if (specification != null) {
+            query.where(specification.toPredicate(root, query, criteriaBuilder));
+        }
+        query.orderBy(criteriaBuilder.asc(root.get(RatingStatistics_.id)));
+        return entityManager.createQuery(query)
+            .setHint(QueryHints.HINT_FETCH_SIZE, FETCH_SIZE)
+            .setHint(QueryHints.HINT_READONLY, true)
+            .getResultStream()
+            .map(RatingStatisticsExportRepo::toDto);
+    }
+
+    private static RatingStatisticsDto toDto(Tuple tuple) {
+        UserVO user = UserVO.builder()
+            .id(tuple.get(5, Long.class))
+            .email(tuple.get(6, String.class))
+            .build();
+        return new RatingStatisticsDto(
+            tuple.get(0, Long.class),
+            tuple.get(1, ZonedDateTime.class),
+            tuple.get(2, RatingCalculationEnum.class),
+            tuple.get(3, Double.class).floatValue(),
+            tuple.get(4, Double.class).floatValue(),
+            user);
+    }
+}
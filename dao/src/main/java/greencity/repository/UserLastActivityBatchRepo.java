@@ -0,0 +1,54 @@
+package greencity.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class UserLastActivityBatchRepo {
+    private static final String UPDATE = "UPDATE users SET last_activity_time = ? "
+        + "WHERE id = ? AND (last_activity_time IS NULL OR last_activity_time < ?)";
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Initialization constructor.
+     */
+    public UserLastActivityBatchRepo(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Method updates last activity times of users with one JDBC batch. Rows which
+     * already have the same or later time are not rewritten, so flushes of several
+     * application instances never move the time back.
+     *
+     * @param lastActivityTimes last activity times by user id.
+     */
+    @Transactional
+    public void updateLastActivityTimes(Map<Long, Instant> lastActivityTimes) {
+        List<Map.Entry<Long, Instant>> rows = new ArrayList<>(lastActivityTimes.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Instant> row = rows.get(i);
+                Timestamp lastActivityTime = Timestamp.from(row.getValue());
+                ps.setTimestamp(1, lastActivityTime);
+                ps.setLong(2, row.getKey());
+                ps.setTimestamp(3, lastActivityTime);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+}
@@ -2,7 +2,9 @@ package greencity.repository;
 
 import greencity.dto.friends.UserFriendDto;
 import greencity.dto.habit.HabitVO;
+import greencity.dto.user.UserLastActivityTimeDto;
 import greencity.dto.user.UserManagementVO;
+import greencity.dto.user.UserPrincipalVO;
 import greencity.dto.user.UserVO;
 import greencity.entity.User;
 import org.springframework.data.domain.Page;
@@ -13,10 +15,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +46,16 @@ public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExe
         + " FROM User u ")
     Page<UserManagementVO> findAllManagementVo(Specification<User> filter, Pageable pageable);
 
+    /**
+     * Find {@link UserPrincipalVO} by email.
+     *
+     * @param email - {@link User}'s email
+     * @return {@link Optional} of {@link UserPrincipalVO}
+     */
+    @Query("SELECT new greencity.dto.user.UserPrincipalVO(u.id, u.email, u.role, u.userStatus) "
+        + "FROM User u WHERE u.email = :email")
+    Optional<UserPrincipalVO> findPrincipalByEmail(String email);
+
     /**
      * Find not 'DEACTIVATED' {@link User} by email.
      *
@@ -117,6 +131,17 @@ public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExe
         value = "SELECT last_activity_time FROM users WHERE id=:userId")
     Optional<Timestamp> findLastActivityTimeById(Long userId);
 
+    /**
+     * Find last activity times of {@link User}s by their ids with one query.
+     *
+     * @param userIds ids of {@link User}s.
+     * @return {@link UserLastActivityTimeDto} of every existing {@link User}, last
+     *         activity time is {@code null} if user was never active.
+     */
+    @Query("SELECT new greencity.dto.user.UserLastActivityTimeDto(u.id, u.lastActivityTime) "
+        + "FROM User u WHERE u.id IN :userIds")
+    List<UserLastActivityTimeDto> findLastActivityTimesByIds(@Param("userIds") Collection<Long> userIds);
+
     /**
      * Get six friends with the highest rating {@link User}.
      */
@@ -174,6 +199,19 @@ public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExe
         + "AND ha.status = 'INPROGRESS') = 1)) as ui JOIN users as u ON user_id = u.id")
     List<User> getFriendsAssignedToHabit(Long userId, Long habitId);
 
+    /**
+     * Method returns {@link User}s among given ids who have inprogress assign of
+     * the habit.
+     *
+     * @param userIds ids of {@link User}s.
+     * @param habitId {@link HabitVO} id.
+     * @return list of {@link User}s.
+     */
+    @Query(nativeQuery = true, value = "SELECT u.* FROM users u WHERE u.id IN (:userIds) "
+        + "AND EXISTS (SELECT 1 FROM habit_assign ha WHERE ha.habit_id = :habitId AND ha.user_id = u.id "
+        + "AND ha.status = 'INPROGRESS')")
+    List<User> findAllAssignedToHabit(@Param("userIds") Collection<Long> userIds, @Param("habitId") Long habitId);
+
     /**
      * Delete friend {@link User}.
      */
@@ -271,6 +309,17 @@ public interface UserRepo extends JpaRepository<User, Long>, JpaSpecificationExe
         + "UNION (SELECT friend_id FROM users_friends WHERE user_id = :userId and status = 'FRIEND'));")
     List<User> getAllUserFriends(Long userId);
 
+    /**
+     * Get ids of all user friends without loading {@link User}s.
+     *
+     * @param userId The ID of the user.
+     * @return ids of friends as numbers of the type returned by JDBC driver.
+     */
+    @Query(nativeQuery = true, value = "SELECT user_id FROM users_friends WHERE friend_id = :userId "
+        + "AND status = 'FRIEND' UNION SELECT friend_id FROM users_friends WHERE user_id = :userId "
+        + "AND status = 'FRIEND'")
+    List<Number> findAllUserFriendIds(@Param("userId") Long userId);
+
     /**
      * Method that finds all users except current user and his friends.
      *
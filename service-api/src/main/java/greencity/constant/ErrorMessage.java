@@ -144,6 +144,7 @@ public final class ErrorMessage {
     public static final String INVALID_DATE_RANGE = "The 'From' date must be earlier than the 'To' date";
     public static final String SELECT_CORRECT_LANGUAGE = "Select correct language: 'en', 'ua' or 'ru'";
     public static final String INVALID_HABIT_ID = "Invalid habit id ";
+    public static final String INVALID_CURSOR = "Invalid page cursor";
     public static final String WRONG_COUNT_OF_TAGS_EXCEPTION =
         "Count of tags should be at least one but not more three";
     public static final String TOKEN_FOR_RESTORE_IS_INVALID = "Token is null or it doesn't exist.";
@@ -179,6 +180,8 @@ public final class ErrorMessage {
     public static final String EVENT_IS_FINISHED = "Finished event cannot be modified";
     public static final String USER_HAS_NO_FRIEND_WITH_ID = "User has no friend with this id: ";
     public static final String INVALID_DURATION = "The duration for such habit is lower than previously set";
+    public static final String BASE64_IMAGE_NOT_CONVERTED = "Cannot convert to BASE64 image";
+    public static final String BASE64_IMAGE_TOO_LARGE = "Image can not be reduced to allowed size of bytes: ";
 
     private ErrorMessage() {
     }
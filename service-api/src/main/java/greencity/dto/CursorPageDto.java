@@ -0,0 +1,17 @@
+package greencity.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> page;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+}
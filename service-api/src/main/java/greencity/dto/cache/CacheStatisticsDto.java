@@ -0,0 +1,21 @@
+package greencity.dto.cache;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class CacheStatisticsDto {
+    private String cacheName;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRatio;
+    private long evictionCount;
+    private long loadCount;
+    private double averageLoadTimeMillis;
+}
@@ -3,6 +3,7 @@ package greencity.dto.econews;
 import greencity.dto.user.EcoNewsAuthorDto;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -47,4 +48,6 @@ public class EcoNewsDto {
     private int dislikes;
 
     private int countComments;
+
+    private Map<Integer, String> imageVariants;
 }
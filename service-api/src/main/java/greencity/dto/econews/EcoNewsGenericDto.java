@@ -8,6 +8,7 @@ import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -50,4 +51,6 @@ public class EcoNewsGenericDto {
     private int countComments;
 
     private int countOfEcoNews;
+
+    private Map<Integer, String> imageVariants;
 }
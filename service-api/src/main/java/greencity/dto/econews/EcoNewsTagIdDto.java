@@ -0,0 +1,17 @@
+package greencity.dto.econews;
+
+import java.time.ZonedDateTime;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class EcoNewsTagIdDto {
+    private Long ecoNewsId;
+    private ZonedDateTime creationDate;
+    private Long tagId;
+}
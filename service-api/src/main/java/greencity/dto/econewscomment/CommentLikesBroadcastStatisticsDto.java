@@ -0,0 +1,20 @@
+package greencity.dto.econewscomment;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class CommentLikesBroadcastStatisticsDto {
+    private long receivedEvents;
+    private long sentMessages;
+    private double receivedEventsPerSecond;
+    private double sentMessagesPerSecond;
+    private int pendingTopics;
+    private int trackedComments;
+    private int outboundQueueDepth;
+}
@@ -0,0 +1,15 @@
+package greencity.dto.econewscomment;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class EcoNewsCommentAmountDto {
+    private Long commentId;
+    private Long amount;
+}
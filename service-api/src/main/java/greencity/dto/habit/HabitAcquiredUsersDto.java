@@ -0,0 +1,15 @@
+package greencity.dto.habit;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class HabitAcquiredUsersDto {
+    private Long habitId;
+    private Long amountAcquiredUsers;
+}
@@ -0,0 +1,21 @@
+package greencity.dto.habit;
+
+import java.time.LocalDate;
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@Builder
+public class HabitNotificationProgressDto {
+    private String jobName;
+    private LocalDate runDate;
+    private Long lastUserId;
+    private Long processedUsers;
+    private Long sentNotifications;
+    private Long failedNotifications;
+    private Boolean completed;
+}
@@ -0,0 +1,16 @@
+package greencity.dto.habitstatuscalendar;
+
+import java.time.LocalDate;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class HabitEnrollDateDto {
+    private Long habitAssignId;
+    private LocalDate enrollDate;
+}
@@ -0,0 +1,22 @@
+package greencity.dto.ratingstatistics;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class RatingEventPipelineStatisticsDto {
+    private long publishedEvents;
+    private long userUpdatesSent;
+    private long failedUserUpdates;
+    private long statisticsRowsWritten;
+    private long rejectedSubmissions;
+    private int pendingUsers;
+    private int pendingStatisticsRows;
+    private int executorQueueDepth;
+    private int activeWorkers;
+}
@@ -0,0 +1,16 @@
+package greencity.dto.user;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserLastActivityTimeDto {
+    private Long id;
+    private LocalDateTime lastActivityTime;
+}
@@ -0,0 +1,19 @@
+package greencity.dto.user;
+
+import greencity.enums.Role;
+import greencity.enums.UserStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+@Builder
+public class UserPrincipalVO {
+    private Long id;
+    private String email;
+    private Role role;
+    private UserStatus userStatus;
+}
@@ -0,0 +1,18 @@
+package greencity.security.dto;
+
+import java.util.Date;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerifiedAccessTokenDto {
+    private String email;
+    private List<String> roles;
+    private Date expiration;
+}
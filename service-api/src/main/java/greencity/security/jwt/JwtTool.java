@@ -9,7 +9,10 @@ import io.jsonwebtoken.Jwt;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.impl.DefaultJwtParser;
+import io.jsonwebtoken.impl.TextCodec;
 import java.util.*;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import javax.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +31,7 @@ public class JwtTool {
     private final Integer accessTokenValidTimeInMinutes;
     private final Integer refreshTokenValidTimeInMinutes;
     private final String accessTokenKey;
+    private volatile SecretKey accessSecretKey;
 
     /**
      * Constructor.
@@ -58,7 +62,7 @@ public class JwtTool {
             .setClaims(claims)
             .setIssuedAt(now)
             .setExpiration(calendar.getTime())
-            .signWith(SignatureAlgorithm.HS256, accessTokenKey)
+            .signWith(SignatureAlgorithm.HS256, getAccessSecretKey())
             .compact();
     }
 
@@ -124,6 +128,22 @@ public class JwtTool {
         return accessTokenKey;
     }
 
+    /**
+     * Returns HMAC key derived from access token key once, so signing and
+     * verification of access tokens do not decode the key on every call.
+     *
+     * @return {@link SecretKey} of access tokens.
+     */
+    public SecretKey getAccessSecretKey() {
+        SecretKey secretKey = accessSecretKey;
+        if (secretKey == null) {
+            secretKey = new SecretKeySpec(TextCodec.BASE64.decode(accessTokenKey),
+                SignatureAlgorithm.HS256.getJcaName());
+            accessSecretKey = secretKey;
+        }
+        return secretKey;
+    }
+
     /**
      * Method that get token from {@link HttpServletRequest}.
      *
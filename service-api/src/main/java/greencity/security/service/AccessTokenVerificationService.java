@@ -0,0 +1,24 @@
+package greencity.security.service;
+
+import greencity.security.dto.VerifiedAccessTokenDto;
+
+/**
+ * Service that verifies access tokens of authenticated requests.
+ */
+public interface AccessTokenVerificationService {
+    /**
+     * Method verifies signature and expiration of access token and returns its
+     * claims. Signature of the same token is checked once while it is cached.
+     *
+     * @param accessToken access token.
+     * @return {@link VerifiedAccessTokenDto} with subject, roles and expiration.
+     * @throws io.jsonwebtoken.ExpiredJwtException     if the token expired.
+     * @throws io.jsonwebtoken.UnsupportedJwtException if the token does not
+     *                                                 represent an Claims JWS.
+     * @throws io.jsonwebtoken.MalformedJwtException   if the token is not a valid
+     *                                                 JWS.
+     * @throws io.jsonwebtoken.SignatureException      if the signature validation
+     *                                                 fails.
+     */
+    VerifiedAccessTokenDto verify(String accessToken);
+}
@@ -0,0 +1,14 @@
+package greencity.service;
+
+import greencity.dto.cache.CacheStatisticsDto;
+import java.util.List;
+
+public interface CacheStatisticsService {
+    /**
+     * Method that returns hit ratio, eviction count and load time of every
+     * application cache.
+     *
+     * @return list of {@link CacheStatisticsDto}.
+     */
+    List<CacheStatisticsDto> getAllStatistics();
+}
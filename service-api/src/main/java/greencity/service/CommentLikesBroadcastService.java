@@ -0,0 +1,40 @@
+package greencity.service;
+
+import greencity.dto.econewscomment.CommentLikesBroadcastStatisticsDto;
+
+public interface CommentLikesBroadcastService {
+    /**
+     * Method applies like or dislike of comment to in-memory likes count and
+     * schedules update of comment topic.
+     *
+     * @param commentId id of liked comment.
+     * @param userId    id of user who liked or disliked comment.
+     * @param liked     {@code true} if comment was liked, {@code false} if like was
+     *                  removed.
+     */
+    void likeToggled(Long commentId, Long userId, boolean liked);
+
+    /**
+     * Method schedules update of comment topic with current likes count. Requests
+     * and likes of the same user for the same comment during one broadcast interval
+     * are coalesced into one message, which carries liked state of that user.
+     *
+     * @param commentId id of comment.
+     * @param userId    id of user who requested likes count.
+     */
+    void requestBroadcast(Long commentId, Long userId);
+
+    /**
+     * Method sends likes count to every comment topic which has pending updates,
+     * one message for every user waiting for it.
+     */
+    void flush();
+
+    /**
+     * Method returns rates of received like events and sent messages, amount of
+     * pending topics and depth of broker outbound queue.
+     *
+     * @return {@link CommentLikesBroadcastStatisticsDto}.
+     */
+    CommentLikesBroadcastStatisticsDto getStatistics();
+}
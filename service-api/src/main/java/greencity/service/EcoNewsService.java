@@ -1,5 +1,6 @@
 package greencity.service;
 
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.*;
@@ -71,6 +72,29 @@ public interface EcoNewsService {
      */
     PageableAdvancedDto<EcoNewsGenericDto> findAllByUser(UserVO user, Pageable page);
 
+    /**
+     * Method for getting eco news feed page after given cursor. Unlike
+     * {@link #findGenericAll(Pageable)} it does not count all eco news.
+     *
+     * @param cursor cursor returned with previous page or {@code null} for first
+     *               page.
+     * @param size   amount of eco news on page.
+     * @return {@link CursorPageDto} of {@link EcoNewsGenericDto} instances.
+     */
+    CursorPageDto<EcoNewsGenericDto> findGenericAllByCursor(String cursor, int size);
+
+    /**
+     * Method for getting page of user eco news after given cursor. Unlike
+     * {@link #findAllByUser(UserVO, Pageable)} it does not count all eco news.
+     *
+     * @param user   {@link UserVO} author of eco news.
+     * @param cursor cursor returned with previous page or {@code null} for first
+     *               page.
+     * @param size   amount of eco news on page.
+     * @return {@link CursorPageDto} of {@link EcoNewsGenericDto} instances.
+     */
+    CursorPageDto<EcoNewsGenericDto> findAllByUserByCursor(UserVO user, String cursor, int size);
+
     /**
      * Method for getting eco news by params.
      *
@@ -122,7 +146,8 @@ public interface EcoNewsService {
     void deleteAll(List<Long> listId);
 
     /**
-     * Method for getting EcoNews by searchQuery.
+     * Method for getting three most relevant EcoNews by searchQuery. Total amount
+     * of found EcoNews is approximate and stops growing after a thousand.
      *
      * @param searchQuery query to search
      * @return list of {@link SearchNewsDto}
@@ -1,5 +1,6 @@
 package greencity.service;
 
+import java.util.concurrent.CompletableFuture;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileService {
@@ -11,6 +12,25 @@ public interface FileService {
      **/
     String upload(MultipartFile multipartFile);
 
+    /**
+     * Upload file to Azure Cloud Storage under given name, so related files can be
+     * stored next to each other.
+     *
+     * @param multipartFile file to save.
+     * @param fileName      name of the file in storage.
+     * @return public file url.
+     **/
+    String upload(MultipartFile multipartFile, String fileName);
+
+    /**
+     * Upload file to Azure Cloud Storage on upload executor, so several files can
+     * be uploaded at once.
+     *
+     * @param multipartFile image file to save.
+     * @return {@link CompletableFuture} of public image url.
+     **/
+    CompletableFuture<String> uploadAsync(MultipartFile multipartFile);
+
     /**
      * Convert string to MultipartFile.
      *
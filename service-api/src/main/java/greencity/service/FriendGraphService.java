@@ -0,0 +1,16 @@
+package greencity.service;
+
+import java.util.stream.LongStream;
+
+public interface FriendGraphService {
+    /**
+     * Returns ids of accepted friends of user. Ids are cached per user for a
+     * limited time, so habit listings and friend recommendations do not query
+     * friendships on every request. Friendships changed recently may be missing, so
+     * the result must not be used for permission checks.
+     *
+     * @param userId id of user.
+     * @return ids of friends in ascending order.
+     */
+    LongStream findFriendIds(Long userId);
+}
@@ -0,0 +1,17 @@
+package greencity.service;
+
+import greencity.dto.user.RecommendedFriendDto;
+import java.util.List;
+
+public interface FriendRecommendationService {
+    /**
+     * Finds users recommended as friends for user. Users are ranked by amount of
+     * shared habits, co-commented eco news and mutual friends, current friends are
+     * not recommended.
+     *
+     * @param userId id of user.
+     * @param limit  max amount of recommended users.
+     * @return list of {@link RecommendedFriendDto}, the most relevant first.
+     */
+    List<RecommendedFriendDto> findRecommendedFriends(Long userId, int limit);
+}
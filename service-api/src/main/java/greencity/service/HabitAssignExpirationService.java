@@ -0,0 +1,21 @@
+package greencity.service;
+
+public interface HabitAssignExpirationService {
+    /**
+     * Sets EXPIRED status to all inprogress habit assigns which duration has ended.
+     * Habit assigns are updated with bulk updates over id ranges, each range in its
+     * own transaction.
+     *
+     * @return amount of expired habit assigns.
+     */
+    long expireOverdueHabitAssigns();
+
+    /**
+     * Resets streaks of inprogress habit assigns which were not enrolled yesterday
+     * nor today, dates are taken in Ukrainian time zone the job is scheduled in.
+     * Habit assigns are updated in the same chunks as on expiration.
+     *
+     * @return amount of habit assigns with reset streak.
+     */
+    long decayMissedHabitStreaks();
+}
@@ -0,0 +1,39 @@
+package greencity.service;
+
+import greencity.dto.habit.HabitNotificationProgressDto;
+import greencity.dto.user.UserVO;
+import java.util.List;
+import java.util.Optional;
+
+public interface HabitNotificationService {
+    /**
+     * Sends notifications about not marked habits to each user that hasn't marked
+     * any habit during last 3 days. Users are processed in chunks ordered by id and
+     * progress is saved after each chunk, so interrupted run of the same job is
+     * resumed from the last processed user on the same day. The job is claimed
+     * through a heartbeat refreshed after each chunk, so it is skipped while
+     * another thread or instance runs it.
+     *
+     * @param jobName name of notification job.
+     * @param users   list of potential {@link UserVO} to send notifications.
+     * @return {@link HabitNotificationProgressDto} of finished or skipped run.
+     */
+    HabitNotificationProgressDto sendHabitNotifications(String jobName, List<UserVO> users);
+
+    /**
+     * Checks whether today's run of notification job has been started but not
+     * completed and its heartbeat is stale.
+     *
+     * @param jobName name of notification job.
+     * @return {@code true} if today's run was interrupted.
+     */
+    boolean isInterrupted(String jobName);
+
+    /**
+     * Method that returns progress of the last run of notification job.
+     *
+     * @param jobName name of notification job.
+     * @return {@link Optional} of {@link HabitNotificationProgressDto}.
+     */
+    Optional<HabitNotificationProgressDto> getProgress(String jobName);
+}
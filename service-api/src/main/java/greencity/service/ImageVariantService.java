@@ -0,0 +1,35 @@
+package greencity.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ImageVariantService {
+    /**
+     * Method uploads original image and queues generation of its resized JPEG
+     * variants, which are stored next to the original and recorded in eco news with
+     * this image once they are stored. Variants are generated on bounded image
+     * processing pool, so request thread waits for original upload only. Metadata
+     * of uploaded JPEG or PNG file except EXIF orientation is removed before upload
+     * without decoding it, and images of other formats or with unreadable header
+     * are not saved. Only variants narrower than original are generated.
+     *
+     * @param image image to upload.
+     * @return public url of original image.
+     */
+    String upload(MultipartFile image);
+
+    /**
+     * Method records variants of image that were stored before eco news with this
+     * image was saved. Variants stored later are recorded by their generation task,
+     * so the method is called after eco news is saved.
+     *
+     * @param imagePath public url of original image.
+     */
+    void recordVariants(String imagePath);
+
+    /**
+     * Method deletes image together with its variants.
+     *
+     * @param imagePath public url of original image.
+     */
+    void delete(String imagePath);
+}
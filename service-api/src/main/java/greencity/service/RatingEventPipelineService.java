@@ -0,0 +1,36 @@
+package greencity.service;
+
+import greencity.annotations.RatingCalculationEnum;
+import greencity.dto.ratingstatistics.RatingEventPipelineStatisticsDto;
+import greencity.dto.user.UserVO;
+
+public interface RatingEventPipelineService {
+    /**
+     * Method queues rating event of user. Events of one user are applied in order
+     * by one worker at a time, events queued while user update is in progress are
+     * coalesced into one update of user rating.
+     *
+     * @param rating      of {@link RatingCalculationEnum}.
+     * @param userVO      {@link UserVO} whose rating is changed.
+     * @param accessToken access token used to update user.
+     */
+    void publish(RatingCalculationEnum rating, UserVO userVO, String accessToken);
+
+    /**
+     * Method writes queued rating statistics rows with batched inserts.
+     */
+    void flushStatistics();
+
+    /**
+     * Method queues again events of users whose update failed, so they are applied
+     * together with events published since then.
+     */
+    void retryFailedUpdates();
+
+    /**
+     * Method returns counters and queue sizes of rating event pipeline.
+     *
+     * @return {@link RatingEventPipelineStatisticsDto}.
+     */
+    RatingEventPipelineStatisticsDto getStatistics();
+}
@@ -8,6 +8,8 @@ import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
 import greencity.filters.SearchCriteria;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 
 /**
@@ -48,6 +50,18 @@ public interface RatingStatisticsService {
      */
     List<RatingStatisticsDto> getFilteredRatingStatisticsForExcel(RatingStatisticsViewDto ratingStatisticsViewDto);
 
+    /**
+     * Streams {@link RatingStatisticsVO} for export without loading them all into
+     * memory. Stream is open only while consumer runs.
+     *
+     * @param ratingStatisticsViewDto filter of exported rows, {@code null} for all
+     *                                rows.
+     * @param consumer                consumer of {@link Stream} of
+     *                                {@link RatingStatisticsDto}.
+     */
+    void exportRatingStatistics(RatingStatisticsViewDto ratingStatisticsViewDto,
+        Consumer<Stream<RatingStatisticsDto>> consumer);
+
     /**
      * Find {@link RatingStatisticsVO} for management.
      *
@@ -0,0 +1,33 @@
+package greencity.service;
+
+import java.util.Date;
+import java.util.Optional;
+
+public interface UserPresenceService {
+    /**
+     * Records activity of user. Last activity time is kept in memory and written to
+     * database by {@link #flushLastActivityTimes()}.
+     *
+     * @param userId       id of user.
+     * @param activityTime time of activity.
+     */
+    void recordActivity(Long userId, Date activityTime);
+
+    /**
+     * Checks if user is online. User seen recently is answered from presence store
+     * without query, otherwise last activity time is read from database.
+     *
+     * @param userId id of user.
+     * @return online status of user, or empty {@link Optional} if user does not
+     *         exist.
+     */
+    Optional<Boolean> checkOnlineStatus(Long userId);
+
+    /**
+     * Writes last activity times recorded since previous flush to database with one
+     * batch and forgets users which are not online anymore.
+     *
+     * @return amount of flushed last activity times.
+     */
+    int flushLastActivityTimes();
+}
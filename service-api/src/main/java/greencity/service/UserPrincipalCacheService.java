@@ -0,0 +1,50 @@
+package greencity.service;
+
+import greencity.dto.cache.CacheStatisticsDto;
+import greencity.dto.user.UserPrincipalVO;
+
+import java.util.Optional;
+
+/**
+ * Bounded, time-limited cache of authenticated users principals, shared by the
+ * per-request authentication and current user validation paths.
+ */
+public interface UserPrincipalCacheService {
+    /**
+     * Method that returns {@link UserPrincipalVO} by email, loading it on cache
+     * miss.
+     *
+     * @param email - {@link UserPrincipalVO}'s email
+     * @return {@link Optional} of found {@link UserPrincipalVO}.
+     */
+    Optional<UserPrincipalVO> findByEmail(String email);
+
+    /**
+     * Method that returns not 'DEACTIVATED' {@link UserPrincipalVO} by email.
+     *
+     * @param email - {@link UserPrincipalVO}'s email
+     * @return {@link Optional} of found {@link UserPrincipalVO}.
+     */
+    Optional<UserPrincipalVO> findNotDeactivatedByEmail(String email);
+
+    /**
+     * Removes cached principal of user with given email.
+     *
+     * @param email - {@link UserPrincipalVO}'s email
+     */
+    void evictByEmail(String email);
+
+    /**
+     * Removes cached principal of user with given id.
+     *
+     * @param userId - {@link UserPrincipalVO}'s id
+     */
+    void evictById(Long userId);
+
+    /**
+     * Method that returns hit/miss counters of principal cache.
+     *
+     * @return {@link CacheStatisticsDto}
+     */
+    CacheStatisticsDto getStatistics();
+}
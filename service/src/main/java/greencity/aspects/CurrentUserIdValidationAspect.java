@@ -3,7 +3,9 @@ package greencity.aspects;
 import greencity.annotations.CurrentUserId;
 import greencity.client.RestClient;
 import greencity.constant.ErrorMessage;
+import greencity.dto.user.UserPrincipalVO;
 import greencity.exception.exceptions.NotCurrentUserException;
+import greencity.service.UserPrincipalCacheService;
 import java.lang.annotation.Annotation;
 import java.util.Optional;
 import org.aspectj.lang.JoinPoint;
@@ -22,15 +24,22 @@ import org.springframework.stereotype.Component;
 @Component
 public class CurrentUserIdValidationAspect {
     private final RestClient restClient;
+    private final UserPrincipalCacheService userPrincipalCacheService;
 
     /**
-     * Constructor with RestClient dependency declaration. RestClient is used for
-     * current user id acquisition.
+     * Constructor with RestClient and UserPrincipalCacheService dependencies
+     * declaration. Cached principal is used for current user id acquisition,
+     * RestClient is used as a fallback when principal cannot be found locally.
      *
-     * @param restClient {@link RestClient} is used for current user id acquisition.
+     * @param restClient                {@link RestClient} is used for current user
+     *                                  id acquisition.
+     * @param userPrincipalCacheService {@link UserPrincipalCacheService} is used
+     *                                  for current user id acquisition.
      */
-    public CurrentUserIdValidationAspect(RestClient restClient) {
+    public CurrentUserIdValidationAspect(RestClient restClient,
+        UserPrincipalCacheService userPrincipalCacheService) {
         this.restClient = restClient;
+        this.userPrincipalCacheService = userPrincipalCacheService;
     }
 
     /**
@@ -50,7 +59,10 @@ public class CurrentUserIdValidationAspect {
     public void validateCurrentUserIdParameter(JoinPoint joinPoint) throws NoSuchMethodException {
         getAnnotatedArgument(joinPoint).ifPresent(userId -> {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            Long currentUserId = restClient.findByEmail(authentication.getName()).getId();
+            String email = authentication.getName();
+            Long currentUserId = userPrincipalCacheService.findByEmail(email)
+                .map(UserPrincipalVO::getId)
+                .orElseGet(() -> restClient.findByEmail(email).getId());
             if (!currentUserId.equals(userId)) {
                 throw new NotCurrentUserException(ErrorMessage.NOT_A_CURRENT_USER);
             }
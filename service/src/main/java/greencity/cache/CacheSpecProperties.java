@@ -0,0 +1,44 @@
+package greencity.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Size, time to live and backend of caches declared in
+ * {@link greencity.constant.CacheConstants}. Caches without their own spec use
+ * the default one.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "greencity.cache")
+public class CacheSpecProperties {
+    private CacheSpec defaultSpec = new CacheSpec();
+    private Map<String, CacheSpec> specs = new HashMap<>();
+
+    /**
+     * Returns spec of cache with given name.
+     *
+     * @param cacheName name of cache.
+     * @return {@link CacheSpec}
+     */
+    public CacheSpec getSpec(String cacheName) {
+        return specs.getOrDefault(cacheName, defaultSpec);
+    }
+
+    @Getter
+    @Setter
+    public static class CacheSpec {
+        private long maxSize = 50;
+        private Duration ttl = Duration.ofDays(1);
+        private CacheBackend backend = CacheBackend.LOCAL;
+    }
+
+    public enum CacheBackend {
+        LOCAL,
+        SHARED
+    }
+}
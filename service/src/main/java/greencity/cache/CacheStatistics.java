@@ -0,0 +1,57 @@
+package greencity.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import greencity.dto.cache.CacheStatisticsDto;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds {@link CacheStatisticsDto} of different cache implementations.
+ */
+public final class CacheStatistics {
+    private static final double NANOS_IN_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private CacheStatistics() {
+    }
+
+    /**
+     * Builds statistics of Caffeine cache.
+     *
+     * @param cacheName name of cache.
+     * @param size      estimated amount of entries.
+     * @param stats     {@link CacheStats} recorded by Caffeine.
+     * @return {@link CacheStatisticsDto}
+     */
+    public static CacheStatisticsDto of(String cacheName, long size, CacheStats stats) {
+        return CacheStatisticsDto.builder()
+            .cacheName(cacheName)
+            .size(size)
+            .hitCount(stats.hitCount())
+            .missCount(stats.missCount())
+            .hitRatio(stats.hitRate())
+            .evictionCount(stats.evictionCount())
+            .loadCount(stats.loadCount())
+            .averageLoadTimeMillis(stats.averageLoadPenalty() / NANOS_IN_MILLI)
+            .build();
+    }
+
+    /**
+     * Builds statistics of cache decorated with {@link InstrumentedCache}.
+     *
+     * @param cache {@link InstrumentedCache}
+     * @return {@link CacheStatisticsDto}
+     */
+    public static CacheStatisticsDto of(InstrumentedCache cache) {
+        long requests = cache.getHitCount() + cache.getMissCount();
+        return CacheStatisticsDto.builder()
+            .cacheName(cache.getName())
+            .size(cache.getSize())
+            .hitCount(cache.getHitCount())
+            .missCount(cache.getMissCount())
+            .hitRatio(requests == 0 ? 1.0 : (double) cache.getHitCount() / requests)
+            .evictionCount(cache.getEvictionCount())
+            .loadCount(cache.getLoadCount())
+            .averageLoadTimeMillis(cache.getLoadCount() == 0 ? 0.0
+                : cache.getTotalLoadTime() / NANOS_IN_MILLI / cache.getLoadCount())
+            .build();
+    }
+}
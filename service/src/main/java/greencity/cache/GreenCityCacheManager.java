@@ -0,0 +1,69 @@
+package greencity.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import greencity.cache.CacheSpecProperties.CacheBackend;
+import greencity.cache.CacheSpecProperties.CacheSpec;
+import java.time.Duration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * {@link CaffeineCacheManager} which creates every cache according to its own
+ * {@link CacheSpec}: either local Caffeine cache bounded by size and time to
+ * live or cache created by {@link SharedCacheProvider}. Caches of both backends
+ * are decorated with {@link InstrumentedCache}, so they report the same
+ * statistics.
+ */
+public class GreenCityCacheManager extends CaffeineCacheManager {
+    private final CacheSpecProperties cacheSpecProperties;
+    private final SharedCacheProvider sharedCacheProvider;
+
+    /**
+     * Constructor.
+     *
+     * @param cacheSpecProperties {@link CacheSpecProperties}
+     * @param sharedCacheProvider {@link SharedCacheProvider} of shared caches.
+     */
+    public GreenCityCacheManager(CacheSpecProperties cacheSpecProperties,
+        SharedCacheProvider sharedCacheProvider) {
+        this.cacheSpecProperties = cacheSpecProperties;
+        this.sharedCacheProvider = sharedCacheProvider;
+    }
+
+    @Override
+    protected Cache createCaffeineCache(String name) {
+        CacheSpec spec = cacheSpecProperties.getSpec(name);
+        if (spec.getBackend() == CacheBackend.SHARED) {
+            return new InstrumentedCache(evictionListener -> sharedCacheProvider
+                .createCache(name, spec.getMaxSize(), spec.getTtl(), evictionListener));
+        }
+        return new InstrumentedCache(evictionListener -> localCache(name, spec.getMaxSize(), spec.getTtl(),
+            evictionListener, isAllowNullValues()));
+    }
+
+    /**
+     * Creates local Caffeine cache bounded by size and time to live.
+     *
+     * @param name             name of cache.
+     * @param maxSize          maximum amount of entries.
+     * @param ttl              time to live of entries.
+     * @param evictionListener called for every entry evicted because of size or
+     *                         time to live.
+     * @param allowNullValues  whether {@code null} values are cached.
+     * @return {@link CaffeineCache}
+     */
+    static Cache localCache(String name, long maxSize, Duration ttl, Runnable evictionListener,
+        boolean allowNullValues) {
+        return new CaffeineCache(name, Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .executor(Runnable::run)
+            .removalListener((key, value, cause) -> {
+                if (cause.wasEvicted()) {
+                    evictionListener.run();
+                }
+            })
+            .build(), allowNullValues);
+    }
+}
@@ -0,0 +1,169 @@
+package greencity.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} decorator which counts hits, misses, evictions and load time,
+ * so local and shared caches report the same statistics.
+ */
+public class InstrumentedCache implements Cache {
+    @Getter
+    private final Cache delegate;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param delegate {@link Cache} to decorate, evictions of which are not
+     *                 counted.
+     */
+    public InstrumentedCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Constructor for caches which report evictions to their decorator.
+     *
+     * @param cacheFactory creates decorated cache from eviction listener.
+     */
+    public InstrumentedCache(CacheFactory cacheFactory) {
+        this.delegate = cacheFactory.create(evictionCount::increment);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return record(delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        record(value);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            hitCount.increment();
+            @SuppressWarnings("unchecked")
+            T value = (T) cached.get();
+            return value;
+        }
+        missCount.increment();
+        long start = System.nanoTime();
+        try {
+            return delegate.get(key, valueLoader);
+        } finally {
+            loadCount.increment();
+            totalLoadTime.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * Returns estimated amount of entries, or {@code 0} if decorated cache does not
+     * report it.
+     */
+    public long getSize() {
+        if (delegate.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache) {
+            return ((com.github.benmanes.caffeine.cache.Cache<?, ?>) delegate.getNativeCache()).estimatedSize();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns amount of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns amount of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns amount of entries evicted because of size or time to live.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns amount of values loaded into cache.
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * Returns total time spent loading values, in nanoseconds.
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime.sum();
+    }
+
+    private <T> T record(T value) {
+        if (value == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Creates decorated cache which reports evictions to given listener.
+     */
+    @FunctionalInterface
+    public interface CacheFactory {
+        /**
+         * Creates cache.
+         *
+         * @param evictionListener called for every evicted entry.
+         * @return {@link Cache}
+         */
+        Cache create(Runnable evictionListener);
+    }
+}
@@ -0,0 +1,16 @@
+package greencity.cache;
+
+import java.time.Duration;
+import org.springframework.cache.Cache;
+
+/**
+ * {@link SharedCacheProvider} of a single application instance, which creates
+ * local Caffeine caches. Stands in for shared backend in tests and in
+ * environments without one.
+ */
+public class LocalSharedCacheProvider implements SharedCacheProvider {
+    @Override
+    public Cache createCache(String name, long maxSize, Duration ttl, Runnable evictionListener) {
+        return GreenCityCacheManager.localCache(name, maxSize, ttl, evictionListener, true);
+    }
+}
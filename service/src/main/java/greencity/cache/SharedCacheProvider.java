@@ -0,0 +1,24 @@
+package greencity.cache;
+
+import java.time.Duration;
+import org.springframework.cache.Cache;
+
+/**
+ * Provider of caches shared between application instances. Caches configured
+ * with {@link CacheSpecProperties.CacheBackend#SHARED} backend are created by
+ * the single bean of this type, {@link LocalSharedCacheProvider} is used if
+ * there is none.
+ */
+public interface SharedCacheProvider {
+    /**
+     * Creates shared cache.
+     *
+     * @param name             name of cache.
+     * @param maxSize          maximum amount of entries.
+     * @param ttl              time to live of entries.
+     * @param evictionListener called for every entry evicted because of size or
+     *                         time to live.
+     * @return {@link Cache}
+     */
+    Cache createCache(String name, long maxSize, Duration ttl, Runnable evictionListener);
+}
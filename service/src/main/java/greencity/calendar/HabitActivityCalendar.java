@@ -0,0 +1,107 @@
+package greencity.calendar;
+
+import greencity.dto.habit.HabitEnrollDto;
+import greencity.dto.habit.HabitsDateEnrollmentDto;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calendar of user habit activity within a range of dates. Days are indexed by
+ * their offset from the first epoch day of the range and enroll dates of every
+ * habit assign are kept in a {@link BitSet}, so building the calendar only
+ * walks active days of each habit assign and is linear in size of the result.
+ * Habit assigns appear on every day in the order they were added.
+ */
+public final class HabitActivityCalendar {
+    private static final BitSet NOT_ENROLLED = new BitSet();
+    private final LocalDate from;
+    private final long fromEpochDay;
+    private final int days;
+    private final Map<Long, BitSet> enrolledDays = new HashMap<>();
+    private final List<ActiveHabitAssign> habitAssigns = new ArrayList<>();
+
+    /**
+     * Constructor for calendar of given range of dates.
+     *
+     * @param from first date of the range.
+     * @param to   last date of the range, not before {@code from}.
+     */
+    public HabitActivityCalendar(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.fromEpochDay = from.toEpochDay();
+        this.days = Math.toIntExact(to.toEpochDay() - fromEpochDay + 1);
+    }
+
+    /**
+     * Marks habit assign as enrolled on given date. Dates out of the range are
+     * ignored.
+     *
+     * @param habitAssignId id of habit assign.
+     * @param date          enroll date.
+     */
+    public void markEnrolled(Long habitAssignId, LocalDate date) {
+        long day = date.toEpochDay() - fromEpochDay;
+        if (day >= 0 && day < days) {
+            enrolledDays.computeIfAbsent(habitAssignId, id -> new BitSet(days)).set((int) day);
+        }
+    }
+
+    /**
+     * Adds habit assign active from first till last date inclusive.
+     *
+     * @param habitAssignEnroll habit assign id, name and description.
+     * @param activeFrom        first active date.
+     * @param activeTo          last active date.
+     */
+    public void addHabitAssign(HabitEnrollDto habitAssignEnroll, LocalDate activeFrom, LocalDate activeTo) {
+        long firstDay = Math.max(0, activeFrom.toEpochDay() - fromEpochDay);
+        long lastDay = Math.min(days - 1L, activeTo.toEpochDay() - fromEpochDay);
+        if (firstDay <= lastDay) {
+            habitAssigns.add(new ActiveHabitAssign(habitAssignEnroll, (int) firstDay, (int) lastDay));
+        }
+    }
+
+    /**
+     * Builds activity of every day of the range.
+     *
+     * @return list of {@link HabitsDateEnrollmentDto} ordered by date.
+     */
+    public List<HabitsDateEnrollmentDto> build() {
+        List<HabitsDateEnrollmentDto> result = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            result.add(HabitsDateEnrollmentDto.builder()
+                .enrollDate(from.plusDays(day))
+                .habitAssigns(new ArrayList<>())
+                .build());
+        }
+        for (ActiveHabitAssign habitAssign : habitAssigns) {
+            HabitEnrollDto enroll = habitAssign.enroll;
+            BitSet enrolled = enrolledDays.getOrDefault(enroll.getHabitAssignId(), NOT_ENROLLED);
+            for (int day = habitAssign.firstDay; day <= habitAssign.lastDay; day++) {
+                result.get(day).getHabitAssigns().add(HabitEnrollDto.builder()
+                    .habitAssignId(enroll.getHabitAssignId())
+                    .habitName(enroll.getHabitName())
+                    .habitDescription(enroll.getHabitDescription())
+                    .isEnrolled(enrolled.get(day))
+                    .build());
+            }
+        }
+        return result;
+    }
+
+    private static final class ActiveHabitAssign {
+        private final HabitEnrollDto enroll;
+        private final int firstDay;
+        private final int lastDay;
+
+        private ActiveHabitAssign(HabitEnrollDto enroll, int firstDay, int lastDay) {
+            this.enroll = enroll;
+            this.firstDay = firstDay;
+            this.lastDay = lastDay;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package greencity.calendar;
+
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Incremental maintenance of habit streaks stored on {@link HabitAssign}.
+ * Current streak is the length of the run of enrolled days ending at the last
+ * enroll date and stays valid till the end of the next day, after that it
+ * decays to zero. Enrolling the next day after the last enroll date and
+ * unenrolling the last enroll date are applied in O(1), other edits recount
+ * streaks over enroll dates of the habit assign, which are bounded by its
+ * duration and the enroll range.
+ */
+public final class HabitStreaks {
+    private HabitStreaks() {
+    }
+
+    /**
+     * Updates streaks after habit assign was enrolled on given date. Enroll date
+     * must be already added to habit status calendars of habit assign.
+     *
+     * @param habitAssign {@link HabitAssign} instance.
+     * @param date        enroll date.
+     * @param today       current date.
+     */
+    public static void enroll(HabitAssign habitAssign, LocalDate date, LocalDate today) {
+        LocalDate lastEnrollDate = habitAssign.getLastEnrollDate();
+        int habitStreak = habitAssign.getHabitStreak();
+        if (lastEnrollDate != null && date.equals(lastEnrollDate.plusDays(1)) && habitStreak > 0) {
+            habitStreak++;
+        } else if (lastEnrollDate == null || date.isAfter(lastEnrollDate.plusDays(1))) {
+            habitStreak = 1;
+        } else {
+            recount(habitAssign, today);
+            return;
+        }
+        habitAssign.setHabitStreak(habitStreak);
+        habitAssign.setLastEnrollDate(date);
+        habitAssign.setLongestHabitStreak(Math.max(habitAssign.getLongestHabitStreak(), habitStreak));
+        decay(habitAssign, today);
+    }
+
+    /**
+     * Updates streaks after habit assign was unenrolled on given date. Enroll date
+     * must be already removed from habit status calendars of habit assign.
+     *
+     * @param habitAssign {@link HabitAssign} instance.
+     * @param date        unenrolled date.
+     * @param today       current date.
+     */
+    public static void unenroll(HabitAssign habitAssign, LocalDate date, LocalDate today) {
+        int habitStreak = habitAssign.getHabitStreak();
+        if (date.equals(habitAssign.getLastEnrollDate()) && habitStreak > 1
+            && habitAssign.getLongestHabitStreak() > habitStreak) {
+            habitAssign.setHabitStreak(habitStreak - 1);
+            habitAssign.setLastEnrollDate(date.minusDays(1));
+            decay(habitAssign, today);
+        } else {
+            recount(habitAssign, today);
+        }
+    }
+
+    /**
+     * Recounts current and longest streaks and last enroll date from habit status
+     * calendars of habit assign in one pass over a {@link BitSet} of enrolled days.
+     *
+     * @param habitAssign {@link HabitAssign} instance.
+     * @param today       current date.
+     */
+    public static void recount(HabitAssign habitAssign, LocalDate today) {
+        List<HabitStatusCalendar> calendars = habitAssign.getHabitStatusCalendars();
+        if (calendars == null || calendars.isEmpty()) {
+            habitAssign.setHabitStreak(0);
+            habitAssign.setLongestHabitStreak(0);
+            habitAssign.setLastEnrollDate(null);
+            return;
+        }
+        long firstDay = Long.MAX_VALUE;
+        long lastDay = Long.MIN_VALUE;
+        for (HabitStatusCalendar calendar : calendars) {
+            long day = calendar.getEnrollDate().toEpochDay();
+            firstDay = Math.min(firstDay, day);
+            lastDay = Math.max(lastDay, day);
+        }
+        BitSet enrolledDays = new BitSet(Math.toIntExact(lastDay - firstDay + 1));
+        for (HabitStatusCalendar calendar : calendars) {
+            enrolledDays.set((int) (calendar.getEnrollDate().toEpochDay() - firstDay));
+        }
+        int longest = 0;
+        int run = 0;
+        for (int start = enrolledDays.nextSetBit(0); start >= 0; start = enrolledDays.nextSetBit(start + run)) {
+            run = enrolledDays.nextClearBit(start) - start;
+            longest = Math.max(longest, run);
+        }
+        habitAssign.setHabitStreak(run);
+        habitAssign.setLongestHabitStreak(longest);
+        habitAssign.setLastEnrollDate(LocalDate.ofEpochDay(lastDay));
+        decay(habitAssign, today);
+    }
+
+    private static void decay(HabitAssign habitAssign, LocalDate today) {
+        LocalDate lastEnrollDate = habitAssign.getLastEnrollDate();
+        if (lastEnrollDate != null && lastEnrollDate.isBefore(today.minusDays(1))) {
+            habitAssign.setHabitStreak(0);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package greencity.config;
+
+import greencity.cache.CacheSpecProperties;
+import greencity.cache.GreenCityCacheManager;
+import greencity.cache.LocalSharedCacheProvider;
+import greencity.cache.SharedCacheProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Config for caches declared in {@link greencity.constant.CacheConstants}.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheConfig {
+    /**
+     * Provides {@link CacheManager} with per-cache size, time to live and backend.
+     *
+     * @param cacheSpecProperties {@link CacheSpecProperties}
+     * @param sharedCacheProvider optional {@link SharedCacheProvider} of shared
+     *                            caches, {@link LocalSharedCacheProvider} is used
+     *                            if there is none.
+     * @return {@link CacheManager}
+     */
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties cacheSpecProperties,
+        ObjectProvider<SharedCacheProvider> sharedCacheProvider) {
+        return new GreenCityCacheManager(cacheSpecProperties,
+            sharedCacheProvider.getIfAvailable(LocalSharedCacheProvider::new));
+    }
+}
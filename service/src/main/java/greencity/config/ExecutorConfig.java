@@ -0,0 +1,107 @@
+package greencity.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Config for bounded executors used by background pipelines.
+ */
+@Configuration
+public class ExecutorConfig {
+    /**
+     * Executor for sending habit notifications. When all threads are busy and the
+     * queue is full the task is run by the submitting thread, which throttles the
+     * producer instead of dropping notifications.
+     *
+     * @param poolSize      amount of threads sending notifications.
+     * @param queueCapacity amount of notifications waiting to be sent.
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor habitNotificationExecutor(
+        @Value("${greencity.habit.notification.pool-size:8}") int poolSize,
+        @Value("${greencity.habit.notification.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("habit-notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for applying user rating events. Pipeline runs rejected tasks by
+     * itself and counts them, so the executor aborts instead of running them by the
+     * submitting thread.
+     *
+     * @param poolSize      amount of threads applying rating events.
+     * @param queueCapacity amount of users waiting for rating update.
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor ratingEventExecutor(
+        @Value("${greencity.rating.events.pool-size:4}") int poolSize,
+        @Value("${greencity.rating.events.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("rating-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for asynchronous file uploads. When all threads are busy and the
+     * queue is full the upload is run by the submitting thread.
+     *
+     * @param poolSize      amount of threads uploading files.
+     * @param queueCapacity amount of files waiting to be uploaded.
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileUploadExecutor(
+        @Value("${azure.upload.pool-size:8}") int poolSize,
+        @Value("${azure.upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for generating resized variants of uploaded images. Variants are
+     * optional, so when the queue is full the task is rejected instead of blocking
+     * the request thread.
+     *
+     * @param poolSize      amount of threads resizing images.
+     * @param queueCapacity amount of images waiting for variants.
+     * @return {@link ThreadPoolTaskExecutor}
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageProcessingExecutor(
+        @Value("${greencity.image.variants.pool-size:2}") int poolSize,
+        @Value("${greencity.image.variants.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -3,25 +3,29 @@ package greencity.config;
 import greencity.client.RestClient;
 import greencity.constant.CacheConstants;
 import greencity.dto.user.UserVO;
-import greencity.entity.HabitAssign;
 import greencity.entity.HabitFactTranslation;
-import greencity.entity.User;
-import greencity.enums.HabitAssignStatus;
-import greencity.message.SendHabitNotification;
-import greencity.repository.HabitAssignRepo;
+import greencity.recommendation.EcoNewsRecommendationIndex;
+import greencity.recommendation.FriendRecommendationIndex;
 import greencity.repository.HabitFactTranslationRepo;
 import greencity.repository.RatingStatisticsRepo;
+import greencity.service.CommentLikesBroadcastService;
+import greencity.service.HabitAssignExpirationService;
+import greencity.service.HabitNotificationService;
+import greencity.service.RatingEventPipelineService;
+import greencity.service.UserPresenceService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.ZonedDateTime;
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 
 import static greencity.enums.EmailNotification.*;
 import static greencity.enums.FactOfDayStatus.*;
@@ -37,27 +41,20 @@ import static greencity.enums.FactOfDayStatus.*;
 @EnableScheduling
 @AllArgsConstructor
 public class ScheduleConfig {
+    private static final String DAILY_HABIT_NOTIFICATION_JOB = "daily_habit_notification";
+    private static final String WEEKLY_HABIT_NOTIFICATION_JOB = "weekly_habit_notification";
+    private static final String MONTHLY_HABIT_NOTIFICATION_JOB = "monthly_habit_notification";
     private final HabitFactTranslationRepo habitFactTranslationRepo;
-    private final HabitAssignRepo habitAssignRepo;
     private final RatingStatisticsRepo ratingStatisticsRepo;
     private final RestClient restClient;
-
-    /**
-     * Invoke {@link SendHabitNotification} from EmailMessageReceiver to send email
-     * letters to each user that hasn't marked any habit during last 3 days.
-     *
-     * @param users list of potential {@link User} to send notifications.
-     */
-    private void sendHabitNotificationIfNeed(List<UserVO> users) {
-        ZonedDateTime end = ZonedDateTime.now();
-        ZonedDateTime start = end.minusDays(3);
-        for (UserVO user : users) {
-            int count = habitAssignRepo.countMarkedHabitAssignsByUserIdAndPeriod(user.getId(), start, end);
-            if (count == 0) {
-                restClient.sendHabitNotification(new SendHabitNotification(user.getName(), user.getEmail()));
-            }
-        }
-    }
+    private final HabitNotificationService habitNotificationService;
+    private final HabitAssignExpirationService habitAssignExpirationService;
+    private final EcoNewsRecommendationIndex ecoNewsRecommendationIndex;
+    private final FriendRecommendationIndex friendRecommendationIndex;
+    private final CommentLikesBroadcastService commentLikesBroadcastService;
+    private final RatingEventPipelineService ratingEventPipelineService;
+    private final UserPresenceService userPresenceService;
+    private final TaskScheduler taskScheduler;
 
     /**
      * Every day at 19:00 sends notifications about not marked habits to users with
@@ -68,7 +65,7 @@ public class ScheduleConfig {
     void sendHabitNotificationEveryDay() {
         List<UserVO> users = restClient.findAllByEmailNotification(IMMEDIATELY);
         users.addAll(restClient.findAllByEmailNotification(DAILY));
-        sendHabitNotificationIfNeed(users);
+        habitNotificationService.sendHabitNotifications(DAILY_HABIT_NOTIFICATION_JOB, users);
     }
 
     /**
@@ -78,7 +75,7 @@ public class ScheduleConfig {
     @Scheduled(cron = "0 0 19 * * FRI", zone = "Europe/Kiev")
     void sendHabitNotificationEveryWeek() {
         List<UserVO> users = restClient.findAllByEmailNotification(WEEKLY);
-        sendHabitNotificationIfNeed(users);
+        habitNotificationService.sendHabitNotifications(WEEKLY_HABIT_NOTIFICATION_JOB, users);
     }
 
     /**
@@ -89,7 +86,52 @@ public class ScheduleConfig {
     @Scheduled(cron = "0 0 19 25 * ?", zone = "Europe/Kiev")
     void sendHabitNotificationEveryMonth() {
         List<UserVO> users = restClient.findAllByEmailNotification(MONTHLY);
-        sendHabitNotificationIfNeed(users);
+        habitNotificationService.sendHabitNotifications(MONTHLY_HABIT_NOTIFICATION_JOB, users);
+    }
+
+    /**
+     * Every 10 minutes from 19:00 till midnight resumes today's habit notification
+     * jobs which were interrupted, for example by application restart, and whose
+     * heartbeat is stale.
+     */
+    @Scheduled(cron = "0 5/10 19-23 * * ?", zone = "Europe/Kiev")
+    void resumeInterruptedHabitNotifications() {
+        if (habitNotificationService.isInterrupted(DAILY_HABIT_NOTIFICATION_JOB)) {
+            sendHabitNotificationEveryDay();
+        }
+        if (habitNotificationService.isInterrupted(WEEKLY_HABIT_NOTIFICATION_JOB)) {
+            sendHabitNotificationEveryWeek();
+        }
+        if (habitNotificationService.isInterrupted(MONTHLY_HABIT_NOTIFICATION_JOB)) {
+            sendHabitNotificationEveryMonth();
+        }
+    }
+
+    /**
+     * Every hour rebuilds eco news recommendation index to pick up eco news changed
+     * by other application instances.
+     */
+    @Scheduled(cron = "0 30 * * * ?", zone = "Europe/Kiev")
+    void rebuildEcoNewsRecommendationIndex() {
+        ecoNewsRecommendationIndex.rebuild();
+    }
+
+    /**
+     * Every hour rebuilds friend recommendation scores to pick up habits, comments
+     * and friendships changed by other application instances and services.
+     */
+    @Scheduled(cron = "0 45 * * * ?", zone = "Europe/Kiev")
+    void rebuildFriendRecommendationIndex() {
+        friendRecommendationIndex.rebuild();
+    }
+
+    /**
+     * Builds friend recommendation scores on scheduler thread once application is
+     * ready, so neither startup nor the first request waits for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUpFriendRecommendationIndex() {
+        taskScheduler.schedule(friendRecommendationIndex::rebuild, Instant.now());
     }
 
     /**
@@ -140,16 +182,45 @@ public class ScheduleConfig {
      *
      * @author Ostap Mykhaylivskii
      **/
-    @Transactional
     @Scheduled(cron = "0 0 0 * * ?", zone = "Europe/Kiev")
     public void setExpiredStatus() {
-        ZonedDateTime now = ZonedDateTime.now();
-        List<HabitAssign> habitsInProgress = habitAssignRepo.findAllInProgressHabitAssigns();
-        habitsInProgress.forEach(h -> {
-            if (h.getCreateDate().plusDays(h.getDuration().longValue()).isBefore(now)) {
-                log.info("Set status expired");
-                h.setStatus(HabitAssignStatus.EXPIRED);
-            }
-        });
+        habitAssignExpirationService.expireOverdueHabitAssigns();
+    }
+
+    /**
+     * Every day at 00:00 resets streaks of inprogress habit assigns which were not
+     * enrolled yesterday.
+     */
+    @Scheduled(cron = "0 0 0 * * ?", zone = "Europe/Kiev")
+    public void decayHabitStreaks() {
+        habitAssignExpirationService.decayMissedHabitStreaks();
+    }
+
+    /**
+     * Every broadcast interval sends coalesced likes counts to comment topics which
+     * received like events since previous run.
+     */
+    @Scheduled(fixedDelayString = "${greencity.websocket.comment-likes.broadcast-interval-millis:500}")
+    public void broadcastCommentLikes() {
+        commentLikesBroadcastService.flush();
+    }
+
+    /**
+     * Every flush interval retries failed user rating updates and writes queued
+     * rating statistics rows which did not fill a whole batch yet.
+     */
+    @Scheduled(fixedDelayString = "${greencity.rating.events.flush-interval-millis:1000}")
+    public void flushRatingStatistics() {
+        ratingEventPipelineService.retryFailedUpdates();
+        ratingEventPipelineService.flushStatistics();
+    }
+
+    /**
+     * Every flush interval writes last activity times recorded since previous run
+     * to users table with one batch.
+     */
+    @Scheduled(fixedDelayString = "${greencity.presence.flush-interval-millis:60000}")
+    public void flushUserLastActivityTimes() {
+        userPresenceService.flushLastActivityTimes();
     }
 }
@@ -0,0 +1,79 @@
+package greencity.filters;
+
+import greencity.entity.Habit;
+import greencity.entity.HabitTranslation;
+import greencity.entity.HabitTranslation_;
+import greencity.entity.Habit_;
+import greencity.entity.Language;
+import greencity.entity.Language_;
+import greencity.entity.Tag;
+import greencity.entity.Tag_;
+import greencity.entity.localization.TagTranslation;
+import greencity.entity.localization.TagTranslation_;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Filter of habit catalogue by language, tags, complexities and kind of habit.
+ * Language and habit are joined directly, so every translation is selected at
+ * most once and no {@code DISTINCT} is needed, tags are checked with
+ * {@code EXISTS} over habits_tags and tag_translations. Custom habits are
+ * visible only if they were created by one of {@code availableUsersIds}. Absent
+ * filters are not applied.
+ */
+@Getter
+@Builder
+public class HabitTranslationSpecification implements MySpecification<HabitTranslation> {
+    private final String languageCode;
+    private final transient List<String> tags;
+    private final transient List<Integer> complexities;
+    private final Boolean isCustomHabit;
+    private final transient List<Long> availableUsersIds;
+
+    @Override
+    public Predicate toPredicate(Root<HabitTranslation> root, CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder) {
+        Join<HabitTranslation, Language> language = root.join(HabitTranslation_.language);
+        Join<HabitTranslation, Habit> habit = root.join(HabitTranslation_.habit);
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.equal(language.get(Language_.code), languageCode));
+        predicates.add(getCustomHabitPredicate(habit, criteriaBuilder));
+        if (complexities != null && !complexities.isEmpty()) {
+            predicates.add(habit.get(Habit_.complexity).in(complexities));
+        }
+        if (tags != null && !tags.isEmpty()) {
+            predicates.add(criteriaBuilder.exists(getTaggedHabitSubquery(habit, criteriaQuery, criteriaBuilder)));
+        }
+        return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+    }
+
+    private Predicate getCustomHabitPredicate(Join<HabitTranslation, Habit> habit, CriteriaBuilder criteriaBuilder) {
+        Predicate defaultHabit = criteriaBuilder.isFalse(habit.get(Habit_.isCustomHabit));
+        Predicate availableCustomHabit = criteriaBuilder.and(
+            criteriaBuilder.isTrue(habit.get(Habit_.isCustomHabit)),
+            habit.get(Habit_.userId).in(availableUsersIds));
+        if (isCustomHabit == null) {
+            return criteriaBuilder.or(defaultHabit, availableCustomHabit);
+        }
+        return Boolean.TRUE.equals(isCustomHabit) ? availableCustomHabit : defaultHabit;
+    }
+
+    private Subquery<Long> getTaggedHabitSubquery(Join<HabitTranslation, Habit> habit,
+        CriteriaQuery<?> criteriaQuery, CriteriaBuilder criteriaBuilder) {
+        Subquery<Long> taggedHabits = criteriaQuery.subquery(Long.class);
+        Root<Habit> taggedHabit = taggedHabits.from(Habit.class);
+        Join<Habit, Tag> tag = taggedHabit.join(Habit_.tags);
+        Join<Tag, TagTranslation> tagTranslation = tag.join(Tag_.tagTranslations);
+        return taggedHabits.select(taggedHabit.get(Habit_.id))
+            .where(criteriaBuilder.equal(taggedHabit.get(Habit_.id), habit.get(Habit_.id)),
+                criteriaBuilder.lower(tagTranslation.get(TagTranslation_.name)).in(tags));
+    }
+}
@@ -0,0 +1,148 @@
+package greencity.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Resizing and encoding of images kept in memory. Images are written without
+ * metadata, so EXIF data of uploaded photos is not copied into re-encoded
+ * files.
+ */
+public final class ImageEncoder {
+    /**
+     * Name of JPEG format for {@link ImageIO}.
+     */
+    public static final String JPEG = "jpg";
+
+    /**
+     * Name of PNG format for {@link ImageIO}.
+     */
+    public static final String PNG = "png";
+
+    private ImageEncoder() {
+    }
+
+    /**
+     * Scales image to given size. Images more than twice larger than the target are
+     * halved step by step first, because single bilinear step skips most source
+     * pixels and looks aliased. Transparent pixels are painted white when target
+     * type has no alpha.
+     *
+     * @param image     image to scale.
+     * @param width     target width.
+     * @param height    target height.
+     * @param imageType {@link BufferedImage} type of the result.
+     * @return scaled image, or given image if it already has target size and type.
+     */
+    public static BufferedImage scale(BufferedImage image, int width, int height, int imageType) {
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2, imageType);
+        }
+        if (current.getWidth() == width && current.getHeight() == height && current.getType() == imageType) {
+            return current;
+        }
+        return draw(current, width, height, imageType);
+    }
+
+    /**
+     * Rotates and mirrors image, so it is displayed upright without EXIF
+     * orientation.
+     *
+     * @param image       decoded image, which ignores EXIF orientation.
+     * @param orientation EXIF orientation from 1 to 8.
+     * @return upright image, or given image if orientation is normal or unknown.
+     */
+    public static BufferedImage orient(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2:
+                transform = new AffineTransform(-1, 0, 0, 1, width, 0);
+                break;
+            case 3:
+                transform = new AffineTransform(-1, 0, 0, -1, width, height);
+                break;
+            case 4:
+                transform = new AffineTransform(1, 0, 0, -1, 0, height);
+                break;
+            case 5:
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6:
+                transform = new AffineTransform(0, 1, -1, 0, height, 0);
+                break;
+            case 7:
+                transform = new AffineTransform(0, -1, -1, 0, height, width);
+                break;
+            case 8:
+                transform = new AffineTransform(0, -1, 1, 0, 0, width);
+                break;
+            default:
+                return image;
+        }
+        boolean rotated = orientation >= 5;
+        BufferedImage result = new BufferedImage(rotated ? height : width, rotated ? width : height,
+            image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    /**
+     * Encodes image into given format without metadata.
+     *
+     * @param image       image to encode.
+     * @param formatName  {@link #JPEG} or {@link #PNG}.
+     * @param jpegQuality compression quality from 0 to 1, used for JPEG only.
+     * @return encoded image.
+     * @throws IOException if image can not be encoded.
+     */
+    public static byte[] encode(BufferedImage image, String formatName, float jpegQuality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(formatName).next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (JPEG.equals(formatName)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height, int imageType) {
+        BufferedImage result = new BufferedImage(Math.max(1, width), Math.max(1, height), imageType);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            if (!result.getColorModel().hasAlpha()) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, result.getWidth(), result.getHeight());
+            }
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, result.getWidth(), result.getHeight(), null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+}
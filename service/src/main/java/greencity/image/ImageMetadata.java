@@ -0,0 +1,298 @@
+package greencity.image;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Metadata of encoded JPEG and PNG images, handled without decoding pixels.
+ * EXIF, XMP, IPTC and text chunks of uploaded photos may contain location and
+ * device details, so they are dropped. Only EXIF orientation is kept, because
+ * photos taken in portrait mode are usually stored rotated and displayed
+ * upright by this tag.
+ */
+public final class ImageMetadata {
+    /**
+     * EXIF orientation of image that is displayed as stored.
+     */
+    public static final int NORMAL_ORIENTATION = 1;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int MAX_ORIENTATION = 8;
+    private static final int JPEG_SOI = 0xD8;
+    private static final int JPEG_EOI = 0xD9;
+    private static final int JPEG_SOS = 0xDA;
+    private static final int JPEG_APP1 = 0xE1;
+    private static final int PNG_CHUNK_OVERHEAD = 12;
+    /**
+     * JPEG segments needed to render image: JFIF, ICC profile and Adobe color
+     * transform application segments and all non-application ones except comment.
+     */
+    private static final Set<Integer> KEPT_JPEG_APP_SEGMENTS = Set.of(0xE0, 0xE2, 0xEE);
+    private static final int JPEG_COMMENT = 0xFE;
+    /**
+     * PNG chunks needed to render image, all ancillary text, time and EXIF chunks
+     * are dropped.
+     */
+    private static final Set<String> KEPT_PNG_CHUNKS = Set.of(
+        "IHDR", "PLTE", "IDAT", "IEND", "tRNS", "cHRM", "gAMA", "iCCP", "sBIT", "sRGB", "pHYs", "bKGD");
+
+    private ImageMetadata() {
+    }
+
+    /**
+     * Detects format of encoded image by its magic bytes.
+     *
+     * @param content encoded image.
+     * @return {@link ImageEncoder#JPEG} or {@link ImageEncoder#PNG}, or
+     *         {@code null} if image has another format.
+     */
+    public static String formatName(byte[] content) {
+        if (isJpeg(content)) {
+            return ImageEncoder.JPEG;
+        }
+        return isPng(content) ? ImageEncoder.PNG : null;
+    }
+
+    /**
+     * Returns EXIF orientation of encoded image.
+     *
+     * @param content encoded JPEG or PNG image.
+     * @return orientation from 1 to 8, or {@link #NORMAL_ORIENTATION} if image has
+     *         no valid orientation tag.
+     */
+    public static int orientation(byte[] content) {
+        if (isJpeg(content)) {
+            int pos = 2;
+            while (pos + 4 <= content.length && u8(content, pos) == 0xFF) {
+                int marker = u8(content, pos + 1);
+                if (marker == 0xFF) {
+                    pos++;
+                    continue;
+                }
+                if (marker == JPEG_SOS || marker == JPEG_EOI) {
+                    break;
+                }
+                int end = pos + 2 + (isStandalone(marker) ? 0 : u16(content, pos + 2, true));
+                if (marker == JPEG_APP1 && startsWith(content, pos + 4, EXIF_HEADER)) {
+                    return tiffOrientation(content, pos + 4 + EXIF_HEADER.length, Math.min(end, content.length));
+                }
+                pos = end;
+            }
+        } else if (isPng(content)) {
+            int pos = PNG_SIGNATURE.length;
+            while (pos + PNG_CHUNK_OVERHEAD <= content.length) {
+                int length = (int) u32(content, pos, true);
+                int end = pos + PNG_CHUNK_OVERHEAD + length;
+                if (length < 0 || end > content.length) {
+                    break;
+                }
+                if ("eXIf".equals(chunkType(content, pos))) {
+                    int tiff = pos + 8 + (startsWith(content, pos + 8, EXIF_HEADER) ? EXIF_HEADER.length : 0);
+                    return tiffOrientation(content, tiff, pos + 8 + length);
+                }
+                pos = end;
+            }
+        }
+        return NORMAL_ORIENTATION;
+    }
+
+    /**
+     * Removes metadata from encoded image. Pixel data is copied as is, and EXIF
+     * orientation is written back as the only tag of new EXIF block.
+     *
+     * @param content encoded JPEG or PNG image.
+     * @return image without metadata, or {@code null} if image is neither JPEG nor
+     *         PNG or is malformed.
+     */
+    public static byte[] strip(byte[] content) {
+        if (isJpeg(content)) {
+            return stripJpeg(content);
+        }
+        return isPng(content) ? stripPng(content) : null;
+    }
+
+    private static byte[] stripJpeg(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length);
+        output.write(0xFF);
+        output.write(JPEG_SOI);
+        int orientation = orientation(content);
+        if (orientation != NORMAL_ORIENTATION) {
+            byte[] tiff = orientationTiff(orientation);
+            int length = 2 + EXIF_HEADER.length + tiff.length;
+            output.write(0xFF);
+            output.write(JPEG_APP1);
+            output.write(length >> 8);
+            output.write(length);
+            output.writeBytes(EXIF_HEADER);
+            output.writeBytes(tiff);
+        }
+        int pos = 2;
+        while (true) {
+            if (pos + 2 > content.length || u8(content, pos) != 0xFF) {
+                return null;
+            }
+            int marker = u8(content, pos + 1);
+            if (marker == 0xFF) {
+                pos++;
+                continue;
+            }
+            if (marker == JPEG_SOS || marker == JPEG_EOI) {
+                output.write(content, pos, content.length - pos);
+                return output.toByteArray();
+            }
+            int end = pos + 2;
+            if (!isStandalone(marker)) {
+                if (pos + 4 > content.length) {
+                    return null;
+                }
+                end += u16(content, pos + 2, true);
+            }
+            if (end > content.length) {
+                return null;
+            }
+            boolean application = marker >= 0xE0 && marker <= 0xEF;
+            if (application ? KEPT_JPEG_APP_SEGMENTS.contains(marker) : marker != JPEG_COMMENT) {
+                output.write(content, pos, end - pos);
+            }
+            pos = end;
+        }
+    }
+
+    private static byte[] stripPng(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length);
+        output.writeBytes(PNG_SIGNATURE);
+        int orientation = orientation(content);
+        int pos = PNG_SIGNATURE.length;
+        while (pos + PNG_CHUNK_OVERHEAD <= content.length) {
+            int length = (int) u32(content, pos, true);
+            int end = pos + PNG_CHUNK_OVERHEAD + length;
+            if (length < 0 || end > content.length) {
+                return null;
+            }
+            String type = chunkType(content, pos);
+            if (KEPT_PNG_CHUNKS.contains(type)) {
+                output.write(content, pos, end - pos);
+            }
+            if ("IHDR".equals(type) && orientation != NORMAL_ORIENTATION) {
+                writePngChunk(output, "eXIf", orientationTiff(orientation));
+            }
+            if ("IEND".equals(type)) {
+                return output.toByteArray();
+            }
+            pos = end;
+        }
+        return null;
+    }
+
+    private static void writePngChunk(ByteArrayOutputStream output, String type, byte[] data) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        writeU32(output, data.length);
+        output.writeBytes(typeBytes);
+        output.writeBytes(data);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        writeU32(output, crc.getValue());
+    }
+
+    /**
+     * Returns big endian TIFF block with single IFD that holds orientation only.
+     */
+    private static byte[] orientationTiff(int orientation) {
+        return new byte[] {'M', 'M', 0, 42, 0, 0, 0, 8,
+            0, 1,
+            (byte) (ORIENTATION_TAG >> 8), (byte) ORIENTATION_TAG, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+            0, 0, 0, 0};
+    }
+
+    private static int tiffOrientation(byte[] content, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return NORMAL_ORIENTATION;
+        }
+        boolean bigEndian;
+        if (u8(content, tiff) == 'M' && u8(content, tiff + 1) == 'M') {
+            bigEndian = true;
+        } else if (u8(content, tiff) == 'I' && u8(content, tiff + 1) == 'I') {
+            bigEndian = false;
+        } else {
+            return NORMAL_ORIENTATION;
+        }
+        long ifd = tiff + u32(content, tiff + 4, bigEndian);
+        if (ifd + 2 > end) {
+            return NORMAL_ORIENTATION;
+        }
+        int entries = u16(content, (int) ifd, bigEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (u16(content, entry, bigEndian) == ORIENTATION_TAG && u16(content, entry + 2, bigEndian) == 3) {
+                int orientation = u16(content, entry + 8, bigEndian);
+                return orientation >= NORMAL_ORIENTATION && orientation <= MAX_ORIENTATION
+                    ? orientation
+                    : NORMAL_ORIENTATION;
+            }
+        }
+        return NORMAL_ORIENTATION;
+    }
+
+    private static boolean isJpeg(byte[] content) {
+        return content.length > 3 && u8(content, 0) == 0xFF && u8(content, 1) == JPEG_SOI
+            && u8(content, 2) == 0xFF;
+    }
+
+    private static boolean isPng(byte[] content) {
+        return startsWith(content, 0, PNG_SIGNATURE);
+    }
+
+    /**
+     * Returns whether JPEG marker has no length and payload.
+     */
+    private static boolean isStandalone(int marker) {
+        return marker == 0x01 || marker >= 0xD0 && marker <= 0xD7;
+    }
+
+    private static String chunkType(byte[] content, int chunk) {
+        return new String(content, chunk + 4, 4, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean startsWith(byte[] content, int offset, byte[] prefix) {
+        if (offset < 0 || offset + prefix.length > content.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (content[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int u8(byte[] content, int offset) {
+        return content[offset] & 0xFF;
+    }
+
+    private static int u16(byte[] content, int offset, boolean bigEndian) {
+        return bigEndian
+            ? u8(content, offset) << 8 | u8(content, offset + 1)
+            : u8(content, offset + 1) << 8 | u8(content, offset);
+    }
+
+    private static long u32(byte[] content, int offset, boolean bigEndian) {
+        return bigEndian
+            ? (long) u16(content, offset, true) << 16 | u16(content, offset + 2, true)
+            : (long) u16(content, offset + 2, false) << 16 | u16(content, offset, false);
+    }
+
+    private static void writeU32(ByteArrayOutputStream output, long value) {
+        output.write((int) (value >> 24));
+        output.write((int) (value >> 16));
+        output.write((int) (value >> 8));
+        output.write((int) value);
+    }
+}
@@ -0,0 +1,133 @@
+package greencity.image;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Naming scheme of resized image variants. Original is stored as
+ * {@code <uuid>_original.<ext>} and every variant next to it as
+ * {@code <uuid>_w<width>.jpg}. Only variants narrower than original are
+ * generated. Variants are generated asynchronously and some of them may fail,
+ * so widths that were actually stored are recorded as
+ * {@code <uuid>:<width>,<width>} and only those are exposed. Images uploaded
+ * before variants were introduced do not follow the scheme and have no
+ * variants.
+ */
+public final class ImageVariants {
+    /**
+     * Widths of generated variants in pixels.
+     */
+    public static final List<Integer> WIDTHS = List.of(320, 640, 1280);
+
+    private static final String ORIGINAL_SUFFIX = "_original";
+    private static final String RECORD_SEPARATOR = ":";
+    private static final Pattern ORIGINAL_PATH = Pattern.compile(
+        "^(.*/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})" + ORIGINAL_SUFFIX + "(\\.\\w+)?$");
+
+    private ImageVariants() {
+    }
+
+    /**
+     * Returns name of original image in storage.
+     *
+     * @param baseName         unique base name of image and its variants.
+     * @param originalFilename name of uploaded file, used for its extension.
+     * @return name of original image.
+     */
+    public static String originalName(String baseName, String originalFilename) {
+        return baseName + ORIGINAL_SUFFIX + extension(originalFilename);
+    }
+
+    /**
+     * Returns name of variant of given width in storage.
+     *
+     * @param baseName unique base name of image and its variants.
+     * @param width    width of variant.
+     * @return name of variant.
+     */
+    public static String variantName(String baseName, int width) {
+        return baseName + "_w" + width + "." + ImageEncoder.JPEG;
+    }
+
+    /**
+     * Returns record of stored variants of image.
+     *
+     * @param baseName unique base name of image and its variants.
+     * @param widths   widths of variants that were stored.
+     * @return record of stored variants, or {@code null} if none were stored.
+     */
+    public static String record(String baseName, List<Integer> widths) {
+        if (widths.isEmpty()) {
+            return null;
+        }
+        return baseName + RECORD_SEPARATOR + widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Returns urls of stored variants of image by their width.
+     *
+     * @param imagePath url of original image.
+     * @param record    record of stored variants made by
+     *                  {@link #record(String, List)}.
+     * @return urls by width ordered from the smallest, or empty map if no variants
+     *         of this image were stored.
+     */
+    public static Map<Integer, String> variantUrls(String imagePath, String record) {
+        String pathPrefix = pathPrefix(imagePath);
+        if (pathPrefix == null || record == null) {
+            return Collections.emptyMap();
+        }
+        String recordPrefix = pathPrefix.substring(pathPrefix.lastIndexOf('/') + 1) + RECORD_SEPARATOR;
+        if (!record.startsWith(recordPrefix)) {
+            return Collections.emptyMap();
+        }
+        Set<String> storedWidths = Set.of(record.substring(recordPrefix.length()).split(","));
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (Integer width : WIDTHS) {
+            if (storedWidths.contains(String.valueOf(width))) {
+                urls.put(width, variantName(pathPrefix, width));
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Returns urls of all variants image may have, whether they were stored or not.
+     *
+     * @param imagePath url of original image.
+     * @return urls ordered from the smallest, or empty list if image does not
+     *         follow the naming scheme.
+     */
+    public static List<String> possibleVariantUrls(String imagePath) {
+        String pathPrefix = pathPrefix(imagePath);
+        if (pathPrefix == null) {
+            return Collections.emptyList();
+        }
+        return WIDTHS.stream().map(width -> variantName(pathPrefix, width)).collect(Collectors.toList());
+    }
+
+    private static String pathPrefix(String imagePath) {
+        if (imagePath == null) {
+            return null;
+        }
+        Matcher matcher = ORIGINAL_PATH.matcher(imagePath);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static String extension(String filename) {
+        if (filename == null) {
+            return "";
+        }
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0 || !filename.substring(dot + 1).matches("\\w+")) {
+            return "";
+        }
+        return filename.substring(dot);
+    }
+}
@@ -3,14 +3,39 @@ package greencity.mapping;
 import greencity.dto.econewscomment.EcoNewsCommentDto;
 import greencity.dto.econewscomment.EcoNewsCommentAuthorDto;
 import greencity.entity.EcoNewsComment;
+import greencity.entity.User;
 import greencity.enums.CommentStatus;
+import java.util.ArrayList;
+import java.util.List;
 import org.modelmapper.AbstractConverter;
 import org.springframework.stereotype.Component;
 
 @Component
 public class EcoNewsCommentDtoMapper extends AbstractConverter<EcoNewsComment, EcoNewsCommentDto> {
+    /**
+     * Method convert {@link EcoNewsComment} to {@link EcoNewsCommentDto}. Text and
+     * author of deleted comment are not exposed.
+     *
+     * @return {@link EcoNewsCommentDto}
+     */
     @Override
-    protected EcoNewsCommentDto convert(EcoNewsComment ecoNewsComment) {
+    public EcoNewsCommentDto convert(EcoNewsComment ecoNewsComment) {
+        if (ecoNewsComment.isDeleted()) {
+            return convert(ecoNewsComment, 0, false);
+        }
+        return convert(ecoNewsComment, ecoNewsComment.getUsersLiked().size(), ecoNewsComment.isCurrentUserLiked());
+    }
+
+    /**
+     * Method convert {@link EcoNewsComment} to {@link EcoNewsCommentDto} with likes
+     * counted beforehand, so collection of users who liked comment is not loaded.
+     *
+     * @param ecoNewsComment   comment to convert.
+     * @param likes            amount of likes of comment.
+     * @param currentUserLiked whether current user liked comment.
+     * @return {@link EcoNewsCommentDto}
+     */
+    public EcoNewsCommentDto convert(EcoNewsComment ecoNewsComment, int likes, boolean currentUserLiked) {
         EcoNewsCommentDto dto = new EcoNewsCommentDto();
         dto.setId(ecoNewsComment.getId());
         dto.setModifiedDate(ecoNewsComment.getModifiedDate());
@@ -23,13 +48,29 @@ public class EcoNewsCommentDtoMapper extends AbstractConverter<EcoNewsComment, E
             dto.setStatus(CommentStatus.EDITED);
         }
         dto.setText(ecoNewsComment.getText());
+        User user = ecoNewsComment.getUser();
         dto.setAuthor(EcoNewsCommentAuthorDto.builder()
-            .id(ecoNewsComment.getUser().getId())
-            .name(ecoNewsComment.getUser().getName())
-            .userProfilePicturePath(ecoNewsComment.getUser().getProfilePicturePath())
+            .id(user.getId())
+            .name(user.getName())
+            .userProfilePicturePath(user.getProfilePicturePath())
             .build());
-        dto.setLikes(ecoNewsComment.getUsersLiked().size());
-        dto.setCurrentUserLiked(ecoNewsComment.isCurrentUserLiked());
+        dto.setLikes(likes);
+        dto.setCurrentUserLiked(currentUserLiked);
         return dto;
     }
+
+    /**
+     * Method that build {@link List} of {@link EcoNewsCommentDto} from {@link List}
+     * of {@link EcoNewsComment}.
+     *
+     * @param comments {@link List} of {@link EcoNewsComment}
+     * @return {@link List} of {@link EcoNewsCommentDto}
+     */
+    public List<EcoNewsCommentDto> mapAllToList(List<EcoNewsComment> comments) {
+        List<EcoNewsCommentDto> result = new ArrayList<>(comments.size());
+        for (EcoNewsComment comment : comments) {
+            result.add(convert(comment));
+        }
+        return result;
+    }
 }
\ No newline at end of file
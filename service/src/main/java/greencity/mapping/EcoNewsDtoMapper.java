@@ -4,9 +4,12 @@ import greencity.constant.AppConstant;
 import greencity.dto.econews.EcoNewsDto;
 import greencity.dto.user.EcoNewsAuthorDto;
 import greencity.entity.EcoNews;
-import java.util.stream.Collectors;
-
+import greencity.entity.EcoNewsComment;
+import greencity.entity.Tag;
 import greencity.entity.localization.TagTranslation;
+import greencity.image.ImageVariants;
+import java.util.ArrayList;
+import java.util.List;
 import org.modelmapper.AbstractConverter;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
@@ -17,14 +20,30 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class EcoNewsDtoMapper extends AbstractConverter<EcoNews, EcoNewsDto> {
+    private static final String UA_LANGUAGE_CODE = "ua";
+
     /**
-     * Method for converting {@link EcoNews} into {@link EcoNewsDto}.
+     * Method for converting {@link EcoNews} into {@link EcoNewsDto}. Tags of both
+     * languages are collected in one pass over tag translations.
      *
      * @param ecoNews object ot convert.
      * @return converted object.
      */
     @Override
     public EcoNewsDto convert(EcoNews ecoNews) {
+        List<Tag> tags = ecoNews.getTags();
+        List<String> tagsEn = new ArrayList<>(tags.size());
+        List<String> tagsUa = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            for (TagTranslation tagTranslation : tag.getTagTranslations()) {
+                String languageCode = tagTranslation.getLanguage().getCode();
+                if (AppConstant.DEFAULT_LANGUAGE_CODE.equals(languageCode)) {
+                    tagsEn.add(tagTranslation.getName());
+                } else if (UA_LANGUAGE_CODE.equals(languageCode)) {
+                    tagsUa.add(tagTranslation.getName());
+                }
+            }
+        }
         return EcoNewsDto.builder()
             .author(EcoNewsAuthorDto.builder()
                 .id(ecoNews.getAuthor().getId())
@@ -34,21 +53,39 @@ public class EcoNewsDtoMapper extends AbstractConverter<EcoNews, EcoNewsDto> {
             .content(ecoNews.getText())
             .creationDate(ecoNews.getCreationDate())
             .imagePath(ecoNews.getImagePath())
-            .likes(ecoNews.getUsersLikedNews().size())
+            .imageVariants(ImageVariants.variantUrls(ecoNews.getImagePath(), ecoNews.getImageVariants()))
             .shortInfo(ecoNews.getShortInfo())
-            .tags(ecoNews.getTags().stream()
-                .flatMap(t -> t.getTagTranslations().stream())
-                .filter(t -> t.getLanguage().getCode().equals(AppConstant.DEFAULT_LANGUAGE_CODE))
-                .map(TagTranslation::getName).collect(Collectors.toList()))
-            .tagsUa(ecoNews.getTags().stream()
-                .flatMap(t -> t.getTagTranslations().stream())
-                .filter(t -> t.getLanguage().getCode().equals("ua"))
-                .map(TagTranslation::getName).collect(Collectors.toList()))
+            .tags(tagsEn)
+            .tagsUa(tagsUa)
             .likes(ecoNews.getUsersLikedNews().size())
             .dislikes(ecoNews.getUsersDislikedNews().size())
             .title(ecoNews.getTitle())
-            .countComments(
-                (int) ecoNews.getEcoNewsComments().stream().filter(deleted -> !deleted.isDeleted()).count())
+            .countComments(countNotDeletedComments(ecoNews.getEcoNewsComments()))
             .build();
     }
+
+    /**
+     * Method that build {@link List} of {@link EcoNewsDto} from {@link List} of
+     * {@link EcoNews}.
+     *
+     * @param ecoNewsList {@link List} of {@link EcoNews}
+     * @return {@link List} of {@link EcoNewsDto}
+     */
+    public List<EcoNewsDto> mapAllToList(List<EcoNews> ecoNewsList) {
+        List<EcoNewsDto> result = new ArrayList<>(ecoNewsList.size());
+        for (EcoNews ecoNews : ecoNewsList) {
+            result.add(convert(ecoNews));
+        }
+        return result;
+    }
+
+    private static int countNotDeletedComments(List<EcoNewsComment> comments) {
+        int count = 0;
+        for (EcoNewsComment comment : comments) {
+            if (!comment.isDeleted()) {
+                count++;
+            }
+        }
+        return count;
+    }
 }
@@ -3,7 +3,9 @@ package greencity.mapping;
 import greencity.dto.habit.HabitAssignDto;
 import greencity.dto.habitstatuscalendar.HabitStatusCalendarDto;
 import greencity.entity.HabitAssign;
-import java.util.stream.Collectors;
+import greencity.entity.HabitStatusCalendar;
+import java.util.ArrayList;
+import java.util.List;
 import org.modelmapper.AbstractConverter;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
@@ -20,7 +22,15 @@ public class HabitAssignDtoMapper extends AbstractConverter<HabitAssign, HabitAs
      * @return {@link HabitAssignDto}
      */
     @Override
-    protected HabitAssignDto convert(HabitAssign habitAssign) {
+    public HabitAssignDto convert(HabitAssign habitAssign) {
+        List<HabitStatusCalendar> habitStatusCalendars = habitAssign.getHabitStatusCalendars();
+        List<HabitStatusCalendarDto> habitStatusCalendarDtos = new ArrayList<>(habitStatusCalendars.size());
+        for (HabitStatusCalendar habitStatusCalendar : habitStatusCalendars) {
+            habitStatusCalendarDtos.add(HabitStatusCalendarDto.builder()
+                .id(habitStatusCalendar.getId())
+                .enrollDate(habitStatusCalendar.getEnrollDate())
+                .build());
+        }
         return HabitAssignDto.builder()
             .id(habitAssign.getId())
             .status(habitAssign.getStatus())
@@ -30,12 +40,22 @@ public class HabitAssignDtoMapper extends AbstractConverter<HabitAssign, HabitAs
             .habitStreak(habitAssign.getHabitStreak())
             .workingDays(habitAssign.getWorkingDays())
             .lastEnrollmentDate(habitAssign.getLastEnrollmentDate())
-            .habitStatusCalendarDtoList(habitAssign.getHabitStatusCalendars().stream().map(
-                habitStatusCalendar -> HabitStatusCalendarDto.builder()
-                    .id(habitStatusCalendar.getId())
-                    .enrollDate(habitStatusCalendar.getEnrollDate())
-                    .build())
-                .collect(Collectors.toList()))
+            .habitStatusCalendarDtoList(habitStatusCalendarDtos)
             .build();
     }
+
+    /**
+     * Method that build {@link List} of {@link HabitAssignDto} from {@link List} of
+     * {@link HabitAssign}.
+     *
+     * @param habitAssigns {@link List} of {@link HabitAssign}
+     * @return {@link List} of {@link HabitAssignDto}
+     */
+    public List<HabitAssignDto> mapAllToList(List<HabitAssign> habitAssigns) {
+        List<HabitAssignDto> result = new ArrayList<>(habitAssigns.size());
+        for (HabitAssign habitAssign : habitAssigns) {
+            result.add(convert(habitAssign));
+        }
+        return result;
+    }
 }
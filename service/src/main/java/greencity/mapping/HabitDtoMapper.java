@@ -3,12 +3,17 @@ package greencity.mapping;
 import greencity.dto.habit.HabitDto;
 import greencity.dto.habittranslation.HabitTranslationDto;
 import greencity.dto.shoppinglistitem.ShoppingListItemDto;
+import greencity.entity.Habit;
 import greencity.entity.HabitTranslation;
+import greencity.entity.Language;
+import greencity.entity.ShoppingListItem;
+import greencity.entity.Tag;
 import greencity.entity.localization.ShoppingListItemTranslation;
 import greencity.entity.localization.TagTranslation;
 
 import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Set;
 
 import greencity.enums.ShoppingListItemStatus;
 import org.modelmapper.AbstractConverter;
@@ -21,19 +26,21 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class HabitDtoMapper extends AbstractConverter<HabitTranslation, HabitDto> {
+    private static final String ACTIVE_STATUS = ShoppingListItemStatus.ACTIVE.toString();
+
     /**
      * Method convert {@link HabitTranslation} to {@link HabitDto}.
      *
      * @return {@link HabitDto}
      */
     @Override
-    protected HabitDto convert(HabitTranslation habitTranslation) {
+    public HabitDto convert(HabitTranslation habitTranslation) {
         var language = habitTranslation.getLanguage();
         var habit = habitTranslation.getHabit();
         return HabitDto.builder()
             .id(habit.getId())
-            .image(habitTranslation.getHabit().getImage())
-            .defaultDuration(habitTranslation.getHabit().getDefaultDuration())
+            .image(habit.getImage())
+            .defaultDuration(habit.getDefaultDuration())
             .complexity(habit.getComplexity())
             .habitTranslation(HabitTranslationDto.builder()
                 .description(habitTranslation.getDescription())
@@ -41,21 +48,60 @@ public class HabitDtoMapper extends AbstractConverter<HabitTranslation, HabitDto
                 .name(habitTranslation.getName())
                 .languageCode(language.getCode())
                 .build())
-            .tags(habit.getTags().stream()
-                .flatMap(tag -> tag.getTagTranslations().stream())
-                .filter(tagTranslation -> tagTranslation.getLanguage().equals(language))
-                .map(TagTranslation::getName).collect(Collectors.toList()))
-            .shoppingListItems(habit.getShoppingListItems() != null ? habit.getShoppingListItems().stream()
-                .map(shoppingListItem -> ShoppingListItemDto.builder()
-                    .id(shoppingListItem.getId())
-                    .status(ShoppingListItemStatus.ACTIVE.toString())
-                    .text(shoppingListItem.getTranslations().stream()
-                        .filter(shoppingListItemTranslation -> shoppingListItemTranslation
-                            .getLanguage().equals(language))
-                        .map(ShoppingListItemTranslation::getContent)
-                        .findFirst().orElse(null))
-                    .build())
-                .collect(Collectors.toList()) : new ArrayList<>())
+            .tags(getTagNames(habit.getTags(), language))
+            .shoppingListItems(getShoppingListItems(habit, language))
             .build();
     }
+
+    /**
+     * Method that build {@link List} of {@link HabitDto} from {@link List} of
+     * {@link HabitTranslation}.
+     *
+     * @param habitTranslations {@link List} of {@link HabitTranslation}
+     * @return {@link List} of {@link HabitDto}
+     */
+    public List<HabitDto> mapAllToList(List<HabitTranslation> habitTranslations) {
+        List<HabitDto> result = new ArrayList<>(habitTranslations.size());
+        for (HabitTranslation habitTranslation : habitTranslations) {
+            result.add(convert(habitTranslation));
+        }
+        return result;
+    }
+
+    private static List<String> getTagNames(Set<Tag> tags, Language language) {
+        List<String> tagNames = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            for (TagTranslation tagTranslation : tag.getTagTranslations()) {
+                if (tagTranslation.getLanguage().equals(language)) {
+                    tagNames.add(tagTranslation.getName());
+                }
+            }
+        }
+        return tagNames;
+    }
+
+    private static List<ShoppingListItemDto> getShoppingListItems(Habit habit, Language language) {
+        Set<ShoppingListItem> shoppingListItems = habit.getShoppingListItems();
+        if (shoppingListItems == null) {
+            return new ArrayList<>();
+        }
+        List<ShoppingListItemDto> result = new ArrayList<>(shoppingListItems.size());
+        for (ShoppingListItem shoppingListItem : shoppingListItems) {
+            result.add(ShoppingListItemDto.builder()
+                .id(shoppingListItem.getId())
+                .status(ACTIVE_STATUS)
+                .text(getContent(shoppingListItem.getTranslations(), language))
+                .build());
+        }
+        return result;
+    }
+
+    private static String getContent(List<ShoppingListItemTranslation> translations, Language language) {
+        for (ShoppingListItemTranslation translation : translations) {
+            if (translation.getLanguage().equals(language)) {
+                return translation.getContent();
+            }
+        }
+        return null;
+    }
 }
@@ -1,29 +1,61 @@
 package greencity.mapping;
 
+import greencity.constant.ErrorMessage;
 import greencity.exception.exceptions.NotSavedException;
-
+import greencity.image.ImageEncoder;
 import java.awt.image.BufferedImage;
-import java.io.*;
-import java.nio.file.Files;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Iterator;
 import javax.imageio.ImageIO;
-
-import org.apache.commons.fileupload.FileItem;
-import org.apache.commons.fileupload.disk.DiskFileItem;
-import org.apache.commons.io.IOUtils;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import org.modelmapper.AbstractConverter;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.multipart.commons.CommonsMultipartFile;
-
-import static org.apache.tomcat.util.codec.binary.Base64.decodeBase64;
 
 /**
  * Class that is used by {@link ModelMapper} to map Base64 encoded image into
- * MultipartFile.
+ * MultipartFile. Image is decoded once into memory and its format is detected
+ * by magic bytes. PNG and JPEG images within size limits are passed through as
+ * is, other images are downscaled and re-encoded until they fit.
  */
 @Component
 public class MultipartBase64ImageMapper extends AbstractConverter<String, MultipartFile> {
+    private static final String FILE_NAME = "mainFile";
+    private static final int DEFAULT_MAX_SIZE_BYTES = 5 * 1024 * 1024;
+    private static final int DEFAULT_MAX_SIDE = 2048;
+    private static final double DOWNSCALE_STEP = 0.75;
+    private static final int MIN_SIDE = 16;
+    private static final float JPEG_QUALITY = 0.85f;
+    private final int maxSizeBytes;
+    private final int maxSide;
+
+    /**
+     * Constructor with default limits of converted image.
+     */
+    public MultipartBase64ImageMapper() {
+        this(DEFAULT_MAX_SIZE_BYTES, DEFAULT_MAX_SIDE);
+    }
+
+    /**
+     * Constructor with limits of converted image taken from application properties.
+     *
+     * @param maxSizeBytes maximum size of converted image in bytes.
+     * @param maxSide      maximum width and height of converted image in pixels.
+     */
+    @Autowired
+    public MultipartBase64ImageMapper(
+        @Value("${greencity.image.base64.max-size-bytes:5242880}") int maxSizeBytes,
+        @Value("${greencity.image.base64.max-side:2048}") int maxSide) {
+        this.maxSizeBytes = maxSizeBytes;
+        this.maxSide = maxSide;
+    }
+
     /**
      * Method for converting Base64 encoded image into MultipartFile.
      *
@@ -32,23 +64,128 @@ public class MultipartBase64ImageMapper extends AbstractConverter<String, Multip
      */
     @Override
     public MultipartFile convert(String image) {
-        String imageToConvert = image.substring(image.indexOf(',') + 1);
-        File tempFile = new File("tempImage.jpg");
-        byte[] imageByte = decodeBase64(imageToConvert);
-        ByteArrayInputStream bis = new ByteArrayInputStream(imageByte);
+        byte[] imageBytes = decode(image.substring(image.indexOf(',') + 1));
+        ImageFormat format = ImageFormat.detect(imageBytes);
+        if (format == null) {
+            throw new NotSavedException(ErrorMessage.BASE64_IMAGE_NOT_CONVERTED);
+        }
         try {
-            BufferedImage bufferedImage = ImageIO.read(bis);
-            ImageIO.write(bufferedImage, "png", tempFile);
-            FileItem fileItem = new DiskFileItem("mainFile", Files.probeContentType(tempFile.toPath()),
-                false, tempFile.getName(), (int) tempFile.length(), tempFile.getParentFile());
-            try (InputStream input = new FileInputStream(tempFile);
-                OutputStream outputStream = fileItem.getOutputStream()) {
-                IOUtils.copy(input, outputStream);
-                outputStream.flush();
-                return new CommonsMultipartFile(fileItem);
+            if (format.isPassedThrough() && imageBytes.length <= maxSizeBytes && fitsMaxSide(imageBytes)) {
+                return toMultipartFile(format, imageBytes);
+            }
+            BufferedImage bufferedImage = ImageIO.read(new ByteArrayInputStream(imageBytes));
+            if (bufferedImage == null) {
+                throw new NotSavedException(ErrorMessage.BASE64_IMAGE_NOT_CONVERTED);
             }
+            ImageFormat targetFormat = format == ImageFormat.JPEG ? ImageFormat.JPEG : ImageFormat.PNG;
+            return toMultipartFile(targetFormat, reencode(bufferedImage, targetFormat));
         } catch (IOException e) {
-            throw new NotSavedException("Cannot convert to BASE64 image");
+            throw new NotSavedException(ErrorMessage.BASE64_IMAGE_NOT_CONVERTED);
+        }
+    }
+
+    private static byte[] decode(String base64) {
+        try {
+            return Base64.getMimeDecoder().decode(base64);
+        } catch (IllegalArgumentException e) {
+            throw new NotSavedException(ErrorMessage.BASE64_IMAGE_NOT_CONVERTED);
+        }
+    }
+
+    private boolean fitsMaxSide(byte[] imageBytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageBytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return false;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return reader.getWidth(0) <= maxSide && reader.getHeight(0) <= maxSide;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private byte[] reencode(BufferedImage image, ImageFormat format) throws IOException {
+        int longestSide = Math.max(image.getWidth(), image.getHeight());
+        double scale = Math.min(1.0, (double) maxSide / longestSide);
+        byte[] encoded = ImageEncoder.encode(scale(image, scale, format), format.getExtension(), JPEG_QUALITY);
+        while (encoded.length > maxSizeBytes) {
+            scale *= DOWNSCALE_STEP;
+            if (longestSide * scale < MIN_SIDE) {
+                throw new NotSavedException(ErrorMessage.BASE64_IMAGE_TOO_LARGE + maxSizeBytes);
+            }
+            encoded = ImageEncoder.encode(scale(image, scale, format), format.getExtension(), JPEG_QUALITY);
+        }
+        return encoded;
+    }
+
+    private static BufferedImage scale(BufferedImage image, double scale, ImageFormat format) {
+        boolean keepAlpha = format != ImageFormat.JPEG && image.getColorModel().hasAlpha();
+        int imageType = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        if (scale >= 1.0 && image.getType() == imageType) {
+            return image;
+        }
+        int width = (int) Math.round(image.getWidth() * scale);
+        int height = (int) Math.round(image.getHeight() * scale);
+        return ImageEncoder.scale(image, width, height, imageType);
+    }
+
+    private static MultipartFile toMultipartFile(ImageFormat format, byte[] content) {
+        return new InMemoryMultipartFile(FILE_NAME, "image." + format.getExtension(), format.getContentType(),
+            content);
+    }
+
+    private enum ImageFormat {
+        PNG(ImageEncoder.PNG, "image/png", true, new int[] {0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}),
+        JPEG(ImageEncoder.JPEG, "image/jpeg", true, new int[] {0xFF, 0xD8, 0xFF}),
+        GIF("gif", "image/gif", false, new int[] {'G', 'I', 'F', '8'});
+
+        private final String extension;
+        private final String contentType;
+        private final boolean passedThrough;
+        private final int[] magicBytes;
+
+        ImageFormat(String extension, String contentType, boolean passedThrough, int[] magicBytes) {
+            this.extension = extension;
+            this.contentType = contentType;
+            this.passedThrough = passedThrough;
+            this.magicBytes = magicBytes;
+        }
+
+        private static ImageFormat detect(byte[] content) {
+            for (ImageFormat format : values()) {
+                if (format.matches(content)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+
+        private boolean matches(byte[] content) {
+            if (content.length < magicBytes.length) {
+                return false;
+            }
+            for (int i = 0; i < magicBytes.length; i++) {
+                if ((content[i] & 0xFF) != magicBytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String getExtension() {
+            return extension;
+        }
+
+        private String getContentType() {
+            return contentType;
+        }
+
+        private boolean isPassedThrough() {
+            return passedThrough;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package greencity.presence;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link PresenceStore} of a single application instance kept in concurrent
+ * maps. Pending times are removed on drain only if they were not updated
+ * meanwhile, so concurrent activity is flushed by the next drain.
+ */
+public class LocalPresenceStore implements PresenceStore {
+    private final Map<Long, Long> lastSeen = new ConcurrentHashMap<>();
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void touch(Long userId, long seenMillis) {
+        lastSeen.merge(userId, seenMillis, Math::max);
+        pending.merge(userId, seenMillis, Math::max);
+    }
+
+    @Override
+    public Map<Long, Long> findLastSeen(Collection<Long> userIds) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Long userId : userIds) {
+            Long seenMillis = userId == null ? null : lastSeen.get(userId);
+            if (seenMillis != null) {
+                result.put(userId, seenMillis);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Long, Long> drainPending() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                drained.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return drained;
+    }
+
+    @Override
+    public void evictSeenBefore(long seenMillis) {
+        lastSeen.values().removeIf(lastSeenMillis -> lastSeenMillis < seenMillis);
+    }
+}
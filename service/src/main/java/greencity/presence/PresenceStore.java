@@ -0,0 +1,44 @@
+package greencity.presence;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Store of last seen times of users in epoch milliseconds. The single bean of
+ * this type replaces {@link LocalPresenceStore}, so presence can be shared
+ * between application instances, as the single
+ * {@link greencity.cache.SharedCacheProvider} bean replaces
+ * {@link greencity.cache.LocalSharedCacheProvider}.
+ */
+public interface PresenceStore {
+    /**
+     * Records that user was seen at given time. Earlier times never replace later
+     * ones.
+     *
+     * @param userId     id of user.
+     * @param seenMillis time user was seen at.
+     */
+    void touch(Long userId, long seenMillis);
+
+    /**
+     * Returns last seen times of given users.
+     *
+     * @param userIds ids of users.
+     * @return last seen time by user id, users not in the store are absent.
+     */
+    Map<Long, Long> findLastSeen(Collection<Long> userIds);
+
+    /**
+     * Removes and returns last seen times recorded since previous drain.
+     *
+     * @return last seen time by user id.
+     */
+    Map<Long, Long> drainPending();
+
+    /**
+     * Forgets users last seen before given time.
+     *
+     * @param seenMillis time before which users are forgotten.
+     */
+    void evictSeenBefore(long seenMillis);
+}
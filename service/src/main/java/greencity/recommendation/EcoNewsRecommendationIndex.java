@@ -0,0 +1,213 @@
+package greencity.recommendation;
+
+import greencity.dto.econews.EcoNewsTagIdDto;
+import greencity.entity.EcoNews;
+import greencity.entity.Tag;
+import greencity.repository.EcoNewsRepo;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index of eco news tags used for recommending eco news. For
+ * every tag it keeps ids of eco news marked with this tag, so recommendations
+ * for opened eco news are found by walking posting lists of its tags instead of
+ * scanning the whole eco_news_tags table. Eco news with more tags in common
+ * with opened one are recommended first, ties and the remaining places are
+ * filled with the newest eco news. The index is built on first use, kept up to
+ * date by {@link greencity.service.EcoNewsService} and periodically rebuilt to
+ * pick up changes made by other instances.
+ */
+@Slf4j
+@Component
+public class EcoNewsRecommendationIndex {
+    private static final Comparator<IndexedEcoNews> NEWEST_FIRST =
+        Comparator.comparing(IndexedEcoNews::getCreationDate).reversed()
+            .thenComparing(IndexedEcoNews::getId);
+    private final EcoNewsRepo ecoNewsRepo;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, IndexedEcoNews> ecoNewsById = new HashMap<>();
+    private Map<Long, Set<Long>> ecoNewsIdsByTagId = new HashMap<>();
+    private NavigableSet<IndexedEcoNews> newestEcoNews = new TreeSet<>(NEWEST_FIRST);
+    private volatile boolean built;
+
+    /**
+     * Constructor.
+     *
+     * @param ecoNewsRepo {@link EcoNewsRepo}
+     */
+    public EcoNewsRecommendationIndex(EcoNewsRepo ecoNewsRepo) {
+        this.ecoNewsRepo = ecoNewsRepo;
+    }
+
+    /**
+     * Method for finding ids of eco news recommended for opened eco news.
+     *
+     * @param openedEcoNewsId id of opened eco news.
+     * @param limit           max amount of recommended eco news.
+     * @return ids of recommended eco news, the most relevant first.
+     */
+    public List<Long> findRecommendedIds(Long openedEcoNewsId, int limit) {
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            Set<Long> recommended = new LinkedHashSet<>();
+            getEcoNewsWithCommonTags(openedEcoNewsId).entrySet().stream()
+                .sorted(Map.Entry.<IndexedEcoNews, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey(NEWEST_FIRST)))
+                .limit(limit)
+                .forEach(entry -> recommended.add(entry.getKey().getId()));
+            for (IndexedEcoNews ecoNews : newestEcoNews) {
+                if (recommended.size() >= limit) {
+                    break;
+                }
+                if (!ecoNews.getId().equals(openedEcoNewsId)) {
+                    recommended.add(ecoNews.getId());
+                }
+            }
+            return new ArrayList<>(recommended);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method for adding saved or updated {@link EcoNews} to index.
+     *
+     * @param ecoNews saved {@link EcoNews}.
+     */
+    public void put(EcoNews ecoNews) {
+        if (!built) {
+            return;
+        }
+        Set<Long> tagIds = ecoNews.getTags() == null ? Collections.emptySet()
+            : ecoNews.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+        lock.writeLock().lock();
+        try {
+            removeFromIndex(ecoNews.getId());
+            addToIndex(ecoNewsById, ecoNewsIdsByTagId, newestEcoNews,
+                new IndexedEcoNews(ecoNews.getId(), ecoNews.getCreationDate(), tagIds));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Method for removing deleted eco news from index.
+     *
+     * @param ecoNewsIds ids of deleted eco news.
+     */
+    public void removeAll(Collection<Long> ecoNewsIds) {
+        if (!built) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            ecoNewsIds.forEach(this::removeFromIndex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Method for rebuilding whole index from database.
+     */
+    public void rebuild() {
+        Map<Long, Set<Long>> tagIdsByEcoNewsId = new HashMap<>();
+        Map<Long, ZonedDateTime> creationDates = new HashMap<>();
+        for (EcoNewsTagIdDto row : ecoNewsRepo.findAllEcoNewsTagIds()) {
+            tagIdsByEcoNewsId.computeIfAbsent(row.getEcoNewsId(), id -> new HashSet<>()).add(row.getTagId());
+            creationDates.put(row.getEcoNewsId(), row.getCreationDate());
+        }
+        Map<Long, IndexedEcoNews> newEcoNewsById = new HashMap<>();
+        Map<Long, Set<Long>> newEcoNewsIdsByTagId = new HashMap<>();
+        NavigableSet<IndexedEcoNews> newNewestEcoNews = new TreeSet<>(NEWEST_FIRST);
+        tagIdsByEcoNewsId.forEach((id, tagIds) -> addToIndex(newEcoNewsById, newEcoNewsIdsByTagId,
+            newNewestEcoNews, new IndexedEcoNews(id, creationDates.get(id), tagIds)));
+
+        lock.writeLock().lock();
+        try {
+            ecoNewsById = newEcoNewsById;
+            ecoNewsIdsByTagId = newEcoNewsIdsByTagId;
+            newestEcoNews = newNewestEcoNews;
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Eco news recommendation index rebuilt with {} eco news", newEcoNewsById.size());
+    }
+
+    private void ensureBuilt() {
+        if (!built) {
+            synchronized (this) {
+                if (!built) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private Map<IndexedEcoNews, Integer> getEcoNewsWithCommonTags(Long openedEcoNewsId) {
+        IndexedEcoNews opened = ecoNewsById.get(openedEcoNewsId);
+        if (opened == null) {
+            return Collections.emptyMap();
+        }
+        Map<IndexedEcoNews, Integer> commonTags = new HashMap<>();
+        for (Long tagId : opened.getTagIds()) {
+            for (Long ecoNewsId : ecoNewsIdsByTagId.getOrDefault(tagId, Collections.emptySet())) {
+                if (!ecoNewsId.equals(openedEcoNewsId)) {
+                    commonTags.merge(ecoNewsById.get(ecoNewsId), 1, Integer::sum);
+                }
+            }
+        }
+        return commonTags;
+    }
+
+    private static void addToIndex(Map<Long, IndexedEcoNews> ecoNewsById, Map<Long, Set<Long>> ecoNewsIdsByTagId,
+        NavigableSet<IndexedEcoNews> newestEcoNews, IndexedEcoNews ecoNews) {
+        ecoNewsById.put(ecoNews.getId(), ecoNews);
+        newestEcoNews.add(ecoNews);
+        ecoNews.getTagIds()
+            .forEach(tagId -> ecoNewsIdsByTagId.computeIfAbsent(tagId, id -> new HashSet<>()).add(ecoNews.getId()));
+    }
+
+    private void removeFromIndex(Long ecoNewsId) {
+        IndexedEcoNews removed = ecoNewsById.remove(ecoNewsId);
+        if (removed == null) {
+            return;
+        }
+        newestEcoNews.remove(removed);
+        for (Long tagId : removed.getTagIds()) {
+            Set<Long> ecoNewsIds = ecoNewsIdsByTagId.get(tagId);
+            ecoNewsIds.remove(ecoNewsId);
+            if (ecoNewsIds.isEmpty()) {
+                ecoNewsIdsByTagId.remove(tagId);
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class IndexedEcoNews {
+        private final Long id;
+        private final ZonedDateTime creationDate;
+        private final Set<Long> tagIds;
+    }
+}
@@ -0,0 +1,312 @@
+package greencity.recommendation;
+
+import greencity.repository.FriendRecommendationRepo;
+import greencity.service.FriendGraphService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static greencity.repository.FriendRecommendationRepo.COMMENTED_ECO_NEWS;
+import static greencity.repository.FriendRecommendationRepo.HABITS;
+import static greencity.repository.FriendRecommendationRepo.MUTUAL_FRIENDS;
+
+/**
+ * In-memory store of friend recommendation scores. For every user it keeps only
+ * {@code maxCandidates} best candidates with amounts of shared habits,
+ * co-commented eco news and mutual friends, so recommendations are a top-N
+ * lookup instead of aggregating habit_assign, econews_comment and users_friends
+ * on every call. Links of users are not kept in memory: scores are rebuilt
+ * periodically from counts aggregated by database for chunks of user ids, and
+ * updated incrementally on habit assign and comment events after their
+ * transaction commits, reading users that share the habit or eco news from
+ * database. Habits, eco news and users shared by more than
+ * {@code maxSharedUsers} users do not tell users apart and are not counted,
+ * which keeps every update bounded.
+ */
+@Slf4j
+@Component
+public class FriendRecommendationIndex {
+    private static final int MIN_COMMON_COMMENTED_ECO_NEWS = 3;
+    private static final Comparator<Map.Entry<Long, int[]>> BEST_FIRST =
+        Comparator.<Map.Entry<Long, int[]>>comparingInt(entry -> score(entry.getValue())).reversed()
+            .thenComparing(entry -> total(entry.getValue()), Comparator.reverseOrder())
+            .thenComparing(Map.Entry::getKey);
+    private final FriendRecommendationRepo friendRecommendationRepo;
+    private final FriendGraphService friendGraphService;
+    private final int maxCandidates;
+    private final int maxSharedUsers;
+    private final int chunkSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Map<Long, int[]>> candidatesByUserId = new HashMap<>();
+    private volatile boolean built;
+
+    /**
+     * Constructor with bounds taken from application properties.
+     *
+     * @param friendRecommendationRepo {@link FriendRecommendationRepo} used to
+     *                                 rebuild and update scores.
+     * @param friendGraphService       {@link FriendGraphService} used to skip
+     *                                 current friends.
+     * @param maxCandidates            amount of best candidates kept for every
+     *                                 user.
+     * @param maxSharedUsers           max amount of users sharing habit, eco news
+     *                                 or friend for it to be counted.
+     * @param chunkSize                amount of user ids read from database at once
+     *                                 during rebuild.
+     */
+    public FriendRecommendationIndex(FriendRecommendationRepo friendRecommendationRepo,
+        FriendGraphService friendGraphService,
+        @Value("${greencity.recommendation.friends.max-candidates:100}") int maxCandidates,
+        @Value("${greencity.recommendation.friends.max-shared-users:1000}") int maxSharedUsers,
+        @Value("${greencity.recommendation.friends.chunk-size:5000}") int chunkSize) {
+        this.friendRecommendationRepo = friendRecommendationRepo;
+        this.friendGraphService = friendGraphService;
+        this.maxCandidates = maxCandidates;
+        this.maxSharedUsers = maxSharedUsers;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Method for finding ids of users recommended as friends for given user.
+     * Current friends of user are never recommended. Until scores are built for the
+     * first time, recommendations are taken from {@code fn_recommended_friends}.
+     *
+     * @param userId id of user.
+     * @param limit  max amount of recommended users.
+     * @return ids of recommended users, the most relevant first.
+     */
+    public List<Long> findRecommendedIds(Long userId, int limit) {
+        long[] friendIds = friendGraphService.findFriendIds(userId).toArray();
+        if (!built) {
+            return friendRecommendationRepo.findRecommendedFriendIds(userId, limit + friendIds.length).stream()
+                .filter(id -> Arrays.binarySearch(friendIds, id) < 0)
+                .limit(limit)
+                .collect(Collectors.toList());
+        }
+        lock.readLock().lock();
+        try {
+            return candidatesByUserId.getOrDefault(userId, Collections.emptyMap()).entrySet().stream()
+                .filter(entry -> score(entry.getValue()) > 0 && Arrays.binarySearch(friendIds, entry.getKey()) < 0)
+                .sorted(BEST_FIRST)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method for counting habit assigned to user. User may have several assigns of
+     * the same habit, so habit is counted for the first assign only.
+     *
+     * @param userId  id of user.
+     * @param habitId id of assigned habit.
+     */
+    public void addHabit(Long userId, Long habitId) {
+        afterCommit(() -> {
+            if (built && friendRecommendationRepo.countHabitAssigns(userId, habitId) == 1) {
+                updateShared(friendRecommendationRepo.findHabitUserIds(habitId, maxSharedUsers + 2), HABITS,
+                    userId, true);
+            }
+        });
+    }
+
+    /**
+     * Method for discounting habit after assign of it was deleted. Habit is
+     * discounted only if no assign of it is left in database.
+     *
+     * @param userId  id of user.
+     * @param habitId id of habit.
+     */
+    public void removeHabit(Long userId, Long habitId) {
+        afterCommit(() -> {
+            if (built && !friendRecommendationRepo.existsHabitAssign(userId, habitId)) {
+                updateShared(friendRecommendationRepo.findHabitUserIds(habitId, maxSharedUsers + 2), HABITS,
+                    userId, false);
+            }
+        });
+    }
+
+    /**
+     * Method for counting eco news commented by user. Eco news is counted for the
+     * first comment of user only.
+     *
+     * @param userId    id of user.
+     * @param ecoNewsId id of commented eco news.
+     */
+    public void addCommentedEcoNews(Long userId, Long ecoNewsId) {
+        afterCommit(() -> {
+            if (built && friendRecommendationRepo.countComments(userId, ecoNewsId) == 1) {
+                updateShared(friendRecommendationRepo.findCommentingUserIds(ecoNewsId, maxSharedUsers + 2),
+                    COMMENTED_ECO_NEWS, userId, true);
+            }
+        });
+    }
+
+    /**
+     * Method for rebuilding all scores from database. Counts are read in ranges of
+     * {@code chunkSize} user ids and replace scores of those users right away, so
+     * memory used by rebuild is bounded by one chunk of best candidates. Called on
+     * startup and then periodically by scheduler, never on request thread.
+     */
+    public synchronized void rebuild() {
+        long maxUserId = friendRecommendationRepo.findMaxUserId();
+        int users = 0;
+        for (long fromUserId = 0; fromUserId <= maxUserId; fromUserId += chunkSize) {
+            long toUserId = fromUserId + chunkSize - 1;
+            Map<Long, Map<Long, int[]>> chunk = readChunk(fromUserId, toUserId);
+            lock.writeLock().lock();
+            try {
+                for (long userId = fromUserId; userId <= toUserId; userId++) {
+                    Map<Long, int[]> candidates = chunk.get(userId);
+                    if (candidates == null) {
+                        candidatesByUserId.remove(userId);
+                    } else {
+                        candidatesByUserId.put(userId, candidates);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            users += chunk.size();
+        }
+        built = true;
+        log.info("Friend recommendation index rebuilt with {} users", users);
+    }
+
+    private Map<Long, Map<Long, int[]>> readChunk(long fromUserId, long toUserId) {
+        Map<Long, Map<Long, int[]>> chunk = new HashMap<>();
+        long[] currentUserId = {-1};
+        Map<Long, int[]> current = new HashMap<>();
+        friendRecommendationRepo.findCandidateCounts(fromUserId, toUserId, maxSharedUsers,
+            (userId, candidateId, kind, count) -> {
+                if (userId != currentUserId[0]) {
+                    keepBest(chunk, currentUserId[0], current);
+                    currentUserId[0] = userId;
+                }
+                current.computeIfAbsent(candidateId, id -> new int[3])[kind] += count;
+            });
+        keepBest(chunk, currentUserId[0], current);
+        return chunk;
+    }
+
+    private void keepBest(Map<Long, Map<Long, int[]>> chunk, long userId, Map<Long, int[]> candidates) {
+        if (!candidates.isEmpty()) {
+            chunk.put(userId, candidates.size() > maxCandidates ? best(candidates) : new HashMap<>(candidates));
+            candidates.clear();
+        }
+    }
+
+    /**
+     * Updates scores of user and users sharing habit or eco news with the user.
+     * When the change makes habit or eco news cross {@code maxSharedUsers}, its
+     * whole contribution is subtracted from or added back to every pair of users
+     * sharing it, as rebuild would count it.
+     *
+     * @param sharingUserIds users sharing habit or eco news after the change, up to
+     *                       {@code maxSharedUsers + 2}.
+     */
+    private void updateShared(List<Long> sharingUserIds, int kind, Long userId, boolean add) {
+        int size = sharingUserIds.size();
+        lock.writeLock().lock();
+        try {
+            if (add ? size <= maxSharedUsers : size < maxSharedUsers) {
+                int delta = add ? 1 : -1;
+                for (Long candidateId : sharingUserIds) {
+                    if (!candidateId.equals(userId)) {
+                        adjust(userId, candidateId, kind, delta);
+                        adjust(candidateId, userId, kind, delta);
+                    }
+                }
+            } else if (add ? size == maxSharedUsers + 1 : size == maxSharedUsers) {
+                adjustPairs(sharingUserIds, userId, kind, add ? -1 : 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adjusts scores of every pair of users sharing habit or eco news, except the
+     * user who caused the change.
+     */
+    private void adjustPairs(List<Long> sharingUserIds, Long userId, int kind, int delta) {
+        for (Long sharingUserId : sharingUserIds) {
+            if (sharingUserId.equals(userId)) {
+                continue;
+            }
+            for (Long candidateId : sharingUserIds) {
+                if (!candidateId.equals(userId) && !candidateId.equals(sharingUserId)) {
+                    adjust(sharingUserId, candidateId, kind, delta);
+                }
+            }
+        }
+    }
+
+    private void adjust(Long userId, Long candidateId, int kind, int delta) {
+        Map<Long, int[]> candidates = candidatesByUserId.get(userId);
+        if (candidates == null) {
+            if (delta < 0) {
+                return;
+            }
+            candidates = new HashMap<>();
+            candidatesByUserId.put(userId, candidates);
+        }
+        int[] counts = candidates.get(candidateId);
+        if (counts == null) {
+            if (delta < 0) {
+                return;
+            }
+            counts = new int[3];
+            candidates.put(candidateId, counts);
+        }
+        counts[kind] = Math.max(0, counts[kind] + delta);
+        if (total(counts) == 0) {
+            candidates.remove(candidateId);
+        } else if (candidates.size() > 2 * maxCandidates) {
+            candidatesByUserId.put(userId, best(candidates));
+        }
+    }
+
+    private Map<Long, int[]> best(Map<Long, int[]> candidates) {
+        return candidates.entrySet().stream()
+            .sorted(BEST_FIRST)
+            .limit(maxCandidates)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, HashMap::new));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static int score(int[] counts) {
+        int commentedEcoNewsScore =
+            counts[COMMENTED_ECO_NEWS] >= MIN_COMMON_COMMENTED_ECO_NEWS ? counts[COMMENTED_ECO_NEWS] : 0;
+        return counts[HABITS] + commentedEcoNewsScore + counts[MUTUAL_FRIENDS];
+    }
+
+    private static int total(int[] counts) {
+        return counts[HABITS] + counts[COMMENTED_ECO_NEWS] + counts[MUTUAL_FRIENDS];
+    }
+}
@@ -0,0 +1,111 @@
+package greencity.security.service;
+
+import static greencity.constant.AppConstant.ROLE;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import greencity.security.dto.VerifiedAccessTokenDto;
+import greencity.security.jwt.JwtTool;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AccessTokenVerificationServiceImpl implements AccessTokenVerificationService {
+    private final JwtTool jwtTool;
+    private final Cache<String, VerifiedAccessTokenDto> cache;
+
+    /**
+     * Constructor with cache bounds taken from application properties.
+     *
+     * @param jwtTool    {@link JwtTool} which provides key of access tokens.
+     * @param maxSize    maximum amount of cached tokens.
+     * @param ttlSeconds maximum time in seconds a token is cached, tokens are never
+     *                   cached after their expiration.
+     */
+    public AccessTokenVerificationServiceImpl(JwtTool jwtTool,
+        @Value("${greencity.cache.access-token.max-size:10000}") long maxSize,
+        @Value("${greencity.cache.access-token.ttl-seconds:60}") long ttlSeconds) {
+        this.jwtTool = jwtTool;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new UntilTokenExpiration(Duration.ofSeconds(ttlSeconds).toNanos()))
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VerifiedAccessTokenDto verify(String accessToken) {
+        return cache.get(hash(accessToken), key -> parse(accessToken));
+    }
+
+    @SuppressWarnings("unchecked")
+    private VerifiedAccessTokenDto parse(String accessToken) {
+        Claims claims = Jwts.parser()
+            .setSigningKey(jwtTool.getAccessSecretKey())
+            .parseClaimsJws(accessToken)
+            .getBody();
+        List<String> roles = (List<String>) claims.get(ROLE);
+        return VerifiedAccessTokenDto.builder()
+            .email(claims.getSubject())
+            .roles(roles == null ? Collections.emptyList() : List.copyOf(roles))
+            .expiration(claims.getExpiration())
+            .build();
+    }
+
+    private static String hash(String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Keeps verified token in cache till its expiration, but not longer than
+     * maximum time to live.
+     */
+    private static final class UntilTokenExpiration implements Expiry<String, VerifiedAccessTokenDto> {
+        private final long maxTtlNanos;
+
+        private UntilTokenExpiration(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedAccessTokenDto token, long currentTime) {
+            if (token.getExpiration() == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiration = TimeUnit.MILLISECONDS
+                .toNanos(token.getExpiration().getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(maxTtlNanos, untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedAccessTokenDto token, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedAccessTokenDto token, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,62 +1,119 @@
 package greencity.service;
 
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
-import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
 import greencity.constant.ErrorMessage;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.ImageUrlParseException;
 import greencity.exception.exceptions.NotSavedException;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.env.PropertyResolver;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 public class AzureCloudStorageService implements FileService {
     private final String connectionString;
     private final String containerName;
     private final ModelMapper modelMapper;
+    private final Executor executor;
+    private final ParallelTransferOptions parallelTransferOptions;
+    private volatile BlobContainerClient containerClient;
 
     /**
-     * Constructor with parameters.
+     * Constructor with parameters. Files larger than
+     * {@code azure.upload.max-single-upload-size} bytes are uploaded as blocks of
+     * {@code azure.upload.block-size} bytes, up to
+     * {@code azure.upload.max-concurrency} blocks at once.
+     *
+     * @param propertyResolver resolver of connection and upload properties.
+     * @param modelMapper      {@link ModelMapper} used to convert images.
+     * @param executor         bounded {@link Executor} for asynchronous uploads.
      */
-    public AzureCloudStorageService(@Autowired PropertyResolver propertyResolver,
-        ModelMapper modelMapper) {
+    @Autowired
+    public AzureCloudStorageService(PropertyResolver propertyResolver,
+        ModelMapper modelMapper,
+        @Qualifier("fileUploadExecutor") Executor executor) {
         this.connectionString = propertyResolver.getProperty("azure.connection.string");
         this.containerName = propertyResolver.getProperty("azure.container.name");
         this.modelMapper = modelMapper;
+        this.executor = executor;
+        this.parallelTransferOptions = new ParallelTransferOptions(
+            propertyResolver.getProperty("azure.upload.block-size", Integer.class),
+            propertyResolver.getProperty("azure.upload.max-concurrency", Integer.class),
+            null,
+            propertyResolver.getProperty("azure.upload.max-single-upload-size", Integer.class));
     }
 
     /**
      * {@inheritDoc}
      */
-
+    @Override
     public String upload(MultipartFile multipartFile) {
         final String blob = UUID.randomUUID().toString();
-        BlobClient client = containerClient()
-            .getBlobClient(blob + multipartFile.getOriginalFilename());
-        try {
-            client.upload(new BufferedInputStream(multipartFile.getInputStream()), multipartFile.getSize());
+        return upload(multipartFile, blob + multipartFile.getOriginalFilename());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String upload(MultipartFile multipartFile, String fileName) {
+        BlobClient client = containerClient().getBlobClient(fileName);
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            client.uploadWithResponse(new BlobParallelUploadOptions(inputStream, multipartFile.getSize())
+                .setParallelTransferOptions(parallelTransferOptions)
+                .setHeaders(new BlobHttpHeaders().setContentType(multipartFile.getContentType())), Context.NONE);
         } catch (IOException e) {
             throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
         }
         return client.getBlobUrl();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<String> uploadAsync(MultipartFile multipartFile) {
+        return CompletableFuture.supplyAsync(() -> upload(multipartFile), executor);
+    }
+
+    /**
+     * Returns container client shared by all uploads and deletes. Client is created
+     * on first use, because building it parses connection string and creates new
+     * http pipeline.
+     */
     private BlobContainerClient containerClient() {
-        BlobServiceClient serviceClient = new BlobServiceClientBuilder()
-            .connectionString(connectionString).buildClient();
-        return serviceClient.getBlobContainerClient(containerName);
+        BlobContainerClient client = containerClient;
+        if (client == null) {
+            synchronized (this) {
+                client = containerClient;
+                if (client == null) {
+                    client = new BlobServiceClientBuilder()
+                        .connectionString(connectionString)
+                        .buildClient()
+                        .getBlobContainerClient(containerName);
+                    containerClient = client;
+                }
+            }
+        }
+        return client;
     }
 
     /**
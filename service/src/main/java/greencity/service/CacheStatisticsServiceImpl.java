@@ -0,0 +1,47 @@
+package greencity.service;
+
+import greencity.cache.CacheStatistics;
+import greencity.cache.InstrumentedCache;
+import greencity.dto.cache.CacheStatisticsDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+    private final CacheManager cacheManager;
+    private final UserPrincipalCacheService userPrincipalCacheService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CacheStatisticsDto> getAllStatistics() {
+        List<CacheStatisticsDto> statistics = new ArrayList<>();
+        cacheManager.getCacheNames().stream()
+            .sorted()
+            .map(cacheManager::getCache)
+            .filter(Objects::nonNull)
+            .map(this::getStatistics)
+            .forEach(statistics::add);
+        statistics.add(userPrincipalCacheService.getStatistics());
+        return statistics;
+    }
+
+    private CacheStatisticsDto getStatistics(Cache cache) {
+        if (cache instanceof InstrumentedCache) {
+            return CacheStatistics.of((InstrumentedCache) cache);
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache) {
+            com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+            return CacheStatistics.of(cache.getName(), nativeCache.estimatedSize(), nativeCache.stats());
+        }
+        return CacheStatisticsDto.builder().cacheName(cache.getName()).build();
+    }
+}
@@ -0,0 +1,280 @@
+package greencity.service;
+
+import greencity.constant.ErrorMessage;
+import greencity.dto.econewscomment.AmountCommentLikesDto;
+import greencity.dto.econewscomment.CommentLikesBroadcastStatisticsDto;
+import greencity.dto.econewscomment.EcoNewsCommentAmountDto;
+import greencity.exception.exceptions.BadRequestException;
+import greencity.repository.EcoNewsCommentRepo;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class CommentLikesBroadcastServiceImpl implements CommentLikesBroadcastService {
+    private static final long RATE_WINDOW_MILLIS = 1000;
+    private final EcoNewsCommentRepo ecoNewsCommentRepo;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectProvider<ThreadPoolTaskExecutor> clientOutboundChannelExecutor;
+    private final long idleMillis;
+    private final long refreshMillis;
+    private final Map<Long, TrackedLikes> trackedLikes = new ConcurrentHashMap<>();
+    private final Map<Long, PendingBroadcast> pendingBroadcasts = new ConcurrentHashMap<>();
+    private final LongAdder receivedEvents = new LongAdder();
+    private final LongAdder sentMessages = new LongAdder();
+    private long rateWindowStartMillis = System.currentTimeMillis();
+    private long rateWindowReceivedEvents;
+    private long rateWindowSentMessages;
+    private volatile double receivedEventsPerSecond;
+    private volatile double sentMessagesPerSecond;
+
+    /**
+     * Constructor with idle and refresh times of in-memory likes counts taken from
+     * application properties.
+     *
+     * @param ecoNewsCommentRepo {@link EcoNewsCommentRepo} used to load likes
+     *                           counts.
+     * @param messagingTemplate  {@link SimpMessagingTemplate} used to send updates
+     *                           to comment topics.
+     * @param outboundExecutor   executor of broker outbound channel, used to read
+     *                           its queue depth.
+     * @param idleSeconds        time in seconds after which not used likes count is
+     *                           reloaded from database.
+     * @param refreshSeconds     time in seconds after which likes count of
+     *                           broadcast comment is read from database again, so
+     *                           drift caused by missed or concurrent changes does
+     *                           not outlive it.
+     */
+    public CommentLikesBroadcastServiceImpl(EcoNewsCommentRepo ecoNewsCommentRepo,
+        SimpMessagingTemplate messagingTemplate,
+        @Qualifier("clientOutboundChannelExecutor") ObjectProvider<ThreadPoolTaskExecutor> outboundExecutor,
+        @Value("${greencity.websocket.comment-likes.idle-seconds:60}") long idleSeconds,
+        @Value("${greencity.websocket.comment-likes.refresh-seconds:10}") long refreshSeconds) {
+        this.ecoNewsCommentRepo = ecoNewsCommentRepo;
+        this.messagingTemplate = messagingTemplate;
+        this.clientOutboundChannelExecutor = outboundExecutor;
+        this.idleMillis = idleSeconds * 1000;
+        this.refreshMillis = refreshSeconds * 1000;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void likeToggled(Long commentId, Long userId, boolean liked) {
+        receivedEvents.increment();
+        TrackedLikes tracked = trackedLikes.get(commentId);
+        if (tracked != null) {
+            tracked.add(liked ? 1 : -1);
+        }
+        pendingBroadcasts.compute(commentId, (id, pending) -> {
+            PendingBroadcast result = pending != null ? pending : new PendingBroadcast();
+            result.likedByUserId.put(userId, liked);
+            return result;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void requestBroadcast(Long commentId, Long userId) {
+        receivedEvents.increment();
+        TrackedLikes tracked = trackedLikes.get(commentId);
+        if (tracked != null) {
+            tracked.touch();
+        } else if (!ecoNewsCommentRepo.existsById(commentId)) {
+            throw new BadRequestException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION);
+        }
+        pendingBroadcasts.compute(commentId, (id, pending) -> {
+            PendingBroadcast result = pending != null ? pending : new PendingBroadcast();
+            result.likedByUserId.putIfAbsent(userId, null);
+            return result;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        Map<Long, PendingBroadcast> toSend = new HashMap<>();
+        for (Long commentId : pendingBroadcasts.keySet()) {
+            PendingBroadcast pending = pendingBroadcasts.remove(commentId);
+            if (pending != null) {
+                toSend.put(commentId, pending);
+            }
+        }
+        if (!toSend.isEmpty()) {
+            loadLikes(toSend.keySet());
+            Map<Long, Set<Long>> likedByUser = loadUnknownLikedStates(toSend);
+            toSend.forEach((commentId, pending) -> send(commentId, pending, likedByUser));
+        }
+        evictIdle();
+        updateRates();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommentLikesBroadcastStatisticsDto getStatistics() {
+        return CommentLikesBroadcastStatisticsDto.builder()
+            .receivedEvents(receivedEvents.sum())
+            .sentMessages(sentMessages.sum())
+            .receivedEventsPerSecond(receivedEventsPerSecond)
+            .sentMessagesPerSecond(sentMessagesPerSecond)
+            .pendingTopics(pendingBroadcasts.size())
+            .trackedComments(trackedLikes.size())
+            .outboundQueueDepth(getOutboundQueueDepth())
+            .build();
+    }
+
+    private void loadLikes(Set<Long> commentIds) {
+        long loadedBefore = System.currentTimeMillis() - refreshMillis;
+        List<Long> toLoad = new ArrayList<>();
+        for (Long commentId : commentIds) {
+            TrackedLikes tracked = trackedLikes.get(commentId);
+            if (tracked == null || tracked.loadedMillis < loadedBefore) {
+                toLoad.add(commentId);
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> amounts = new HashMap<>();
+        for (EcoNewsCommentAmountDto amount : ecoNewsCommentRepo.countLikesByCommentIds(toLoad)) {
+            amounts.put(amount.getCommentId(), amount.getAmount());
+        }
+        for (Long commentId : toLoad) {
+            int amount = amounts.getOrDefault(commentId, 0L).intValue();
+            trackedLikes.compute(commentId, (id, tracked) -> {
+                if (tracked == null) {
+                    return new TrackedLikes(amount);
+                }
+                tracked.reload(amount);
+                return tracked;
+            });
+        }
+    }
+
+    private Map<Long, Set<Long>> loadUnknownLikedStates(Map<Long, PendingBroadcast> toSend) {
+        Map<Long, List<Long>> commentIdsByUser = new HashMap<>();
+        toSend.forEach((commentId, pending) -> pending.likedByUserId.forEach((userId, liked) -> {
+            if (liked == null && userId != null) {
+                commentIdsByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(commentId);
+            }
+        }));
+        Map<Long, Set<Long>> likedByUser = new HashMap<>();
+        commentIdsByUser.forEach((userId, commentIds) -> likedByUser.put(userId,
+            new HashSet<>(ecoNewsCommentRepo.findIdsLikedByUser(commentIds, userId))));
+        return likedByUser;
+    }
+
+    /**
+     * Sends current likes count of comment once for every user with pending update,
+     * so each of them receives own liked state.
+     */
+    private void send(Long commentId, PendingBroadcast pending, Map<Long, Set<Long>> likedByUser) {
+        int amountLikes = trackedLikes.get(commentId).get();
+        pending.likedByUserId.forEach((userId, knownLiked) -> {
+            boolean liked = knownLiked != null
+                ? knownLiked
+                : likedByUser.getOrDefault(userId, Set.of()).contains(commentId);
+            AmountCommentLikesDto message = AmountCommentLikesDto.builder()
+                .id(commentId)
+                .amountLikes(amountLikes)
+                .userId(userId)
+                .isLiked(liked)
+                .build();
+            try {
+                messagingTemplate.convertAndSend("/topic/" + commentId + "/comment", message);
+                sentMessages.increment();
+            } catch (MessagingException e) {
+                log.warn("Likes count of comment {} was not sent: {}", commentId, e.getMessage());
+            }
+        });
+    }
+
+    private void evictIdle() {
+        long idleSince = System.currentTimeMillis() - idleMillis;
+        trackedLikes.entrySet().removeIf(entry -> entry.getValue().lastTouchedMillis < idleSince
+            && !pendingBroadcasts.containsKey(entry.getKey()));
+    }
+
+    private synchronized void updateRates() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - rateWindowStartMillis;
+        if (elapsed < RATE_WINDOW_MILLIS) {
+            return;
+        }
+        long received = receivedEvents.sum();
+        long sent = sentMessages.sum();
+        receivedEventsPerSecond = (received - rateWindowReceivedEvents) * 1000.0 / elapsed;
+        sentMessagesPerSecond = (sent - rateWindowSentMessages) * 1000.0 / elapsed;
+        rateWindowStartMillis = now;
+        rateWindowReceivedEvents = received;
+        rateWindowSentMessages = sent;
+    }
+
+    private int getOutboundQueueDepth() {
+        ThreadPoolTaskExecutor executor = clientOutboundChannelExecutor.getIfAvailable();
+        if (executor == null) {
+            return 0;
+        }
+        return executor.getThreadPoolExecutor().getQueue().size();
+    }
+
+    private static final class TrackedLikes {
+        private final AtomicInteger amount;
+        private volatile long lastTouchedMillis = System.currentTimeMillis();
+        private volatile long loadedMillis = lastTouchedMillis;
+
+        private TrackedLikes(int amount) {
+            this.amount = new AtomicInteger(amount);
+        }
+
+        private void add(int delta) {
+            amount.updateAndGet(current -> Math.max(0, current + delta));
+            touch();
+        }
+
+        private void reload(int persisted) {
+            amount.set(persisted);
+            loadedMillis = System.currentTimeMillis();
+        }
+
+        private int get() {
+            return amount.get();
+        }
+
+        private void touch() {
+            lastTouchedMillis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Users waiting for likes count of comment with their liked state, or
+     * {@code null} if it is not known yet. Changed only inside
+     * {@link ConcurrentHashMap#compute} of pending broadcasts.
+     */
+    private static final class PendingBroadcast {
+        private final Map<Long, Boolean> likedByUserId = new LinkedHashMap<>();
+    }
+}
@@ -8,6 +8,7 @@ import greencity.dto.econews.EcoNewsVO;
 import greencity.dto.econewscomment.AddEcoNewsCommentDtoRequest;
 import greencity.dto.econewscomment.AddEcoNewsCommentDtoResponse;
 import greencity.dto.econewscomment.AmountCommentLikesDto;
+import greencity.dto.econewscomment.EcoNewsCommentAmountDto;
 import greencity.dto.econewscomment.EcoNewsCommentDto;
 import greencity.dto.econewscomment.EcoNewsCommentVO;
 import greencity.dto.user.UserVO;
@@ -20,6 +21,8 @@ import greencity.enums.Role;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
+import greencity.mapping.EcoNewsCommentDtoMapper;
+import greencity.recommendation.FriendRecommendationIndex;
 import greencity.repository.EcoNewsCommentRepo;
 import javax.servlet.http.HttpServletRequest;
 import greencity.repository.EcoNewsRepo;
@@ -27,12 +30,15 @@ import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,10 +47,12 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     private EcoNewsCommentRepo ecoNewsCommentRepo;
     private EcoNewsService ecoNewsService;
     private ModelMapper modelMapper;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final CommentLikesBroadcastService commentLikesBroadcastService;
     private final greencity.rating.RatingCalculation ratingCalculation;
     private final HttpServletRequest httpServletRequest;
     private final EcoNewsRepo ecoNewsRepo;
+    private final EcoNewsCommentDtoMapper ecoNewsCommentDtoMapper;
+    private final FriendRecommendationIndex friendRecommendationIndex;
 
     /**
      * Method to save {@link greencity.entity.EcoNewsComment}.
@@ -76,9 +84,11 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             }
         }
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, accessToken));
-        return modelMapper.map(ecoNewsCommentRepo.save(ecoNewsComment), AddEcoNewsCommentDtoResponse.class);
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, accessToken);
+        AddEcoNewsCommentDtoResponse response =
+            modelMapper.map(ecoNewsCommentRepo.save(ecoNewsComment), AddEcoNewsCommentDtoResponse.class);
+        friendRecommendationIndex.addCommentedEcoNews(userVO.getId(), econewsId);
+        return response;
     }
 
     /**
@@ -94,25 +104,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         ecoNewsService.findById(ecoNewsId);
         Page<EcoNewsComment> pages = ecoNewsCommentRepo.findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(
             pageable, ecoNewsId);
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(userVO.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .map(comment -> {
-                comment.setReplies(ecoNewsCommentRepo.countByParentCommentId(comment.getId()));
-                return comment;
-            })
-            .collect(Collectors.toList());
-
-        return new PageableDto<>(
-            ecoNewsCommentDtos,
-            pages.getTotalElements(),
-            pages.getPageable().getPageNumber(),
-            pages.getTotalPages());
+        return buildPageableDto(pages, userVO.getId(), true);
     }
 
     /**
@@ -127,21 +119,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     public PageableDto<EcoNewsCommentDto> findAllReplies(Pageable pageable, Long parentCommentId, UserVO userVO) {
         Page<EcoNewsComment> pages = ecoNewsCommentRepo
             .findAllByParentCommentIdOrderByCreatedDateDesc(pageable, parentCommentId);
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(userVO.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .collect(Collectors.toList());
-
-        return new PageableDto<>(
-            ecoNewsCommentDtos,
-            pages.getTotalElements(),
-            pages.getPageable().getPageNumber(),
-            pages.getTotalPages());
+        return buildPageableDto(pages, userVO.getId(), false);
     }
 
     /**
@@ -164,8 +142,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         }
         comment.setDeleted(true);
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_COMMENT, userVO, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_COMMENT, userVO, accessToken);
         ecoNewsCommentRepo.save(comment);
     }
 
@@ -201,33 +178,30 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         EcoNewsComment comment = ecoNewsCommentRepo.findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION));
         EcoNewsCommentVO ecoNewsCommentVO = modelMapper.map(comment, EcoNewsCommentVO.class);
-        if (comment.getUsersLiked().stream()
-            .anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsService.unlikeComment(userVO, ecoNewsCommentVO);
-        } else {
+        boolean liked = comment.getUsersLiked().stream()
+            .noneMatch(user -> user.getId().equals(userVO.getId()));
+        if (liked) {
             ecoNewsService.likeComment(userVO, ecoNewsCommentVO);
+        } else {
+            ecoNewsService.unlikeComment(userVO, ecoNewsCommentVO);
         }
         ecoNewsCommentRepo.save(modelMapper.map(ecoNewsCommentVO, EcoNewsComment.class));
+        commentLikesBroadcastService.likeToggled(id, userVO.getId(), liked);
     }
 
     /**
-     * Method returns count of likes to certain
-     * {@link greencity.entity.EcoNewsComment} specified by id.
+     * Method requests broadcast of likes count of certain
+     * {@link greencity.entity.EcoNewsComment} specified by id. Requests of the same
+     * user for the same comment are coalesced by
+     * {@link CommentLikesBroadcastService} and sent to comment topic once per
+     * broadcast interval.
      *
      * @param amountCommentLikesDto dto with id and count likes for comments.
      */
     @Override
-    @Transactional
     public void countLikes(AmountCommentLikesDto amountCommentLikesDto) {
-        EcoNewsComment comment = ecoNewsCommentRepo.findById(amountCommentLikesDto.getId()).orElseThrow(
-            () -> new BadRequestException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION));
-        boolean isLiked = comment.getUsersLiked().stream().map(User::getId)
-            .anyMatch(x -> x.equals(amountCommentLikesDto.getUserId()));
-        amountCommentLikesDto.setLiked(isLiked);
-        int size = comment.getUsersLiked().size();
-        amountCommentLikesDto.setAmountLikes(size);
-        messagingTemplate
-            .convertAndSend("/topic/" + amountCommentLikesDto.getId() + "/comment", amountCommentLikesDto);
+        commentLikesBroadcastService.requestBroadcast(amountCommentLikesDto.getId(),
+            amountCommentLikesDto.getUserId());
     }
 
     /**
@@ -272,26 +246,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         Page<EcoNewsComment> pages =
             ecoNewsCommentRepo
                 .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageable, ecoNewsId);
-        UserVO user = userVO == null ? UserVO.builder().build() : userVO;
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(user.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .map(comment -> {
-                comment.setReplies(ecoNewsCommentRepo.countByParentCommentId(comment.getId()));
-                return comment;
-            })
-            .collect(Collectors.toList());
-
-        return new PageableDto<>(
-            ecoNewsCommentDtos,
-            pages.getTotalElements(),
-            pages.getPageable().getPageNumber(),
-            pages.getTotalPages());
+        return buildPageableDto(pages, userVO == null ? null : userVO.getId(), true);
     }
 
     /**
@@ -307,16 +262,37 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     public PageableDto<EcoNewsCommentDto> findAllActiveReplies(Pageable pageable, Long parentCommentId, UserVO userVO) {
         Page<EcoNewsComment> pages = ecoNewsCommentRepo
             .findAllByParentCommentIdAndDeletedFalseOrderByCreatedDateDesc(pageable, parentCommentId);
-        UserVO user = userVO == null ? UserVO.builder().build() : userVO;
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(user.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .collect(Collectors.toList());
+        return buildPageableDto(pages, userVO == null ? null : userVO.getId(), false);
+    }
+
+    /**
+     * Method builds page of {@link EcoNewsCommentDto}. Amounts of likes, replies
+     * and likes of current user are fetched for the whole page at once, so amount
+     * of queries does not depend on page size and popularity of comments.
+     *
+     * @param pages       page of {@link EcoNewsComment}.
+     * @param userId      id of current user or {@code null} for anonymous user.
+     * @param withReplies whether amount of replies should be counted.
+     * @return {@link PageableDto} of {@link EcoNewsCommentDto}.
+     */
+    private PageableDto<EcoNewsCommentDto> buildPageableDto(Page<EcoNewsComment> pages, Long userId,
+        boolean withReplies) {
+        List<Long> ids = pages.stream().map(EcoNewsComment::getId).collect(Collectors.toList());
+        List<EcoNewsCommentDto> ecoNewsCommentDtos = new ArrayList<>(ids.size());
+        if (!ids.isEmpty()) {
+            Map<Long, Long> likes = toAmountsMap(ecoNewsCommentRepo.countLikesByCommentIds(ids));
+            Set<Long> likedByUser = userId == null ? Collections.emptySet()
+                : new HashSet<>(ecoNewsCommentRepo.findIdsLikedByUser(ids, userId));
+            Map<Long, Long> replies = withReplies
+                ? toAmountsMap(ecoNewsCommentRepo.countRepliesByParentCommentIds(ids))
+                : Collections.emptyMap();
+            for (EcoNewsComment comment : pages) {
+                EcoNewsCommentDto dto = ecoNewsCommentDtoMapper.convert(comment,
+                    likes.getOrDefault(comment.getId(), 0L).intValue(), likedByUser.contains(comment.getId()));
+                dto.setReplies(replies.getOrDefault(comment.getId(), 0L).intValue());
+                ecoNewsCommentDtos.add(dto);
+            }
+        }
 
         return new PageableDto<>(
             ecoNewsCommentDtos,
@@ -324,4 +300,9 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             pages.getPageable().getPageNumber(),
             pages.getTotalPages());
     }
+
+    private static Map<Long, Long> toAmountsMap(List<EcoNewsCommentAmountDto> amounts) {
+        return amounts.stream()
+            .collect(Collectors.toMap(EcoNewsCommentAmountDto::getCommentId, EcoNewsCommentAmountDto::getAmount));
+    }
 }
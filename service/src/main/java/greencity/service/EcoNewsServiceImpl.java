@@ -4,6 +4,7 @@ import greencity.annotations.RatingCalculationEnum;
 import greencity.client.RestClient;
 import greencity.constant.CacheConstants;
 import greencity.constant.ErrorMessage;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.*;
@@ -24,8 +25,13 @@ import greencity.exception.exceptions.NotSavedException;
 import greencity.exception.exceptions.UnsupportedSortException;
 import greencity.filters.EcoNewsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.image.ImageVariants;
+import greencity.mapping.EcoNewsDtoMapper;
+import greencity.recommendation.EcoNewsRecommendationIndex;
+import greencity.repository.EcoNewsReactionRepo;
 import greencity.repository.EcoNewsRepo;
 import greencity.repository.EcoNewsSearchRepo;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
@@ -41,8 +47,14 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import static greencity.constant.AppConstant.AUTHORIZATION;
@@ -51,14 +63,19 @@ import static greencity.constant.AppConstant.AUTHORIZATION;
 @EnableCaching
 @RequiredArgsConstructor
 public class EcoNewsServiceImpl implements EcoNewsService {
+    private static final int RECOMMENDED_ECO_NEWS_AMOUNT = 3;
     private final EcoNewsRepo ecoNewsRepo;
     private final RestClient restClient;
     private final ModelMapper modelMapper;
+    private final EcoNewsDtoMapper ecoNewsDtoMapper;
     private final TagsService tagService;
     private final FileService fileService;
+    private final ImageVariantService imageVariantService;
     private final greencity.rating.RatingCalculation ratingCalculation;
     private final HttpServletRequest httpServletRequest;
     private final EcoNewsSearchRepo ecoNewsSearchRepo;
+    private final EcoNewsRecommendationIndex ecoNewsRecommendationIndex;
+    private final EcoNewsReactionRepo ecoNewsReactionRepo;
     private final List<String> languageCode = List.of("en", "ua");
 
     /**
@@ -139,7 +156,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      *
      * @author Yuriy Olkhovskyi.
      */
-    @Cacheable(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME)
+    @Cacheable(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, sync = true)
     @Override
     public List<EcoNewsDto> getThreeLastEcoNews() {
         List<EcoNews> ecoNewsList = ecoNewsRepo.getThreeLastEcoNews();
@@ -156,7 +173,14 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public List<EcoNewsDto> getThreeRecommendedEcoNews(Long openedEcoNewsId) {
-        List<EcoNews> ecoNewsList = ecoNewsRepo.getThreeRecommendedEcoNews(openedEcoNewsId);
+        List<Long> recommendedIds =
+            ecoNewsRecommendationIndex.findRecommendedIds(openedEcoNewsId, RECOMMENDED_ECO_NEWS_AMOUNT);
+        Map<Long, EcoNews> ecoNewsById = ecoNewsRepo.findAllById(recommendedIds).stream()
+            .collect(Collectors.toMap(EcoNews::getId, ecoNews -> ecoNews));
+        List<EcoNews> ecoNewsList = recommendedIds.stream()
+            .map(ecoNewsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
         return getEcoNewsList(ecoNewsList);
     }
 
@@ -216,6 +240,49 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         return buildPageableAdvancedGeneticDto(pages);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<EcoNewsGenericDto> findGenericAllByCursor(String cursor, int size) {
+        Pageable page = PageRequest.of(0, size + 1);
+        List<EcoNews> ecoNews;
+        if (StringUtils.isEmpty(cursor)) {
+            ecoNews = ecoNewsRepo.findAllByOrderByCreationDateDescIdDesc(page);
+        } else {
+            EcoNewsCursor ecoNewsCursor = EcoNewsCursor.decode(cursor);
+            ecoNews = ecoNewsRepo.findAllAfterCursor(ecoNewsCursor.getCreationDate(), ecoNewsCursor.getId(), page);
+        }
+        return buildCursorPageDto(ecoNews, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<EcoNewsGenericDto> findAllByUserByCursor(UserVO user, String cursor, int size) {
+        Pageable page = PageRequest.of(0, size + 1);
+        List<EcoNews> ecoNews;
+        if (StringUtils.isEmpty(cursor)) {
+            ecoNews = ecoNewsRepo.findAllByAuthorIdOrderByCreationDateDescIdDesc(user.getId(), page);
+        } else {
+            EcoNewsCursor ecoNewsCursor = EcoNewsCursor.decode(cursor);
+            ecoNews = ecoNewsRepo.findAllByAuthorIdAfterCursor(user.getId(), ecoNewsCursor.getCreationDate(),
+                ecoNewsCursor.getId(), page);
+        }
+        return buildCursorPageDto(ecoNews, size);
+    }
+
+    private CursorPageDto<EcoNewsGenericDto> buildCursorPageDto(List<EcoNews> ecoNews, int size) {
+        boolean hasNext = ecoNews.size() > size;
+        List<EcoNews> pageContent = hasNext ? ecoNews.subList(0, size) : ecoNews;
+        String nextCursor = hasNext ? EcoNewsCursor.encode(pageContent.get(size - 1)) : null;
+        List<EcoNewsGenericDto> ecoNewsDtos = pageContent.stream()
+            .map(this::getEcoNewsGenericDtoWithEnTags)
+            .collect(Collectors.toList());
+        return new CursorPageDto<>(ecoNewsDtos, nextCursor, hasNext);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -231,10 +298,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     }
 
     private PageableAdvancedDto<EcoNewsDto> buildPageableAdvancedDto(Page<EcoNews> ecoNewsPage) {
-        List<EcoNewsDto> ecoNewsDtos = ecoNewsPage.stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
-
-            .collect(Collectors.toList());
+        List<EcoNewsDto> ecoNewsDtos = ecoNewsDtoMapper.mapAllToList(ecoNewsPage.getContent());
 
         return new PageableAdvancedDto<>(
             ecoNewsDtos,
@@ -287,7 +351,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     public EcoNewsDto getById(Long id) {
         EcoNews ecoNews = ecoNewsRepo.findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
-        return modelMapper.map(ecoNews, EcoNewsDto.class);
+        return ecoNewsDtoMapper.convert(ecoNews);
     }
 
     /**
@@ -322,15 +386,16 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             throw new BadRequestException(ErrorMessage.USER_HAS_NO_PERMISSION);
         }
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_ECO_NEWS, user, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_ECO_NEWS, user, accessToken);
         ecoNewsRepo.deleteById(ecoNewsVO.getId());
+        ecoNewsRecommendationIndex.removeAll(Collections.singletonList(ecoNewsVO.getId()));
     }
 
     @Transactional
     @Override
     public void deleteAll(List<Long> listId) {
         ecoNewsRepo.deleteEcoNewsWithIds(listId);
+        ecoNewsRecommendationIndex.removeAll(listId);
     }
 
     /**
@@ -342,7 +407,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public PageableDto<SearchNewsDto> search(String searchQuery, String languageCode) {
-        Page<EcoNews> page = ecoNewsSearchRepo.find(PageRequest.of(0, 3), searchQuery, languageCode);
+        Page<EcoNews> page = ecoNewsSearchRepo.find(PageRequest.of(0, 3), searchQuery, languageCode, true);
         return getSearchNewsDtoPageableDto(page);
     }
 
@@ -372,9 +437,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public List<EcoNewsDto> getAllPublishedNewsByUserId(Long userId) {
-        return ecoNewsRepo.findAllByUserId(userId).stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
-            .collect(Collectors.toList());
+        return ecoNewsDtoMapper.mapAllToList(ecoNewsRepo.findAllByUserId(userId));
     }
 
     /**
@@ -386,9 +449,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public List<EcoNewsDto> getAllPublishedNewsByUser(UserVO user) {
-        return ecoNewsRepo.findAllByUserId(user.getId()).stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
-            .collect(Collectors.toList());
+        return ecoNewsDtoMapper.mapAllToList(ecoNewsRepo.findAllByUserId(user.getId()));
     }
 
     /**
@@ -413,8 +474,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     public void likeComment(UserVO user, EcoNewsCommentVO comment) {
         comment.getUsersLiked().add(user);
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture
-            .runAsync(() -> ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken);
     }
 
     /**
@@ -427,8 +487,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     public void unlikeComment(UserVO user, EcoNewsCommentVO comment) {
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
         comment.getUsersLiked().removeIf(u -> u.getId().equals(user.getId()));
-        CompletableFuture
-            .runAsync(() -> ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken));
+        ratingCalculation.ratingCalculation(RatingCalculationEnum.UNLIKE_COMMENT, user, accessToken);
     }
 
     @Override
@@ -446,7 +505,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
                 new TypeToken<List<Tag>>() {
                 }.getType()));
         if (image != null) {
-            toUpdate.setImagePath(fileService.upload(image));
+            toUpdate.setImagePath(imageVariantService.upload(image));
         }
     }
 
@@ -464,7 +523,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             image = fileService.convertToMultipartImage(updateEcoNewsDto.getImage());
         }
         if (image != null) {
-            toUpdate.setImagePath(fileService.upload(image));
+            toUpdate.setImagePath(imageVariantService.upload(image));
         }
     }
 
@@ -478,6 +537,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         enhanceWithNewManagementData(toUpdate, ecoNewsDtoManagement, image);
 
         ecoNewsRepo.save(toUpdate);
+        imageVariantService.recordVariants(toUpdate.getImagePath());
+        ecoNewsRecommendationIndex.put(toUpdate);
     }
 
     /**
@@ -494,6 +555,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         }
         enhanceWithNewData(toUpdate, updateEcoNewsDto, image);
         ecoNewsRepo.save(toUpdate);
+        imageVariantService.recordVariants(toUpdate.getImagePath());
+        ecoNewsRecommendationIndex.put(toUpdate);
         return getEcoNewsGenericDtoWithAllTags(toUpdate);
     }
 
@@ -505,43 +568,37 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     }
 
     /**
-     * Method to like or dislike {@link EcoNews} by id.
+     * Method to like or dislike {@link EcoNews} by id. Removes dislike of user if
+     * it exists and toggles like.
      *
      * @param userVO - current {@link User} that like/dislike news.
      * @param id     - @{@link Long} eco news id.
      */
+    @Transactional
     @Override
     public void like(UserVO userVO, Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        if (ecoNewsVO.getUsersDislikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersDislikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
+        checkEcoNewsExists(id);
+        ecoNewsReactionRepo.removeDislike(id, userVO.getId());
+        if (ecoNewsReactionRepo.addLike(id, userVO.getId()) == 0) {
+            ecoNewsReactionRepo.removeLike(id, userVO.getId());
         }
-        if (ecoNewsVO.getUsersLikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersLikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        } else {
-            ecoNewsVO.getUsersLikedNews().add(userVO);
-        }
-        ecoNewsRepo.save(modelMapper.map(ecoNewsVO, EcoNews.class));
     }
 
     /**
-     * Method to like or dislike {@link EcoNews} by id.
+     * Method to like or dislike {@link EcoNews} by id. Removes like of user if it
+     * exists and toggles dislike.
      *
      * @param userVO - current {@link User} that like/dislike news.
      * @param id     - @{@link Long} eco news id.
      */
+    @Transactional
     @Override
     public void dislike(UserVO userVO, Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        if (ecoNewsVO.getUsersLikedNews().stream().anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersLikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
+        checkEcoNewsExists(id);
+        ecoNewsReactionRepo.removeLike(id, userVO.getId());
+        if (ecoNewsReactionRepo.addDislike(id, userVO.getId()) == 0) {
+            ecoNewsReactionRepo.removeDislike(id, userVO.getId());
         }
-        if (ecoNewsVO.getUsersDislikedNews().stream().anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersDislikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        } else {
-            ecoNewsVO.getUsersDislikedNews().add(userVO);
-        }
-        ecoNewsRepo.save(modelMapper.map(ecoNewsVO, EcoNews.class));
     }
 
     /**
@@ -552,8 +609,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public Integer countLikesForEcoNews(Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        return ecoNewsVO.getUsersLikedNews().size();
+        return findReactionCounter(id).getLikesCount();
     }
 
     /**
@@ -564,8 +620,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public Integer countDislikesForEcoNews(Long id) {
-        EcoNewsVO ecoNewsV0 = findById(id);
-        return ecoNewsV0.getUsersDislikedNews().size();
+        return findReactionCounter(id).getDislikesCount();
     }
 
     /**
@@ -575,11 +630,23 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @param userVO - current {@link UserVO}.
      * @return user liked news or not.
      */
-
     @Override
     public Boolean checkNewsIsLikedByUser(Long id, UserVO userVO) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        return ecoNewsVO.getUsersLikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()));
+        checkEcoNewsExists(id);
+        return ecoNewsReactionRepo.existsLike(id, userVO.getId());
+    }
+
+    private EcoNewsReactionCounter findReactionCounter(Long id) {
+        return ecoNewsReactionRepo.findById(id).orElseGet(() -> {
+            checkEcoNewsExists(id);
+            return new EcoNewsReactionCounter(id, 0, 0);
+        });
+    }
+
+    private void checkEcoNewsExists(Long id) {
+        if (!ecoNewsRepo.existsById(id)) {
+            throw new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id);
+        }
     }
 
     /**
@@ -591,7 +658,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     @Override
     public String uploadImage(MultipartFile image) {
         if (image != null) {
-            return fileService.upload(image);
+            return imageVariantService.upload(image);
         }
         return null;
     }
@@ -604,7 +671,22 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public String[] uploadImages(MultipartFile[] images) {
-        return Arrays.stream(images).map(fileService::upload).toArray(String[]::new);
+        List<CompletableFuture<String>> uploads = new ArrayList<>(images.length);
+        for (MultipartFile image : images) {
+            uploads.add(fileService.uploadAsync(image));
+        }
+        String[] paths = new String[images.length];
+        for (int i = 0; i < paths.length; i++) {
+            try {
+                paths[i] = uploads.get(i).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
+            }
+        }
+        return paths;
     }
 
     /**
@@ -657,10 +739,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     }
 
     private List<EcoNewsDto> getEcoNewsList(List<EcoNews> ecoNewsList) {
-        return ecoNewsList
-            .stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
-            .collect(Collectors.toList());
+        return ecoNewsDtoMapper.mapAllToList(ecoNewsList);
     }
 
     private EcoNewsGenericDto getEcoNewsGenericDtoWithAllTags(EcoNews ecoNews) {
@@ -695,6 +774,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         return EcoNewsGenericDto.builder()
             .id(ecoNews.getId())
             .imagePath(ecoNews.getImagePath())
+            .imageVariants(ImageVariants.variantUrls(ecoNews.getImagePath(), ecoNews.getImageVariants()))
             .author(ecoNewsAuthorDto)
             .tagsEn(tags.stream().filter(tag -> tag.matches("^([A-Za-z-])+$")).collect(Collectors.toList()))
             .tagsUa(tags.stream().filter(tag -> tag.matches("^([А-Яа-яієїґ'-])+$")).collect(Collectors.toList()))
@@ -717,6 +797,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         return EcoNewsDto.builder()
             .id(ecoNews.getId())
             .imagePath(ecoNews.getImagePath())
+            .imageVariants(ImageVariants.variantUrls(ecoNews.getImagePath(), ecoNews.getImageVariants()))
             .author(ecoNewsAuthorDto)
             .likes(ecoNews.getUsersLikedNews().size())
             .tags(list.stream().filter(tag -> tag.matches("^([A-Za-z-])+$")).collect(Collectors.toList()))
@@ -757,7 +838,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             image = fileService.convertToMultipartImage(addEcoNewsDtoRequest.getImage());
         }
         if (image != null) {
-            toSave.setImagePath(fileService.upload(image));
+            toSave.setImagePath(imageVariantService.upload(image));
         }
 
         Set<String> tagsSet = new HashSet<>(addEcoNewsDtoRequest.getTags());
@@ -774,9 +855,10 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             }.getType()));
         try {
             ecoNewsRepo.save(toSave);
+            imageVariantService.recordVariants(toSave.getImagePath());
+            ecoNewsRecommendationIndex.put(toSave);
             String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-            CompletableFuture.runAsync(
-                () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_ECO_NEWS, byEmail, accessToken));
+            ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_ECO_NEWS, byEmail, accessToken);
         } catch (DataIntegrityViolationException e) {
             throw new NotSavedException(ErrorMessage.ECO_NEWS_NOT_SAVED);
         }
@@ -800,4 +882,35 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         Set<User> usersDislikedNews = ecoNews.getUsersDislikedNews();
         return usersDislikedNews.stream().map(u -> modelMapper.map(u, UserVO.class)).collect(Collectors.toSet());
     }
-}
\ No newline at end of file
+
+    /**
+     * Opaque keyset cursor of eco news feed: creation date and id of last eco news
+     * on previous page encoded with URL-safe Base64.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class EcoNewsCursor {
+        private static final String SEPARATOR = "_";
+        private final ZonedDateTime creationDate;
+        private final Long id;
+
+        static String encode(EcoNews ecoNews) {
+            String cursor = ecoNews.getCreationDate().toInstant() + SEPARATOR + ecoNews.getId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static EcoNewsCursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(SEPARATOR);
+                if (parts.length != 2) {
+                    throw new BadRequestException(ErrorMessage.INVALID_CURSOR);
+                }
+                return new EcoNewsCursor(ZonedDateTime.ofInstant(Instant.parse(parts[0]), ZoneOffset.UTC),
+                    Long.valueOf(parts[1]));
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw new BadRequestException(ErrorMessage.INVALID_CURSOR);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package greencity.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import greencity.repository.UserRepo;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Time-limited cache of friend ids used by habit listings and friend
+ * recommendations. Friends of every user are stored as a sorted {@code long[]}
+ * and handed out as a stream over it, without boxing or copying. Friendships
+ * are written by the user service, so cached friends become current only after
+ * time to live of the cache. Friend checks guarding writes and other friendship
+ * queries are not served by this cache and go to the database.
+ */
+@Service
+public class FriendGraphServiceImpl implements FriendGraphService {
+    private final UserRepo userRepo;
+    private final Cache<Long, long[]> adjacency;
+
+    /**
+     * Constructor with cache bounds taken from application properties.
+     *
+     * @param userRepo   {@link UserRepo} used to load friends on cache miss.
+     * @param maxSize    maximum amount of users with cached friends.
+     * @param ttlSeconds time in seconds after which friends of user are reloaded.
+     */
+    public FriendGraphServiceImpl(UserRepo userRepo,
+        @Value("${greencity.cache.friend-graph.max-size:10000}") long maxSize,
+        @Value("${greencity.cache.friend-graph.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepo = userRepo;
+        this.adjacency = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongStream findFriendIds(Long userId) {
+        return Arrays.stream(adjacency.get(userId, id -> userRepo.findAllUserFriendIds(id).stream()
+            .mapToLong(Number::longValue)
+            .sorted()
+            .toArray()));
+    }
+}
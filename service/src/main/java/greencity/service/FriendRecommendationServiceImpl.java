@@ -0,0 +1,38 @@
+package greencity.service;
+
+import greencity.dto.user.RecommendedFriendDto;
+import greencity.entity.User;
+import greencity.recommendation.FriendRecommendationIndex;
+import greencity.repository.UserRepo;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class FriendRecommendationServiceImpl implements FriendRecommendationService {
+    private final FriendRecommendationIndex friendRecommendationIndex;
+    private final UserRepo userRepo;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RecommendedFriendDto> findRecommendedFriends(Long userId, int limit) {
+        List<Long> recommendedIds = friendRecommendationIndex.findRecommendedIds(userId, Math.max(0, limit));
+        if (recommendedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, User> usersById = userRepo.findAllById(recommendedIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        return recommendedIds.stream()
+            .map(usersById::get)
+            .filter(Objects::nonNull)
+            .map(user -> new RecommendedFriendDto(user.getId(), user.getName(), user.getProfilePicturePath()))
+            .collect(Collectors.toList());
+    }
+}
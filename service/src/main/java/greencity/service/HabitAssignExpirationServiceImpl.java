@@ -0,0 +1,68 @@
+package greencity.service;
+
+import greencity.constant.AppConstant;
+import greencity.repository.HabitAssignRepo;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class HabitAssignExpirationServiceImpl implements HabitAssignExpirationService {
+    private final HabitAssignRepo habitAssignRepo;
+    private final int chunkSize;
+
+    /**
+     * Constructor with chunk size taken from application properties.
+     *
+     * @param habitAssignRepo {@link HabitAssignRepo}
+     * @param chunkSize       maximum amount of habit assigns updated per
+     *                        transaction.
+     */
+    public HabitAssignExpirationServiceImpl(HabitAssignRepo habitAssignRepo,
+        @Value("${greencity.habit.expiration.chunk-size:1000}") int chunkSize) {
+        this.habitAssignRepo = habitAssignRepo;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long expireOverdueHabitAssigns() {
+        ZonedDateTime now = ZonedDateTime.now();
+        long expired = 0;
+        int chunks = 0;
+        Long lastId = 0L;
+        Long toId;
+        while ((toId = habitAssignRepo.findLastIdOfInProgressChunk(lastId, chunkSize)) != null) {
+            expired += habitAssignRepo.setExpiredStatusInIdRange(lastId, toId, now);
+            lastId = toId;
+            chunks++;
+        }
+        log.info("Set status expired for {} habit assigns in {} chunks", expired, chunks);
+        return expired;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long decayMissedHabitStreaks() {
+        LocalDate yesterday = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE)).minusDays(1);
+        long decayed = 0;
+        int chunks = 0;
+        Long lastId = 0L;
+        Long toId;
+        while ((toId = habitAssignRepo.findLastIdOfInProgressChunk(lastId, chunkSize)) != null) {
+            decayed += habitAssignRepo.resetMissedHabitStreaksInIdRange(lastId, toId, yesterday);
+            lastId = toId;
+            chunks++;
+        }
+        log.info("Reset streaks of {} habit assigns in {} chunks", decayed, chunks);
+        return decayed;
+    }
+}
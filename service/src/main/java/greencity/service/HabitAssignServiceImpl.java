@@ -1,5 +1,7 @@
 package greencity.service;
 
+import greencity.calendar.HabitActivityCalendar;
+import greencity.calendar.HabitStreaks;
 import greencity.constant.AppConstant;
 import greencity.constant.ErrorMessage;
 import greencity.dto.habit.HabitAssignCustomPropertiesDto;
@@ -41,16 +43,14 @@ import greencity.enums.AchievementType;
 import greencity.enums.HabitAssignStatus;
 import greencity.enums.ShoppingListItemStatus;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.InvalidStatusException;
 import greencity.exception.exceptions.NotFoundException;
@@ -61,6 +61,9 @@ import greencity.exception.exceptions.UserAlreadyHasMaxNumberOfActiveHabitAssign
 import greencity.exception.exceptions.UserHasNoFriendWithIdException;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
 import greencity.exception.exceptions.UserHasReachedOutOfEnrollRange;
+import greencity.mapping.HabitAssignDtoMapper;
+import greencity.mapping.HabitDtoMapper;
+import greencity.recommendation.FriendRecommendationIndex;
 import greencity.repository.CustomShoppingListItemRepo;
 import greencity.repository.HabitAssignRepo;
 import greencity.repository.HabitRepo;
@@ -93,7 +96,10 @@ public class HabitAssignServiceImpl implements HabitAssignService {
     private final CustomShoppingListItemService customShoppingListItemService;
     private final HabitStatisticService habitStatisticService;
     private final HabitStatusCalendarService habitStatusCalendarService;
+    private final FriendRecommendationIndex friendRecommendationIndex;
     private final ModelMapper modelMapper;
+    private final HabitAssignDtoMapper habitAssignDtoMapper;
+    private final HabitDtoMapper habitDtoMapper;
 
     /**
      * {@inheritDoc}
@@ -147,6 +153,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
 
         enhanceAssignWithDefaultProperties(habitAssign);
         habitAssign.setProgressNotificationHasDisplayed(false);
+        friendRecommendationIndex.addHabit(user.getId(), habitId);
 
         HabitAssignManagementDto habitAssignManagementDto =
             modelMapper.map(habitAssign, HabitAssignManagementDto.class);
@@ -199,6 +206,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
             habitAssignCustomPropertiesDto.getHabitAssignPropertiesDto().getDefaultShoppingListItems());
 
         habitAssignRepo.save(habitAssign);
+        friendRecommendationIndex.addHabit(user.getId(), habitId);
 
         List<HabitAssignManagementDto> habitAssignManagementDtoList = new ArrayList<>();
         habitAssignManagementDtoList.add(modelMapper.map(habitAssign, HabitAssignManagementDto.class));
@@ -240,6 +248,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
             setDefaultShoppingListItemsIntoCustomHabit(habitAssign,
                 habitAssignCustomPropertiesDto.getHabitAssignPropertiesDto().getDefaultShoppingListItems());
             habitAssignRepo.save(habitAssign);
+            friendRecommendationIndex.addHabit(friendOfUser.getId(), habit.getId());
             habitAssignManagementDtoList.add(modelMapper.map(habitAssign, HabitAssignManagementDto.class));
         }
     }
@@ -371,6 +380,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
                 .user(user)
                 .duration(habit.getDefaultDuration())
                 .habitStreak(0)
+                .longestHabitStreak(0)
                 .workingDays(0)
                 .lastEnrollmentDate(ZonedDateTime.now())
                 .build());
@@ -385,8 +395,8 @@ public class HabitAssignServiceImpl implements HabitAssignService {
      */
     private HabitAssignDto buildHabitAssignDto(HabitAssign habitAssign, String language) {
         HabitTranslation habitTranslation = getHabitTranslation(habitAssign, language);
-        HabitAssignDto habitAssignDto = modelMapper.map(habitAssign, HabitAssignDto.class);
-        habitAssignDto.setHabit(modelMapper.map(habitTranslation, HabitDto.class));
+        HabitAssignDto habitAssignDto = habitAssignDtoMapper.convert(habitAssign);
+        habitAssignDto.setHabit(habitDtoMapper.convert(habitTranslation));
         setShoppingListItems(habitAssignDto, habitAssign, language);
         return habitAssignDto;
     }
@@ -676,6 +686,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
                 HabitAssignVO habitAssignVO = modelMapper.map(habitAssign, HabitAssignVO.class);
                 habitStatisticService.deleteAllStatsByHabitAssign(habitAssignVO);
                 habitAssignRepo.delete(habitAssign);
+                friendRecommendationIndex.removeHabit(habitAssign.getUser().getId(), habit.getId());
             });
     }
 
@@ -716,7 +727,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
             throw new UserAlreadyHasEnrolledHabitAssign(ErrorMessage.HABIT_HAS_BEEN_ALREADY_ENROLLED);
         }
 
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
         LocalDate lastDayToEnroll = today.minusDays(AppConstant.MAX_PASSED_DAYS_OF_ABILITY_TO_ENROLL);
         if (!(date.isBefore(today.plusDays(1)) && date.isAfter(lastDayToEnroll))) {
             throw new UserHasReachedOutOfEnrollRange(
@@ -725,7 +736,8 @@ public class HabitAssignServiceImpl implements HabitAssignService {
     }
 
     /**
-     * Method updates {@link HabitAssign} after enroll.
+     * Method updates {@link HabitAssign} after enroll. Streaks are updated
+     * incrementally by {@link HabitStreaks}.
      *
      * @param habitAssign {@link HabitAssign} instance.
      */
@@ -733,14 +745,9 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         HabitStatusCalendar habitCalendar, Long userId) {
         habitAssign.setWorkingDays(habitAssign.getWorkingDays() + 1);
         habitAssign.setLastEnrollmentDate(ZonedDateTime.now());
-
-        List<HabitStatusCalendar> habitStatusCalendars =
-            new ArrayList<>(habitAssign.getHabitStatusCalendars());
-        habitStatusCalendars.add(habitCalendar);
-        habitAssign.setHabitStatusCalendars(habitStatusCalendars);
-
-        int habitStreak = countNewHabitStreak(habitAssign.getHabitStatusCalendars());
-        habitAssign.setHabitStreak(habitStreak);
+        habitAssign.getHabitStatusCalendars().add(habitCalendar);
+        HabitStreaks.enroll(habitAssign, habitCalendar.getEnrollDate(),
+            LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE)));
 
         if (isHabitAcquired(habitAssign)) {
             habitAssign.setStatus(HabitAssignStatus.ACQUIRED);
@@ -782,9 +789,9 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         }
 
         deleteHabitStatusCalendar(date, habitAssign);
-        updateHabitAssignAfterUnenroll(habitAssign);
+        updateHabitAssignAfterUnenroll(habitAssign, date);
 
-        return modelMapper.map(habitAssign, HabitAssignDto.class);
+        return habitAssignDtoMapper.convert(habitAssign);
     }
 
     /**
@@ -809,36 +816,15 @@ public class HabitAssignServiceImpl implements HabitAssignService {
      * Method updates {@link HabitAssign} after unenroll.
      *
      * @param habitAssign {@link HabitAssign} instance.
+     * @param date        unenrolled {@link LocalDate}.
      */
-    private void updateHabitAssignAfterUnenroll(HabitAssign habitAssign) {
+    private void updateHabitAssignAfterUnenroll(HabitAssign habitAssign, LocalDate date) {
         habitAssign.setWorkingDays(habitAssign.getWorkingDays() - 1);
-        habitAssign.setHabitStreak(countNewHabitStreak(habitAssign.getHabitStatusCalendars()));
+        HabitStreaks.unenroll(habitAssign, date, LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE)));
 
         habitAssignRepo.save(habitAssign);
     }
 
-    /**
-     * Method counts new habit streak for {@link HabitAssign}.
-     *
-     * @param habitCalendars {@link List} of {@link HabitStatusCalendar}'s.
-     * @return int of habit days streak.
-     */
-    private int countNewHabitStreak(List<HabitStatusCalendar> habitCalendars) {
-        habitCalendars.sort(Comparator.comparing(HabitStatusCalendar::getEnrollDate).reversed());
-
-        LocalDate today = LocalDate.now();
-        int daysStreak = 0;
-        int daysPast = 0;
-        for (HabitStatusCalendar hc : habitCalendars) {
-            if (today.minusDays(daysPast++).equals(hc.getEnrollDate())) {
-                daysStreak++;
-            } else {
-                return daysStreak;
-            }
-        }
-        return daysStreak;
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -870,78 +856,25 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         }
         List<HabitAssign> habitAssignsBetweenDates = habitAssignRepo
             .findAllHabitAssignsBetweenDates(userId, from, to);
-        List<LocalDate> dates = Stream.iterate(from, date -> date.plusDays(1))
-            .limit(ChronoUnit.DAYS.between(from, to.plusDays(1)))
-            .collect(Collectors.toList());
-
-        List<HabitsDateEnrollmentDto> dtos = dates.stream()
-            .map(date -> HabitsDateEnrollmentDto.builder().enrollDate(date)
-                .habitAssigns(new ArrayList<>())
-                .build())
-            .collect(Collectors.toList());
-
-        habitAssignsBetweenDates.forEach(habitAssign -> buildHabitsDateEnrollmentDto(habitAssign, language, dtos));
-
-        return dtos;
-    }
-
-    /**
-     * Method to fill in all user enrollment activity in the list of
-     * {@code HabitsDateEnrollmentDto}'s by {@code HabitAssign}'s list of habit
-     * status calendar.
-     *
-     * @param habitAssign {@code HabitAssign} habit assign.
-     * @param language    {@link String} of language code value.
-     * @param list        of {@link HabitsDateEnrollmentDto} instances.
-     */
-    private void buildHabitsDateEnrollmentDto(HabitAssign habitAssign, String language,
-        List<HabitsDateEnrollmentDto> list) {
-        HabitTranslation habitTranslation = getHabitTranslation(habitAssign, language);
-
-        list.stream().filter(dto -> checkIfHabitIsActiveOnDay(dto, habitAssign))
-            .forEach(dto -> markHabitOnHabitsEnrollmentDto(dto, checkIfHabitIsEnrolledOnDay(dto, habitAssign),
-                habitTranslation, habitAssign));
-    }
-
-    /**
-     * Method to mark if habit was enrolled on concrete date.
-     *
-     * @param dto              {@link HabitsDateEnrollmentDto}.
-     * @param isEnrolled       {@link boolean} shows if habit was enrolled.
-     * @param habitTranslation {@link HabitTranslation} contains content.
-     * @param habitAssign      {@link HabitAssign} contains habit id.
-     */
-    private void markHabitOnHabitsEnrollmentDto(HabitsDateEnrollmentDto dto, boolean isEnrolled,
-        HabitTranslation habitTranslation, HabitAssign habitAssign) {
-        dto.getHabitAssigns().add(HabitEnrollDto.builder()
-            .habitDescription(habitTranslation.getDescription()).habitName(habitTranslation.getName())
-            .isEnrolled(isEnrolled).habitAssignId(habitAssign.getId()).build());
-    }
-
-    /**
-     * Method to check if {@code HabitAssign} was enrolled on concrete date.
-     *
-     * @param dto         {@link HabitsDateEnrollmentDto} which contains date.
-     * @param habitAssign {@link HabitAssign} contains enroll dates.
-     * @return boolean.
-     */
-    private boolean checkIfHabitIsEnrolledOnDay(HabitsDateEnrollmentDto dto, HabitAssign habitAssign) {
-        return habitAssign.getHabitStatusCalendars().stream()
-            .anyMatch(habitStatusCalendar -> habitStatusCalendar.getEnrollDate().equals(dto.getEnrollDate()));
-    }
-
-    /**
-     * Method to check if {@code HabitAssign} is active on concrete date.
-     *
-     * @param dto         {@link HabitsDateEnrollmentDto} which contains date.
-     * @param habitAssign {@link HabitAssign} contains habit date borders.
-     * @return boolean.
-     */
-    private boolean checkIfHabitIsActiveOnDay(HabitsDateEnrollmentDto dto, HabitAssign habitAssign) {
-        return dto.getEnrollDate()
-            .isBefore(habitAssign.getCreateDate().toLocalDate().plusDays(habitAssign.getDuration() + 1L))
-            && dto.getEnrollDate()
-                .isAfter(habitAssign.getCreateDate().toLocalDate().minusDays(1L));
+        HabitActivityCalendar calendar = new HabitActivityCalendar(from, to);
+        if (!habitAssignsBetweenDates.isEmpty()) {
+            List<Long> habitAssignIds = habitAssignsBetweenDates.stream()
+                .map(HabitAssign::getId)
+                .collect(Collectors.toList());
+            habitStatusCalendarRepo.findEnrollDatesByHabitAssignIdsBetween(habitAssignIds, from, to)
+                .forEach(enrollDate -> calendar.markEnrolled(enrollDate.getHabitAssignId(),
+                    enrollDate.getEnrollDate()));
+        }
+        for (HabitAssign habitAssign : habitAssignsBetweenDates) {
+            HabitTranslation habitTranslation = getHabitTranslation(habitAssign, language);
+            LocalDate createDate = habitAssign.getCreateDate().toLocalDate();
+            calendar.addHabitAssign(HabitEnrollDto.builder()
+                .habitAssignId(habitAssign.getId())
+                .habitName(habitTranslation.getName())
+                .habitDescription(habitTranslation.getDescription())
+                .build(), createDate, createDate.plusDays(habitAssign.getDuration()));
+        }
+        return calendar.build();
     }
 
     /**
@@ -990,6 +923,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         userShoppingListItemRepo.deleteShoppingListItemsByHabitAssignId(habitAssign.getId());
         customShoppingListItemRepo.deleteCustomShoppingListItemsByHabitId(habitAssign.getHabit().getId());
         habitAssignRepo.delete(habitAssign);
+        friendRecommendationIndex.removeHabit(userId, habitAssign.getHabit().getId());
     }
 
     /**
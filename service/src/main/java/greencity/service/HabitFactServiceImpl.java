@@ -288,7 +288,7 @@ public class HabitFactServiceImpl implements HabitFactService {
      * @param languageId id of {@link Language} of the {@link HabitFact}.
      * @return {@link LanguageTranslationDTO} of today's {@link HabitFact} of day.
      */
-    @Cacheable(value = CacheConstants.HABIT_FACT_OF_DAY_CACHE)
+    @Cacheable(value = CacheConstants.HABIT_FACT_OF_DAY_CACHE, sync = true)
     @Override
     public LanguageTranslationDTO getHabitFactOfTheDay(Long languageId) {
         return modelMapper.map(
@@ -0,0 +1,227 @@
+package greencity.service;
+
+import greencity.client.RestClient;
+import greencity.dto.habit.HabitNotificationProgressDto;
+import greencity.dto.user.UserVO;
+import greencity.entity.HabitNotificationCheckpoint;
+import greencity.message.SendHabitNotification;
+import greencity.repository.HabitAssignRepo;
+import greencity.repository.HabitNotificationCheckpointRepo;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class HabitNotificationServiceImpl implements HabitNotificationService {
+    private static final int DAYS_WITHOUT_MARKS = 3;
+    private final HabitAssignRepo habitAssignRepo;
+    private final HabitNotificationCheckpointRepo checkpointRepo;
+    private final RestClient restClient;
+    private final Executor executor;
+    private final int chunkSize;
+    private final Duration staleAfter;
+
+    /**
+     * Constructor with notification executor, chunk size and heartbeat timeout
+     * taken from application properties.
+     *
+     * @param habitAssignRepo   {@link HabitAssignRepo} used to find users with
+     *                          marks.
+     * @param checkpointRepo    {@link HabitNotificationCheckpointRepo} used to save
+     *                          progress.
+     * @param restClient        {@link RestClient} used to send notifications.
+     * @param executor          bounded {@link Executor} notifications are sent
+     *                          with.
+     * @param chunkSize         amount of users processed per chunk.
+     * @param staleAfterSeconds time in seconds after which job without refreshed
+     *                          heartbeat is considered dead and may be resumed.
+     */
+    public HabitNotificationServiceImpl(HabitAssignRepo habitAssignRepo,
+        HabitNotificationCheckpointRepo checkpointRepo,
+        RestClient restClient,
+        @Qualifier("habitNotificationExecutor") Executor executor,
+        @Value("${greencity.habit.notification.chunk-size:500}") int chunkSize,
+        @Value("${greencity.habit.notification.stale-after-seconds:600}") long staleAfterSeconds) {
+        this.habitAssignRepo = habitAssignRepo;
+        this.checkpointRepo = checkpointRepo;
+        this.restClient = restClient;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HabitNotificationProgressDto sendHabitNotifications(String jobName, List<UserVO> users) {
+        Optional<HabitNotificationCheckpoint> claimed = claim(jobName);
+        if (claimed.isEmpty()) {
+            log.info("Habit notification job {} is running or completed, skip", jobName);
+            return toProgressDto(checkpointRepo.findByJobName(jobName).orElseThrow());
+        }
+        HabitNotificationCheckpoint checkpoint = startOrResume(claimed.get());
+        List<UserVO> pending = users.stream()
+            .filter(user -> user.getId() > checkpoint.getLastUserId())
+            .sorted(Comparator.comparing(UserVO::getId))
+            .collect(Collectors.toList());
+        ZonedDateTime end = ZonedDateTime.now();
+        ZonedDateTime start = end.minusDays(DAYS_WITHOUT_MARKS);
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<UserVO> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            processChunk(checkpoint, chunk, start, end);
+            checkpoint.setLastUserId(chunk.get(chunk.size() - 1).getId());
+            if (!refreshHeartbeat(checkpoint)) {
+                log.warn("Habit notification job {} was claimed by another run after user {}, stop", jobName,
+                    checkpoint.getLastUserId());
+                return toProgressDto(checkpoint);
+            }
+            checkpointRepo.save(checkpoint);
+            log.info("Habit notification job {}: processed {} of {} users, sent {}, failed {}", jobName,
+                checkpoint.getProcessedUsers(), users.size(), checkpoint.getSentNotifications(),
+                checkpoint.getFailedNotifications());
+        }
+        if (!refreshHeartbeat(checkpoint)) {
+            return toProgressDto(checkpoint);
+        }
+        checkpoint.setCompleted(true);
+        return toProgressDto(checkpointRepo.save(checkpoint));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isInterrupted(String jobName) {
+        return checkpointRepo.findByJobName(jobName)
+            .filter(checkpoint -> LocalDate.now().equals(checkpoint.getRunDate()))
+            .map(checkpoint -> !checkpoint.getCompleted() && (checkpoint.getHeartbeat() == null
+                || checkpoint.getHeartbeat().isBefore(ZonedDateTime.now().minus(staleAfter))))
+            .orElse(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<HabitNotificationProgressDto> getProgress(String jobName) {
+        return checkpointRepo.findByJobName(jobName).map(this::toProgressDto);
+    }
+
+    private void processChunk(HabitNotificationCheckpoint checkpoint, List<UserVO> chunk,
+        ZonedDateTime start, ZonedDateTime end) {
+        Set<Long> usersWithMarks = new HashSet<>(habitAssignRepo.findUserIdsWithMarkedHabitAssignsInPeriod(
+            chunk.stream().map(UserVO::getId).collect(Collectors.toList()), start, end));
+        AtomicLong sent = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (UserVO user : chunk) {
+            if (!usersWithMarks.contains(user.getId())) {
+                futures.add(CompletableFuture.runAsync(() -> send(user), executor)
+                    .handle((result, exception) -> {
+                        if (exception == null) {
+                            sent.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                            log.warn("Habit notification for user {} is not sent: {}", user.getId(),
+                                exception.getMessage());
+                        }
+                        return null;
+                    }));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        checkpoint.setProcessedUsers(checkpoint.getProcessedUsers() + chunk.size());
+        checkpoint.setSentNotifications(checkpoint.getSentNotifications() + sent.get());
+        checkpoint.setFailedNotifications(checkpoint.getFailedNotifications() + failed.get());
+    }
+
+    private void send(UserVO user) {
+        restClient.sendHabitNotification(new SendHabitNotification(user.getName(), user.getEmail()));
+    }
+
+    private Optional<HabitNotificationCheckpoint> claim(String jobName) {
+        LocalDate today = LocalDate.now();
+        if (checkpointRepo.findByJobName(jobName).isEmpty()) {
+            try {
+                checkpointRepo.save(HabitNotificationCheckpoint.builder()
+                    .jobName(jobName)
+                    .runDate(today)
+                    .lastUserId(0L)
+                    .processedUsers(0L)
+                    .sentNotifications(0L)
+                    .failedNotifications(0L)
+                    .completed(false)
+                    .build());
+            } catch (DataIntegrityViolationException e) {
+                log.info("Checkpoint of habit notification job {} is created by another run", jobName);
+            }
+        }
+        ZonedDateTime now = now();
+        if (checkpointRepo.claim(jobName, today, now, now.minus(staleAfter)) == 0) {
+            return Optional.empty();
+        }
+        return checkpointRepo.findByJobName(jobName).map(checkpoint -> {
+            checkpoint.setHeartbeat(now);
+            return checkpoint;
+        });
+    }
+
+    private HabitNotificationCheckpoint startOrResume(HabitNotificationCheckpoint checkpoint) {
+        LocalDate today = LocalDate.now();
+        if (today.equals(checkpoint.getRunDate()) && Boolean.FALSE.equals(checkpoint.getCompleted())) {
+            log.info("Resume habit notification job {} after user {}", checkpoint.getJobName(),
+                checkpoint.getLastUserId());
+            return checkpoint;
+        }
+        checkpoint.setRunDate(today);
+        checkpoint.setLastUserId(0L);
+        checkpoint.setProcessedUsers(0L);
+        checkpoint.setSentNotifications(0L);
+        checkpoint.setFailedNotifications(0L);
+        checkpoint.setCompleted(false);
+        return checkpointRepo.save(checkpoint);
+    }
+
+    private boolean refreshHeartbeat(HabitNotificationCheckpoint checkpoint) {
+        ZonedDateTime now = now();
+        if (checkpointRepo.refreshHeartbeat(checkpoint.getJobName(), checkpoint.getHeartbeat(), now) == 0) {
+            return false;
+        }
+        checkpoint.setHeartbeat(now);
+        return true;
+    }
+
+    private static ZonedDateTime now() {
+        return ZonedDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private HabitNotificationProgressDto toProgressDto(HabitNotificationCheckpoint checkpoint) {
+        return HabitNotificationProgressDto.builder()
+            .jobName(checkpoint.getJobName())
+            .runDate(checkpoint.getRunDate())
+            .lastUserId(checkpoint.getLastUserId())
+            .processedUsers(checkpoint.getProcessedUsers())
+            .sentNotifications(checkpoint.getSentNotifications())
+            .failedNotifications(checkpoint.getFailedNotifications())
+            .completed(checkpoint.getCompleted())
+            .build();
+    }
+}
@@ -5,6 +5,7 @@ import greencity.constant.ErrorMessage;
 import greencity.dto.PageableDto;
 import greencity.dto.habit.AddCustomHabitDtoRequest;
 import greencity.dto.habit.AddCustomHabitDtoResponse;
+import greencity.dto.habit.HabitAcquiredUsersDto;
 import greencity.dto.habit.HabitDto;
 import greencity.dto.shoppinglistitem.ShoppingListItemDto;
 import greencity.dto.user.UserProfilePictureDto;
@@ -17,9 +18,11 @@ import greencity.entity.Tag;
 import greencity.entity.User;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.WrongEmailException;
+import greencity.filters.HabitTranslationSpecification;
 import greencity.mapping.CustomHabitMapper;
 import greencity.mapping.CustomShoppingListMapper;
 import greencity.mapping.CustomShoppingListResponseDtoMapper;
+import greencity.mapping.HabitDtoMapper;
 import greencity.mapping.HabitTranslationDtoMapper;
 import greencity.mapping.HabitTranslationMapper;
 import greencity.repository.HabitRepo;
@@ -29,10 +32,13 @@ import greencity.repository.HabitAssignRepo;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import greencity.repository.CustomShoppingListItemRepo;
 import greencity.repository.LanguageRepo;
@@ -59,6 +65,7 @@ public class HabitServiceImpl implements HabitService {
     private final ModelMapper modelMapper;
     private final CustomShoppingListResponseDtoMapper customShoppingListResponseDtoMapper;
     private final HabitTranslationDtoMapper habitTranslationDtoMapper;
+    private final HabitDtoMapper habitDtoMapper;
     private final CustomShoppingListMapper customShoppingListMapper;
     private final HabitTranslationMapper habitTranslationMapper;
     private final CustomHabitMapper customHabitMapper;
@@ -69,6 +76,7 @@ public class HabitServiceImpl implements HabitService {
     private final TagsRepo tagsRepo;
     private final FileService fileService;
     private final HabitAssignRepo habitAssignRepo;
+    private final FriendGraphService friendGraphService;
     private static final String DEFAULT_TITLE_IMAGE_PATH = AppConstant.DEFAULT_HABIT_IMAGE;
 
     /**
@@ -84,7 +92,7 @@ public class HabitServiceImpl implements HabitService {
             .orElseThrow(() -> new NotFoundException(ErrorMessage.HABIT_NOT_FOUND_BY_ID + id));
         HabitTranslation habitTranslation = habitTranslationRepo.findByHabitAndLanguageCode(habit, languageCode)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.HABIT_TRANSLATION_NOT_FOUND + id));
-        var habitDto = modelMapper.map(habitTranslation, HabitDto.class);
+        var habitDto = habitDtoMapper.convert(habitTranslation);
         List<ShoppingListItemDto> shoppingListItems = new ArrayList<>();
         shoppingListItemTranslationRepo
             .findShoppingListByHabitIdAndByLanguageCode(languageCode, id)
@@ -107,9 +115,9 @@ public class HabitServiceImpl implements HabitService {
     public PageableDto<HabitDto> getAllHabitsByLanguageCode(UserVO userVO, Pageable pageable, String language) {
         long userId = userVO.getId();
         List<Long> availableUsersIds =
-            userRepo.getAllUserFriends(userId).stream().map(user -> user.getId())
+            LongStream.concat(friendGraphService.findFriendIds(userId), LongStream.of(userId))
+                .boxed()
                 .collect(Collectors.toList());
-        availableUsersIds.add(userId);
 
         Page<HabitTranslation> habitTranslationPage =
             habitTranslationRepo.findAllByLanguageCode(pageable, language, availableUsersIds);
@@ -137,12 +145,8 @@ public class HabitServiceImpl implements HabitService {
      * @author Markiyan Derevetskyi
      */
     private PageableDto<HabitDto> buildPageableDto(Page<HabitTranslation> habitTranslationsPage) {
-        List<HabitDto> habits =
-            habitTranslationsPage.stream()
-                .map(habitTranslation -> modelMapper.map(habitTranslation, HabitDto.class))
-                .collect(Collectors.toList());
-        habits.forEach(
-            habitDto -> habitDto.setAmountAcquiredUsers(habitAssignRepo.findAmountOfUsersAcquired(habitDto.getId())));
+        List<HabitDto> habits = habitDtoMapper.mapAllToList(habitTranslationsPage.getContent());
+        setAmountAcquiredUsers(habits);
         return new PageableDto<>(habits, habitTranslationsPage.getTotalElements(),
             habitTranslationsPage.getPageable().getPageNumber(),
             habitTranslationsPage.getTotalPages());
@@ -155,76 +159,20 @@ public class HabitServiceImpl implements HabitService {
     public PageableDto<HabitDto> getAllByDifferentParameters(UserVO userVO, Pageable pageable,
         Optional<List<String>> tags,
         Optional<Boolean> isCustomHabit, Optional<List<Integer>> complexities, String languageCode) {
-        List<String> lowerCaseTags = new ArrayList<>();
-        List<Integer> complexitiesList = new ArrayList<>();
-        if (tags.isPresent()) {
-            lowerCaseTags = tags.get().stream().map(String::toLowerCase).collect(Collectors.toList());
-        }
-        if (complexities.isPresent()) {
-            complexitiesList = complexities.get().stream().collect(Collectors.toList());
-        }
-        Page<HabitTranslation> habitTranslationsPage;
         long userId = userVO.getId();
         List<Long> availableUsersIds =
-            userRepo.getAllUserFriends(userId).stream().map(user -> user.getId())
+            LongStream.concat(friendGraphService.findFriendIds(userId), LongStream.of(userId))
+                .boxed()
                 .collect(Collectors.toList());
-        availableUsersIds.add(userId);
-
-        if (isCustomHabit.isPresent() && !lowerCaseTags.isEmpty() && !complexitiesList.isEmpty()) {
-            boolean checkIsCustomHabit = isCustomHabit.get();
-            if (checkIsCustomHabit) {
-                habitTranslationsPage =
-                    habitTranslationRepo.findAllByDifferentParametersIsCustomHabitTrue(pageable, lowerCaseTags,
-                        complexities, languageCode, availableUsersIds);
-            } else {
-                habitTranslationsPage =
-                    habitTranslationRepo.findAllByDifferentParametersIsCustomHabitFalse(pageable, lowerCaseTags,
-                        complexities, languageCode);
-            }
-        } else if (!complexitiesList.isEmpty() && isCustomHabit.isPresent()) {
-            boolean checkIsCustomHabit = isCustomHabit.get();
-            if (checkIsCustomHabit) {
-                habitTranslationsPage =
-                    habitTranslationRepo.findAllByIsCustomHabitTrueAndComplexityAndLanguageCode(pageable,
-                        complexities, languageCode, availableUsersIds);
-            } else {
-                habitTranslationsPage =
-                    habitTranslationRepo.findAllByIsCustomHabitFalseAndComplexityAndLanguageCode(pageable,
-                        complexities, languageCode);
-            }
-        } else if (!complexitiesList.isEmpty() && !lowerCaseTags.isEmpty()) {
-            habitTranslationsPage =
-                habitTranslationRepo.findAllByTagsAndComplexityAndLanguageCodeForAvailableUsersIfIsCustomTrue(pageable,
-                    lowerCaseTags,
-                    complexities, languageCode, availableUsersIds);
-        } else if (isCustomHabit.isPresent() && !lowerCaseTags.isEmpty()) {
-            boolean checkIsCustomHabit = isCustomHabit.get();
-            if (checkIsCustomHabit) {
-                habitTranslationsPage = habitTranslationRepo.findAllByTagsAndIsCustomHabitTrueAndLanguageCode(pageable,
-                    lowerCaseTags, languageCode, availableUsersIds);
-            } else {
-                habitTranslationsPage = habitTranslationRepo.findAllByTagsAndIsCustomHabitFalseAndLanguageCode(pageable,
-                    lowerCaseTags, languageCode);
-            }
-        } else if (!lowerCaseTags.isEmpty()) {
-            habitTranslationsPage =
-                habitTranslationRepo.findAllByTagsAndLanguageCodeAndForAvailableUsersIfIsCustomHabitTrue(pageable,
-                    lowerCaseTags,
-                    languageCode, availableUsersIds);
-        } else if (isCustomHabit.isPresent()) {
-            boolean checkIsCustomHabit = isCustomHabit.get();
-            if (checkIsCustomHabit) {
-                habitTranslationsPage = habitTranslationRepo.findAllByIsCustomHabitTrueAndLanguageCode(pageable,
-                    languageCode, availableUsersIds);
-            } else {
-                habitTranslationsPage = habitTranslationRepo.findAllByIsCustomFalseHabitAndLanguageCode(pageable,
-                    languageCode);
-            }
-        } else {
-            habitTranslationsPage =
-                habitTranslationRepo.findAllByComplexityAndLanguageCodeAndForAvailableUsersIfIsCustomHabit(pageable,
-                    complexities, languageCode, availableUsersIds);
-        }
+        HabitTranslationSpecification specification = HabitTranslationSpecification.builder()
+            .languageCode(languageCode)
+            .tags(tags.map(list -> list.stream().map(String::toLowerCase).collect(Collectors.toList()))
+                .orElse(null))
+            .complexities(complexities.orElse(null))
+            .isCustomHabit(isCustomHabit.orElse(null))
+            .availableUsersIds(availableUsersIds)
+            .build();
+        Page<HabitTranslation> habitTranslationsPage = habitTranslationRepo.findAll(specification, pageable);
         return buildPageableDtoForDifferentParameters(habitTranslationsPage, userVO);
     }
 
@@ -238,18 +186,33 @@ public class HabitServiceImpl implements HabitService {
      */
     private PageableDto<HabitDto> buildPageableDtoForDifferentParameters(Page<HabitTranslation> habitTranslationsPage,
         UserVO userVO) {
-        List<HabitDto> habits = habitTranslationsPage.stream()
-            .map(habitTranslation -> modelMapper.map(habitTranslation, HabitDto.class))
-            .collect(Collectors.toList());
-        habits.forEach(
-            habitDto -> habitDto.setAmountAcquiredUsers(habitAssignRepo.findAmountOfUsersAcquired(habitDto.getId())));
+        List<HabitDto> habits = habitDtoMapper.mapAllToList(habitTranslationsPage.getContent());
+        setAmountAcquiredUsers(habits);
+        if (!habits.isEmpty()) {
+            setHabitAssignStatusesAndCustomProperties(habits, userVO);
+        }
+        return new PageableDto<>(habits,
+            habitTranslationsPage.getTotalElements(),
+            habitTranslationsPage.getPageable().getPageNumber(),
+            habitTranslationsPage.getTotalPages());
+    }
+
+    private void setHabitAssignStatusesAndCustomProperties(List<HabitDto> habits, UserVO userVO) {
+        List<Long> habitIds = habits.stream().map(HabitDto::getId).collect(Collectors.toList());
+        Map<Long, Habit> habitsById = habitRepo.findAllByIdsWithCustomShoppingListItems(habitIds).stream()
+            .collect(Collectors.toMap(Habit::getId, Function.identity()));
+        Map<Long, HabitAssign> habitAssignsByHabitId =
+            habitAssignRepo.findAllByHabitIdsAndUserId(habitIds, userVO.getId()).stream()
+                .collect(Collectors.toMap(assign -> assign.getHabit().getId(), Function.identity(),
+                    (first, second) -> first));
 
         for (HabitDto habitDto : habits) {
-            Habit habit = habitRepo.findById(habitDto.getId())
+            Habit habit = Optional.ofNullable(habitsById.get(habitDto.getId()))
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.HABIT_NOT_FOUND_BY_ID + habitDto.getId()));
-            Optional<HabitAssign> habitAssign =
-                habitAssignRepo.findByHabitIdAndUserId(habitDto.getId(), userVO.getId());
-            habitAssign.ifPresent(assign -> habitDto.setHabitAssignStatus(assign.getStatus()));
+            HabitAssign habitAssign = habitAssignsByHabitId.get(habitDto.getId());
+            if (habitAssign != null) {
+                habitDto.setHabitAssignStatus(habitAssign.getStatus());
+            }
             boolean isCustomHabit = habit.getIsCustomHabit();
             habitDto.setIsCustomHabit(isCustomHabit);
             if (isCustomHabit) {
@@ -258,10 +221,18 @@ public class HabitServiceImpl implements HabitService {
             habitDto.setCustomShoppingListItems(
                 customShoppingListResponseDtoMapper.mapAllToList(habit.getCustomShoppingListItems()));
         }
-        return new PageableDto<>(habits,
-            habitTranslationsPage.getTotalElements(),
-            habitTranslationsPage.getPageable().getPageNumber(),
-            habitTranslationsPage.getTotalPages());
+    }
+
+    private void setAmountAcquiredUsers(List<HabitDto> habits) {
+        if (habits.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> amountsAcquiredUsers = habitAssignRepo.findAmountsOfUsersAcquired(
+            habits.stream().map(HabitDto::getId).collect(Collectors.toList())).stream()
+            .collect(
+                Collectors.toMap(HabitAcquiredUsersDto::getHabitId, HabitAcquiredUsersDto::getAmountAcquiredUsers));
+        habits.forEach(habitDto -> habitDto.setAmountAcquiredUsers(
+            amountsAcquiredUsers.getOrDefault(habitDto.getId(), 0L)));
     }
 
     /**
@@ -373,7 +344,11 @@ public class HabitServiceImpl implements HabitService {
         if (!habitRepo.existsById(habitId)) {
             throw new NotFoundException(ErrorMessage.HABIT_NOT_FOUND_BY_ID + habitId);
         }
-        List<User> users = userRepo.getFriendsAssignedToHabit(userId, habitId);
+        List<Long> friendIds = friendGraphService.findFriendIds(userId).boxed().collect(Collectors.toList());
+        if (friendIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<User> users = userRepo.findAllAssignedToHabit(friendIds, habitId);
         return users.stream().map(user -> modelMapper.map(user, UserProfilePictureDto.class))
             .collect(Collectors.toList());
     }
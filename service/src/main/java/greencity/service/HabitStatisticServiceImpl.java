@@ -148,7 +148,7 @@ public class HabitStatisticServiceImpl implements HabitStatisticService {
     /**
      * {@inheritDoc}
      */
-    @Cacheable(value = CacheConstants.HABIT_ITEM_STATISTIC_CACHE, key = "#language")
+    @Cacheable(value = CacheConstants.HABIT_ITEM_STATISTIC_CACHE, key = "#language", sync = true)
     @Override
     public List<HabitItemsAmountStatisticDto> getTodayStatisticsForAllHabitItems(String language) {
         return habitStatisticRepo.getStatisticsForAllHabitItemsByDate(ZonedDateTime.now(), language).stream()
@@ -0,0 +1,177 @@
+package greencity.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import greencity.constant.ErrorMessage;
+import greencity.exception.exceptions.NotSavedException;
+import greencity.image.ImageEncoder;
+import greencity.image.ImageMetadata;
+import greencity.image.ImageVariants;
+import greencity.mapping.InMemoryMultipartFile;
+import greencity.repository.EcoNewsRepo;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+    private static final String PNG_CONTENT_TYPE = "image/png";
+    private final FileService fileService;
+    private final EcoNewsRepo ecoNewsRepo;
+    private final ThreadPoolTaskExecutor executor;
+    /**
+     * Records of variants by image path, kept until eco news with the image is
+     * saved, because variants may be stored before it.
+     */
+    private final Cache<String, String> recentRecords = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMinutes(10))
+        .maximumSize(1000)
+        .build();
+
+    /**
+     * Constructor with image processing executor.
+     *
+     * @param fileService {@link FileService} used to store images.
+     * @param ecoNewsRepo {@link EcoNewsRepo} stored variants are recorded in.
+     * @param executor    bounded {@link ThreadPoolTaskExecutor} variants are
+     *                    generated with.
+     */
+    public ImageVariantServiceImpl(FileService fileService, EcoNewsRepo ecoNewsRepo,
+        @Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor executor) {
+        this.fileService = fileService;
+        this.ecoNewsRepo = ecoNewsRepo;
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String upload(MultipartFile image) {
+        byte[] content;
+        try {
+            content = ImageMetadata.strip(image.getBytes());
+        } catch (IOException e) {
+            throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
+        }
+        if (content == null || !hasReadableHeader(content)) {
+            throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
+        }
+        String formatName = ImageMetadata.formatName(content);
+        String baseName = UUID.randomUUID().toString();
+        String name = ImageVariants.originalName(baseName, "image." + formatName);
+        String imagePath = fileService.upload(new InMemoryMultipartFile(name, name,
+            ImageEncoder.PNG.equals(formatName) ? PNG_CONTENT_TYPE : JPEG_CONTENT_TYPE, content), name);
+        try {
+            executor.execute(() -> uploadVariants(imagePath, baseName, content));
+        } catch (TaskRejectedException e) {
+            log.warn("Variants of image {} were not generated, image processing queue is full", imagePath);
+        }
+        return imagePath;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordVariants(String imagePath) {
+        String variants = imagePath == null ? null : recentRecords.getIfPresent(imagePath);
+        if (variants != null) {
+            ecoNewsRepo.updateImageVariants(imagePath, variants);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String imagePath) {
+        for (String variantUrl : ImageVariants.possibleVariantUrls(imagePath)) {
+            fileService.delete(variantUrl);
+        }
+        fileService.delete(imagePath);
+    }
+
+    /**
+     * Reads image header only, so images that can not be decoded are rejected
+     * without decoding their pixels on request thread.
+     */
+    private static boolean hasReadableHeader(byte[] content) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return false;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return reader.getWidth(0) > 0 && reader.getHeight(0) > 0;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Decodes image and stores its variants narrower than the image itself. Only
+     * encoded image waits in the processing queue, because decoded photos take
+     * several times more memory.
+     */
+    private void uploadVariants(String imagePath, String baseName, byte[] content) {
+        BufferedImage source;
+        try {
+            source = ImageIO.read(new ByteArrayInputStream(content));
+        } catch (IOException | RuntimeException e) {
+            source = null;
+        }
+        if (source == null) {
+            log.error("Variants of image {} were not generated, image can not be decoded", imagePath);
+            return;
+        }
+        source = ImageEncoder.orient(source, ImageMetadata.orientation(content));
+        List<Integer> storedWidths = new ArrayList<>();
+        for (int width : ImageVariants.WIDTHS) {
+            if (width >= source.getWidth()) {
+                break;
+            }
+            try {
+                uploadVariant(source, baseName, width);
+                storedWidths.add(width);
+            } catch (IOException | RuntimeException e) {
+                log.error("Variant {} of image {} was not generated", width, baseName, e);
+            }
+        }
+        String variants = ImageVariants.record(baseName, storedWidths);
+        if (variants != null) {
+            recentRecords.put(imagePath, variants);
+            ecoNewsRepo.updateImageVariants(imagePath, variants);
+        }
+    }
+
+    private void uploadVariant(BufferedImage source, String baseName, int width) throws IOException {
+        int height = (int) Math.round((double) source.getHeight() * width / source.getWidth());
+        BufferedImage variant = ImageEncoder.scale(source, width, height, BufferedImage.TYPE_INT_RGB);
+        String variantName = ImageVariants.variantName(baseName, width);
+        fileService.upload(new InMemoryMultipartFile(variantName, variantName, JPEG_CONTENT_TYPE,
+            ImageEncoder.encode(variant, ImageEncoder.JPEG, JPEG_QUALITY)), variantName);
+    }
+}
@@ -0,0 +1,303 @@
+package greencity.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import greencity.annotations.RatingCalculationEnum;
+import greencity.client.RestClient;
+import greencity.dto.ratingstatistics.RatingEventPipelineStatisticsDto;
+import greencity.dto.user.UserVO;
+import greencity.entity.RatingStatistics;
+import greencity.entity.User;
+import greencity.repository.RatingStatisticsBatchRepo;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+@Slf4j
+@Service
+public class RatingEventPipelineServiceImpl implements RatingEventPipelineService {
+    private final RestClient restClient;
+    private final RatingStatisticsBatchRepo ratingStatisticsBatchRepo;
+    private final ThreadPoolTaskExecutor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long shutdownTimeoutSeconds;
+    private final Map<Long, PendingRatingEvents> pendingEvents = new ConcurrentHashMap<>();
+    private final Map<Long, PendingRatingEvents> failedEvents = new ConcurrentHashMap<>();
+    private final Set<Long> scheduledUsers = ConcurrentHashMap.newKeySet();
+    private final Queue<RatingStatistics> pendingStatistics = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingStatisticsSize = new AtomicInteger();
+    private final Cache<Long, SentRating> sentRatings;
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder userUpdatesSent = new LongAdder();
+    private final LongAdder failedUserUpdates = new LongAdder();
+    private final LongAdder statisticsRowsWritten = new LongAdder();
+    private final LongAdder rejectedSubmissions = new LongAdder();
+    private volatile boolean stopped;
+
+    /**
+     * Constructor with rating event executor, batch size, retry and shutdown
+     * settings taken from application properties.
+     *
+     * @param restClient                {@link RestClient} used to update users.
+     * @param ratingStatisticsBatchRepo {@link RatingStatisticsBatchRepo} used to
+     *                                  insert statistics rows.
+     * @param executor                  bounded {@link ThreadPoolTaskExecutor}
+     *                                  events are applied with.
+     * @param batchSize                 amount of statistics rows inserted with one
+     *                                  batch.
+     * @param sentRatingTtlSeconds      time in seconds during which sent rating is
+     *                                  used instead of stale rating of published
+     *                                  user.
+     * @param maxAttempts               amount of attempts to update user before its
+     *                                  events are dropped.
+     * @param shutdownTimeoutSeconds    time in seconds to wait for running workers
+     *                                  on shutdown.
+     */
+    public RatingEventPipelineServiceImpl(RestClient restClient,
+        RatingStatisticsBatchRepo ratingStatisticsBatchRepo,
+        @Qualifier("ratingEventExecutor") ThreadPoolTaskExecutor executor,
+        @Value("${greencity.rating.events.batch-size:100}") int batchSize,
+        @Value("${greencity.rating.events.sent-rating-ttl-seconds:300}") long sentRatingTtlSeconds,
+        @Value("${greencity.rating.events.max-attempts:5}") int maxAttempts,
+        @Value("${greencity.rating.events.shutdown-timeout-seconds:30}") long shutdownTimeoutSeconds) {
+        this.restClient = restClient;
+        this.ratingStatisticsBatchRepo = ratingStatisticsBatchRepo;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+        this.sentRatings = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(sentRatingTtlSeconds))
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(RatingCalculationEnum rating, UserVO userVO, String accessToken) {
+        publishedEvents.increment();
+        Long userId = userVO.getId();
+        pendingEvents.compute(userId, (id, events) -> {
+            PendingRatingEvents result = events == null ? new PendingRatingEvents() : events;
+            result.add(rating, userVO, accessToken);
+            return result;
+        });
+        if (scheduledUsers.add(userId)) {
+            submit(userId);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flushStatistics() {
+        List<RatingStatistics> batch = new ArrayList<>(batchSize);
+        RatingStatistics row;
+        while ((row = pendingStatistics.poll()) != null) {
+            pendingStatisticsSize.decrementAndGet();
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                saveBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            saveBatch(batch);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void retryFailedUpdates() {
+        for (Long userId : failedEvents.keySet()) {
+            PendingRatingEvents failed = failedEvents.remove(userId);
+            if (failed != null) {
+                pendingEvents.merge(userId, failed, (newer, older) -> older.append(newer));
+                if (scheduledUsers.add(userId)) {
+                    submit(userId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting events into the executor, waits for running workers, then
+     * applies events which are still queued or failed and writes all queued
+     * statistics rows, so nothing is lost on application shutdown. Events published
+     * after this method are applied by the calling thread.
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopped = true;
+        executor.getThreadPoolExecutor().shutdown();
+        try {
+            if (!executor.getThreadPoolExecutor().awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("Rating event workers did not finish in {} seconds", shutdownTimeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failedEvents.forEach((userId, failed) -> pendingEvents.merge(userId, failed,
+            (newer, older) -> older.append(newer)));
+        failedEvents.clear();
+        for (Long userId : pendingEvents.keySet()) {
+            PendingRatingEvents events = pendingEvents.remove(userId);
+            if (events != null) {
+                apply(userId, events);
+            }
+        }
+        flushStatistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RatingEventPipelineStatisticsDto getStatistics() {
+        return RatingEventPipelineStatisticsDto.builder()
+            .publishedEvents(publishedEvents.sum())
+            .userUpdatesSent(userUpdatesSent.sum())
+            .failedUserUpdates(failedUserUpdates.sum())
+            .statisticsRowsWritten(statisticsRowsWritten.sum())
+            .rejectedSubmissions(rejectedSubmissions.sum())
+            .pendingUsers(pendingEvents.size())
+            .pendingStatisticsRows(pendingStatisticsSize.get())
+            .executorQueueDepth(executor.getThreadPoolExecutor().getQueue().size())
+            .activeWorkers(executor.getActiveCount())
+            .build();
+    }
+
+    private void submit(Long userId) {
+        try {
+            executor.execute(() -> drain(userId));
+        } catch (TaskRejectedException e) {
+            rejectedSubmissions.increment();
+            drain(userId);
+        }
+    }
+
+    private void drain(Long userId) {
+        boolean draining = true;
+        while (draining) {
+            PendingRatingEvents events = pendingEvents.remove(userId);
+            if (events != null) {
+                apply(userId, events);
+            } else {
+                scheduledUsers.remove(userId);
+                draining = pendingEvents.containsKey(userId) && scheduledUsers.add(userId);
+            }
+        }
+        if (stopped || pendingStatisticsSize.get() >= batchSize) {
+            flushStatistics();
+        }
+    }
+
+    private void apply(Long userId, PendingRatingEvents events) {
+        UserVO userVO = events.userVO;
+        double observedRating = userVO.getRating() == null ? 0 : userVO.getRating();
+        SentRating sentRating = sentRatings.getIfPresent(userId);
+        double rating = sentRating != null && sentRating.observedRating == observedRating
+            ? sentRating.rating
+            : observedRating;
+        User user = User.builder().id(userId).build();
+        ZonedDateTime now = ZonedDateTime.now();
+        List<RatingStatistics> rows = new ArrayList<>(events.ratings.size());
+        for (RatingCalculationEnum event : events.ratings) {
+            rating += event.getRatingPoints();
+            rows.add(RatingStatistics.builder()
+                .createDate(now)
+                .rating(rating)
+                .ratingCalculationEnum(event)
+                .user(user)
+                .pointsChanged(event.getRatingPoints())
+                .build());
+        }
+        Double previousRating = userVO.getRating();
+        userVO.setRating(rating);
+        try {
+            restClient.save(userVO, events.accessToken);
+        } catch (RestClientException e) {
+            userVO.setRating(previousRating);
+            failedUserUpdates.increment();
+            retryLater(userId, events, e);
+            return;
+        }
+        userUpdatesSent.increment();
+        sentRatings.put(userId, new SentRating(observedRating, rating));
+        pendingStatistics.addAll(rows);
+        pendingStatisticsSize.addAndGet(rows.size());
+    }
+
+    private void retryLater(Long userId, PendingRatingEvents events, RestClientException e) {
+        events.attempts++;
+        if (stopped || events.attempts >= maxAttempts) {
+            log.error("Rating of user {} was not updated after {} attempts, {} events are dropped: {}", userId,
+                events.attempts, events.ratings.size(), e.getMessage());
+            return;
+        }
+        log.warn("Rating of user {} was not updated, retry later: {}", userId, e.getMessage());
+        failedEvents.merge(userId, events, (older, failed) -> older.append(failed));
+    }
+
+    private void saveBatch(List<RatingStatistics> batch) {
+        try {
+            ratingStatisticsBatchRepo.saveAll(batch);
+            statisticsRowsWritten.add(batch.size());
+        } catch (DataAccessException e) {
+            log.error("{} rating statistics rows were not saved", batch.size(), e);
+        }
+    }
+
+    private static final class PendingRatingEvents {
+        private final List<RatingCalculationEnum> ratings = new ArrayList<>();
+        private UserVO userVO;
+        private String accessToken;
+        private int attempts;
+
+        private void add(RatingCalculationEnum rating, UserVO userVO, String accessToken) {
+            ratings.add(rating);
+            this.userVO = userVO;
+            this.accessToken = accessToken;
+        }
+
+        private PendingRatingEvents append(PendingRatingEvents newer) {
+            ratings.addAll(newer.ratings);
+            userVO = newer.userVO;
+            accessToken = newer.accessToken;
+            return this;
+        }
+    }
+
+    private static final class SentRating {
+        private final double observedRating;
+        private final double rating;
+
+        private SentRating(double observedRating, double rating) {
+            this.observedRating = observedRating;
+            this.rating = rating;
+        }
+    }
+}
@@ -9,10 +9,13 @@ import greencity.entity.RatingStatistics;
 import greencity.entity.RatingStatistics_;
 import greencity.filters.RatingStatisticsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.repository.RatingStatisticsExportRepo;
 import greencity.repository.RatingStatisticsRepo;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
@@ -24,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class RatingStatisticsServiceImpl implements RatingStatisticsService {
     private RatingStatisticsRepo ratingStatisticsRepo;
+    private final RatingStatisticsExportRepo ratingStatisticsExportRepo;
     private final ModelMapper modelMapper;
 
     private PageableAdvancedDto<RatingStatisticsDtoForTables> ratingStatisticsDtoMapper(
@@ -83,6 +87,20 @@ public class RatingStatisticsServiceImpl implements RatingStatisticsService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void exportRatingStatistics(RatingStatisticsViewDto ratingStatisticsViewDto,
+        Consumer<Stream<RatingStatisticsDto>> consumer) {
+        RatingStatisticsSpecification specification =
+            ratingStatisticsViewDto == null ? null : getSpecification(ratingStatisticsViewDto);
+        try (Stream<RatingStatisticsDto> ratingStatistics = ratingStatisticsExportRepo.streamAll(specification)) {
+            consumer.accept(ratingStatistics);
+        }
+    }
+
     @Override
     public PageableAdvancedDto<RatingStatisticsDtoForTables> getFilteredDataForManagementByPage(
         Pageable pageable, RatingStatisticsViewDto ratingStatisticsViewDto) {
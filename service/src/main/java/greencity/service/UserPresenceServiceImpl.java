@@ -0,0 +1,112 @@
+package greencity.service;
+
+import greencity.dto.user.UserLastActivityTimeDto;
+import greencity.presence.LocalPresenceStore;
+import greencity.presence.PresenceStore;
+import greencity.repository.UserLastActivityBatchRepo;
+import greencity.repository.UserRepo;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class UserPresenceServiceImpl implements UserPresenceService {
+    private final UserRepo userRepo;
+    private final UserLastActivityBatchRepo userLastActivityBatchRepo;
+    private final PresenceStore presenceStore;
+    private final long timeAfterLastActivity;
+
+    /**
+     * Constructor with online threshold taken from application properties.
+     *
+     * @param userRepo                  {@link UserRepo} used to read last activity
+     *                                  times of users not seen recently.
+     * @param userLastActivityBatchRepo {@link UserLastActivityBatchRepo} used to
+     *                                  flush last activity times.
+     * @param presenceStore             optional shared {@link PresenceStore},
+     *                                  {@link LocalPresenceStore} is used if there
+     *                                  is none.
+     * @param timeAfterLastActivity     time in milliseconds after last activity
+     *                                  during which user is online.
+     */
+    public UserPresenceServiceImpl(UserRepo userRepo, UserLastActivityBatchRepo userLastActivityBatchRepo,
+        ObjectProvider<PresenceStore> presenceStore,
+        @Value("${greencity.time.after.last.activity:300000}") long timeAfterLastActivity) {
+        this.userRepo = userRepo;
+        this.userLastActivityBatchRepo = userLastActivityBatchRepo;
+        this.presenceStore = presenceStore.getIfAvailable(LocalPresenceStore::new);
+        this.timeAfterLastActivity = timeAfterLastActivity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordActivity(Long userId, Date activityTime) {
+        presenceStore.touch(userId, activityTime.getTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Boolean> checkOnlineStatus(Long userId) {
+        long onlineSince = System.currentTimeMillis() - timeAfterLastActivity;
+        List<Long> userIds = Collections.singletonList(userId);
+        Long seenMillis = presenceStore.findLastSeen(userIds).get(userId);
+        if (seenMillis != null && seenMillis >= onlineSince) {
+            return Optional.of(true);
+        }
+        return userRepo.findLastActivityTimesByIds(userIds).stream()
+            .findFirst()
+            .map(user -> user.getLastActivityTime() != null && toMillis(user) >= onlineSince);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int flushLastActivityTimes() {
+        presenceStore.evictSeenBefore(System.currentTimeMillis() - timeAfterLastActivity);
+        Map<Long, Long> pending = presenceStore.drainPending();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Instant> lastActivityTimes = new HashMap<>();
+        pending.forEach((userId, seenMillis) -> lastActivityTimes.put(userId, Instant.ofEpochMilli(seenMillis)));
+        try {
+            userLastActivityBatchRepo.updateLastActivityTimes(lastActivityTimes);
+        } catch (RuntimeException e) {
+            pending.forEach(presenceStore::touch);
+            log.warn("Last activity times of {} users were not flushed: {}", pending.size(), e.getMessage());
+            return 0;
+        }
+        log.debug("Flushed last activity times of {} users", pending.size());
+        return pending.size();
+    }
+
+    /**
+     * Flushes last activity times recorded since the last scheduled flush, so they
+     * are not lost on application shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        int flushed = flushLastActivityTimes();
+        log.info("Flushed last activity times of {} users on shutdown", flushed);
+    }
+
+    private static long toMillis(UserLastActivityTimeDto user) {
+        return user.getLastActivityTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,94 @@
+package greencity.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import greencity.cache.CacheStatistics;
+import greencity.dto.cache.CacheStatisticsDto;
+import greencity.dto.user.UserPrincipalVO;
+import greencity.enums.UserStatus;
+import greencity.repository.UserRepo;
+import greencity.security.events.UpdatePasswordEvent;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class UserPrincipalCacheServiceImpl implements UserPrincipalCacheService {
+    private static final String CACHE_NAME = "user_principal_cache";
+    private final UserRepo userRepo;
+    private final Cache<String, UserPrincipalVO> cache;
+
+    /**
+     * Constructor with cache bounds taken from application properties.
+     *
+     * @param userRepo   {@link UserRepo} used to load principals on cache miss.
+     * @param maxSize    maximum amount of cached principals.
+     * @param ttlSeconds time in seconds after which cached principal is reloaded.
+     */
+    public UserPrincipalCacheServiceImpl(UserRepo userRepo,
+        @Value("${greencity.cache.principal.max-size:10000}") long maxSize,
+        @Value("${greencity.cache.principal.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepo = userRepo;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<UserPrincipalVO> findByEmail(String email) {
+        return Optional.ofNullable(cache.get(email, key -> userRepo.findPrincipalByEmail(key).orElse(null)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<UserPrincipalVO> findNotDeactivatedByEmail(String email) {
+        return findByEmail(email)
+            .filter(principal -> principal.getUserStatus() != UserStatus.DEACTIVATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evictByEmail(String email) {
+        cache.invalidate(email);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evictById(Long userId) {
+        cache.asMap().values().removeIf(principal -> userId.equals(principal.getId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStatisticsDto getStatistics() {
+        return CacheStatistics.of(CACHE_NAME, cache.estimatedSize(), cache.stats());
+    }
+
+    /**
+     * Drops cached principal of user whose password has been updated.
+     *
+     * @param event {@link UpdatePasswordEvent}
+     */
+    @EventListener
+    public void onUpdatePassword(UpdatePasswordEvent event) {
+        log.debug("Evict cached principal of user {} after password update", event.getUserId());
+        evictById(event.getUserId());
+    }
+}
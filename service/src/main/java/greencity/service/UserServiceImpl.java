@@ -14,10 +14,6 @@ import greencity.exception.exceptions.WrongEmailException;
 import greencity.exception.exceptions.WrongIdException;
 import greencity.repository.UserRepo;
 
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -27,7 +23,6 @@ import greencity.repository.options.UserFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -39,8 +34,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
     private final UserRepo userRepo;
     private final ModelMapper modelMapper;
-    @Value("300000")
-    private long timeAfterLastActivity;
+    private final UserPrincipalCacheService userPrincipalCacheService;
+    private final UserPresenceService userPresenceService;
 
     /**
      * {@inheritDoc}
@@ -83,7 +78,8 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Updates last activity time for a given user.
+     * Updates last activity time for a given user. Time is recorded by
+     * {@link UserPresenceService} and written to database with periodic batches.
      *
      * @param userId               - {@link UserVO}'s id
      * @param userLastActivityTime - new {@link UserVO}'s last activity time
@@ -91,7 +87,7 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public void updateUserLastActivityTime(Long userId, Date userLastActivityTime) {
-        userRepo.updateUserLastActivityTime(userId, userLastActivityTime);
+        userPresenceService.recordActivity(userId, userLastActivityTime);
     }
 
     /**
@@ -104,6 +100,7 @@ public class UserServiceImpl implements UserService {
         UserVO userVO = findById(id);
         userVO.setUserStatus(userStatus);
         userRepo.updateUserStatus(id, String.valueOf(userStatus));
+        userPrincipalCacheService.evictById(id);
         return modelMapper.map(userVO, UserStatusDto.class);
     }
 
@@ -125,6 +122,7 @@ public class UserServiceImpl implements UserService {
             .orElseThrow(() -> new WrongIdException(ErrorMessage.USER_NOT_FOUND_BY_ID + id));
         user.setRole(role);
         userRepo.save(user);
+        userPrincipalCacheService.evictById(id);
         return modelMapper.map(user, UserRoleDto.class);
     }
 
@@ -164,18 +162,9 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public boolean checkIfTheUserIsOnline(Long userId) {
-        if (userRepo.findById(userId).isEmpty()) {
-            throw new WrongIdException(ErrorMessage.USER_NOT_FOUND_BY_ID + userId);
-        }
-        Optional<Timestamp> lastActivityTime = userRepo.findLastActivityTimeById(userId);
-        if (lastActivityTime.isPresent()) {
-            LocalDateTime userLastActivityTime = lastActivityTime.get().toLocalDateTime();
-            ZonedDateTime now = ZonedDateTime.now();
-            ZonedDateTime lastActivityTimeZDT = ZonedDateTime.of(userLastActivityTime, ZoneId.systemDefault());
-            long result = now.toInstant().toEpochMilli() - lastActivityTimeZDT.toInstant().toEpochMilli();
-            return result <= timeAfterLastActivity;
-        }
-        return false;
+        Optional<Boolean> isOnline = userId == null ? Optional.empty()
+            : userPresenceService.checkOnlineStatus(userId);
+        return isOnline.orElseThrow(() -> new WrongIdException(ErrorMessage.USER_NOT_FOUND_BY_ID + userId));
     }
 
     /**
@@ -352,7 +352,7 @@ public class ModelUtils {
                 TagTranslation.builder().name("News").language(Language.builder().code("en").build()).build()));
         return new EcoNews(1L, zonedDateTime, TestConst.SITE, "source", "shortInfo", getUser(),
             "title", "text", List.of(EcoNewsComment.builder().id(1L).text("test").build()),
-            Collections.singletonList(tag), Collections.emptySet(), Collections.emptySet());
+            Collections.singletonList(tag), Collections.emptySet(), Collections.emptySet(), null);
     }
 
     public static EcoNews getEcoNewsForMethodConvertTest() {
@@ -362,12 +362,13 @@ public class ModelUtils {
                 TagTranslation.builder().name("News").language(Language.builder().code("en").build()).build()));
         return new EcoNews(1L, ZonedDateTime.now(), TestConst.SITE, null, "shortInfo", getUser(),
             "title", "text", List.of(EcoNewsComment.builder().text("sdfs").build()),
-            Collections.singletonList(tag), Collections.emptySet(), Collections.emptySet());
+            Collections.singletonList(tag), Collections.emptySet(), Collections.emptySet(), null);
     }
 
     public static EcoNews getEcoNewsForFindDtoByIdAndLanguage() {
         return new EcoNews(1L, null, TestConst.SITE, null, "shortInfo", getUser(),
-            "title", "text", null, Collections.singletonList(getTag()), Collections.emptySet(), Collections.emptySet());
+            "title", "text", null, Collections.singletonList(getTag()), Collections.emptySet(), Collections.emptySet(),
+            null);
     }
 
     public static EcoNewsVO getEcoNewsVO() {
@@ -458,7 +459,7 @@ public class ModelUtils {
             .duration(0)
             .habitStreak(0)
             .habitStatistic(Collections.singletonList(getHabitStatistic()))
-            .habitStatusCalendars(Collections.singletonList(getHabitStatusCalendar()))
+            .habitStatusCalendars(new ArrayList<>(Collections.singletonList(getHabitStatusCalendar())))
             .lastEnrollmentDate(ZonedDateTime.now())
             .build();
     }
@@ -485,7 +486,7 @@ public class ModelUtils {
             .duration(0)
             .habitStreak(0)
             .habitStatistic(Collections.singletonList(getHabitStatistic()))
-            .habitStatusCalendars(Collections.singletonList(getHabitStatusCalendar()))
+            .habitStatusCalendars(new ArrayList<>(Collections.singletonList(getHabitStatusCalendar())))
             .lastEnrollmentDate(ZonedDateTime.now())
             .build();
     }
@@ -975,7 +976,8 @@ public class ModelUtils {
 
     public static EcoNewsDto getEcoNewsDto() {
         return new EcoNewsDto(ZonedDateTime.now(), "imagePath", 1L, "title", "content", "text",
-            getEcoNewsAuthorDto(), Collections.singletonList("tag"), Collections.singletonList("тег"), 1, 0, 0);
+            getEcoNewsAuthorDto(), Collections.singletonList("tag"), Collections.singletonList("тег"), 1, 0, 0,
+            Collections.emptyMap());
     }
 
     public static EcoNewsGenericDto getEcoNewsGenericDto() {
@@ -983,12 +985,13 @@ public class ModelUtils {
         String[] tagsUa = {"Новини"};
         return new EcoNewsGenericDto(1L, "title", "text", "shortInfo",
             ModelUtils.getEcoNewsAuthorDto(), zonedDateTime, "https://google.com/", "source",
-            List.of(tagsUa), List.of(tagsEn), 0, 1, 0);
+            List.of(tagsUa), List.of(tagsEn), 0, 1, 0, Collections.emptyMap());
     }
 
     public static EcoNewsDto getEcoNewsDtoForFindDtoByIdAndLanguage() {
         return new EcoNewsDto(null, TestConst.SITE, 1L, "title", "text", "shortInfo",
-            getEcoNewsAuthorDto(), Collections.singletonList("News"), Collections.singletonList("Новини"), 0, 0, 0);
+            getEcoNewsAuthorDto(), Collections.singletonList("News"), Collections.singletonList("Новини"), 0, 0, 0,
+            Collections.emptyMap());
     }
 
     public static UpdateEcoNewsDto getUpdateEcoNewsDto() {
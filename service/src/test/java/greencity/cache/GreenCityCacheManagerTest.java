@@ -0,0 +1,109 @@
+package greencity.cache;
+
+import greencity.cache.CacheSpecProperties.CacheBackend;
+import greencity.cache.CacheSpecProperties.CacheSpec;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GreenCityCacheManagerTest {
+    private static final String LOCAL_CACHE = "local_cache";
+    private static final String SHARED_CACHE = "shared_cache";
+
+    private CacheSpecProperties cacheSpecProperties;
+
+    @BeforeEach
+    void setUp() {
+        cacheSpecProperties = new CacheSpecProperties();
+        CacheSpec localSpec = new CacheSpec();
+        localSpec.setMaxSize(2);
+        localSpec.setTtl(Duration.ofMinutes(1));
+        cacheSpecProperties.getSpecs().put(LOCAL_CACHE, localSpec);
+        CacheSpec sharedSpec = new CacheSpec();
+        sharedSpec.setMaxSize(2);
+        sharedSpec.setBackend(CacheBackend.SHARED);
+        cacheSpecProperties.getSpecs().put(SHARED_CACHE, sharedSpec);
+    }
+
+    @Test
+    void getCacheCreatesLocalCacheBoundedBySpecTest() {
+        GreenCityCacheManager cacheManager =
+            new GreenCityCacheManager(cacheSpecProperties, new LocalSharedCacheProvider());
+
+        Cache cache = cacheManager.getCache(LOCAL_CACHE);
+
+        assertTrue(cache instanceof InstrumentedCache);
+        assertTrue(((InstrumentedCache) cache).getDelegate() instanceof CaffeineCache);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+            ((CaffeineCache) ((InstrumentedCache) cache).getDelegate()).getNativeCache();
+        assertEquals(2L, nativeCache.policy().eviction().get().getMaximum());
+        assertEquals(Duration.ofMinutes(1).toNanos(),
+            nativeCache.policy().expireAfterWrite().get().getExpiresAfter(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void getCacheUsesDefaultSpecForUnknownCacheTest() {
+        GreenCityCacheManager cacheManager =
+            new GreenCityCacheManager(cacheSpecProperties, new LocalSharedCacheProvider());
+
+        InstrumentedCache cache = (InstrumentedCache) cacheManager.getCache("unknown_cache");
+
+        assertEquals(50L, ((CaffeineCache) cache.getDelegate()).getNativeCache().policy().eviction().get()
+            .getMaximum());
+    }
+
+    @Test
+    void getCacheCreatesSharedCacheWithProviderTest() {
+        ConcurrentMapCache sharedCache = new ConcurrentMapCache(SHARED_CACHE);
+        GreenCityCacheManager cacheManager = new GreenCityCacheManager(cacheSpecProperties,
+            (name, maxSize, ttl, evictionListener) -> sharedCache);
+
+        InstrumentedCache cache = (InstrumentedCache) cacheManager.getCache(SHARED_CACHE);
+        cache.put("key", "value");
+        cache.get("key");
+        cache.get("missing");
+
+        assertSame(sharedCache, cache.getDelegate());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test
+    void localAndSharedCachesCountEvictionsTest() {
+        GreenCityCacheManager cacheManager =
+            new GreenCityCacheManager(cacheSpecProperties, new LocalSharedCacheProvider());
+
+        for (String cacheName : new String[] {LOCAL_CACHE, SHARED_CACHE}) {
+            InstrumentedCache cache = (InstrumentedCache) cacheManager.getCache(cacheName);
+            for (int i = 0; i < 5; i++) {
+                cache.put(i, i);
+            }
+            ((CaffeineCache) cache.getDelegate()).getNativeCache().cleanUp();
+
+            assertEquals(3L, cache.getEvictionCount());
+            assertEquals(2L, cache.getSize());
+        }
+    }
+
+    @Test
+    void getWithLoaderRecordsLoadTest() {
+        GreenCityCacheManager cacheManager =
+            new GreenCityCacheManager(cacheSpecProperties, new LocalSharedCacheProvider());
+        InstrumentedCache cache = (InstrumentedCache) cacheManager.getCache(LOCAL_CACHE);
+
+        assertEquals("value", cache.get("key", () -> "value"));
+        assertEquals("value", cache.get("key", () -> "other"));
+
+        assertEquals(1L, cache.getLoadCount());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+}
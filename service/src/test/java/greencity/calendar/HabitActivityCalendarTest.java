@@ -0,0 +1,57 @@
+package greencity.calendar;
+
+import greencity.dto.habit.HabitEnrollDto;
+import greencity.dto.habit.HabitsDateEnrollmentDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HabitActivityCalendarTest {
+    private static final LocalDate FROM = LocalDate.of(2021, 12, 30);
+    private static final LocalDate TO = LocalDate.of(2022, 1, 2);
+
+    @Test
+    void buildMarksOnlyActiveDaysOfHabitAssigns() {
+        HabitActivityCalendar calendar = new HabitActivityCalendar(FROM, TO);
+        calendar.markEnrolled(1L, LocalDate.of(2021, 12, 31));
+        calendar.markEnrolled(1L, LocalDate.of(2022, 5, 1));
+        calendar.markEnrolled(2L, LocalDate.of(2022, 1, 1));
+        calendar.addHabitAssign(enroll(1L), LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31));
+        calendar.addHabitAssign(enroll(2L), LocalDate.of(2022, 1, 1), LocalDate.of(2022, 2, 1));
+        calendar.addHabitAssign(enroll(3L), LocalDate.of(2022, 3, 1), LocalDate.of(2022, 4, 1));
+
+        List<HabitsDateEnrollmentDto> actual = calendar.build();
+
+        assertEquals(4, actual.size());
+        assertEquals(List.of(FROM, FROM.plusDays(1), FROM.plusDays(2), TO),
+            List.of(actual.get(0).getEnrollDate(), actual.get(1).getEnrollDate(), actual.get(2).getEnrollDate(),
+                actual.get(3).getEnrollDate()));
+        assertEquals(List.of(new HabitEnrollDto(1L, "name", "description", false)),
+            actual.get(0).getHabitAssigns());
+        assertEquals(List.of(new HabitEnrollDto(1L, "name", "description", true)),
+            actual.get(1).getHabitAssigns());
+        assertEquals(List.of(new HabitEnrollDto(2L, "name", "description", true)),
+            actual.get(2).getHabitAssigns());
+        assertEquals(List.of(new HabitEnrollDto(2L, "name", "description", false)),
+            actual.get(3).getHabitAssigns());
+    }
+
+    @Test
+    void buildWithoutHabitAssigns() {
+        List<HabitsDateEnrollmentDto> actual = new HabitActivityCalendar(FROM, FROM).build();
+
+        assertEquals(1, actual.size());
+        assertTrue(actual.get(0).getHabitAssigns().isEmpty());
+    }
+
+    private static HabitEnrollDto enroll(Long habitAssignId) {
+        return HabitEnrollDto.builder()
+            .habitAssignId(habitAssignId)
+            .habitName("name")
+            .habitDescription("description")
+            .build();
+    }
+}
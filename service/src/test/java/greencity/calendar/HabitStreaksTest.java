@@ -0,0 +1,124 @@
+package greencity.calendar;
+
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class HabitStreaksTest {
+    private static final LocalDate TODAY = LocalDate.of(2022, 1, 10);
+
+    @Test
+    void enrollNextDayExtendsStreak() {
+        HabitAssign habitAssign = habitAssign(TODAY.minusDays(2), TODAY.minusDays(1));
+        HabitStreaks.recount(habitAssign, TODAY);
+
+        enroll(habitAssign, TODAY);
+
+        assertStreaks(habitAssign, 3, 3, TODAY);
+    }
+
+    @Test
+    void enrollAfterGapStartsNewStreak() {
+        HabitAssign habitAssign = habitAssign(TODAY.minusDays(5), TODAY.minusDays(4));
+        HabitStreaks.recount(habitAssign, TODAY);
+
+        enroll(habitAssign, TODAY);
+
+        assertStreaks(habitAssign, 1, 2, TODAY);
+    }
+
+    @Test
+    void enrollPastDateJoiningRunsRecountsStreaks() {
+        HabitAssign habitAssign = habitAssign(TODAY.minusDays(3), TODAY.minusDays(1), TODAY);
+        HabitStreaks.recount(habitAssign, TODAY);
+
+        enroll(habitAssign, TODAY.minusDays(2));
+
+        assertStreaks(habitAssign, 4, 4, TODAY);
+    }
+
+    @Test
+    void enrollPastDateKeepsDecayedStreak() {
+        HabitAssign habitAssign = habitAssign();
+
+        enroll(habitAssign, TODAY.minusDays(3));
+
+        assertStreaks(habitAssign, 0, 1, TODAY.minusDays(3));
+    }
+
+    @Test
+    void unenrollLastDateShortensStreak() {
+        HabitAssign habitAssign = habitAssign(TODAY.minusDays(9), TODAY.minusDays(8), TODAY.minusDays(7),
+            TODAY.minusDays(2), TODAY.minusDays(1), TODAY);
+        HabitStreaks.recount(habitAssign, TODAY);
+
+        unenroll(habitAssign, TODAY);
+
+        assertStreaks(habitAssign, 2, 3, TODAY.minusDays(1));
+    }
+
+    @Test
+    void unenrollLongestStreakRecountsStreaks() {
+        HabitAssign habitAssign = habitAssign(TODAY.minusDays(5), TODAY.minusDays(1), TODAY);
+        HabitStreaks.recount(habitAssign, TODAY);
+
+        unenroll(habitAssign, TODAY);
+
+        assertStreaks(habitAssign, 1, 1, TODAY.minusDays(1));
+    }
+
+    @Test
+    void unenrollOnlyDateClearsStreaks() {
+        HabitAssign habitAssign = habitAssign(TODAY);
+        HabitStreaks.recount(habitAssign, TODAY);
+
+        unenroll(habitAssign, TODAY);
+
+        assertEquals(0, habitAssign.getHabitStreak());
+        assertEquals(0, habitAssign.getLongestHabitStreak());
+        assertNull(habitAssign.getLastEnrollDate());
+    }
+
+    @Test
+    void recountDecaysStreakMissedYesterday() {
+        HabitAssign habitAssign = habitAssign(TODAY.minusDays(4), TODAY.minusDays(3), TODAY.minusDays(2));
+
+        HabitStreaks.recount(habitAssign, TODAY);
+
+        assertStreaks(habitAssign, 0, 3, TODAY.minusDays(2));
+    }
+
+    private static void enroll(HabitAssign habitAssign, LocalDate date) {
+        habitAssign.getHabitStatusCalendars().add(HabitStatusCalendar.builder().enrollDate(date).build());
+        HabitStreaks.enroll(habitAssign, date, TODAY);
+    }
+
+    private static void unenroll(HabitAssign habitAssign, LocalDate date) {
+        habitAssign.getHabitStatusCalendars().removeIf(calendar -> calendar.getEnrollDate().equals(date));
+        HabitStreaks.unenroll(habitAssign, date, TODAY);
+    }
+
+    private static HabitAssign habitAssign(LocalDate... enrollDates) {
+        List<HabitStatusCalendar> calendars = new ArrayList<>();
+        for (LocalDate enrollDate : enrollDates) {
+            calendars.add(HabitStatusCalendar.builder().enrollDate(enrollDate).build());
+        }
+        return HabitAssign.builder()
+            .habitStreak(0)
+            .habitStatusCalendars(calendars)
+            .build();
+    }
+
+    private static void assertStreaks(HabitAssign habitAssign, int habitStreak, int longestHabitStreak,
+        LocalDate lastEnrollDate) {
+        assertEquals(habitStreak, habitAssign.getHabitStreak());
+        assertEquals(longestHabitStreak, habitAssign.getLongestHabitStreak());
+        assertEquals(lastEnrollDate, habitAssign.getLastEnrollDate());
+    }
+}
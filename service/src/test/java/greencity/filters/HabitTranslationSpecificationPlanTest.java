@@ -0,0 +1,201 @@
+package greencity.filters;
+
+import greencity.repository.HabitTranslationRepo;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query plan regression tests of habit catalogue filter. Schema is created by
+ * Hibernate in H2 running in PostgreSQL mode, indexes are created by the same
+ * Liquibase change set as in production. Every test runs the filter through the
+ * repository, records SQL sent by Hibernate and checks its shape and the plan
+ * chosen by H2 for it.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:habit_catalogue;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "greencity.filters.HabitTranslationSpecificationPlanTest$SqlRecorder"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HabitTranslationSpecificationPlanTest {
+    private static final String INDEXES_CHANGELOG = "db/changelog/logs/ch-add-habit-catalogue-indexes-Lenets.xml";
+    private static final String TABLE_SCAN = ".tablescan";
+    private static final List<String> RECORDED_SQL = new CopyOnWriteArrayList<>();
+    private static boolean indexed;
+
+    @Autowired
+    private HabitTranslationRepo habitTranslationRepo;
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (!indexed) {
+            createIndexes();
+            indexed = true;
+        }
+        seed();
+        RECORDED_SQL.clear();
+    }
+
+    @Test
+    void languageOnlyFilterLooksUpTranslationsByIndexes() throws SQLException {
+        String plan = findPlan(HabitTranslationSpecification.builder()
+            .languageCode("en")
+            .availableUsersIds(List.of(1L, 2L))
+            .build(), 3);
+
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void tagsFilterLooksUpTagsByIndexesInsideExists() throws SQLException {
+        String plan = findPlan(HabitTranslationSpecification.builder()
+            .languageCode("en")
+            .tags(List.of("eco"))
+            .availableUsersIds(List.of(1L))
+            .build(), 2);
+
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void allFiltersStartFromHabitsCoveringIndex() throws SQLException {
+        String plan = findPlan(HabitTranslationSpecification.builder()
+            .languageCode("ua")
+            .tags(List.of("eco", "health"))
+            .complexities(List.of(1, 2))
+            .isCustomHabit(true)
+            .availableUsersIds(List.of(1L, 2L))
+            .build(), 1);
+
+        assertTrue(plan.contains("habits_is_custom_habit_complexity_user_id_idx"), plan);
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    @Test
+    void defaultHabitsFilterSelectsEveryTranslationOnce() throws SQLException {
+        String plan = findPlan(HabitTranslationSpecification.builder()
+            .languageCode("en")
+            .isCustomHabit(false)
+            .availableUsersIds(List.of(1L))
+            .build(), 2);
+
+        assertFalse(plan.contains(TABLE_SCAN), plan);
+    }
+
+    private String findPlan(HabitTranslationSpecification specification, long expectedAmount)
+        throws SQLException {
+        assertEquals(expectedAmount,
+            habitTranslationRepo.findAll(specification, PageRequest.of(0, 10)).getTotalElements());
+        String select = RECORDED_SQL.stream()
+            .filter(sql -> sql.startsWith("select") && sql.contains("from habit_translation"))
+            .findFirst()
+            .orElseThrow();
+        assertFalse(select.contains("distinct"), select);
+        assertFalse(select.contains("in (select"), select);
+        assertEquals(specification.getTags() != null, select.contains("exists ("), select);
+        return explain(select).toLowerCase();
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData parameters = statement.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                statement.setObject(i, sampleValue(parameters.getParameterType(i)));
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        }
+    }
+
+    private static Object sampleValue(int sqlType) {
+        switch (sqlType) {
+            case Types.BIGINT:
+                return 1L;
+            case Types.INTEGER:
+                return 1;
+            case Types.BOOLEAN:
+                return true;
+            default:
+                return "en";
+        }
+    }
+
+    private void createIndexes() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            Database database =
+                DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            new Liquibase(INDEXES_CHANGELOG, new ClassLoaderResourceAccessor(), database).update(new Contexts());
+        }
+    }
+
+    private void seed() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO languages (id, code) VALUES (1, 'ua'), (2, 'en'), (3, 'ru')");
+        jdbcTemplate.update("INSERT INTO tags (id, type) VALUES (1, 'HABIT'), (2, 'HABIT')");
+        jdbcTemplate.update("INSERT INTO tag_translations (id, name, tag_id, language_id) VALUES "
+            + "(1, 'Eco', 1, 2), (2, 'Eco', 1, 1), (3, 'Health', 2, 2)");
+        jdbcTemplate.update("INSERT INTO habits (id, image, complexity, default_duration, is_custom_habit, user_id) "
+            + "VALUES (1, 'a.png', 1, 7, false, null), (2, 'b.png', 2, 7, false, null), "
+            + "(3, 'c.png', 1, 7, true, 1), (4, 'd.png', 3, 7, true, 3)");
+        jdbcTemplate.update("INSERT INTO habits_tags (habit_id, tag_id) VALUES (1, 1), (1, 2), (3, 1), (4, 1)");
+        for (long habitId = 1; habitId <= 4; habitId++) {
+            for (long languageId = 1; languageId <= 3; languageId++) {
+                jdbcTemplate.update("INSERT INTO habit_translation (id, name, description, habit_item, language_id, "
+                    + "habit_id) VALUES (?, 'name', 'description', 'item', ?, ?)",
+                    habitId * 10 + languageId, languageId, habitId);
+            }
+        }
+    }
+
+    @Configuration
+    @EntityScan("greencity.entity")
+    @EnableJpaRepositories(basePackageClasses = HabitTranslationRepo.class)
+    static class Config {
+    }
+
+    /**
+     * Records SQL of every statement prepared by Hibernate.
+     */
+    public static class SqlRecorder implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            RECORDED_SQL.add(sql);
+            return sql;
+        }
+    }
+}
@@ -74,4 +74,15 @@ class EcoNewsCommentDtoMapperTest {
         assertEquals(expected, ecoNewsCommentDtoMapper.convert(ecoNewsComment));
     }
 
+    @Test
+    void convertWithCountedLikesDoesNotLoadUsersLiked() {
+        ecoNewsComment.setCreatedDate(ecoNewsComment.getModifiedDate());
+        ecoNewsComment.setUsersLiked(null);
+
+        EcoNewsCommentDto actual = ecoNewsCommentDtoMapper.convert(ecoNewsComment, 7, true);
+
+        assertEquals(CommentStatus.ORIGINAL, actual.getStatus());
+        assertEquals(7, actual.getLikes());
+        assertTrue(actual.isCurrentUserLiked());
+    }
 }
@@ -4,6 +4,8 @@ import greencity.ModelUtils;
 import greencity.constant.AppConstant;
 import greencity.dto.econews.EcoNewsDto;
 import greencity.entity.EcoNews;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -39,6 +41,7 @@ class EcoNewsDtoMapperTest {
             .title(ecoNews.getTitle())
             .shortInfo(ecoNews.getShortInfo())
             .imagePath(ecoNews.getImagePath())
+            .imageVariants(Map.of())
             .likes(ecoNews.getUsersLikedNews().size())
             .author(ModelUtils.getEcoNewsAuthorDto())
             .creationDate(ecoNews.getCreationDate())
@@ -47,4 +50,38 @@ class EcoNewsDtoMapperTest {
 
         assertEquals(expected, ecoNewsDtoMapper.convert(ecoNews));
     }
+
+    @Test
+    void convertExposesStoredImageVariants() {
+        EcoNews ecoNews = ModelUtils.getEcoNewsForMethodConvertTest();
+        String base = "https://storage/images/123e4567-e89b-12d3-a456-426614174000";
+        ecoNews.setImagePath(base + "_original.jpeg");
+        ecoNews.setImageVariants("123e4567-e89b-12d3-a456-426614174000:320,1280");
+
+        EcoNewsDto actual = ecoNewsDtoMapper.convert(ecoNews);
+
+        assertEquals(Map.of(320, base + "_w320.jpg", 1280, base + "_w1280.jpg"), actual.getImageVariants());
+    }
+
+    @Test
+    void convertExposesNoImageVariantsUntilTheyAreStored() {
+        EcoNews ecoNews = ModelUtils.getEcoNewsForMethodConvertTest();
+        ecoNews.setImagePath("https://storage/images/123e4567-e89b-12d3-a456-426614174000_original.jpeg");
+
+        assertEquals(Map.of(), ecoNewsDtoMapper.convert(ecoNews).getImageVariants());
+    }
+
+    @Test
+    void mapAllToListTest() {
+        EcoNews ecoNews = ModelUtils.getEcoNewsForMethodConvertTest();
+        ecoNews.getEcoNewsComments().get(0).setDeleted(true);
+
+        List<EcoNewsDto> actual = ecoNewsDtoMapper.mapAllToList(List.of(ecoNews, ecoNews));
+
+        assertEquals(2, actual.size());
+        assertEquals(List.of("News"), actual.get(0).getTags());
+        assertEquals(List.of("Новини"), actual.get(0).getTagsUa());
+        assertEquals(0, actual.get(0).getCountComments());
+        assertEquals(actual.get(0), actual.get(1));
+    }
 }
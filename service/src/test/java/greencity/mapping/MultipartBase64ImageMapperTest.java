@@ -0,0 +1,106 @@
+package greencity.mapping;
+
+import greencity.constant.ErrorMessage;
+import greencity.exception.exceptions.NotSavedException;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultipartBase64ImageMapperTest {
+    private final MultipartBase64ImageMapper mapper = new MultipartBase64ImageMapper(100_000, 64);
+
+    @Test
+    void convertPassesSmallPngThrough() throws IOException {
+        byte[] png = encode(new BufferedImage(32, 16, BufferedImage.TYPE_INT_RGB), "png");
+
+        MultipartFile actual = mapper.convert(toDataUrl("image/png", png));
+
+        assertArrayEquals(png, actual.getBytes());
+        assertEquals("image/png", actual.getContentType());
+        assertEquals("image.png", actual.getOriginalFilename());
+        assertEquals("mainFile", actual.getName());
+    }
+
+    @Test
+    void convertDetectsFormatByMagicBytes() throws IOException {
+        byte[] jpeg = encode(new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        MultipartFile actual = mapper.convert(toDataUrl("image/png", jpeg));
+
+        assertEquals("image/jpeg", actual.getContentType());
+        assertEquals("image.jpg", actual.getOriginalFilename());
+    }
+
+    @Test
+    void convertDownscalesImageLargerThanMaxSide() throws IOException {
+        byte[] png = encode(new BufferedImage(256, 128, BufferedImage.TYPE_INT_RGB), "png");
+
+        MultipartFile actual = mapper.convert(toDataUrl("image/png", png));
+
+        BufferedImage image = ImageIO.read(actual.getInputStream());
+        assertEquals(64, image.getWidth());
+        assertEquals(32, image.getHeight());
+    }
+
+    @Test
+    void convertReencodesImageLargerThanMaxSize() throws IOException {
+        BufferedImage noise = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(1);
+        for (int x = 0; x < 64; x++) {
+            for (int y = 0; y < 64; y++) {
+                noise.setRGB(x, y, random.nextInt());
+            }
+        }
+        byte[] png = encode(noise, "png");
+        MultipartBase64ImageMapper smallMapper = new MultipartBase64ImageMapper(png.length / 2, 64);
+
+        MultipartFile actual = smallMapper.convert(toDataUrl("image/png", png));
+
+        assertTrue(actual.getSize() <= png.length / 2);
+        assertEquals("image/png", actual.getContentType());
+    }
+
+    @Test
+    void convertGifToPng() throws IOException {
+        byte[] gif = encode(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "gif");
+
+        MultipartFile actual = mapper.convert(toDataUrl("image/gif", gif));
+
+        assertEquals("image/png", actual.getContentType());
+        assertEquals(8, ImageIO.read(new ByteArrayInputStream(actual.getBytes())).getWidth());
+    }
+
+    @Test
+    void convertUnknownFormatThrowsException() {
+        String image = toDataUrl("image/png", new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        NotSavedException exception = assertThrows(NotSavedException.class, () -> mapper.convert(image));
+        assertEquals(ErrorMessage.BASE64_IMAGE_NOT_CONVERTED, exception.getMessage());
+    }
+
+    @Test
+    void convertInvalidBase64ThrowsException() {
+        assertThrows(NotSavedException.class, () -> mapper.convert("data:image/png;base64,###"));
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, format, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static String toDataUrl(String contentType, byte[] content) {
+        return "data:" + contentType + ";base64," + Base64.getEncoder().encodeToString(content);
+    }
+}
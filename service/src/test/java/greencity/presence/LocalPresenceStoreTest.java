@@ -0,0 +1,45 @@
+package greencity.presence;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalPresenceStoreTest {
+    @Test
+    void touchKeepsLatestTime() {
+        LocalPresenceStore store = new LocalPresenceStore();
+        store.touch(1L, 200L);
+        store.touch(1L, 100L);
+
+        assertEquals(Map.of(1L, 200L), store.findLastSeen(Arrays.asList(1L, 2L, null)));
+    }
+
+    @Test
+    void drainPendingReturnsTimesOnce() {
+        LocalPresenceStore store = new LocalPresenceStore();
+        store.touch(1L, 100L);
+        store.touch(2L, 200L);
+
+        assertEquals(Map.of(1L, 100L, 2L, 200L), store.drainPending());
+        assertTrue(store.drainPending().isEmpty());
+
+        store.touch(1L, 300L);
+        assertEquals(Map.of(1L, 300L), store.drainPending());
+    }
+
+    @Test
+    void evictSeenBeforeForgetsOfflineUsers() {
+        LocalPresenceStore store = new LocalPresenceStore();
+        store.touch(1L, 100L);
+        store.touch(2L, 200L);
+
+        store.evictSeenBefore(150L);
+
+        assertEquals(Map.of(2L, 200L), store.findLastSeen(List.of(1L, 2L)));
+        assertEquals(Map.of(1L, 100L, 2L, 200L), store.drainPending());
+    }
+}
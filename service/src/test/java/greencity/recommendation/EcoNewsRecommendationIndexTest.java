@@ -0,0 +1,77 @@
+package greencity.recommendation;
+
+import greencity.dto.econews.EcoNewsTagIdDto;
+import greencity.entity.EcoNews;
+import greencity.entity.Tag;
+import greencity.repository.EcoNewsRepo;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EcoNewsRecommendationIndexTest {
+    private static final ZonedDateTime NOW = ZonedDateTime.now();
+
+    @Mock
+    private EcoNewsRepo ecoNewsRepo;
+    @InjectMocks
+    private EcoNewsRecommendationIndex ecoNewsRecommendationIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(ecoNewsRepo.findAllEcoNewsTagIds()).thenReturn(Arrays.asList(
+            new EcoNewsTagIdDto(1L, NOW.minusDays(5), 1L),
+            new EcoNewsTagIdDto(1L, NOW.minusDays(5), 2L),
+            new EcoNewsTagIdDto(2L, NOW.minusDays(4), 1L),
+            new EcoNewsTagIdDto(3L, NOW.minusDays(3), 1L),
+            new EcoNewsTagIdDto(3L, NOW.minusDays(3), 2L),
+            new EcoNewsTagIdDto(4L, NOW.minusDays(1), 3L),
+            new EcoNewsTagIdDto(5L, NOW.minusDays(2), 3L)));
+    }
+
+    @Test
+    void findRecommendedIdsOrdersByCommonTagsThenByCreationDateTest() {
+        assertEquals(Arrays.asList(3L, 2L, 4L), ecoNewsRecommendationIndex.findRecommendedIds(1L, 3));
+        verify(ecoNewsRepo).findAllEcoNewsTagIds();
+    }
+
+    @Test
+    void findRecommendedIdsReturnsNewestForUnknownEcoNewsTest() {
+        assertEquals(Arrays.asList(4L, 5L, 3L), ecoNewsRecommendationIndex.findRecommendedIds(10L, 3));
+    }
+
+    @Test
+    void putUpdatesTagsOfEcoNewsTest() {
+        ecoNewsRecommendationIndex.rebuild();
+        EcoNews ecoNews = EcoNews.builder()
+            .id(2L)
+            .creationDate(NOW.minusDays(4))
+            .tags(Collections.singletonList(Tag.builder().id(3L).build()))
+            .build();
+
+        ecoNewsRecommendationIndex.put(ecoNews);
+
+        assertEquals(Arrays.asList(5L, 2L, 3L), ecoNewsRecommendationIndex.findRecommendedIds(4L, 3));
+    }
+
+    @Test
+    void removeAllRemovesEcoNewsFromRecommendationsTest() {
+        ecoNewsRecommendationIndex.rebuild();
+
+        ecoNewsRecommendationIndex.removeAll(Collections.singletonList(3L));
+
+        List<Long> actual = ecoNewsRecommendationIndex.findRecommendedIds(1L, 3);
+        assertEquals(Arrays.asList(2L, 4L, 5L), actual);
+    }
+}
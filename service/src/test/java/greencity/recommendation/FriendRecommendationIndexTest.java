@@ -0,0 +1,259 @@
+package greencity.recommendation;
+
+import greencity.repository.FriendRecommendationRepo;
+import greencity.repository.FriendRecommendationRepo.CandidateCountHandler;
+import greencity.service.FriendGraphService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static greencity.repository.FriendRecommendationRepo.COMMENTED_ECO_NEWS;
+import static greencity.repository.FriendRecommendationRepo.HABITS;
+import static greencity.repository.FriendRecommendationRepo.MUTUAL_FRIENDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FriendRecommendationIndexTest {
+    private static final long[][] HABITS_ROWS = {{1, 1}, {1, 2}, {2, 1}, {2, 2}, {3, 1}, {4, 3}};
+    private static final long[][] COMMENTED_ECO_NEWS_ROWS =
+        {{1, 1}, {1, 2}, {1, 3}, {5, 1}, {5, 2}, {5, 3}, {3, 1}};
+    private static final long[][] FRIENDS_ROWS = {{1, 6}, {6, 7}, {8, 1}};
+
+    @Mock
+    private FriendRecommendationRepo friendRecommendationRepo;
+    @Mock
+    private FriendGraphService friendGraphService;
+    private FriendRecommendationIndex friendRecommendationIndex;
+    private Map<Long, TreeSet<Long>> habitUserIds;
+    private Map<Long, TreeSet<Long>> commentingUserIds;
+    private Map<Long, TreeSet<Long>> friendIds;
+
+    @BeforeEach
+    void setUp() {
+        habitUserIds = links(HABITS_ROWS, false);
+        commentingUserIds = links(COMMENTED_ECO_NEWS_ROWS, false);
+        friendIds = links(FRIENDS_ROWS, true);
+        friendRecommendationIndex =
+            new FriendRecommendationIndex(friendRecommendationRepo, friendGraphService, 10, 100, 5);
+        lenient().when(friendRecommendationRepo.findMaxUserId()).thenReturn(8L);
+        lenient().doAnswer(invocation -> {
+            candidateCounts(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2),
+                invocation.getArgument(3));
+            return null;
+        }).when(friendRecommendationRepo).findCandidateCounts(anyLong(), anyLong(), anyInt(), any());
+        lenient().when(friendRecommendationRepo.findHabitUserIds(anyLong(), anyInt()))
+            .thenAnswer(invocation -> userIds(habitUserIds, invocation.getArgument(0), invocation.getArgument(1)));
+        lenient().when(friendRecommendationRepo.findCommentingUserIds(anyLong(), anyInt()))
+            .thenAnswer(invocation -> userIds(commentingUserIds, invocation.getArgument(0),
+                invocation.getArgument(1)));
+        lenient().when(friendRecommendationRepo.countHabitAssigns(anyLong(), anyLong()))
+            .thenAnswer(invocation -> count(habitUserIds, invocation.getArgument(0), invocation.getArgument(1)));
+        lenient().when(friendRecommendationRepo.existsHabitAssign(anyLong(), anyLong()))
+            .thenAnswer(invocation -> count(habitUserIds, invocation.getArgument(0), invocation.getArgument(1)) > 0);
+        lenient().when(friendRecommendationRepo.countComments(anyLong(), anyLong()))
+            .thenAnswer(
+                invocation -> count(commentingUserIds, invocation.getArgument(0), invocation.getArgument(1)));
+        lenient().when(friendGraphService.findFriendIds(any()))
+            .thenAnswer(invocation -> friendIds.getOrDefault(invocation.getArgument(0), new TreeSet<>()).stream()
+                .mapToLong(Long::longValue));
+    }
+
+    @Test
+    void findRecommendedIdsOrdersByScoreAndSkipsFriendsTest() {
+        friendRecommendationIndex.rebuild();
+
+        assertEquals(List.of(5L, 2L, 3L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+        assertEquals(List.of(5L, 2L), friendRecommendationIndex.findRecommendedIds(1L, 2));
+        verify(friendRecommendationRepo).findMaxUserId();
+        verify(friendRecommendationRepo, times(2)).findCandidateCounts(anyLong(), anyLong(), anyInt(), any());
+        verify(friendRecommendationRepo, never()).findRecommendedFriendIds(anyLong(), anyInt());
+    }
+
+    @Test
+    void findRecommendedIdsBeforeRebuildUsesDatabaseFunctionTest() {
+        when(friendRecommendationRepo.findRecommendedFriendIds(1L, 4)).thenReturn(List.of(6L, 2L, 8L, 3L));
+
+        assertEquals(List.of(2L, 3L), friendRecommendationIndex.findRecommendedIds(1L, 2));
+        verify(friendRecommendationRepo, never()).findCandidateCounts(anyLong(), anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void rebuildKeepsBestCandidatesOnlyTest() {
+        friendRecommendationIndex = new FriendRecommendationIndex(friendRecommendationRepo, friendGraphService,
+            2, 100, 5);
+
+        friendRecommendationIndex.rebuild();
+
+        assertEquals(List.of(5L, 2L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+    }
+
+    @Test
+    void addHabitCountsSharedHabitTest() {
+        friendRecommendationIndex.rebuild();
+
+        habitUserIds.get(1L).add(4L);
+        friendRecommendationIndex.addHabit(4L, 1L);
+
+        assertEquals(List.of(5L, 2L, 3L, 4L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+        assertEquals(List.of(1L, 2L, 3L), friendRecommendationIndex.findRecommendedIds(4L, 10));
+    }
+
+    @Test
+    void removeHabitDiscountsSharedHabitTest() {
+        friendRecommendationIndex.rebuild();
+
+        habitUserIds.get(2L).remove(2L);
+        friendRecommendationIndex.removeHabit(2L, 2L);
+
+        assertEquals(List.of(5L, 3L, 2L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+    }
+
+    @Test
+    void removeHabitKeepsHabitWithAnotherAssignTest() {
+        friendRecommendationIndex.rebuild();
+
+        friendRecommendationIndex.removeHabit(2L, 2L);
+
+        assertEquals(List.of(5L, 2L, 3L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+    }
+
+    @Test
+    void habitCrossingMaxSharedUsersIsDiscountedAndCountedBackTest() {
+        friendRecommendationIndex = new FriendRecommendationIndex(friendRecommendationRepo, friendGraphService,
+            10, 3, 5);
+        friendRecommendationIndex.rebuild();
+
+        habitUserIds.get(1L).add(4L);
+        friendRecommendationIndex.addHabit(4L, 1L);
+
+        assertEquals(List.of(5L, 2L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+        assertEquals(List.of(), friendRecommendationIndex.findRecommendedIds(4L, 10));
+
+        habitUserIds.get(1L).remove(4L);
+        friendRecommendationIndex.removeHabit(4L, 1L);
+
+        assertEquals(List.of(5L, 2L, 3L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+    }
+
+    @Test
+    void addHabitInTransactionIsCountedAfterCommitTest() {
+        friendRecommendationIndex.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            friendRecommendationIndex.addHabit(4L, 1L);
+
+            assertEquals(List.of(5L, 2L, 3L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+            habitUserIds.get(1L).add(4L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(5L, 2L, 3L, 4L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+    }
+
+    @Test
+    void addCommentedEcoNewsInRolledBackTransactionIsNotCountedTest() {
+        friendRecommendationIndex.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            friendRecommendationIndex.addCommentedEcoNews(3L, 2L);
+            friendRecommendationIndex.addCommentedEcoNews(3L, 3L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(5L, 2L, 3L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+    }
+
+    @Test
+    void addCommentedEcoNewsCountsFirstCommentOnlyTest() {
+        friendRecommendationIndex.rebuild();
+
+        commentingUserIds.get(2L).add(3L);
+        friendRecommendationIndex.addCommentedEcoNews(3L, 2L);
+        commentingUserIds.get(3L).add(3L);
+        friendRecommendationIndex.addCommentedEcoNews(3L, 3L);
+        when(friendRecommendationRepo.countComments(3L, 2L)).thenReturn(2);
+        friendRecommendationIndex.addCommentedEcoNews(3L, 2L);
+
+        assertEquals(List.of(3L, 5L, 2L, 7L), friendRecommendationIndex.findRecommendedIds(1L, 10));
+    }
+
+    /**
+     * Counts shared links as the candidate counts query does.
+     */
+    private void candidateCounts(long fromUserId, long toUserId, int maxSharedUsers,
+        CandidateCountHandler handler) {
+        Map<Long, Map<Long, int[]>> counts = new TreeMap<>();
+        countShared(habitUserIds, HABITS, fromUserId, toUserId, maxSharedUsers, counts);
+        countShared(commentingUserIds, COMMENTED_ECO_NEWS, fromUserId, toUserId, maxSharedUsers, counts);
+        countShared(friendIds, MUTUAL_FRIENDS, fromUserId, toUserId, maxSharedUsers, counts);
+        counts.forEach((userId, candidates) -> candidates.forEach((candidateId, kinds) -> {
+            for (int kind = 0; kind < kinds.length; kind++) {
+                if (kinds[kind] > 0) {
+                    handler.accept(userId, candidateId, kind, kinds[kind]);
+                }
+            }
+        }));
+    }
+
+    private static void countShared(Map<Long, TreeSet<Long>> userIdsByTargetId, int kind, long fromUserId,
+        long toUserId, int maxSharedUsers, Map<Long, Map<Long, int[]>> counts) {
+        for (TreeSet<Long> userIds : userIdsByTargetId.values()) {
+            if (userIds.size() > maxSharedUsers) {
+                continue;
+            }
+            for (Long userId : userIds.subSet(fromUserId, true, toUserId, true)) {
+                for (Long candidateId : userIds) {
+                    if (!candidateId.equals(userId)) {
+                        counts.computeIfAbsent(userId, id -> new TreeMap<>())
+                            .computeIfAbsent(candidateId, id -> new int[3])[kind]++;
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Long> userIds(Map<Long, TreeSet<Long>> userIdsByTargetId, long targetId, int limit) {
+        List<Long> userIds = new ArrayList<>(userIdsByTargetId.getOrDefault(targetId, new TreeSet<>()));
+        return userIds.subList(0, Math.min(limit, userIds.size()));
+    }
+
+    private static int count(Map<Long, TreeSet<Long>> userIdsByTargetId, long userId, long targetId) {
+        return userIdsByTargetId.getOrDefault(targetId, new TreeSet<>()).contains(userId) ? 1 : 0;
+    }
+
+    /**
+     * Returns users by habit, eco news or, for friendships, by friend.
+     */
+    private static Map<Long, TreeSet<Long>> links(long[][] rows, boolean bothWays) {
+        Map<Long, TreeSet<Long>> userIdsByTargetId = new HashMap<>();
+        for (long[] row : rows) {
+            userIdsByTargetId.computeIfAbsent(row[1], id -> new TreeSet<>()).add(row[0]);
+            if (bothWays) {
+                userIdsByTargetId.computeIfAbsent(row[0], id -> new TreeSet<>()).add(row[1]);
+            }
+        }
+        return userIdsByTargetId;
+    }
+}
@@ -0,0 +1,69 @@
+package greencity.security.service;
+
+import greencity.enums.Role;
+import greencity.security.dto.VerifiedAccessTokenDto;
+import greencity.security.jwt.JwtTool;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.SignatureException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AccessTokenVerificationServiceImplTest {
+    private static final String TOKEN_KEY = "access-token-key";
+    private final JwtTool tokenIssuer = new JwtTool(120, 480, TOKEN_KEY);
+    private JwtTool jwtTool;
+    private AccessTokenVerificationServiceImpl accessTokenVerificationService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTool = spy(new JwtTool(120, 480, TOKEN_KEY));
+        accessTokenVerificationService = new AccessTokenVerificationServiceImpl(jwtTool, 10, 60);
+    }
+
+    @Test
+    void verifyReturnsClaimsOfToken() {
+        String accessToken = tokenIssuer.createAccessToken("test@gmail.com", Role.ROLE_ADMIN);
+
+        VerifiedAccessTokenDto actual = accessTokenVerificationService.verify(accessToken);
+
+        assertEquals("test@gmail.com", actual.getEmail());
+        assertEquals(List.of(Role.ROLE_ADMIN.name()), actual.getRoles());
+        assertNotNull(actual.getExpiration());
+    }
+
+    @Test
+    void verifyChecksSignatureOfCachedTokenOnce() {
+        String accessToken = tokenIssuer.createAccessToken("test@gmail.com", Role.ROLE_USER);
+
+        VerifiedAccessTokenDto first = accessTokenVerificationService.verify(accessToken);
+        VerifiedAccessTokenDto second = accessTokenVerificationService.verify(accessToken);
+
+        assertSame(first, second);
+        verify(jwtTool, times(1)).getAccessSecretKey();
+    }
+
+    @Test
+    void verifyRejectsTokenSignedWithOtherKey() {
+        String accessToken = new JwtTool(120, 480, "other-key").createAccessToken("test@gmail.com", Role.ROLE_USER);
+
+        assertThrows(SignatureException.class, () -> accessTokenVerificationService.verify(accessToken));
+        assertThrows(SignatureException.class, () -> accessTokenVerificationService.verify(accessToken));
+    }
+
+    @Test
+    void verifyRejectsExpiredToken() {
+        String accessToken = new JwtTool(-1, 480, TOKEN_KEY).createAccessToken("test@gmail.com",
+            Role.ROLE_USER);
+
+        assertThrows(ExpiredJwtException.class, () -> accessTokenVerificationService.verify(accessToken));
+    }
+}
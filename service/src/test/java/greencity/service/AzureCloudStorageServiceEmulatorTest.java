@@ -0,0 +1,86 @@
+package greencity.service;
+
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.modelmapper.ModelMapper;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs uploads against local blob emulator, e.g. Azurite started with
+ * {@code docker run -p 10000:10000 mcr.microsoft.com/azure-storage/azurite
+ * azurite-blob --blobHost 0.0.0.0}. Enabled when
+ * {@code AZURITE_CONNECTION_STRING} environment variable is set.
+ */
+@EnabledIfEnvironmentVariable(named = "AZURITE_CONNECTION_STRING", matches = ".+")
+class AzureCloudStorageServiceEmulatorTest {
+    private static final String CONTAINER_NAME = "greencity-test";
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    private BlobContainerClient containerClient;
+    private AzureCloudStorageService azureCloudStorageService;
+
+    @BeforeEach
+    void setUp() {
+        String connectionString = System.getenv("AZURITE_CONNECTION_STRING");
+        containerClient = new BlobServiceClientBuilder()
+            .connectionString(connectionString)
+            .buildClient()
+            .getBlobContainerClient(CONTAINER_NAME);
+        if (!containerClient.exists()) {
+            containerClient.create();
+        }
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("azure.connection.string", connectionString)
+            .withProperty("azure.container.name", CONTAINER_NAME)
+            .withProperty("azure.upload.block-size", String.valueOf(BLOCK_SIZE))
+            .withProperty("azure.upload.max-concurrency", "4")
+            .withProperty("azure.upload.max-single-upload-size", String.valueOf(BLOCK_SIZE));
+        azureCloudStorageService = new AzureCloudStorageService(environment, new ModelMapper(), Runnable::run);
+    }
+
+    @Test
+    void uploadSmallFileAndDelete() {
+        byte[] content = "image".getBytes(StandardCharsets.UTF_8);
+
+        String url = azureCloudStorageService.upload(new MockMultipartFile("image", "image.png", "image/png", content));
+
+        assertArrayEquals(content, download(url));
+        azureCloudStorageService.delete(url);
+        assertFalse(containerClient.getBlobClient(blobName(url)).exists());
+    }
+
+    @Test
+    void uploadAsyncLargeFileInBlocks() {
+        byte[] content = new byte[BLOCK_SIZE * 3 + 17];
+        new Random(1).nextBytes(content);
+
+        String url = azureCloudStorageService
+            .uploadAsync(new MockMultipartFile("image", "image.png", "image/png", content))
+            .join();
+
+        assertTrue(containerClient.getBlobClient(blobName(url)).exists());
+        assertArrayEquals(content, download(url));
+        azureCloudStorageService.delete(url);
+    }
+
+    private byte[] download(String url) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        containerClient.getBlobClient(blobName(url)).download(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static String blobName(String url) {
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,73 @@
+package greencity.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import greencity.cache.InstrumentedCache;
+import greencity.dto.cache.CacheStatisticsDto;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheStatisticsServiceImplTest {
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private UserPrincipalCacheService userPrincipalCacheService;
+    @InjectMocks
+    private CacheStatisticsServiceImpl cacheStatisticsService;
+
+    @Test
+    void getAllStatisticsTest() {
+        CaffeineCache localCache = new CaffeineCache("local_cache", Caffeine.newBuilder().recordStats().build());
+        localCache.put("key", "value");
+        localCache.get("key");
+        localCache.get("missing");
+        CacheStatisticsDto principalStatistics = CacheStatisticsDto.builder()
+            .cacheName("user_principal_cache")
+            .build();
+        when(cacheManager.getCacheNames()).thenReturn(Arrays.asList("local_cache"));
+        when(cacheManager.getCache("local_cache")).thenReturn(localCache);
+        when(userPrincipalCacheService.getStatistics()).thenReturn(principalStatistics);
+
+        List<CacheStatisticsDto> statistics = cacheStatisticsService.getAllStatistics();
+
+        assertEquals(2, statistics.size());
+        CacheStatisticsDto local = statistics.get(0);
+        assertEquals("local_cache", local.getCacheName());
+        assertEquals(1L, local.getSize());
+        assertEquals(1L, local.getHitCount());
+        assertEquals(1L, local.getMissCount());
+        assertEquals(0.5, local.getHitRatio());
+        assertEquals(principalStatistics, statistics.get(1));
+    }
+
+    @Test
+    void getAllStatisticsOfInstrumentedCacheTest() {
+        InstrumentedCache sharedCache = new InstrumentedCache(new ConcurrentMapCache("shared_cache"));
+        sharedCache.put("key", "value");
+        sharedCache.get("key");
+        sharedCache.get("key", () -> "value");
+        sharedCache.get("missing", () -> "value");
+        when(cacheManager.getCacheNames()).thenReturn(Arrays.asList("shared_cache"));
+        when(cacheManager.getCache("shared_cache")).thenReturn(sharedCache);
+        when(userPrincipalCacheService.getStatistics()).thenReturn(new CacheStatisticsDto());
+
+        CacheStatisticsDto shared = cacheStatisticsService.getAllStatistics().get(0);
+
+        assertEquals("shared_cache", shared.getCacheName());
+        assertEquals(2L, shared.getHitCount());
+        assertEquals(1L, shared.getMissCount());
+        assertEquals(2.0 / 3, shared.getHitRatio());
+        assertEquals(1L, shared.getLoadCount());
+    }
+}
@@ -0,0 +1,154 @@
+package greencity.service;
+
+import greencity.constant.ErrorMessage;
+import greencity.dto.econewscomment.AmountCommentLikesDto;
+import greencity.dto.econewscomment.CommentLikesBroadcastStatisticsDto;
+import greencity.dto.econewscomment.EcoNewsCommentAmountDto;
+import greencity.exception.exceptions.BadRequestException;
+import greencity.repository.EcoNewsCommentRepo;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentLikesBroadcastServiceImplTest {
+    private static final Long COMMENT_ID = 1L;
+    private static final Long USER_ID = 2L;
+    private static final String TOPIC = "/topic/1/comment";
+
+    @Mock
+    private EcoNewsCommentRepo ecoNewsCommentRepo;
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+    @Mock
+    private ObjectProvider<ThreadPoolTaskExecutor> clientOutboundChannelExecutor;
+
+    private CommentLikesBroadcastServiceImpl commentLikesBroadcastService;
+
+    @BeforeEach
+    void setUp() {
+        commentLikesBroadcastService = new CommentLikesBroadcastServiceImpl(ecoNewsCommentRepo, messagingTemplate,
+            clientOutboundChannelExecutor, 60, 10);
+    }
+
+    @Test
+    void requestBroadcastCommentThatDoesntExistThrowException() {
+        when(ecoNewsCommentRepo.existsById(COMMENT_ID)).thenReturn(false);
+
+        BadRequestException badRequestException = assertThrows(BadRequestException.class,
+            () -> commentLikesBroadcastService.requestBroadcast(COMMENT_ID, USER_ID));
+        assertEquals(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION, badRequestException.getMessage());
+    }
+
+    @Test
+    void flushCoalescesRequestsIntoOneMessage() {
+        List<Long> ids = List.of(COMMENT_ID);
+        when(ecoNewsCommentRepo.existsById(COMMENT_ID)).thenReturn(true);
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentAmountDto(COMMENT_ID, 5L)));
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, USER_ID)).thenReturn(ids);
+
+        commentLikesBroadcastService.requestBroadcast(COMMENT_ID, USER_ID);
+        commentLikesBroadcastService.requestBroadcast(COMMENT_ID, USER_ID);
+        commentLikesBroadcastService.requestBroadcast(COMMENT_ID, USER_ID);
+        commentLikesBroadcastService.flush();
+        commentLikesBroadcastService.flush();
+
+        verify(messagingTemplate).convertAndSend(TOPIC, new AmountCommentLikesDto(COMMENT_ID, 5, USER_ID, true));
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    void likeToggledUpdatesInMemoryCount() {
+        List<Long> ids = List.of(COMMENT_ID);
+        when(ecoNewsCommentRepo.existsById(COMMENT_ID)).thenReturn(true);
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids)).thenReturn(Collections.emptyList());
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, USER_ID)).thenReturn(Collections.emptyList());
+        commentLikesBroadcastService.requestBroadcast(COMMENT_ID, USER_ID);
+        commentLikesBroadcastService.flush();
+
+        commentLikesBroadcastService.likeToggled(COMMENT_ID, 3L, true);
+        commentLikesBroadcastService.likeToggled(COMMENT_ID, USER_ID, true);
+        commentLikesBroadcastService.flush();
+
+        verify(messagingTemplate).convertAndSend(TOPIC, new AmountCommentLikesDto(COMMENT_ID, 0, USER_ID, false));
+        verify(messagingTemplate).convertAndSend(TOPIC, new AmountCommentLikesDto(COMMENT_ID, 2, 3L, true));
+        verify(messagingTemplate).convertAndSend(TOPIC, new AmountCommentLikesDto(COMMENT_ID, 2, USER_ID, true));
+        verify(ecoNewsCommentRepo).countLikesByCommentIds(ids);
+    }
+
+    @Test
+    void flushSendsLikedStateOfEveryUser() {
+        List<Long> ids = List.of(COMMENT_ID);
+        when(ecoNewsCommentRepo.existsById(COMMENT_ID)).thenReturn(true);
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentAmountDto(COMMENT_ID, 5L)));
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, 4L)).thenReturn(ids);
+
+        commentLikesBroadcastService.likeToggled(COMMENT_ID, USER_ID, true);
+        commentLikesBroadcastService.likeToggled(COMMENT_ID, 3L, false);
+        commentLikesBroadcastService.requestBroadcast(COMMENT_ID, 4L);
+        commentLikesBroadcastService.requestBroadcast(COMMENT_ID, USER_ID);
+        commentLikesBroadcastService.flush();
+
+        verify(messagingTemplate).convertAndSend(TOPIC, new AmountCommentLikesDto(COMMENT_ID, 5, USER_ID, true));
+        verify(messagingTemplate).convertAndSend(TOPIC, new AmountCommentLikesDto(COMMENT_ID, 5, 3L, false));
+        verify(messagingTemplate).convertAndSend(TOPIC, new AmountCommentLikesDto(COMMENT_ID, 5, 4L, true));
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    void flushReadsPersistedCountAgainAfterRefreshTime() {
+        commentLikesBroadcastService = new CommentLikesBroadcastServiceImpl(ecoNewsCommentRepo, messagingTemplate,
+            clientOutboundChannelExecutor, 60, 0);
+        List<Long> ids = List.of(COMMENT_ID);
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentAmountDto(COMMENT_ID, 5L)))
+            .thenReturn(List.of(new EcoNewsCommentAmountDto(COMMENT_ID, 7L)));
+        commentLikesBroadcastService.likeToggled(COMMENT_ID, USER_ID, true);
+        commentLikesBroadcastService.flush();
+
+        commentLikesBroadcastService.likeToggled(COMMENT_ID, USER_ID, true);
+        commentLikesBroadcastService.flush();
+
+        verify(messagingTemplate).convertAndSend(TOPIC, new AmountCommentLikesDto(COMMENT_ID, 5, USER_ID, true));
+        verify(messagingTemplate).convertAndSend(TOPIC, new AmountCommentLikesDto(COMMENT_ID, 7, USER_ID, true));
+    }
+
+    @Test
+    void flushWithoutPendingBroadcastsSendsNothing() {
+        commentLikesBroadcastService.flush();
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void getStatistics() {
+        when(ecoNewsCommentRepo.existsById(COMMENT_ID)).thenReturn(true);
+        when(clientOutboundChannelExecutor.getIfAvailable()).thenReturn(null);
+        commentLikesBroadcastService.requestBroadcast(COMMENT_ID, null);
+
+        CommentLikesBroadcastStatisticsDto statistics = commentLikesBroadcastService.getStatistics();
+
+        assertEquals(1, statistics.getReceivedEvents());
+        assertEquals(0, statistics.getSentMessages());
+        assertEquals(1, statistics.getPendingTopics());
+        assertEquals(0, statistics.getOutboundQueueDepth());
+    }
+}
@@ -17,6 +17,7 @@ import greencity.dto.econews.EcoNewsVO;
 import greencity.dto.econewscomment.AddEcoNewsCommentDtoRequest;
 import greencity.dto.econewscomment.AddEcoNewsCommentDtoResponse;
 import greencity.dto.econewscomment.AmountCommentLikesDto;
+import greencity.dto.econewscomment.EcoNewsCommentAmountDto;
 import greencity.dto.econewscomment.EcoNewsCommentDto;
 import greencity.dto.econewscomment.EcoNewsCommentVO;
 import greencity.dto.user.UserVO;
@@ -26,6 +27,9 @@ import greencity.entity.User;
 import greencity.enums.Role;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
+import greencity.mapping.EcoNewsCommentDtoMapper;
+import greencity.rating.RatingCalculation;
+import greencity.recommendation.FriendRecommendationIndex;
 import greencity.repository.EcoNewsCommentRepo;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -46,7 +50,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class EcoNewsCommentServiceImplTest {
@@ -57,11 +60,17 @@ class EcoNewsCommentServiceImplTest {
     @Mock
     private ModelMapper modelMapper;
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private CommentLikesBroadcastService commentLikesBroadcastService;
     @Mock
     private HttpServletRequest httpServletRequest;
     @Mock
     EcoNewsRepo ecoNewsRepo;
+    @Mock
+    private EcoNewsCommentDtoMapper ecoNewsCommentDtoMapper;
+    @Mock
+    private RatingCalculation ratingCalculation;
+    @Mock
+    private FriendRecommendationIndex friendRecommendationIndex;
     @InjectMocks
     private EcoNewsCommentServiceImpl ecoNewsCommentService;
 
@@ -86,6 +95,7 @@ class EcoNewsCommentServiceImplTest {
 
         ecoNewsCommentService.save(1L, addEcoNewsCommentDtoRequest, userVO);
         verify(ecoNewsCommentRepo).save(any(EcoNewsComment.class));
+        verify(friendRecommendationIndex).addCommentedEcoNews(userVO.getId(), 1L);
     }
 
     @Test
@@ -180,12 +190,19 @@ class EcoNewsCommentServiceImplTest {
         when(ecoNewsService.findById(1L)).thenReturn(ModelUtils.getEcoNewsVO());
         when(ecoNewsCommentRepo.findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(pageable, ecoNewsId))
             .thenReturn(pages);
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
-        when(ecoNewsCommentRepo.countByParentCommentId(any())).thenReturn(0);
+        List<Long> ids = List.of(ecoNewsComment.getId());
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentAmountDto(ecoNewsComment.getId(), 5L)));
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, userVO.getId())).thenReturn(ids);
+        when(ecoNewsCommentRepo.countRepliesByParentCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentAmountDto(ecoNewsComment.getId(), 2L)));
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsComment, 5, true)).thenReturn(ecoNewsCommentDto);
 
         PageableDto<EcoNewsCommentDto> allComments =
             ecoNewsCommentService.findAllComments(pageable, userVO, ecoNewsId);
         assertEquals(ecoNewsCommentDto, allComments.getPage().get(0));
+        assertEquals(2, allComments.getPage().get(0).getReplies());
+        verify(ecoNewsCommentRepo, never()).countByParentCommentId(any());
         assertEquals(4, allComments.getTotalElements());
         assertEquals(1, allComments.getCurrentPage());
         assertEquals(1, allComments.getPage().size());
@@ -206,7 +223,10 @@ class EcoNewsCommentServiceImplTest {
 
         when(ecoNewsCommentRepo.findAllByParentCommentIdOrderByCreatedDateDesc(pageable, parentCommentId))
             .thenReturn(pages);
-        when(modelMapper.map(ecoNewsCommentChild, EcoNewsCommentDto.class))
+        List<Long> ids = List.of(ecoNewsCommentChild.getId());
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids)).thenReturn(Collections.emptyList());
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, userVO.getId())).thenReturn(Collections.emptyList());
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsCommentChild, 0, false))
             .thenReturn(ModelUtils.getEcoNewsCommentDto());
 
         PageableDto<EcoNewsCommentDto> allReplies =
@@ -352,6 +372,7 @@ class EcoNewsCommentServiceImplTest {
         ecoNewsCommentService.like(commentId, userVO);
 
         verify(ecoNewsService).likeComment(userVO, ecoNewsCommentVO);
+        verify(commentLikesBroadcastService).likeToggled(commentId, 2L, true);
     }
 
     @Test
@@ -372,6 +393,7 @@ class EcoNewsCommentServiceImplTest {
         ecoNewsCommentService.like(commentId, userVO);
 
         verify(ecoNewsService).unlikeComment(userVO, ecoNewsCommentVO);
+        verify(commentLikesBroadcastService).likeToggled(commentId, userVO.getId(), false);
     }
 
     @Test
@@ -386,33 +408,16 @@ class EcoNewsCommentServiceImplTest {
         assertEquals(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION, notFoundException.getMessage());
     }
 
-    @Test
-    void countLikesCommentThatDoesntExistsThrowException() {
-        AmountCommentLikesDto amountCommentLikesDto = AmountCommentLikesDto.builder()
-            .id(1L)
-            .amountLikes(2)
-            .build();
-
-        when(ecoNewsCommentRepo.findById(amountCommentLikesDto.getId())).thenReturn(Optional.empty());
-        BadRequestException badRequestException =
-            assertThrows(BadRequestException.class, () -> ecoNewsCommentService.countLikes(amountCommentLikesDto));
-        assertEquals(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION, badRequestException.getMessage());
-    }
-
     @Test
     void countLikes() {
         AmountCommentLikesDto amountCommentLikesDto = AmountCommentLikesDto.builder()
             .id(1L)
-            .amountLikes(2)
+            .userId(2L)
             .build();
-        EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
-        ecoNewsComment.setUsersLiked(new HashSet<>());
 
-        when(ecoNewsCommentRepo.findById(amountCommentLikesDto.getId())).thenReturn(Optional.of(ecoNewsComment));
-        doNothing().when(messagingTemplate).convertAndSend("/topic/"
-            + amountCommentLikesDto.getId() + "/comment", amountCommentLikesDto);
         ecoNewsCommentService.countLikes(amountCommentLikesDto);
-        verify(ecoNewsCommentRepo).findById(1L);
+
+        verify(commentLikesBroadcastService).requestBroadcast(1L, 2L);
     }
 
     @Test
@@ -462,8 +467,13 @@ class EcoNewsCommentServiceImplTest {
         when(ecoNewsCommentRepo
             .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageRequest, 1L))
                 .thenReturn(page);
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
-        when(ecoNewsCommentRepo.countByParentCommentId(ecoNewsCommentDto.getId())).thenReturn(10);
+        List<Long> ids = List.of(ecoNewsComment.getId());
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentAmountDto(ecoNewsComment.getId(), 1L)));
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, userVO.getId())).thenReturn(ids);
+        when(ecoNewsCommentRepo.countRepliesByParentCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentAmountDto(ecoNewsComment.getId(), 10L)));
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsComment, 1, true)).thenReturn(ecoNewsCommentDto);
 
         PageableDto<EcoNewsCommentDto> actual = ecoNewsCommentService.getAllActiveComments(pageRequest, userVO, 1L);
 
@@ -487,10 +497,35 @@ class EcoNewsCommentServiceImplTest {
         when(ecoNewsCommentRepo
             .findAllByParentCommentIdAndDeletedFalseOrderByCreatedDateDesc(pageRequest, 1L))
                 .thenReturn(page);
-
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
+        List<Long> ids = List.of(ecoNewsComment.getId());
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids))
+            .thenReturn(List.of(new EcoNewsCommentAmountDto(ecoNewsComment.getId(), 1L)));
+        when(ecoNewsCommentRepo.findIdsLikedByUser(ids, userVO.getId())).thenReturn(ids);
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsComment, 1, true)).thenReturn(ecoNewsCommentDto);
 
         PageableDto<EcoNewsCommentDto> actual = ecoNewsCommentService.findAllActiveReplies(pageRequest, 1L, userVO);
         assertEquals(pageableDto, actual);
+        verify(ecoNewsCommentRepo, never()).countRepliesByParentCommentIds(any());
+    }
+
+    @Test
+    void getAllActiveCommentsForAnonymousUser() {
+        EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
+        EcoNewsCommentDto ecoNewsCommentDto = ModelUtils.getEcoNewsCommentDto();
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        Page<EcoNewsComment> page = new PageImpl<>(List.of(ecoNewsComment), pageRequest, 1);
+        List<Long> ids = List.of(ecoNewsComment.getId());
+
+        when(ecoNewsCommentRepo
+            .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageRequest, 1L))
+                .thenReturn(page);
+        when(ecoNewsCommentRepo.countLikesByCommentIds(ids)).thenReturn(Collections.emptyList());
+        when(ecoNewsCommentRepo.countRepliesByParentCommentIds(ids)).thenReturn(Collections.emptyList());
+        when(ecoNewsCommentDtoMapper.convert(ecoNewsComment, 0, false)).thenReturn(ecoNewsCommentDto);
+
+        PageableDto<EcoNewsCommentDto> actual = ecoNewsCommentService.getAllActiveComments(pageRequest, null, 1L);
+
+        assertEquals(List.of(ecoNewsCommentDto), actual.getPage());
+        verify(ecoNewsCommentRepo, never()).findIdsLikedByUser(any(), any());
     }
 }
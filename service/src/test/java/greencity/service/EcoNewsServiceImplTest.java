@@ -8,6 +8,7 @@ import greencity.ModelUtils;
 import greencity.TestConst;
 import greencity.client.RestClient;
 import greencity.constant.AppConstant;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.*;
@@ -17,20 +18,29 @@ import greencity.dto.search.SearchNewsDto;
 import greencity.dto.tag.TagVO;
 import greencity.dto.user.UserVO;
 import greencity.entity.EcoNews;
+import greencity.entity.EcoNewsReactionCounter;
 import greencity.entity.Tag;
 import greencity.entity.User;
 import greencity.enums.TagType;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
+import greencity.constant.ErrorMessage;
 import greencity.exception.exceptions.NotSavedException;
 import greencity.exception.exceptions.UnsupportedSortException;
 import greencity.filters.EcoNewsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.mapping.EcoNewsDtoMapper;
+import greencity.recommendation.EcoNewsRecommendationIndex;
+import greencity.annotations.RatingCalculationEnum;
+import greencity.rating.RatingCalculation;
+import greencity.repository.EcoNewsReactionRepo;
 import greencity.repository.EcoNewsRepo;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 
@@ -42,6 +52,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -57,6 +68,8 @@ class EcoNewsServiceImplTest {
 
     @Mock
     ModelMapper modelMapper;
+    @Spy
+    EcoNewsDtoMapper ecoNewsDtoMapper;
     @Mock
     RestClient restClient;
 
@@ -69,12 +82,23 @@ class EcoNewsServiceImplTest {
     @Mock
     FileService fileService;
 
+    @Mock
+    ImageVariantService imageVariantService;
+
     @Mock
     HttpServletRequest httpServletRequest;
 
     @Mock
     EcoNewsSearchRepo ecoNewsSearchRepo;
 
+    @Mock
+    EcoNewsRecommendationIndex ecoNewsRecommendationIndex;
+
+    @Mock
+    EcoNewsReactionRepo ecoNewsReactionRepo;
+    @Mock
+    RatingCalculation ratingCalculation;
+
     @InjectMocks
     private EcoNewsServiceImpl ecoNewsService;
 
@@ -101,7 +125,7 @@ class EcoNewsServiceImplTest {
         when(languageService.findByCode(AppConstant.DEFAULT_LANGUAGE_CODE))
             .thenReturn(dto);
         when(ecoNewsRepo.save(ecoNews)).thenReturn(ecoNews);
-        when(fileService.upload(image)).thenReturn(ModelUtils.getUrl().toString());
+        when(imageVariantService.upload(image)).thenReturn(ModelUtils.getUrl().toString());
 
         assertNotEquals(null, addEcoNewsDtoResponse);
     }
@@ -114,7 +138,7 @@ class EcoNewsServiceImplTest {
 
         when(modelMapper.map(addEcoNewsDtoRequest, EcoNews.class)).thenReturn(ecoNews);
         when(restClient.findByEmail(TestConst.EMAIL)).thenReturn(ModelUtils.getUserVO());
-        when(fileService.upload(any(MultipartFile.class))).thenReturn(ModelUtils.getUrl().toString());
+        when(imageVariantService.upload(any(MultipartFile.class))).thenReturn(ModelUtils.getUrl().toString());
         List<TagVO> tagVOList = Collections.singletonList(ModelUtils.getTagVO());
         when(tagService.findTagsByNamesAndType(anyList(), eq(TagType.ECO_NEWS))).thenReturn(tagVOList);
         when(ecoNewsRepo.save(any(EcoNews.class))).thenReturn(ecoNews);
@@ -123,6 +147,7 @@ class EcoNewsServiceImplTest {
         AddEcoNewsDtoResponse actual = ecoNewsService.save(addEcoNewsDtoRequest, image, TestConst.EMAIL);
 
         assertEquals(addEcoNewsDtoResponse, actual);
+        verify(imageVariantService).recordVariants(ModelUtils.getUrl().toString());
     }
 
     @Test
@@ -142,7 +167,7 @@ class EcoNewsServiceImplTest {
         when(modelMapper.map(addEcoNewsDtoRequest, EcoNews.class)).thenReturn(ecoNews);
         when(ecoNewsRepo.save(ecoNews)).thenThrow(DataIntegrityViolationException.class);
         when(restClient.findByEmail(TestConst.EMAIL)).thenReturn(ModelUtils.getUserVO());
-        when(fileService.upload(image)).thenReturn(ModelUtils.getUrl().toString());
+        when(imageVariantService.upload(image)).thenReturn(ModelUtils.getUrl().toString());
 
         assertThrows(NotSavedException.class, () -> ecoNewsService.save(addEcoNewsDtoRequest, image, TestConst.EMAIL));
     }
@@ -157,7 +182,7 @@ class EcoNewsServiceImplTest {
         when(modelMapper.map(addEcoNewsDtoRequest, EcoNews.class)).thenReturn(ecoNews);
         when(restClient.findByEmail(TestConst.EMAIL)).thenReturn(ModelUtils.getUserVO());
         when(modelMapper.map(ModelUtils.getUserVO(), User.class)).thenReturn(ModelUtils.getUser());
-        when(fileService.upload(any(MultipartFile.class))).thenReturn(ModelUtils.getUrl().toString());
+        when(imageVariantService.upload(any(MultipartFile.class))).thenReturn(ModelUtils.getUrl().toString());
         List<TagVO> tagVOList = Collections.singletonList(ModelUtils.getTagVO());
         List<Tag> tags = ModelUtils.getTags();
         when(tagService.findTagsByNamesAndType(anyList(), eq(TagType.ECO_NEWS))).thenReturn(tagVOList);
@@ -196,7 +221,7 @@ class EcoNewsServiceImplTest {
         List<EcoNewsDto> dtoList = Collections.singletonList(ecoNewsDto);
 
         when(ecoNewsRepo.getThreeLastEcoNews()).thenReturn(Collections.singletonList(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        doReturn(ecoNewsDto).when(ecoNewsDtoMapper).convert(ecoNews);
 
         List<EcoNewsDto> actual = ecoNewsService.getThreeLastEcoNews();
 
@@ -241,7 +266,7 @@ class EcoNewsServiceImplTest {
             0, false, false, true, true);
 
         when(ecoNewsRepo.findAllByOrderByCreationDateDesc(pageRequest)).thenReturn(translationPage);
-        when(modelMapper.map(ecoNews.get(0), EcoNewsDto.class)).thenReturn(dtoList.get(0));
+        doReturn(dtoList.get(0)).when(ecoNewsDtoMapper).convert(ecoNews.get(0));
 
         PageableAdvancedDto<EcoNewsDto> actual = ecoNewsService.findAll(pageRequest);
 
@@ -271,6 +296,48 @@ class EcoNewsServiceImplTest {
         assertEquals(pageableDto, actual);
     }
 
+    @Test
+    void findGenericAllByCursorTest() {
+        EcoNews first = ModelUtils.getEcoNews();
+        EcoNews second = ModelUtils.getEcoNews();
+        second.setId(2L);
+        when(ecoNewsRepo.findAllByOrderByCreationDateDescIdDesc(PageRequest.of(0, 2)))
+            .thenReturn(Arrays.asList(first, second));
+
+        CursorPageDto<EcoNewsGenericDto> firstPage = ecoNewsService.findGenericAllByCursor(null, 1);
+
+        assertEquals(1, firstPage.getPage().size());
+        assertTrue(firstPage.isHasNext());
+
+        ZonedDateTime cursorDate = ZonedDateTime.ofInstant(first.getCreationDate().toInstant(), ZoneOffset.UTC);
+        when(ecoNewsRepo.findAllAfterCursor(cursorDate, 1L, PageRequest.of(0, 2)))
+            .thenReturn(Collections.singletonList(second));
+
+        CursorPageDto<EcoNewsGenericDto> secondPage =
+            ecoNewsService.findGenericAllByCursor(firstPage.getNextCursor(), 1);
+
+        assertEquals(1, secondPage.getPage().size());
+        assertFalse(secondPage.isHasNext());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void findAllByUserByCursorTest() {
+        UserVO userVO = UserVO.builder().id(1L).build();
+        when(ecoNewsRepo.findAllByAuthorIdOrderByCreationDateDescIdDesc(1L, PageRequest.of(0, 3)))
+            .thenReturn(Collections.singletonList(ModelUtils.getEcoNews()));
+
+        CursorPageDto<EcoNewsGenericDto> actual = ecoNewsService.findAllByUserByCursor(userVO, "", 2);
+
+        assertEquals(1, actual.getPage().size());
+        assertFalse(actual.isHasNext());
+    }
+
+    @Test
+    void findGenericAllByInvalidCursorTest() {
+        assertThrows(BadRequestException.class, () -> ecoNewsService.findGenericAllByCursor("invalid", 1));
+    }
+
     @Test
     void findAllByUserPageInvalidSorted() {
         PageRequest pageRequest = PageRequest.of(0, 1, Sort.by("id"));
@@ -308,7 +375,7 @@ class EcoNewsServiceImplTest {
         EcoNewsDto ecoNewsDto = modelMapper.map(ecoNews, EcoNewsDto.class);
 
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        doReturn(ecoNewsDto).when(ecoNewsDtoMapper).convert(ecoNews);
 
         EcoNewsDto actual = ecoNewsService.getById(1L);
 
@@ -334,7 +401,7 @@ class EcoNewsServiceImplTest {
         PageableDto<SearchNewsDto> pageableDto = new PageableDto<>(Collections.singletonList(searchNewsDto), 4, 1, 2);
         Page<EcoNews> page = new PageImpl<>(Collections.singletonList(ecoNews), PageRequest.of(1, 3), 1);
 
-        when(ecoNewsSearchRepo.find(PageRequest.of(0, 3), "test", "en")).thenReturn(page);
+        when(ecoNewsSearchRepo.find(PageRequest.of(0, 3), "test", "en", true)).thenReturn(page);
         when(modelMapper.map(ecoNews, SearchNewsDto.class)).thenReturn(searchNewsDto);
 
         PageableDto<SearchNewsDto> actual = ecoNewsService.search("test", "en");
@@ -347,9 +414,10 @@ class EcoNewsServiceImplTest {
         List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
 
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.ofNullable(ecoNews));
-        when(ecoNewsRepo.getThreeRecommendedEcoNews(1L)).thenReturn(Collections.singletonList(ecoNews));
+        when(ecoNewsRecommendationIndex.findRecommendedIds(1L, 3)).thenReturn(Collections.singletonList(1L));
+        when(ecoNewsRepo.findAllById(Collections.singletonList(1L))).thenReturn(Collections.singletonList(ecoNews));
         when(ecoNewsRepo.getThreeLastEcoNews()).thenReturn(Collections.singletonList(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(dtoList.get(0));
+        doReturn(dtoList.get(0)).when(ecoNewsDtoMapper).convert(ecoNews);
 
         List<EcoNewsDto> actual = ecoNewsService.getThreeRecommendedEcoNews(1L);
 
@@ -375,6 +443,7 @@ class EcoNewsServiceImplTest {
         doNothing().when(ecoNewsRepo).deleteEcoNewsWithIds(listId);
         ecoNewsService.deleteAll(listId);
         verify(ecoNewsRepo, times(1)).deleteEcoNewsWithIds(listId);
+        verify(ecoNewsRecommendationIndex).removeAll(listId);
     }
 
     @Test
@@ -397,7 +466,7 @@ class EcoNewsServiceImplTest {
         List<EcoNews> ecoNews = Collections.singletonList(ModelUtils.getEcoNews());
         List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
 
-        when(modelMapper.map(ecoNews.get(0), EcoNewsDto.class)).thenReturn(dtoList.get(0));
+        doReturn(dtoList.get(0)).when(ecoNewsDtoMapper).convert(ecoNews.get(0));
         when(ecoNewsRepo.findAllByUserId(1L)).thenReturn(ecoNews);
 
         List<EcoNewsDto> actual = ecoNewsService.getAllPublishedNewsByUserId(1L);
@@ -416,9 +485,10 @@ class EcoNewsServiceImplTest {
     void getAllPublishedNewsByUserTest() {
         UserVO userVO = ModelUtils.getUserVO();
         List<EcoNews> ecoNews = Collections.singletonList(ModelUtils.getEcoNews());
-        List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
+        List<EcoNewsDto> dtoList = Collections.singletonList(ModelUtils.getEcoNewsDto());
 
         when(ecoNewsRepo.findAllByUserId(userVO.getId())).thenReturn(ecoNews);
+        doReturn(dtoList.get(0)).when(ecoNewsDtoMapper).convert(ecoNews.get(0));
 
         List<EcoNewsDto> actual = ecoNewsService.getAllPublishedNewsByUser(userVO);
         assertEquals(dtoList, actual);
@@ -430,6 +500,7 @@ class EcoNewsServiceImplTest {
         EcoNewsCommentVO ecoNewsCommentVO = ModelUtils.getEcoNewsCommentVO();
         ecoNewsService.likeComment(userVO, ecoNewsCommentVO);
         assertEquals(1, ecoNewsCommentVO.getUsersLiked().size());
+        verify(ratingCalculation).ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, userVO, null);
     }
 
     @Test
@@ -438,6 +509,7 @@ class EcoNewsServiceImplTest {
         EcoNewsCommentVO ecoNewsCommentVO = ModelUtils.getEcoNewsCommentVO();
         ecoNewsService.unlikeComment(userVO, ecoNewsCommentVO);
         assertEquals(0, ecoNewsCommentVO.getUsersLiked().size());
+        verify(ratingCalculation).ratingCalculation(RatingCalculationEnum.UNLIKE_COMMENT, userVO, null);
     }
 
     @Test
@@ -448,7 +520,7 @@ class EcoNewsServiceImplTest {
         EcoNews ecoNews1 = ModelUtils.getEcoNews();
         EcoNewsDto ecoNewsDto = ModelUtils.getEcoNewsDto();
         when(ecoNewsRepo.searchEcoNewsBy(pageable, "query")).thenReturn(page);
-        when(modelMapper.map(ecoNews1, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        doReturn(ecoNewsDto).when(ecoNewsDtoMapper).convert(ecoNews1);
         PageableAdvancedDto<EcoNewsDto> actual =
             new PageableAdvancedDto<>(Collections.singletonList(ecoNewsDto),
                 2, 1, 2, 1, true, true, true, false);
@@ -517,7 +589,7 @@ class EcoNewsServiceImplTest {
         EcoNewsDto ecoNewsDto = ModelUtils.getEcoNewsDto();
         EcoNewsSpecification ecoNewsSpecification = ecoNewsService.getSpecification(ecoNewsViewDto);
         when(ecoNewsRepo.findAll(any(EcoNewsSpecification.class), any(Pageable.class))).thenReturn(page);
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        doReturn(ecoNewsDto).when(ecoNewsDtoMapper).convert(ecoNews.get(0));
         PageableAdvancedDto<EcoNewsDto> actual =
             ecoNewsService.getFilteredDataForManagementByPage(pageable, ecoNewsViewDto);
         PageableAdvancedDto<EcoNewsDto> expected =
@@ -545,129 +617,98 @@ class EcoNewsServiceImplTest {
     @Test
     void likeTest() {
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>());
-
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.addLike(1L, userVO.getId())).thenReturn(1);
 
         ecoNewsService.like(userVO, 1L);
 
-        assertEquals(1, ecoNewsVO.getUsersLikedNews().size());
-        assertTrue(ecoNewsVO.getUsersLikedNews().contains(userVO));
-        verify(ecoNewsRepo).save(ecoNews);
+        verify(ecoNewsReactionRepo).removeDislike(1L, userVO.getId());
+        verify(ecoNewsReactionRepo, never()).removeLike(anyLong(), anyLong());
+        verify(ecoNewsRepo, never()).save(any());
     }
 
     @Test
     void givenEcoNewsLikedByUser_whenLikedByUser_shouldRemoveLike() {
-        // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.addLike(1L, userVO.getId())).thenReturn(0);
 
-        // when
-        ecoNewsService.like(userVO, 1L);
         ecoNewsService.like(userVO, 1L);
 
-        // then
-        assertEquals(0, ecoNewsVO.getUsersLikedNews().size());
+        verify(ecoNewsReactionRepo).removeLike(1L, userVO.getId());
+    }
+
+    @Test
+    void likeNotExistingEcoNewsTest() {
+        UserVO userVO = ModelUtils.getUserVO();
+        when(ecoNewsRepo.existsById(1L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> ecoNewsService.like(userVO, 1L));
+
+        verify(ecoNewsReactionRepo, never()).addLike(anyLong(), anyLong());
     }
 
     @Test
     void dislikeTest() {
-        // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersDislikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.addDislike(1L, userVO.getId())).thenReturn(1);
 
-        // when
         ecoNewsService.dislike(userVO, 1L);
-        // then
-        assertTrue(ecoNewsVO.getUsersDislikedNews().contains(userVO));
-        assertEquals(1, ecoNewsVO.getUsersDislikedNews().size());
-        verify(ecoNewsRepo).save(ecoNews);
+
+        verify(ecoNewsReactionRepo).removeLike(1L, userVO.getId());
+        verify(ecoNewsReactionRepo, never()).removeDislike(anyLong(), anyLong());
     }
 
     @Test
-    void givenEcoNewsLikedByUser_whenDislikedByUser_shouldRemoveLikeAndAddDislike() {
-        // given
+    void givenEcoNewsDislikedByUser_whenDislikedByUser_shouldRemoveDislike() {
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>(Set.of(userVO)));
-        ecoNewsVO.setUsersDislikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
-        // when
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.addDislike(1L, userVO.getId())).thenReturn(0);
+
         ecoNewsService.dislike(userVO, 1L);
-        // then
-        assertTrue(ecoNewsVO.getUsersDislikedNews().contains(userVO));
-        assertTrue(ecoNewsVO.getUsersLikedNews().isEmpty());
-        assertEquals(1, ecoNewsVO.getUsersDislikedNews().size());
-        assertEquals(0, ecoNewsVO.getUsersLikedNews().size());
+
+        verify(ecoNewsReactionRepo).removeDislike(1L, userVO.getId());
     }
 
     @Test
     void countLikesForEcoNews() {
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        Set<UserVO> usersLiked = new HashSet<>();
-        usersLiked.add(UserVO.builder().id(1L).build());
-        usersLiked.add(UserVO.builder().id(2L).build());
+        when(ecoNewsReactionRepo.findById(1L)).thenReturn(Optional.of(new EcoNewsReactionCounter(1L, 2, 3)));
 
-        ecoNewsVO.setUsersLikedNews(usersLiked);
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        assertEquals(2, ecoNewsService.countLikesForEcoNews(1L));
+        verify(ecoNewsRepo, never()).findById(anyLong());
+    }
 
-        int actualAmountOfLikes = ecoNewsService.countLikesForEcoNews(1L);
+    @Test
+    void countLikesForEcoNewsWithoutReactionsTest() {
+        when(ecoNewsReactionRepo.findById(1L)).thenReturn(Optional.empty());
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
 
-        assertEquals(2, actualAmountOfLikes);
+        assertEquals(0, ecoNewsService.countLikesForEcoNews(1L));
     }
 
     @Test
-    void countDislikesForEcoNews() {
-        // given
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        UserVO user1 = ModelUtils.getUserVO();
-        UserVO user2 = UserVO.builder().id(2L).name("User2").build();
-        ecoNewsVO.setUsersDislikedNews(Set.of(user1, user2));
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+    void countLikesForNotExistingEcoNewsTest() {
+        when(ecoNewsReactionRepo.findById(1L)).thenReturn(Optional.empty());
+        when(ecoNewsRepo.existsById(1L)).thenReturn(false);
 
-        // when
-        Integer actual = ecoNewsService.countDislikesForEcoNews(1L);
+        assertThrows(NotFoundException.class, () -> ecoNewsService.countLikesForEcoNews(1L));
+    }
 
-        // then
-        assertEquals(2, actual);
+    @Test
+    void countDislikesForEcoNews() {
+        when(ecoNewsReactionRepo.findById(1L)).thenReturn(Optional.of(new EcoNewsReactionCounter(1L, 2, 3)));
+
+        assertEquals(3, ecoNewsService.countDislikesForEcoNews(1L));
     }
 
     @Test
     void checkNewsIsLikedByUserTest() {
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        Set<UserVO> usersLiked = new HashSet<>();
-        usersLiked.add(UserVO.builder().id(2L).build());
-        usersLiked.add(UserVO.builder().id(3L).build());
-        ecoNewsVO.setUsersLikedNews(usersLiked);
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-
-        boolean isLikedByUser = ecoNewsService.checkNewsIsLikedByUser(1L, userVO);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsReactionRepo.existsLike(1L, userVO.getId())).thenReturn(false);
 
-        assertFalse(isLikedByUser);
+        assertFalse(ecoNewsService.checkNewsIsLikedByUser(1L, userVO));
     }
 
     @Test
@@ -682,14 +723,26 @@ class EcoNewsServiceImplTest {
     void uploadImage() {
         MultipartFile multipartFile = ModelUtils.getFile();
         ecoNewsService.uploadImage(multipartFile);
-        verify(fileService).upload(multipartFile);
+        verify(imageVariantService).upload(multipartFile);
     }
 
     @Test
     void uploadImages() {
+        MultipartFile[] multipartFiles = {ModelUtils.getFile(), ModelUtils.getFile()};
+        when(fileService.uploadAsync(multipartFiles[0])).thenReturn(CompletableFuture.completedFuture("first"));
+        when(fileService.uploadAsync(multipartFiles[1])).thenReturn(CompletableFuture.completedFuture("second"));
+
+        assertArrayEquals(new String[] {"first", "second"}, ecoNewsService.uploadImages(multipartFiles));
+    }
+
+    @Test
+    void uploadImagesRethrowsUploadFailure() {
         MultipartFile[] multipartFiles = {ModelUtils.getFile()};
-        ecoNewsService.uploadImages(multipartFiles);
-        Arrays.stream(multipartFiles).forEach(multipartFile -> verify(fileService).upload(multipartFile));
+        CompletableFuture<String> failedUpload = new CompletableFuture<>();
+        failedUpload.completeExceptionally(new NotSavedException(ErrorMessage.FILE_NOT_SAVED));
+        when(fileService.uploadAsync(multipartFiles[0])).thenReturn(failedUpload);
+
+        assertThrows(NotSavedException.class, () -> ecoNewsService.uploadImages(multipartFiles));
     }
 
     @Test
@@ -0,0 +1,44 @@
+package greencity.service;
+
+import greencity.repository.UserRepo;
+import java.math.BigInteger;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FriendGraphServiceImplTest {
+    @Mock
+    private UserRepo userRepo;
+
+    private FriendGraphServiceImpl friendGraphService;
+
+    @BeforeEach
+    void setUp() {
+        friendGraphService = new FriendGraphServiceImpl(userRepo, 100, 300);
+    }
+
+    @Test
+    void findFriendIdsLoadsFriendsOnce() {
+        when(userRepo.findAllUserFriendIds(1L)).thenReturn(List.of(BigInteger.valueOf(7), BigInteger.valueOf(3)));
+
+        assertArrayEquals(new long[] {3L, 7L}, friendGraphService.findFriendIds(1L).toArray());
+        assertArrayEquals(new long[] {3L, 7L}, friendGraphService.findFriendIds(1L).toArray());
+        verify(userRepo, times(1)).findAllUserFriendIds(1L);
+    }
+
+    @Test
+    void findFriendIdsOfUserWithoutFriends() {
+        when(userRepo.findAllUserFriendIds(2L)).thenReturn(List.of());
+
+        assertArrayEquals(new long[0], friendGraphService.findFriendIds(2L).toArray());
+    }
+}
@@ -0,0 +1,49 @@
+package greencity.service;
+
+import greencity.dto.user.RecommendedFriendDto;
+import greencity.entity.User;
+import greencity.recommendation.FriendRecommendationIndex;
+import greencity.repository.UserRepo;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FriendRecommendationServiceImplTest {
+    @Mock
+    private FriendRecommendationIndex friendRecommendationIndex;
+    @Mock
+    private UserRepo userRepo;
+    @InjectMocks
+    private FriendRecommendationServiceImpl friendRecommendationService;
+
+    @Test
+    void findRecommendedFriendsKeepsOrderOfIndex() {
+        when(friendRecommendationIndex.findRecommendedIds(1L, 3)).thenReturn(List.of(3L, 2L, 4L));
+        when(userRepo.findAllById(List.of(3L, 2L, 4L))).thenReturn(List.of(
+            User.builder().id(2L).name("Taras").profilePicturePath("taras.png").build(),
+            User.builder().id(3L).name("Olena").profilePicturePath("olena.png").build()));
+
+        List<RecommendedFriendDto> expected = List.of(
+            new RecommendedFriendDto(3L, "Olena", "olena.png"),
+            new RecommendedFriendDto(2L, "Taras", "taras.png"));
+        assertEquals(expected, friendRecommendationService.findRecommendedFriends(1L, 3));
+    }
+
+    @Test
+    void findRecommendedFriendsWithoutCandidates() {
+        when(friendRecommendationIndex.findRecommendedIds(1L, 3)).thenReturn(List.of());
+
+        assertEquals(List.of(), friendRecommendationService.findRecommendedFriends(1L, 3));
+        verify(userRepo, never()).findAllById(any());
+    }
+}
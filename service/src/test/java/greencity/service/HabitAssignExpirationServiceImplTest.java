@@ -0,0 +1,62 @@
+package greencity.service;
+
+import greencity.constant.AppConstant;
+import greencity.repository.HabitAssignRepo;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HabitAssignExpirationServiceImplTest {
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+
+    private HabitAssignExpirationServiceImpl habitAssignExpirationService;
+
+    @BeforeEach
+    void setUp() {
+        habitAssignExpirationService = new HabitAssignExpirationServiceImpl(habitAssignRepo, 2);
+    }
+
+    @Test
+    void expireOverdueHabitAssignsTest() {
+        when(habitAssignRepo.findLastIdOfInProgressChunk(0L, 2)).thenReturn(5L);
+        when(habitAssignRepo.findLastIdOfInProgressChunk(5L, 2)).thenReturn(9L);
+        when(habitAssignRepo.findLastIdOfInProgressChunk(9L, 2)).thenReturn(null);
+        when(habitAssignRepo.setExpiredStatusInIdRange(eq(0L), eq(5L), any(ZonedDateTime.class))).thenReturn(2);
+        when(habitAssignRepo.setExpiredStatusInIdRange(eq(5L), eq(9L), any(ZonedDateTime.class))).thenReturn(1);
+
+        assertEquals(3L, habitAssignExpirationService.expireOverdueHabitAssigns());
+    }
+
+    @Test
+    void expireOverdueHabitAssignsWithoutInProgressTest() {
+        when(habitAssignRepo.findLastIdOfInProgressChunk(0L, 2)).thenReturn(null);
+
+        assertEquals(0L, habitAssignExpirationService.expireOverdueHabitAssigns());
+        verify(habitAssignRepo, never()).setExpiredStatusInIdRange(anyLong(), anyLong(), any(ZonedDateTime.class));
+    }
+
+    @Test
+    void decayMissedHabitStreaksTest() {
+        LocalDate yesterday = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE)).minusDays(1);
+        when(habitAssignRepo.findLastIdOfInProgressChunk(0L, 2)).thenReturn(5L);
+        when(habitAssignRepo.findLastIdOfInProgressChunk(5L, 2)).thenReturn(null);
+        when(habitAssignRepo.resetMissedHabitStreaksInIdRange(0L, 5L, yesterday)).thenReturn(2);
+
+        assertEquals(2L, habitAssignExpirationService.decayMissedHabitStreaks());
+    }
+}
@@ -15,6 +15,7 @@ import greencity.dto.habit.HabitVO;
 import greencity.dto.habit.HabitsDateEnrollmentDto;
 import greencity.dto.habit.UpdateUserShoppingListDto;
 import greencity.dto.habit.UserShoppingAndCustomShoppingListsDto;
+import greencity.dto.habitstatuscalendar.HabitEnrollDateDto;
 import greencity.dto.habitstatuscalendar.HabitStatusCalendarVO;
 import greencity.dto.shoppinglistitem.BulkSaveCustomShoppingListItemDto;
 import greencity.dto.shoppinglistitem.CustomShoppingListItemResponseDto;
@@ -45,6 +46,9 @@ import greencity.exception.exceptions.UserAlreadyHasMaxNumberOfActiveHabitAssign
 import greencity.exception.exceptions.UserHasNoFriendWithIdException;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
 import greencity.exception.exceptions.UserHasReachedOutOfEnrollRange;
+import greencity.mapping.HabitAssignDtoMapper;
+import greencity.mapping.HabitDtoMapper;
+import greencity.recommendation.FriendRecommendationIndex;
 import greencity.repository.CustomShoppingListItemRepo;
 import greencity.repository.HabitAssignRepo;
 import greencity.repository.HabitRepo;
@@ -57,6 +61,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 
@@ -91,6 +96,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.doReturn;
 
 @ExtendWith(MockitoExtension.class)
 class HabitAssignServiceImplTest {
@@ -112,6 +118,10 @@ class HabitAssignServiceImplTest {
     private HabitStatusCalendarService habitStatusCalendarService;
     @Mock
     private ModelMapper modelMapper;
+    @Spy
+    private HabitAssignDtoMapper habitAssignDtoMapper;
+    @Spy
+    private HabitDtoMapper habitDtoMapper;
     @Mock
     private HabitStatisticService habitStatisticService;
     @Mock
@@ -122,6 +132,8 @@ class HabitAssignServiceImplTest {
     private ShoppingListItemService shoppingListItemService;
     @Mock
     private CustomShoppingListItemService customShoppingListItemService;
+    @Mock
+    private FriendRecommendationIndex friendRecommendationIndex;
 
     private static ZonedDateTime zonedDateTime = ZonedDateTime.now();
 
@@ -363,9 +375,6 @@ class HabitAssignServiceImplTest {
             12, 12, 12, 12, ZoneId.of("Europe/Kiev"));
         habit1.setCreateDate(creation);
         habit2.setCreateDate(creation);
-        habit1.setHabitStatusCalendars(Collections.singletonList(HabitStatusCalendar
-            .builder().enrollDate(LocalDate.of(2020, 12, 28)).build()));
-        habit2.setHabitStatusCalendars(Collections.emptyList());
         List<HabitAssign> habitAssignList = Arrays.asList(habit1, habit2);
         List<HabitsDateEnrollmentDto> dtos = Arrays.asList(
             HabitsDateEnrollmentDto.builder().enrollDate(LocalDate.of(2020, 12, 27))
@@ -384,6 +393,9 @@ class HabitAssignServiceImplTest {
         when(habitAssignRepo.findAllHabitAssignsBetweenDates(anyLong(),
             eq(LocalDate.of(2020, 12, 27)), eq(LocalDate.of(2020, 12, 29))))
                 .thenReturn(habitAssignList);
+        when(habitStatusCalendarRepo.findEnrollDatesByHabitAssignIdsBetween(List.of(1L, 2L),
+            LocalDate.of(2020, 12, 27), LocalDate.of(2020, 12, 29)))
+                .thenReturn(List.of(new HabitEnrollDateDto(1L, LocalDate.of(2020, 12, 28))));
 
         assertEquals(dtos, habitAssignService.findHabitAssignsBetweenDates(13L,
             LocalDate.of(2020, 12, 27), LocalDate.of(2020, 12, 29),
@@ -418,7 +430,7 @@ class HabitAssignServiceImplTest {
     void unenrollHabit() {
         Long habitAssignId = 2L;
         Long userId = 3L;
-        LocalDate date = LocalDate.now();
+        LocalDate date = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
 
         habitAssign.setId(habitAssignId);
         habitAssign.getUser().setId(userId);
@@ -448,7 +460,7 @@ class HabitAssignServiceImplTest {
     void unenrollHabitThrowsNotFoundExceptionWhenHabitAssignNotExists() {
         Long habitAssignId = 2L;
         Long userId = 3L;
-        LocalDate date = LocalDate.now();
+        LocalDate date = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
 
         when(habitAssignRepo.findById(habitAssignId))
             .thenReturn(Optional.empty());
@@ -468,7 +480,7 @@ class HabitAssignServiceImplTest {
     void unenrollHabitThrowsUserHasNoPermissionToAccessExceptionWhenHabitAssignNotBelongToUser() {
         long habitAssignId = 2L;
         long userId = 3L;
-        LocalDate date = LocalDate.now();
+        LocalDate date = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
 
         habitAssign.setId(habitAssignId);
         habitAssign.getUser().setId(userId + 1);
@@ -492,7 +504,7 @@ class HabitAssignServiceImplTest {
     void unenrollHabitThrowsNotFoundExceptionWhenHabitNotEnrolled() {
         Long habitAssignId = 2L;
         Long userId = 3L;
-        LocalDate date = LocalDate.now();
+        LocalDate date = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
 
         habitAssign.setId(habitAssignId);
         habitAssign.getUser().setId(userId);
@@ -529,6 +541,7 @@ class HabitAssignServiceImplTest {
         verify(userShoppingListItemRepo).deleteShoppingListItemsByHabitAssignId(habitAssignId);
         verify(customShoppingListItemRepo).deleteCustomShoppingListItemsByHabitId(habitId);
         verify(habitAssignRepo).delete(habitAssign);
+        verify(friendRecommendationIndex).removeHabit(userId, habitId);
     }
 
     @Test
@@ -587,8 +600,8 @@ class HabitAssignServiceImplTest {
         habit.setHabitTranslations(Collections.singletonList(translation));
 
         when(habitAssignRepo.findAllByHabitId(habitId)).thenReturn(Collections.singletonList(habitAssign));
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
-        when(modelMapper.map(translation, HabitDto.class)).thenReturn(habitDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
+        doReturn(habitDto).when(habitDtoMapper).convert(translation);
         HabitAssignDto actual =
             habitAssignService.getAllHabitAssignsByHabitIdAndStatusNotCancelled(habitId, language.getCode()).get(0);
 
@@ -636,10 +649,9 @@ class HabitAssignServiceImplTest {
     void buildHabitAssignDtoContent() {
         when(habitAssignRepo.findByHabitIdAndUserId(1L, 1L))
             .thenReturn(Optional.of(habitAssign));
-        when(modelMapper.map(habitAssign,
-            HabitAssignDto.class)).thenReturn(habitAssignDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
         HabitTranslation habitTranslation = habitAssign.getHabit().getHabitTranslations().stream().findFirst().get();
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(ModelUtils.getHabitDto());
+        doReturn(ModelUtils.getHabitDto()).when(habitDtoMapper).convert(habitTranslation);
         assertEquals(habitAssignDto, habitAssignService.findHabitAssignByUserIdAndHabitId(1L, 1L, "en"));
     }
 
@@ -650,12 +662,12 @@ class HabitAssignServiceImplTest {
         habitAssignDtoCustom.setCreateDateTime(zonedDateTime);
 
         when(habitAssignRepo.findAllByUserId(1L)).thenReturn(habitAssigns);
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDtoCustom);
+        doReturn(habitAssignDtoCustom).when(habitAssignDtoMapper).convert(habitAssign);
         when(userShoppingListItemRepo.getAllAssignedShoppingListItemsFull(any()))
             .thenReturn(List.of(userShoppingListItemCustom));
 
         HabitTranslation habitTranslation = habitAssign.getHabit().getHabitTranslations().stream().findFirst().get();
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(ModelUtils.getHabitAssignDto().getHabit());
+        doReturn(ModelUtils.getHabitAssignDto().getHabit()).when(habitDtoMapper).convert(habitTranslation);
 
         habitAssignDtos.get(0).getHabit().setShoppingListItems(
             List.of(ShoppingListItemDto.builder()
@@ -751,11 +763,11 @@ class HabitAssignServiceImplTest {
     void getAllHabitAssignsByUserIdAndStatusAcquired() {
         List<ShoppingListItemTranslation> list = getShoppingListItemTranslationList();
         when(habitAssignRepo.findAllByUserIdAndStatusAcquired(1L)).thenReturn(fullHabitAssigns);
-        when(modelMapper.map(fullHabitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(fullHabitAssign);
         when(shoppingListItemTranslationRepo.findShoppingListByHabitIdAndByLanguageCode("en", 1L))
             .thenReturn(list);
         HabitTranslation habitTranslation = habitAssign.getHabit().getHabitTranslations().stream().findFirst().get();
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(ModelUtils.getHabitDto());
+        doReturn(ModelUtils.getHabitDto()).when(habitDtoMapper).convert(habitTranslation);
         List<HabitAssignDto> actual = habitAssignService.getAllHabitAssignsByUserIdAndStatusAcquired(1L, "en");
         assertEquals(habitAssignDtos, actual);
     }
@@ -764,11 +776,11 @@ class HabitAssignServiceImplTest {
     void getAllHabitAssignsByUserIdAndStatusAcquiredEmptyHabitAssign() {
         List<ShoppingListItemTranslation> list = getShoppingListItemTranslationList();
         when(habitAssignRepo.findAllByUserIdAndStatusAcquired(1L)).thenReturn(habitAssigns);
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
         when(shoppingListItemTranslationRepo.findShoppingListByHabitIdAndByLanguageCode("en", 1L))
             .thenReturn(list);
         HabitTranslation habitTranslation = habitAssign.getHabit().getHabitTranslations().stream().findFirst().get();
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(ModelUtils.getHabitDto());
+        doReturn(ModelUtils.getHabitDto()).when(habitDtoMapper).convert(habitTranslation);
         List<HabitAssignDto> actual = habitAssignService.getAllHabitAssignsByUserIdAndStatusAcquired(1L, "en");
         assertEquals(habitAssignDtos, actual);
     }
@@ -776,9 +788,9 @@ class HabitAssignServiceImplTest {
     @Test
     void getAllHabitAssignsByUserIdAndCancelledStatus() {
         when(habitAssignRepo.findAllByUserIdAndStatusIsCancelled(1L)).thenReturn(habitAssigns);
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
         HabitTranslation habitTranslation = habitAssign.getHabit().getHabitTranslations().stream().findFirst().get();
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(ModelUtils.getHabitDto());
+        doReturn(ModelUtils.getHabitDto()).when(habitDtoMapper).convert(habitTranslation);
         List<HabitAssignDto> actual = habitAssignService.getAllHabitAssignsByUserIdAndCancelledStatus(1L, "en");
         assertEquals(habitAssignDtos, actual);
     }
@@ -789,10 +801,10 @@ class HabitAssignServiceImplTest {
         habitAssignDto.setStatus(HabitAssignStatus.CANCELLED);
 
         when(habitAssignRepo.findByHabitIdAndUserIdAndStatusIsInprogress(1L, 1L)).thenReturn(Optional.of(habitAssign));
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
 
         HabitTranslation habitTranslation = habitAssign.getHabit().getHabitTranslations().stream().findFirst().get();
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(ModelUtils.getHabitDto());
+        doReturn(ModelUtils.getHabitDto()).when(habitDtoMapper).convert(habitTranslation);
 
         assertEquals(habitAssignDto, habitAssignService.cancelHabitAssign(1L, 1L));
 
@@ -802,12 +814,13 @@ class HabitAssignServiceImplTest {
     @Test
     void getByHabitAssignIdAndUserId() {
         when(habitAssignRepo.findById(1L)).thenReturn(Optional.of(habitAssign));
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
         HabitTranslation habitTranslation = habitAssign.getHabit().getHabitTranslations().stream().findFirst().get();
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(ModelUtils.getHabitDto());
+        doReturn(ModelUtils.getHabitDto()).when(habitDtoMapper).convert(habitTranslation);
         assertEquals(habitAssignDto, habitAssignService.getByHabitAssignIdAndUserId(1L, 1L, language));
         verify(habitAssignRepo).findById(anyLong());
-        verify(modelMapper, times(2)).map(any(), any());
+        verify(habitAssignDtoMapper).convert(habitAssign);
+        verify(habitDtoMapper).convert(habitTranslation);
     }
 
     @Test
@@ -815,7 +828,7 @@ class HabitAssignServiceImplTest {
         Long habitAssignId = 2L;
         Long userId = 3L;
         Long habitTranslationId = 4L;
-        LocalDate localDate = LocalDate.now();
+        LocalDate localDate = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
         String language = AppConstant.DEFAULT_LANGUAGE_CODE;
 
         HabitTranslation translation = ModelUtils.getHabitTranslation();
@@ -833,19 +846,21 @@ class HabitAssignServiceImplTest {
         when(habitStatusCalendarService
             .findHabitStatusCalendarByEnrollDateAndHabitAssign(localDate, habitAssignVO))
                 .thenReturn(null);
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
-        when(modelMapper.map(translation, HabitDto.class)).thenReturn(habitDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
+        doReturn(habitDto).when(habitDtoMapper).convert(translation);
 
         HabitAssignDto actualDto = habitAssignService.enrollHabit(habitAssignId, userId, localDate, language);
         assertEquals(1, habitAssign.getWorkingDays());
+        assertEquals(1, habitAssign.getHabitStreak());
+        assertEquals(localDate, habitAssign.getLastEnrollDate());
         assertEquals(habitAssignDto, actualDto);
 
         verify(habitAssignRepo).findById(habitAssignId);
         verify(modelMapper).map(habitAssign, HabitAssignVO.class);
         verify(habitStatusCalendarService).findHabitStatusCalendarByEnrollDateAndHabitAssign(localDate, habitAssignVO);
         verify(habitAssignRepo).save(habitAssign);
-        verify(modelMapper).map(habitAssign, HabitAssignDto.class);
-        verify(modelMapper).map(translation, HabitDto.class);
+        verify(habitAssignDtoMapper).convert(habitAssign);
+        verify(habitDtoMapper).convert(translation);
         verify(userShoppingListItemRepo)
             .getAllAssignedShoppingListItemsFull(habitAssignId);
     }
@@ -854,7 +869,7 @@ class HabitAssignServiceImplTest {
     void enrollHabitThrowsNotFoundExceptionWhenHabitAssignNotExists() {
         Long habitAssignId = 2L;
         Long userId = 3L;
-        LocalDate localDate = LocalDate.now();
+        LocalDate localDate = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
         String language = AppConstant.DEFAULT_LANGUAGE_CODE;
 
         when(habitAssignRepo.findById(habitAssignId)).thenReturn(Optional.empty());
@@ -869,8 +884,8 @@ class HabitAssignServiceImplTest {
         verify(modelMapper, times(0)).map(any(), eq(HabitAssignVO.class));
         verify(habitStatusCalendarService, times(0)).findHabitStatusCalendarByEnrollDateAndHabitAssign(any(), any());
         verify(habitAssignRepo, times(0)).save(any());
-        verify(modelMapper, times(0)).map(any(), eq(HabitAssignDto.class));
-        verify(modelMapper, times(0)).map(any(), eq(HabitDto.class));
+        verify(habitAssignDtoMapper, never()).convert(any(HabitAssign.class));
+        verify(habitDtoMapper, never()).convert(any(HabitTranslation.class));
         verify(userShoppingListItemRepo, times(0))
             .getAllAssignedShoppingListItemsFull(anyLong());
     }
@@ -879,7 +894,7 @@ class HabitAssignServiceImplTest {
     void enrollHabitThrowsUserHasNoPermissionToAccessExceptionWhenHabitAssignNotBelongToUser() {
         long habitAssignId = 2L;
         long userId = 3L;
-        LocalDate localDate = LocalDate.now();
+        LocalDate localDate = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
         String language = AppConstant.DEFAULT_LANGUAGE_CODE;
 
         habitAssign.setId(habitAssignId);
@@ -895,8 +910,8 @@ class HabitAssignServiceImplTest {
         verify(modelMapper, times(0)).map(any(), eq(HabitAssignVO.class));
         verify(habitStatusCalendarService, times(0)).findHabitStatusCalendarByEnrollDateAndHabitAssign(any(), any());
         verify(habitAssignRepo, times(0)).save(any());
-        verify(modelMapper, times(0)).map(any(), eq(HabitAssignDto.class));
-        verify(modelMapper, times(0)).map(any(), eq(HabitDto.class));
+        verify(habitAssignDtoMapper, never()).convert(any(HabitAssign.class));
+        verify(habitDtoMapper, never()).convert(any(HabitTranslation.class));
         verify(userShoppingListItemRepo, times(0))
             .getAllAssignedShoppingListItemsFull(anyLong());
     }
@@ -906,7 +921,7 @@ class HabitAssignServiceImplTest {
         Long habitAssignId = 2L;
         Long userId = 3L;
         Long habitTranslationId = 4L;
-        LocalDate localDate = LocalDate.now();
+        LocalDate localDate = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
         String language = AppConstant.DEFAULT_LANGUAGE_CODE;
 
         HabitTranslation translation = ModelUtils.getHabitTranslation();
@@ -936,8 +951,8 @@ class HabitAssignServiceImplTest {
         verify(modelMapper).map(habitAssign, HabitAssignVO.class);
         verify(habitStatusCalendarService).findHabitStatusCalendarByEnrollDateAndHabitAssign(localDate, habitAssignVO);
         verify(habitAssignRepo, times(0)).save(any());
-        verify(modelMapper, times(0)).map(any(), eq(HabitAssignDto.class));
-        verify(modelMapper, times(0)).map(any(), eq(HabitDto.class));
+        verify(habitAssignDtoMapper, never()).convert(any(HabitAssign.class));
+        verify(habitDtoMapper, never()).convert(any(HabitTranslation.class));
         verify(userShoppingListItemRepo, times(0))
             .getAllAssignedShoppingListItemsFull(anyLong());
     }
@@ -947,7 +962,7 @@ class HabitAssignServiceImplTest {
         Long habitAssignId = 2L;
         Long userId = 3L;
         Long habitTranslationId = 4L;
-        LocalDate localDate = LocalDate.now().plusDays(1);
+        LocalDate localDate = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE)).plusDays(1);
         String language = AppConstant.DEFAULT_LANGUAGE_CODE;
 
         HabitTranslation translation = ModelUtils.getHabitTranslation();
@@ -975,8 +990,8 @@ class HabitAssignServiceImplTest {
         verify(modelMapper).map(habitAssign, HabitAssignVO.class);
         verify(habitStatusCalendarService).findHabitStatusCalendarByEnrollDateAndHabitAssign(localDate, habitAssignVO);
         verify(habitAssignRepo, times(0)).save(any());
-        verify(modelMapper, times(0)).map(any(), eq(HabitAssignDto.class));
-        verify(modelMapper, times(0)).map(any(), eq(HabitDto.class));
+        verify(habitAssignDtoMapper, never()).convert(any(HabitAssign.class));
+        verify(habitDtoMapper, never()).convert(any(HabitTranslation.class));
         verify(userShoppingListItemRepo, times(0))
             .getAllAssignedShoppingListItemsFull(anyLong());
     }
@@ -986,7 +1001,8 @@ class HabitAssignServiceImplTest {
         Long habitAssignId = 2L;
         Long userId = 3L;
         Long habitTranslationId = 4L;
-        LocalDate localDate = LocalDate.now().minusDays(AppConstant.MAX_PASSED_DAYS_OF_ABILITY_TO_ENROLL);
+        LocalDate localDate = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE))
+            .minusDays(AppConstant.MAX_PASSED_DAYS_OF_ABILITY_TO_ENROLL);
         String language = AppConstant.DEFAULT_LANGUAGE_CODE;
 
         HabitTranslation translation = ModelUtils.getHabitTranslation();
@@ -1014,8 +1030,8 @@ class HabitAssignServiceImplTest {
         verify(modelMapper).map(habitAssign, HabitAssignVO.class);
         verify(habitStatusCalendarService).findHabitStatusCalendarByEnrollDateAndHabitAssign(localDate, habitAssignVO);
         verify(habitAssignRepo, times(0)).save(any());
-        verify(modelMapper, times(0)).map(any(), eq(HabitAssignDto.class));
-        verify(modelMapper, times(0)).map(any(), eq(HabitDto.class));
+        verify(habitAssignDtoMapper, never()).convert(any(HabitAssign.class));
+        verify(habitDtoMapper, never()).convert(any(HabitTranslation.class));
         verify(userShoppingListItemRepo, times(0))
             .getAllAssignedShoppingListItemsFull(anyLong());
     }
@@ -1024,7 +1040,7 @@ class HabitAssignServiceImplTest {
     void findInprogressHabitAssignsOnDate() {
 
         Long id = 3L;
-        LocalDate date = LocalDate.now();
+        LocalDate date = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
         Language language = ModelUtils.getLanguage();
         language.setCode("en");
 
@@ -1034,8 +1050,8 @@ class HabitAssignServiceImplTest {
         when(habitAssignRepo.findAllInprogressHabitAssignsOnDate(anyLong(), any(LocalDate.class)))
             .thenReturn(Collections.singletonList(habitAssign));
 
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(habitDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
+        doReturn(habitDto).when(habitDtoMapper).convert(habitTranslation);
 
         List<HabitAssignDto> dtoList =
             habitAssignService.findInprogressHabitAssignsOnDate(id, date, language.getCode());
@@ -1047,7 +1063,7 @@ class HabitAssignServiceImplTest {
     void findInprogressHabitAssignsOnDateContent() {
 
         Long id = 3L;
-        LocalDate date = LocalDate.now();
+        LocalDate date = LocalDate.now(ZoneId.of(AppConstant.UKRAINE_TIMEZONE));
         Language language = ModelUtils.getLanguage();
         language.setCode("en");
 
@@ -1057,8 +1073,8 @@ class HabitAssignServiceImplTest {
         when(habitAssignRepo.findAllInprogressHabitAssignsOnDate(anyLong(), any(LocalDate.class)))
             .thenReturn(Collections.singletonList(habitAssign));
 
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(habitDto);
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
+        doReturn(habitDto).when(habitDtoMapper).convert(habitTranslation);
 
         List<HabitAssignDto> dtoList =
             habitAssignService.findInprogressHabitAssignsOnDateContent(id, date, language.getCode());
@@ -1219,8 +1235,8 @@ class HabitAssignServiceImplTest {
         when(habitAssignRepo.findById(habitAssignId)).thenReturn(Optional.of(habitAssign));
         when(shoppingListItemTranslationRepo.findShoppingListByHabitIdAndByLanguageCode(language, habitId))
             .thenReturn(new ArrayList<>());
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(habitAssignDto.getHabit());
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
+        doReturn(habitAssignDto.getHabit()).when(habitDtoMapper).convert(habitTranslation);
         when(userShoppingListItemRepo.getAllAssignedShoppingListItemsFull(habitAssignId)).thenReturn(new ArrayList<>());
 
         var dto = habitAssignService.findHabitByUserIdAndHabitAssignId(userId, habitAssignId, language);
@@ -1249,8 +1265,8 @@ class HabitAssignServiceImplTest {
         habitAssignDto.setUserId(userId);
 
         when(habitAssignRepo.findById(habitAssignId)).thenReturn(Optional.of(habitAssign));
-        when(modelMapper.map(habitAssign, HabitAssignDto.class)).thenReturn(habitAssignDto);
-        when(modelMapper.map(any(HabitTranslation.class), eq(HabitDto.class))).thenReturn(getHabitDto());
+        doReturn(habitAssignDto).when(habitAssignDtoMapper).convert(habitAssign);
+        doReturn(getHabitDto()).when(habitDtoMapper).convert(any(HabitTranslation.class));
         when(shoppingListItemTranslationRepo.findShoppingListByHabitIdAndByLanguageCode(language, habitId))
             .thenReturn(getShoppingListItemTranslationList());
         when(habitAssignRepo.findAmountOfUsersAcquired(habitId)).thenReturn(amountOfUsersAcquired);
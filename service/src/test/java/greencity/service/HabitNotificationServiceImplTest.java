@@ -0,0 +1,184 @@
+package greencity.service;
+
+import greencity.client.RestClient;
+import greencity.dto.habit.HabitNotificationProgressDto;
+import greencity.dto.user.UserVO;
+import greencity.entity.HabitNotificationCheckpoint;
+import greencity.message.SendHabitNotification;
+import greencity.repository.HabitAssignRepo;
+import greencity.repository.HabitNotificationCheckpointRepo;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HabitNotificationServiceImplTest {
+    private static final String JOB_NAME = "daily_habit_notification";
+
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+    @Mock
+    private HabitNotificationCheckpointRepo checkpointRepo;
+    @Mock
+    private RestClient restClient;
+
+    private HabitNotificationServiceImpl habitNotificationService;
+
+    private final List<UserVO> users = List.of(
+        UserVO.builder().id(3L).name("third").email("third@gmail.com").build(),
+        UserVO.builder().id(1L).name("first").email("first@gmail.com").build(),
+        UserVO.builder().id(2L).name("second").email("second@gmail.com").build());
+
+    @BeforeEach
+    void setUp() {
+        habitNotificationService =
+            new HabitNotificationServiceImpl(habitAssignRepo, checkpointRepo, restClient, Runnable::run, 2, 600);
+        lenient().when(checkpointRepo.save(any(HabitNotificationCheckpoint.class))).thenAnswer(i -> i.getArgument(0));
+        lenient().when(checkpointRepo.claim(eq(JOB_NAME), any(LocalDate.class), any(ZonedDateTime.class),
+            any(ZonedDateTime.class))).thenReturn(1);
+        lenient().when(checkpointRepo.refreshHeartbeat(eq(JOB_NAME), any(ZonedDateTime.class),
+            any(ZonedDateTime.class))).thenReturn(1);
+    }
+
+    @Test
+    void sendHabitNotificationsTest() {
+        when(checkpointRepo.findByJobName(JOB_NAME)).thenReturn(Optional.empty())
+            .thenReturn(Optional.of(newCheckpoint()));
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsInPeriod(eq(List.of(1L, 2L)),
+            any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(List.of(2L));
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsInPeriod(eq(List.of(3L)),
+            any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(List.of());
+
+        HabitNotificationProgressDto actual = habitNotificationService.sendHabitNotifications(JOB_NAME, users);
+
+        ArgumentCaptor<SendHabitNotification> captor = ArgumentCaptor.forClass(SendHabitNotification.class);
+        verify(restClient, times(2)).sendHabitNotification(captor.capture());
+        assertEquals("first@gmail.com", captor.getAllValues().get(0).getEmail());
+        assertEquals("third@gmail.com", captor.getAllValues().get(1).getEmail());
+        assertEquals(3L, actual.getProcessedUsers());
+        assertEquals(2L, actual.getSentNotifications());
+        assertEquals(0L, actual.getFailedNotifications());
+        assertEquals(3L, actual.getLastUserId());
+        assertTrue(actual.getCompleted());
+    }
+
+    @Test
+    void sendHabitNotificationsResumesInterruptedRunTest() {
+        HabitNotificationCheckpoint checkpoint = HabitNotificationCheckpoint.builder()
+            .jobName(JOB_NAME)
+            .runDate(LocalDate.now())
+            .lastUserId(2L)
+            .processedUsers(2L)
+            .sentNotifications(1L)
+            .failedNotifications(0L)
+            .completed(false)
+            .build();
+        when(checkpointRepo.findByJobName(JOB_NAME)).thenReturn(Optional.of(checkpoint));
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsInPeriod(eq(List.of(3L)),
+            any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(List.of());
+
+        HabitNotificationProgressDto actual = habitNotificationService.sendHabitNotifications(JOB_NAME, users);
+
+        verify(habitAssignRepo).findUserIdsWithMarkedHabitAssignsInPeriod(anyCollection(),
+            any(ZonedDateTime.class), any(ZonedDateTime.class));
+        verify(restClient).sendHabitNotification(any(SendHabitNotification.class));
+        assertEquals(3L, actual.getProcessedUsers());
+        assertEquals(2L, actual.getSentNotifications());
+    }
+
+    @Test
+    void sendHabitNotificationsSkipsJobClaimedByAnotherRunTest() {
+        HabitNotificationCheckpoint checkpoint = newCheckpoint();
+        checkpoint.setHeartbeat(ZonedDateTime.now());
+        when(checkpointRepo.findByJobName(JOB_NAME)).thenReturn(Optional.of(checkpoint));
+        when(checkpointRepo.claim(eq(JOB_NAME), any(LocalDate.class), any(ZonedDateTime.class),
+            any(ZonedDateTime.class))).thenReturn(0);
+
+        HabitNotificationProgressDto actual = habitNotificationService.sendHabitNotifications(JOB_NAME, users);
+
+        verify(restClient, never()).sendHabitNotification(any(SendHabitNotification.class));
+        verify(checkpointRepo, never()).save(any(HabitNotificationCheckpoint.class));
+        assertFalse(actual.getCompleted());
+    }
+
+    @Test
+    void sendHabitNotificationsStopsWhenHeartbeatIsTakenOverTest() {
+        when(checkpointRepo.findByJobName(JOB_NAME)).thenReturn(Optional.of(newCheckpoint()));
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsInPeriod(anyCollection(),
+            any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(List.of());
+        when(checkpointRepo.refreshHeartbeat(eq(JOB_NAME), any(ZonedDateTime.class), any(ZonedDateTime.class)))
+            .thenReturn(0);
+
+        HabitNotificationProgressDto actual = habitNotificationService.sendHabitNotifications(JOB_NAME, users);
+
+        verify(restClient, times(2)).sendHabitNotification(any(SendHabitNotification.class));
+        verify(habitAssignRepo).findUserIdsWithMarkedHabitAssignsInPeriod(anyCollection(),
+            any(ZonedDateTime.class), any(ZonedDateTime.class));
+        assertFalse(actual.getCompleted());
+    }
+
+    @Test
+    void sendHabitNotificationsCountsFailuresTest() {
+        when(checkpointRepo.findByJobName(JOB_NAME)).thenReturn(Optional.empty())
+            .thenReturn(Optional.of(newCheckpoint()));
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsInPeriod(anyCollection(),
+            any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(List.of());
+        doThrow(RuntimeException.class).when(restClient).sendHabitNotification(any(SendHabitNotification.class));
+
+        HabitNotificationProgressDto actual = habitNotificationService.sendHabitNotifications(JOB_NAME, users);
+
+        assertEquals(0L, actual.getSentNotifications());
+        assertEquals(3L, actual.getFailedNotifications());
+        assertTrue(actual.getCompleted());
+    }
+
+    @Test
+    void isInterruptedTest() {
+        HabitNotificationCheckpoint checkpoint = HabitNotificationCheckpoint.builder()
+            .jobName(JOB_NAME)
+            .runDate(LocalDate.now().minusDays(1))
+            .completed(false)
+            .build();
+        when(checkpointRepo.findByJobName(JOB_NAME)).thenReturn(Optional.of(checkpoint));
+
+        assertFalse(habitNotificationService.isInterrupted(JOB_NAME));
+        checkpoint.setRunDate(LocalDate.now());
+        assertTrue(habitNotificationService.isInterrupted(JOB_NAME));
+        checkpoint.setHeartbeat(ZonedDateTime.now().minusMinutes(1));
+        assertFalse(habitNotificationService.isInterrupted(JOB_NAME));
+        checkpoint.setHeartbeat(ZonedDateTime.now().minusHours(1));
+        assertTrue(habitNotificationService.isInterrupted(JOB_NAME));
+    }
+
+    private static HabitNotificationCheckpoint newCheckpoint() {
+        return HabitNotificationCheckpoint.builder()
+            .jobName(JOB_NAME)
+            .runDate(LocalDate.now())
+            .lastUserId(0L)
+            .processedUsers(0L)
+            .sentNotifications(0L)
+            .failedNotifications(0L)
+            .completed(false)
+            .build();
+    }
+}
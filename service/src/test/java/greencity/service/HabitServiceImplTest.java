@@ -5,6 +5,7 @@ import greencity.constant.ErrorMessage;
 import greencity.dto.PageableDto;
 import greencity.dto.habit.AddCustomHabitDtoRequest;
 import greencity.dto.habit.AddCustomHabitDtoResponse;
+import greencity.dto.habit.HabitAcquiredUsersDto;
 import greencity.dto.habit.HabitDto;
 import greencity.dto.habittranslation.HabitTranslationDto;
 import greencity.dto.shoppinglistitem.CustomShoppingListItemResponseDto;
@@ -19,8 +20,10 @@ import greencity.entity.Tag;
 import greencity.entity.User;
 import greencity.entity.localization.ShoppingListItemTranslation;
 import greencity.exception.exceptions.NotFoundException;
+import greencity.filters.HabitTranslationSpecification;
 import greencity.exception.exceptions.WrongEmailException;
 import greencity.mapping.CustomShoppingListResponseDtoMapper;
+import greencity.mapping.HabitDtoMapper;
 import greencity.mapping.HabitTranslationDtoMapper;
 import greencity.repository.HabitAssignRepo;
 import greencity.repository.HabitRepo;
@@ -38,8 +41,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -49,13 +54,14 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -84,6 +90,9 @@ class HabitServiceImplTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Spy
+    private HabitDtoMapper habitDtoMapper;
+
     @Mock
     private CustomHabitMapper customHabitMapper;
 
@@ -119,6 +128,9 @@ class HabitServiceImplTest {
     @Mock
     private CustomShoppingListItemRepo customShoppingListItemRepo;
 
+    @Mock
+    private FriendGraphService friendGraphService;
+
     @Test()
     void getByIdAndLanguageCodeIsCustomHabitFalse() {
         Habit habit = ModelUtils.getHabit();
@@ -129,12 +141,12 @@ class HabitServiceImplTest {
         when(habitRepo.findById(1L)).thenReturn(Optional.of(habit));
         when(habitTranslationRepo.findByHabitAndLanguageCode(habit, "en"))
             .thenReturn(Optional.of(habitTranslation));
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(habitDto);
+        doReturn(habitDto).when(habitDtoMapper).convert(habitTranslation);
         when(habitAssignRepo.findAmountOfUsersAcquired(anyLong())).thenReturn(5L);
         assertEquals(habitDto, habitService.getByIdAndLanguageCode(1L, "en"));
         verify(habitRepo).findById(1L);
         verify(habitTranslationRepo).findByHabitAndLanguageCode(habit, "en");
-        verify(modelMapper).map(habitTranslation, HabitDto.class);
+        verify(habitDtoMapper).convert(habitTranslation);
         verify(habitAssignRepo).findAmountOfUsersAcquired(anyLong());
 
     }
@@ -151,12 +163,12 @@ class HabitServiceImplTest {
         when(habitRepo.findById(1L)).thenReturn(Optional.of(habit));
         when(habitTranslationRepo.findByHabitAndLanguageCode(habit, "en"))
             .thenReturn(Optional.of(habitTranslation));
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(habitDto);
+        doReturn(habitDto).when(habitDtoMapper).convert(habitTranslation);
         when(habitAssignRepo.findAmountOfUsersAcquired(anyLong())).thenReturn(5L);
         assertEquals(habitDto, habitService.getByIdAndLanguageCode(1L, "en"));
         verify(habitRepo).findById(1L);
         verify(habitTranslationRepo).findByHabitAndLanguageCode(habit, "en");
-        verify(modelMapper).map(habitTranslation, HabitDto.class);
+        verify(habitDtoMapper).convert(habitTranslation);
         verify(habitAssignRepo).findAmountOfUsersAcquired(anyLong());
     }
 
@@ -187,10 +199,11 @@ class HabitServiceImplTest {
         List<Long> availableUsersIds = List.of(1L);
         when(habitTranslationRepo.findAllByLanguageCode(pageable, "en", availableUsersIds))
             .thenReturn(habitTranslationPage);
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(habitDto);
-        when(habitAssignRepo.findAmountOfUsersAcquired(anyLong())).thenReturn(5L);
-        when(habitRepo.findById(1L)).thenReturn(Optional.ofNullable(habit));
-        when(habitAssignRepo.findByHabitIdAndUserId(1L, 1L)).thenReturn(Optional.empty());
+        doReturn(habitDto).when(habitDtoMapper).convert(habitTranslation);
+        when(habitAssignRepo.findAmountsOfUsersAcquired(List.of(1L)))
+            .thenReturn(List.of(new HabitAcquiredUsersDto(1L, 5L)));
+        when(habitRepo.findAllByIdsWithCustomShoppingListItems(List.of(1L))).thenReturn(List.of(habit));
+        when(habitAssignRepo.findAllByHabitIdsAndUserId(List.of(1L), 1L)).thenReturn(Collections.emptyList());
         List<HabitDto> habitDtoList = Collections.singletonList(habitDto);
         PageableDto pageableDto = new PageableDto(habitDtoList, habitTranslationPage.getTotalElements(),
             habitTranslationPage.getPageable().getPageNumber(), habitTranslationPage.getTotalPages());
@@ -210,8 +223,9 @@ class HabitServiceImplTest {
         List<HabitDto> habitDtoList = Collections.singletonList(habitDto);
         PageableDto pageableDto = new PageableDto(habitDtoList, habitTranslationPage.getTotalElements(),
             habitTranslationPage.getPageable().getPageNumber(), habitTranslationPage.getTotalPages());
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(habitDto);
-        when(habitAssignRepo.findAmountOfUsersAcquired(anyLong())).thenReturn(5L);
+        doReturn(habitDto).when(habitDtoMapper).convert(habitTranslation);
+        when(habitAssignRepo.findAmountsOfUsersAcquired(List.of(1L)))
+            .thenReturn(List.of(new HabitAcquiredUsersDto(1L, 5L)));
         when(habitTranslationRepo.findAllByTagsAndLanguageCode(pageable, lowerCaseTags, "en"))
             .thenReturn(habitTranslationPage);
         assertEquals(pageableDto, habitService.getAllByTagsAndLanguageCode(pageable, tags, "en"));
@@ -249,131 +263,35 @@ class HabitServiceImplTest {
         PageableDto pageableDto = new PageableDto(habitDtoList, habitTranslationPage.getTotalElements(),
             habitTranslationPage.getPageable().getPageNumber(), habitTranslationPage.getTotalPages());
 
-        List<Long> userIds = userRepo.getAllUserFriends(1L).stream().map(User::getId).collect(Collectors.toList());
+        List<Long> userIds = List.of(1L);
 
-        when(modelMapper.map(habitTranslation, HabitDto.class)).thenReturn(habitDto);
-        when(habitAssignRepo.findAmountOfUsersAcquired(anyLong())).thenReturn(5L);
-        when(habitRepo.findById(1L)).thenReturn(Optional.ofNullable(ModelUtils.getHabitWithCustom()));
-        List<User> users = Collections.singletonList(ModelUtils.getUser());
-        when(userRepo.getAllUserFriends(ModelUtils.getUser().getId())).thenReturn(users);
-
-        when(habitTranslationRepo.findAllByDifferentParametersIsCustomHabitTrue(any(Pageable.class), anyList(), any(),
-            anyString(), anyList())).thenReturn(habitTranslationPage);
-        when(habitTranslationRepo.findAllByDifferentParametersIsCustomHabitFalse(any(Pageable.class), anyList(), any(),
-            anyString())).thenReturn(habitTranslationPage);
-        when(habitTranslationRepo.findAllByTagsAndIsCustomHabitTrueAndLanguageCode(any(Pageable.class), anyList(),
-            anyString(), anyList())).thenReturn(habitTranslationPage);
-        when(habitTranslationRepo.findAllByTagsAndIsCustomHabitFalseAndLanguageCode(any(Pageable.class), anyList(),
-            anyString())).thenReturn(habitTranslationPage);
-        when(habitTranslationRepo.findAllByIsCustomHabitTrueAndComplexityAndLanguageCode(any(Pageable.class), any(),
-            anyString(),
-            anyList())).thenReturn(habitTranslationPage);
-        when(habitTranslationRepo.findAllByIsCustomHabitFalseAndComplexityAndLanguageCode(any(Pageable.class), any(),
-            anyString())).thenReturn(habitTranslationPage);
-        when(habitTranslationRepo.findAllByTagsAndComplexityAndLanguageCodeForAvailableUsersIfIsCustomTrue(
-            any(Pageable.class), anyList(), any(), anyString(),
-            anyList())).thenReturn(habitTranslationPage);
-        when(
-            habitTranslationRepo.findAllByIsCustomHabitTrueAndLanguageCode(any(Pageable.class), anyString(), anyList()))
-                .thenReturn(habitTranslationPage);
-        when(habitTranslationRepo.findAllByIsCustomFalseHabitAndLanguageCode(any(Pageable.class), anyString()))
+        doReturn(habitDto).when(habitDtoMapper).convert(habitTranslation);
+        when(habitAssignRepo.findAmountsOfUsersAcquired(List.of(1L)))
+            .thenReturn(List.of(new HabitAcquiredUsersDto(1L, 5L)));
+        when(habitRepo.findAllByIdsWithCustomShoppingListItems(List.of(1L)))
+            .thenReturn(List.of(ModelUtils.getHabitWithCustom()));
+        when(friendGraphService.findFriendIds(ModelUtils.getUser().getId()))
+            .thenReturn(userIds.stream().mapToLong(Long::longValue));
+
+        when(habitTranslationRepo.findAll(any(HabitTranslationSpecification.class), eq(pageable)))
             .thenReturn(habitTranslationPage);
-        when(habitTranslationRepo.findAllByTagsAndLanguageCodeAndForAvailableUsersIfIsCustomHabitTrue(
-            any(Pageable.class), any(), anyString(),
-            anyList())).thenReturn(habitTranslationPage);
-        when(habitTranslationRepo.findAllByComplexityAndLanguageCodeAndForAvailableUsersIfIsCustomHabit(
-            any(Pageable.class), any(), anyString(),
-            anyList())).thenReturn(habitTranslationPage);
-
-        if (isCustomHabit.isPresent() && tags.isPresent() && complexities.isPresent()) {
-            if (isCustomHabit.get()) {
-                habitTranslationRepo.findAllByDifferentParametersIsCustomHabitTrue(pageable, lowerCaseTags,
-                    complexities, "en", userIds);
-            } else {
-                habitTranslationRepo.findAllByDifferentParametersIsCustomHabitFalse(pageable, lowerCaseTags,
-                    complexities, "en");
-            }
-        } else if (isCustomHabit.isPresent() && tags.isPresent()) {
-            if (isCustomHabit.get()) {
-                habitTranslationRepo.findAllByTagsAndIsCustomHabitTrueAndLanguageCode(pageable, lowerCaseTags, "en",
-                    userIds);
-            } else {
-                habitTranslationRepo.findAllByTagsAndIsCustomHabitFalseAndLanguageCode(pageable, lowerCaseTags, "en");
-            }
-        } else if (isCustomHabit.isPresent() && complexities.isPresent()) {
-            if (isCustomHabit.get()) {
-                habitTranslationRepo.findAllByIsCustomHabitTrueAndComplexityAndLanguageCode(pageable, complexities,
-                    "en", userIds);
-            } else {
-                habitTranslationRepo.findAllByIsCustomHabitFalseAndComplexityAndLanguageCode(pageable, complexities,
-                    "en");
-            }
-        } else if (complexities.isPresent() && tags.isPresent()) {
-            habitTranslationRepo.findAllByTagsAndComplexityAndLanguageCodeForAvailableUsersIfIsCustomTrue(pageable,
-                lowerCaseTags, complexities, "en", userIds);
-        } else if (isCustomHabit.isPresent()) {
-            if (isCustomHabit.get()) {
-                habitTranslationRepo.findAllByIsCustomHabitTrueAndLanguageCode(pageable, "en", userIds);
-            } else {
-                habitTranslationRepo.findAllByIsCustomFalseHabitAndLanguageCode(pageable, "en");
-            }
-        } else if (tags.isPresent()) {
-            habitTranslationRepo.findAllByTagsAndLanguageCodeAndForAvailableUsersIfIsCustomHabitTrue(pageable,
-                lowerCaseTags, "en", userIds);
-        } else if (complexities.isPresent()) {
-            habitTranslationRepo.findAllByComplexityAndLanguageCodeAndForAvailableUsersIfIsCustomHabit(pageable,
-                complexities, "en", userIds);
-        }
 
         assertEquals(pageableDto, habitService.getAllByDifferentParameters(ModelUtils.getUserVO(), pageable, tags,
             isCustomHabit, complexities, "en"));
 
-        verify(modelMapper).map(habitTranslation, HabitDto.class);
-        verify(habitAssignRepo).findAmountOfUsersAcquired(anyLong());
-        verify(habitRepo).findById(1L);
-
-        if (isCustomHabit.isPresent() && tags.isPresent() && complexities.isPresent()) {
-            if (isCustomHabit.get()) {
-                verify(habitTranslationRepo).findAllByDifferentParametersIsCustomHabitTrue(pageable, lowerCaseTags,
-                    complexities, "en", userIds);
-            } else {
-                verify(habitTranslationRepo, times(2)).findAllByDifferentParametersIsCustomHabitFalse(pageable,
-                    lowerCaseTags,
-                    complexities, "en");
-            }
-        } else if (isCustomHabit.isPresent() && tags.isPresent()) {
-            if (isCustomHabit.get()) {
-                verify(habitTranslationRepo).findAllByTagsAndIsCustomHabitTrueAndLanguageCode(pageable, lowerCaseTags,
-                    "en", userIds);
-            } else {
-                verify(habitTranslationRepo, times(2)).findAllByTagsAndIsCustomHabitFalseAndLanguageCode(pageable,
-                    lowerCaseTags,
-                    "en");
-            }
-        } else if (isCustomHabit.isPresent() && complexities.isPresent()) {
-            if (isCustomHabit.get()) {
-                verify(habitTranslationRepo).findAllByIsCustomHabitTrueAndComplexityAndLanguageCode(pageable,
-                    complexities, "en", userIds);
-            } else {
-                verify(habitTranslationRepo, times(2)).findAllByIsCustomHabitFalseAndComplexityAndLanguageCode(pageable,
-                    complexities, "en");
-            }
-        } else if (complexities.isPresent() && tags.isPresent()) {
-            verify(habitTranslationRepo).findAllByTagsAndComplexityAndLanguageCodeForAvailableUsersIfIsCustomTrue(
-                pageable, lowerCaseTags, complexities, "en", userIds);
-        } else if (isCustomHabit.isPresent()) {
-            if (isCustomHabit.get()) {
-                verify(habitTranslationRepo).findAllByIsCustomHabitTrueAndLanguageCode(pageable, "en", userIds);
-            } else {
-                verify(habitTranslationRepo, times(2)).findAllByIsCustomFalseHabitAndLanguageCode(pageable, "en");
-            }
-        } else if (tags.isPresent()) {
-            verify(habitTranslationRepo).findAllByTagsAndLanguageCodeAndForAvailableUsersIfIsCustomHabitTrue(pageable,
-                lowerCaseTags, "en", userIds);
-        } else if (complexities.isPresent()) {
-            verify(habitTranslationRepo).findAllByComplexityAndLanguageCodeAndForAvailableUsersIfIsCustomHabit(pageable,
-                complexities, "en", userIds);
-        }
+        ArgumentCaptor<HabitTranslationSpecification> specification =
+            ArgumentCaptor.forClass(HabitTranslationSpecification.class);
+        verify(habitTranslationRepo).findAll(specification.capture(), eq(pageable));
+        assertEquals("en", specification.getValue().getLanguageCode());
+        assertEquals(tags.map(list -> lowerCaseTags).orElse(null), specification.getValue().getTags());
+        assertEquals(complexities.orElse(null), specification.getValue().getComplexities());
+        assertEquals(isCustomHabit.orElse(null), specification.getValue().getIsCustomHabit());
+        assertEquals(List.of(1L, 1L), specification.getValue().getAvailableUsersIds());
+
+        verify(habitDtoMapper).convert(habitTranslation);
+        verify(habitAssignRepo).findAmountsOfUsersAcquired(List.of(1L));
+        verify(habitRepo).findAllByIdsWithCustomShoppingListItems(List.of(1L));
+        verify(habitAssignRepo).findAllByHabitIdsAndUserId(List.of(1L), 1L);
     }
 
     @Test
@@ -720,7 +638,8 @@ class HabitServiceImplTest {
 
         when(userRepo.existsById(userId)).thenReturn(true);
         when(habitRepo.existsById(habitId)).thenReturn(true);
-        when(userRepo.getFriendsAssignedToHabit(userId, habitId)).thenReturn(List.of(friend));
+        when(friendGraphService.findFriendIds(userId)).thenReturn(LongStream.of(friendId));
+        when(userRepo.findAllAssignedToHabit(List.of(friendId), habitId)).thenReturn(List.of(friend));
         when(modelMapper.map(friend, UserProfilePictureDto.class)).thenReturn(friendProfilePicture);
 
         List<UserProfilePictureDto> list = habitService.getFriendsAssignedToHabitProfilePictures(habitId, userId);
@@ -729,7 +648,7 @@ class HabitServiceImplTest {
 
         verify(userRepo).existsById(userId);
         verify(habitRepo).existsById(habitId);
-        verify(userRepo).getFriendsAssignedToHabit(userId, habitId);
+        verify(userRepo).findAllAssignedToHabit(List.of(friendId), habitId);
         verify(modelMapper).map(friend, UserProfilePictureDto.class);
     }
 
@@ -747,7 +666,7 @@ class HabitServiceImplTest {
 
         verify(userRepo).existsById(userId);
         verify(habitRepo, never()).existsById(anyLong());
-        verify(userRepo, never()).getFriendsAssignedToHabit(anyLong(), anyLong());
+        verify(userRepo, never()).findAllAssignedToHabit(anyList(), anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 
@@ -766,7 +685,7 @@ class HabitServiceImplTest {
 
         verify(userRepo).existsById(userId);
         verify(habitRepo).existsById(habitId);
-        verify(userRepo, never()).getFriendsAssignedToHabit(anyLong(), anyLong());
+        verify(userRepo, never()).findAllAssignedToHabit(anyList(), anyLong());
         verify(modelMapper, never()).map(any(), any());
     }
 }
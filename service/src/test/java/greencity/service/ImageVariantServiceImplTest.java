@@ -0,0 +1,288 @@
+package greencity.service;
+
+import greencity.exception.exceptions.NotSavedException;
+import greencity.image.ImageMetadata;
+import greencity.image.ImageVariants;
+import greencity.mapping.InMemoryMultipartFile;
+import greencity.repository.EcoNewsRepo;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceImplTest {
+    private static final String BASE_URL = "https://storage/images/";
+    private static final String ORIGINAL_URL = BASE_URL + "123e4567-e89b-12d3-a456-426614174000_original.png";
+
+    @Mock
+    private FileService fileService;
+    @Mock
+    private EcoNewsRepo ecoNewsRepo;
+    @Mock
+    private ThreadPoolTaskExecutor executor;
+
+    private ImageVariantServiceImpl imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        imageVariantService = new ImageVariantServiceImpl(fileService, ecoNewsRepo, executor);
+    }
+
+    @Test
+    void uploadStoresOriginalAndResizedVariants() throws IOException {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(fileService.upload(any(MultipartFile.class), anyString()))
+            .thenAnswer(invocation -> BASE_URL + invocation.getArgument(1));
+
+        MultipartFile image = image(800, 400);
+
+        String imagePath = imageVariantService.upload(image);
+
+        ArgumentCaptor<MultipartFile> files = ArgumentCaptor.forClass(MultipartFile.class);
+        ArgumentCaptor<String> names = ArgumentCaptor.forClass(String.class);
+        verify(fileService, times(3)).upload(files.capture(), names.capture());
+        assertEquals(BASE_URL + names.getAllValues().get(0), imagePath);
+        assertTrue(names.getAllValues().get(0).endsWith("_original.png"));
+        assertArrayEquals(image.getBytes(), files.getAllValues().get(0).getBytes());
+        ArgumentCaptor<String> record = ArgumentCaptor.forClass(String.class);
+        verify(ecoNewsRepo).updateImageVariants(eq(imagePath), record.capture());
+        Map<Integer, String> variantUrls = ImageVariants.variantUrls(imagePath, record.getValue());
+        int[] expectedWidths = {320, 640};
+        assertEquals(List.of(320, 640), List.copyOf(variantUrls.keySet()));
+        for (int i = 0; i < expectedWidths.length; i++) {
+            MultipartFile variant = files.getAllValues().get(i + 1);
+            assertEquals(variantUrls.get(expectedWidths[i]), BASE_URL + names.getAllValues().get(i + 1));
+            assertEquals("image/jpeg", variant.getContentType());
+            BufferedImage decoded = ImageIO.read(variant.getInputStream());
+            assertEquals(expectedWidths[i], decoded.getWidth());
+            assertEquals(expectedWidths[i] / 2, decoded.getHeight());
+        }
+    }
+
+    @Test
+    void uploadRecordsOnlyStoredVariants() throws IOException {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(fileService.upload(any(MultipartFile.class), anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(1);
+            if (name.endsWith("_w640.jpg")) {
+                throw new IllegalStateException("storage is unavailable");
+            }
+            return BASE_URL + name;
+        });
+
+        String imagePath = imageVariantService.upload(image(1600, 800));
+
+        ArgumentCaptor<String> record = ArgumentCaptor.forClass(String.class);
+        verify(ecoNewsRepo).updateImageVariants(eq(imagePath), record.capture());
+        assertEquals(List.of(320, 1280),
+            List.copyOf(ImageVariants.variantUrls(imagePath, record.getValue()).keySet()));
+    }
+
+    @Test
+    void recordVariantsStoredBeforeEcoNewsWasSaved() throws IOException {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(fileService.upload(any(MultipartFile.class), anyString()))
+            .thenAnswer(invocation -> BASE_URL + invocation.getArgument(1));
+        String imagePath = imageVariantService.upload(image(800, 400));
+
+        imageVariantService.recordVariants(imagePath);
+
+        verify(ecoNewsRepo, times(2)).updateImageVariants(eq(imagePath), anyString());
+    }
+
+    @Test
+    void recordVariantsIgnoresImageWithoutStoredVariants() {
+        imageVariantService.recordVariants(ORIGINAL_URL);
+        imageVariantService.recordVariants(null);
+
+        verify(ecoNewsRepo, never()).updateImageVariants(any(), any());
+    }
+
+    @Test
+    void uploadRejectsImageThatCanNotBeDecoded() {
+        MultipartFile image = new InMemoryMultipartFile("file", "image.png", "image/png", new byte[] {1, 2});
+
+        assertThrows(NotSavedException.class, () -> imageVariantService.upload(image));
+        verify(fileService, never()).upload(any(MultipartFile.class), anyString());
+    }
+
+    @Test
+    void uploadStoresOriginalWithoutMetadata() throws IOException {
+        when(fileService.upload(any(MultipartFile.class), anyString())).thenReturn(ORIGINAL_URL);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), "jpg", outputStream);
+        byte[] jpeg = outputStream.toByteArray();
+        byte[] exif = {(byte) 0xFF, (byte) 0xE1, 0, 16, 'E', 'x', 'i', 'f', 0, 0, 'G', 'P', 'S', 'I', 'n', 'f', 'o', 0};
+        byte[] content = new byte[jpeg.length + exif.length];
+        System.arraycopy(jpeg, 0, content, 0, 2);
+        System.arraycopy(exif, 0, content, 2, exif.length);
+        System.arraycopy(jpeg, 2, content, 2 + exif.length, jpeg.length - 2);
+
+        imageVariantService.upload(new InMemoryMultipartFile("file", "photo.jpeg", "image/jpeg", content));
+
+        ArgumentCaptor<MultipartFile> file = ArgumentCaptor.forClass(MultipartFile.class);
+        ArgumentCaptor<String> name = ArgumentCaptor.forClass(String.class);
+        verify(fileService).upload(file.capture(), name.capture());
+        assertTrue(name.getValue().endsWith("_original.jpg"));
+        assertEquals("image/jpeg", file.getValue().getContentType());
+        String stored = new String(file.getValue().getBytes(), StandardCharsets.ISO_8859_1);
+        assertFalse(stored.contains("Exif"));
+        assertFalse(stored.contains("GPSInfo"));
+        assertEquals(100, ImageIO.read(file.getValue().getInputStream()).getWidth());
+        assertEquals(ImageMetadata.NORMAL_ORIENTATION, ImageMetadata.orientation(file.getValue().getBytes()));
+    }
+
+    @Test
+    void uploadKeepsOrientationOfPhotoAndGeneratesUprightVariants() throws IOException {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(fileService.upload(any(MultipartFile.class), anyString()))
+            .thenAnswer(invocation -> BASE_URL + invocation.getArgument(1));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "jpg", outputStream);
+        byte[] jpeg = outputStream.toByteArray();
+        byte[] exif = {(byte) 0xFF, (byte) 0xE1, 0, 41, 'E', 'x', 'i', 'f', 0, 0,
+            'I', 'I', 42, 0, 8, 0, 0, 0, 1, 0, 0x12, 0x01, 3, 0, 1, 0, 0, 0, 6, 0, 0, 0, 0, 0, 0, 0,
+            'G', 'P', 'S', 'I', 'n', 'f', 'o'};
+        byte[] content = new byte[jpeg.length + exif.length];
+        System.arraycopy(jpeg, 0, content, 0, 2);
+        System.arraycopy(exif, 0, content, 2, exif.length);
+        System.arraycopy(jpeg, 2, content, 2 + exif.length, jpeg.length - 2);
+
+        imageVariantService.upload(new InMemoryMultipartFile("file", "photo.jpeg", "image/jpeg", content));
+
+        ArgumentCaptor<MultipartFile> files = ArgumentCaptor.forClass(MultipartFile.class);
+        verify(fileService, times(2)).upload(files.capture(), anyString());
+        byte[] stored = files.getAllValues().get(0).getBytes();
+        assertFalse(new String(stored, StandardCharsets.ISO_8859_1).contains("GPSInfo"));
+        assertEquals(6, ImageMetadata.orientation(stored));
+        BufferedImage variant = ImageIO.read(files.getAllValues().get(1).getInputStream());
+        assertEquals(320, variant.getWidth());
+        assertEquals(640, variant.getHeight());
+    }
+
+    @Test
+    void uploadStoresPngWithoutTextChunks() throws IOException {
+        when(fileService.upload(any(MultipartFile.class), anyString())).thenReturn(ORIGINAL_URL);
+        byte[] png = image(100, 50).getBytes();
+        byte[] text = pngChunk("tEXt", "Author\0John Doe".getBytes(StandardCharsets.ISO_8859_1));
+        int afterHeader = 8 + 12 + 13;
+        byte[] content = new byte[png.length + text.length];
+        System.arraycopy(png, 0, content, 0, afterHeader);
+        System.arraycopy(text, 0, content, afterHeader, text.length);
+        System.arraycopy(png, afterHeader, content, afterHeader + text.length, png.length - afterHeader);
+
+        imageVariantService.upload(new InMemoryMultipartFile("file", "image.png", "image/png", content));
+
+        ArgumentCaptor<MultipartFile> file = ArgumentCaptor.forClass(MultipartFile.class);
+        verify(fileService).upload(file.capture(), anyString());
+        assertArrayEquals(png, file.getValue().getBytes());
+    }
+
+    @Test
+    void uploadDoesNotGenerateVariantsWiderThanImage() throws IOException {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(fileService.upload(any(MultipartFile.class), anyString())).thenReturn(ORIGINAL_URL);
+
+        imageVariantService.upload(image(320, 100));
+
+        verify(fileService).upload(any(MultipartFile.class), anyString());
+        verify(ecoNewsRepo, never()).updateImageVariants(any(), any());
+    }
+
+    @Test
+    void uploadReturnsOriginalWhenProcessingQueueIsFull() throws IOException {
+        doThrow(new TaskRejectedException("full")).when(executor).execute(any(Runnable.class));
+        when(fileService.upload(any(MultipartFile.class), anyString())).thenReturn(ORIGINAL_URL);
+
+        assertEquals(ORIGINAL_URL, imageVariantService.upload(image(100, 100)));
+        verify(fileService).upload(any(MultipartFile.class), anyString());
+    }
+
+    @Test
+    void deleteRemovesVariantsAndOriginal() {
+        imageVariantService.delete(ORIGINAL_URL);
+
+        for (String variantUrl : ImageVariants.possibleVariantUrls(ORIGINAL_URL)) {
+            verify(fileService).delete(variantUrl);
+        }
+        verify(fileService).delete(ORIGINAL_URL);
+    }
+
+    @Test
+    void deleteImageWithoutVariants() {
+        String legacyUrl = BASE_URL + "123e4567-e89b-12d3-a456-426614174000image.png";
+
+        imageVariantService.delete(legacyUrl);
+
+        assertTrue(ImageVariants.possibleVariantUrls(legacyUrl).isEmpty());
+        verify(fileService).delete(legacyUrl);
+    }
+
+    @Test
+    void variantUrlsIgnoreRecordOfAnotherImage() {
+        String record = ImageVariants.record("00000000-e89b-12d3-a456-426614174000", ImageVariants.WIDTHS);
+
+        assertTrue(ImageVariants.variantUrls(ORIGINAL_URL, record).isEmpty());
+        assertTrue(ImageVariants.variantUrls(ORIGINAL_URL, null).isEmpty());
+    }
+
+    private static byte[] pngChunk(String type, byte[] data) {
+        ByteBuffer chunk = ByteBuffer.allocate(12 + data.length);
+        CRC32 crc = new CRC32();
+        crc.update(type.getBytes(StandardCharsets.US_ASCII));
+        crc.update(data);
+        return chunk.putInt(data.length).put(type.getBytes(StandardCharsets.US_ASCII)).put(data)
+            .putInt((int) crc.getValue()).array();
+    }
+
+    private static MultipartFile image(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return new InMemoryMultipartFile("file", "image.png", "image/png", outputStream.toByteArray());
+    }
+}
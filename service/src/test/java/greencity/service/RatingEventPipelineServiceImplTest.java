@@ -0,0 +1,201 @@
+package greencity.service;
+
+import greencity.ModelUtils;
+import greencity.annotations.RatingCalculationEnum;
+import greencity.client.RestClient;
+import greencity.dto.ratingstatistics.RatingEventPipelineStatisticsDto;
+import greencity.dto.user.UserVO;
+import greencity.entity.RatingStatistics;
+import greencity.repository.RatingStatisticsBatchRepo;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestClientException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RatingEventPipelineServiceImplTest {
+    private static final String ACCESS_TOKEN = "token";
+
+    @Mock
+    private RestClient restClient;
+    @Mock
+    private RatingStatisticsBatchRepo ratingStatisticsBatchRepo;
+    @Mock
+    private ThreadPoolTaskExecutor executor;
+
+    private RatingEventPipelineServiceImpl ratingEventPipelineService;
+
+    @BeforeEach
+    void setUp() {
+        ratingEventPipelineService =
+            new RatingEventPipelineServiceImpl(restClient, ratingStatisticsBatchRepo, executor, 100, 300, 2, 1);
+    }
+
+    @Test
+    void publishUpdatesUserAndQueuesStatistics() {
+        runTasksImmediately();
+        UserVO userVO = getUserVOWithRating(1D);
+
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_COMMENT, userVO, ACCESS_TOKEN);
+        ratingEventPipelineService.flushStatistics();
+
+        verify(restClient).save(userVO, ACCESS_TOKEN);
+        assertEquals(3D, userVO.getRating());
+        List<RatingStatistics> rows = captureSavedRows();
+        assertEquals(1, rows.size());
+        assertEquals(3D, rows.get(0).getRating());
+        assertEquals(RatingCalculationEnum.ADD_COMMENT, rows.get(0).getRatingCalculationEnum());
+        assertEquals(1L, rows.get(0).getUser().getId());
+    }
+
+    @Test
+    void publishCoalescesEventsOfOneUser() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        UserVO userVO = getUserVOWithRating(1D);
+
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_ECO_NEWS, userVO, ACCESS_TOKEN);
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_COMMENT, userVO, ACCESS_TOKEN);
+        ratingEventPipelineService.publish(RatingCalculationEnum.LIKE_COMMENT, userVO, ACCESS_TOKEN);
+        verify(executor).execute(task.capture());
+        task.getValue().run();
+        ratingEventPipelineService.flushStatistics();
+
+        verify(restClient).save(userVO, ACCESS_TOKEN);
+        assertEquals(24D, userVO.getRating());
+        List<RatingStatistics> rows = captureSavedRows();
+        assertEquals(3, rows.size());
+        assertEquals(21D, rows.get(0).getRating());
+        assertEquals(23D, rows.get(1).getRating());
+        assertEquals(24D, rows.get(2).getRating());
+    }
+
+    @Test
+    void publishWithStaleRatingKeepsPreviousIncrements() {
+        runTasksImmediately();
+        UserVO first = getUserVOWithRating(1D);
+        UserVO second = getUserVOWithRating(1D);
+
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_COMMENT, first, ACCESS_TOKEN);
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_COMMENT, second, ACCESS_TOKEN);
+
+        assertEquals(3D, first.getRating());
+        assertEquals(5D, second.getRating());
+    }
+
+    @Test
+    void publishRunsRejectedTaskByCaller() {
+        doThrow(TaskRejectedException.class).when(executor).execute(any(Runnable.class));
+        when(executor.getThreadPoolExecutor()).thenReturn(
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+        UserVO userVO = getUserVOWithRating(1D);
+
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_COMMENT, userVO, ACCESS_TOKEN);
+
+        verify(restClient).save(userVO, ACCESS_TOKEN);
+        RatingEventPipelineStatisticsDto statistics = ratingEventPipelineService.getStatistics();
+        assertEquals(1, statistics.getPublishedEvents());
+        assertEquals(1, statistics.getRejectedSubmissions());
+        assertEquals(1, statistics.getUserUpdatesSent());
+        assertEquals(1, statistics.getPendingStatisticsRows());
+        assertEquals(0, statistics.getPendingUsers());
+    }
+
+    @Test
+    void publishWhenUserUpdateFailedDoesNotSaveStatistics() {
+        runTasksImmediately();
+        UserVO userVO = getUserVOWithRating(1D);
+        doThrow(RestClientException.class).when(restClient).save(userVO, ACCESS_TOKEN);
+
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_COMMENT, userVO, ACCESS_TOKEN);
+        ratingEventPipelineService.flushStatistics();
+
+        verify(ratingStatisticsBatchRepo, never()).saveAll(any());
+        assertEquals(1D, userVO.getRating());
+    }
+
+    @Test
+    void retryFailedUpdatesAppliesFailedEventsBeforeNewOnes() {
+        runTasksImmediately();
+        UserVO userVO = getUserVOWithRating(1D);
+        doThrow(RestClientException.class).doNothing().when(restClient).save(userVO, ACCESS_TOKEN);
+
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_COMMENT, userVO, ACCESS_TOKEN);
+        ratingEventPipelineService.retryFailedUpdates();
+        ratingEventPipelineService.flushStatistics();
+
+        assertEquals(3D, userVO.getRating());
+        List<RatingStatistics> rows = captureSavedRows();
+        assertEquals(1, rows.size());
+        assertEquals(3D, rows.get(0).getRating());
+    }
+
+    @Test
+    void retryFailedUpdatesDropsEventsAfterMaxAttempts() {
+        runTasksImmediately();
+        UserVO userVO = getUserVOWithRating(1D);
+        doThrow(RestClientException.class).when(restClient).save(userVO, ACCESS_TOKEN);
+
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_COMMENT, userVO, ACCESS_TOKEN);
+        ratingEventPipelineService.retryFailedUpdates();
+        ratingEventPipelineService.retryFailedUpdates();
+
+        when(executor.getThreadPoolExecutor()).thenReturn(
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+        verify(restClient, times(2)).save(userVO, ACCESS_TOKEN);
+        assertEquals(2, ratingEventPipelineService.getStatistics().getFailedUserUpdates());
+    }
+
+    @Test
+    void shutdownAppliesQueuedEventsAndWritesStatistics() {
+        ThreadPoolExecutor threadPoolExecutor =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        when(executor.getThreadPoolExecutor()).thenReturn(threadPoolExecutor);
+        UserVO userVO = getUserVOWithRating(1D);
+
+        ratingEventPipelineService.publish(RatingCalculationEnum.ADD_COMMENT, userVO, ACCESS_TOKEN);
+        ratingEventPipelineService.shutdown();
+
+        assertTrue(threadPoolExecutor.isShutdown());
+        verify(restClient).save(userVO, ACCESS_TOKEN);
+        assertEquals(1, captureSavedRows().size());
+    }
+
+    private void runTasksImmediately() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+    }
+
+    private UserVO getUserVOWithRating(Double rating) {
+        UserVO userVO = ModelUtils.getUserVO();
+        userVO.setRating(rating);
+        return userVO;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RatingStatistics> captureSavedRows() {
+        ArgumentCaptor<List<RatingStatistics>> rows = ArgumentCaptor.forClass(List.class);
+        verify(ratingStatisticsBatchRepo).saveAll(rows.capture());
+        return rows.getValue();
+    }
+}
@@ -10,6 +10,7 @@ import greencity.entity.RatingStatistics;
 import greencity.annotations.RatingCalculationEnum;
 import greencity.filters.RatingStatisticsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.repository.RatingStatisticsExportRepo;
 import greencity.repository.RatingStatisticsRepo;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,8 +25,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,6 +39,8 @@ class RatingStatisticsServiceImplTest {
     @Mock
     private RatingStatisticsRepo ratingStatisticsRepo;
     @Mock
+    private RatingStatisticsExportRepo ratingStatisticsExportRepo;
+    @Mock
     private ModelMapper modelMapper;
     @InjectMocks
     private RatingStatisticsServiceImpl ratingStatisticsService;
@@ -120,6 +125,32 @@ class RatingStatisticsServiceImplTest {
         assertEquals(expected, ratingStatisticsDtoList);
     }
 
+    @Test
+    void exportRatingStatistics() {
+        when(ratingStatisticsExportRepo.streamAll(null)).thenReturn(ratingStatisticsDtoList.stream());
+        List<RatingStatisticsDto> exported = new ArrayList<>();
+
+        ratingStatisticsService.exportRatingStatistics(null, stream -> stream.forEach(exported::add));
+
+        assertEquals(ratingStatisticsDtoList, exported);
+    }
+
+    @Test
+    void exportFilteredRatingStatistics() {
+        RatingStatisticsViewDto ratingStatisticsViewDto = RatingStatisticsViewDto.builder()
+            .id("").eventName("").userId("").userEmail("").startDate("").endDate("")
+            .pointsChanged("1").currentRating("").build();
+        when(ratingStatisticsExportRepo.streamAll(any(RatingStatisticsSpecification.class)))
+            .thenReturn(ratingStatisticsDtoList.stream());
+
+        List<RatingStatisticsDto> exported = new ArrayList<>();
+        ratingStatisticsService.exportRatingStatistics(ratingStatisticsViewDto,
+            stream -> exported.addAll(stream.collect(Collectors.toList())));
+
+        assertEquals(ratingStatisticsDtoList, exported);
+        verify(ratingStatisticsRepo, never()).findAll(any(RatingStatisticsSpecification.class));
+    }
+
     @Test
     void getFilteredDataForManagementByPage() {
         RatingStatisticsViewDto ratingStatisticsViewDto = RatingStatisticsViewDto.builder()
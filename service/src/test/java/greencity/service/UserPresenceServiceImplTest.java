@@ -0,0 +1,108 @@
+package greencity.service;
+
+import greencity.dto.user.UserLastActivityTimeDto;
+import greencity.presence.LocalPresenceStore;
+import greencity.presence.PresenceStore;
+import greencity.repository.UserLastActivityBatchRepo;
+import greencity.repository.UserRepo;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPresenceServiceImplTest {
+    private static final long TIME_AFTER_LAST_ACTIVITY = 300000;
+
+    @Mock
+    private UserRepo userRepo;
+    @Mock
+    private UserLastActivityBatchRepo userLastActivityBatchRepo;
+    @Mock
+    private ObjectProvider<PresenceStore> presenceStoreProvider;
+
+    private UserPresenceServiceImpl userPresenceService;
+
+    @BeforeEach
+    void setUp() {
+        when(presenceStoreProvider.getIfAvailable(any())).thenReturn(new LocalPresenceStore());
+        userPresenceService = new UserPresenceServiceImpl(userRepo, userLastActivityBatchRepo,
+            presenceStoreProvider, TIME_AFTER_LAST_ACTIVITY);
+    }
+
+    @Test
+    void checkOnlineStatusOfRecentlySeenUserWithoutQuery() {
+        userPresenceService.recordActivity(1L, new Date());
+
+        assertEquals(Optional.of(true), userPresenceService.checkOnlineStatus(1L));
+        verify(userRepo, never()).findLastActivityTimesByIds(anyCollection());
+    }
+
+    @Test
+    void checkOnlineStatusReadsNotSeenUserFromDatabase() {
+        userPresenceService.recordActivity(1L, new Date(System.currentTimeMillis() - 2 * TIME_AFTER_LAST_ACTIVITY));
+        when(userRepo.findLastActivityTimesByIds(List.of(1L)))
+            .thenReturn(List.of(new UserLastActivityTimeDto(1L, LocalDateTime.now().minusSeconds(1))));
+        when(userRepo.findLastActivityTimesByIds(List.of(2L)))
+            .thenReturn(List.of(new UserLastActivityTimeDto(2L, LocalDateTime.now().minusHours(1))));
+        when(userRepo.findLastActivityTimesByIds(List.of(3L)))
+            .thenReturn(List.of(new UserLastActivityTimeDto(3L, null)));
+
+        assertEquals(Optional.of(true), userPresenceService.checkOnlineStatus(1L));
+        assertEquals(Optional.of(false), userPresenceService.checkOnlineStatus(2L));
+        assertEquals(Optional.of(false), userPresenceService.checkOnlineStatus(3L));
+        assertEquals(Optional.empty(), userPresenceService.checkOnlineStatus(4L));
+    }
+
+    @Test
+    void flushLastActivityTimesWritesRecordedTimesOnce() {
+        Date activityTime = new Date();
+        userPresenceService.recordActivity(1L, new Date(activityTime.getTime() - 1000));
+        userPresenceService.recordActivity(1L, activityTime);
+
+        assertEquals(1, userPresenceService.flushLastActivityTimes());
+        assertEquals(0, userPresenceService.flushLastActivityTimes());
+        verify(userLastActivityBatchRepo).updateLastActivityTimes(Map.of(1L, activityTime.toInstant()));
+    }
+
+    @Test
+    void flushLastActivityTimesKeepsTimesWhenUpdateFails() {
+        Date activityTime = new Date();
+        userPresenceService.recordActivity(1L, activityTime);
+        Map<Long, Instant> expected = Map.of(1L, activityTime.toInstant());
+        doThrow(new IllegalStateException("database is down"))
+            .when(userLastActivityBatchRepo).updateLastActivityTimes(expected);
+
+        assertEquals(0, userPresenceService.flushLastActivityTimes());
+
+        doNothing().when(userLastActivityBatchRepo).updateLastActivityTimes(expected);
+        assertEquals(1, userPresenceService.flushLastActivityTimes());
+    }
+
+    @Test
+    void shutdownFlushesRecordedTimes() {
+        Date activityTime = new Date();
+        userPresenceService.recordActivity(1L, activityTime);
+
+        userPresenceService.shutdown();
+
+        verify(userLastActivityBatchRepo).updateLastActivityTimes(Map.of(1L, activityTime.toInstant()));
+    }
+}
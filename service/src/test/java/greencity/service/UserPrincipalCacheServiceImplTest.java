@@ -0,0 +1,92 @@
+package greencity.service;
+
+import greencity.dto.cache.CacheStatisticsDto;
+import greencity.dto.user.UserPrincipalVO;
+import greencity.enums.Role;
+import greencity.enums.UserStatus;
+import greencity.repository.UserRepo;
+import greencity.security.events.UpdatePasswordEvent;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheServiceImplTest {
+    private static final String EMAIL = "test@gmail.com";
+
+    @Mock
+    private UserRepo userRepo;
+
+    private UserPrincipalCacheServiceImpl userPrincipalCacheService;
+
+    private final UserPrincipalVO principal = UserPrincipalVO.builder()
+        .id(1L)
+        .email(EMAIL)
+        .role(Role.ROLE_USER)
+        .userStatus(UserStatus.ACTIVATED)
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        userPrincipalCacheService = new UserPrincipalCacheServiceImpl(userRepo, 100, 60);
+    }
+
+    @Test
+    void findByEmailLoadsPrincipalOnlyOnceTest() {
+        when(userRepo.findPrincipalByEmail(EMAIL)).thenReturn(Optional.of(principal));
+
+        assertEquals(Optional.of(principal), userPrincipalCacheService.findByEmail(EMAIL));
+        assertEquals(Optional.of(principal), userPrincipalCacheService.findByEmail(EMAIL));
+
+        verify(userRepo).findPrincipalByEmail(EMAIL);
+        CacheStatisticsDto statistics = userPrincipalCacheService.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+    }
+
+    @Test
+    void findByEmailNotFoundTest() {
+        when(userRepo.findPrincipalByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertTrue(userPrincipalCacheService.findByEmail(EMAIL).isEmpty());
+    }
+
+    @Test
+    void findNotDeactivatedByEmailTest() {
+        principal.setUserStatus(UserStatus.DEACTIVATED);
+        when(userRepo.findPrincipalByEmail(EMAIL)).thenReturn(Optional.of(principal));
+
+        assertTrue(userPrincipalCacheService.findNotDeactivatedByEmail(EMAIL).isEmpty());
+    }
+
+    @Test
+    void evictByEmailTest() {
+        when(userRepo.findPrincipalByEmail(EMAIL)).thenReturn(Optional.of(principal));
+
+        userPrincipalCacheService.findByEmail(EMAIL);
+        userPrincipalCacheService.evictByEmail(EMAIL);
+        userPrincipalCacheService.findByEmail(EMAIL);
+
+        verify(userRepo, times(2)).findPrincipalByEmail(EMAIL);
+    }
+
+    @Test
+    void onUpdatePasswordEvictsPrincipalTest() {
+        when(userRepo.findPrincipalByEmail(EMAIL)).thenReturn(Optional.of(principal));
+
+        userPrincipalCacheService.findByEmail(EMAIL);
+        userPrincipalCacheService.onUpdatePassword(new UpdatePasswordEvent(this, "password", 1L));
+        userPrincipalCacheService.findByEmail(EMAIL);
+
+        verify(userRepo, times(2)).findPrincipalByEmail(EMAIL);
+    }
+}
@@ -25,11 +25,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
-import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.time.Month;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -51,6 +48,10 @@ class UserServiceImplTest {
     private UserServiceImpl userService;
     @Mock
     private ModelMapper modelMapper;
+    @Mock
+    private UserPrincipalCacheService userPrincipalCacheService;
+    @Mock
+    private UserPresenceService userPresenceService;
 
     private UserVO userVO = UserVO.builder()
         .id(1L)
@@ -82,27 +83,23 @@ class UserServiceImplTest {
     }
 
     @Test
-    void checkIfTheUserIsOnlineEqualsTrueTest() {
-        ReflectionTestUtils.setField(userService, "timeAfterLastActivity", 300000);
-        Timestamp userLastActivityTime = Timestamp.valueOf(LocalDateTime.now());
-        User user = ModelUtils.getUser();
+    void checkIfTheUserIsOnlineNotExistingUserTest() {
+        when(userPresenceService.checkOnlineStatus(1L)).thenReturn(Optional.empty());
 
-        when(userRepo.findById(anyLong())).thenReturn(Optional.of(user));
-        when(userRepo.findLastActivityTimeById(anyLong())).thenReturn(Optional.of(userLastActivityTime));
+        assertThrows(WrongIdException.class, () -> userService.checkIfTheUserIsOnline(1L));
+    }
+
+    @Test
+    void checkIfTheUserIsOnlineEqualsTrueTest() {
+        when(userPresenceService.checkOnlineStatus(1L)).thenReturn(Optional.of(true));
 
         assertTrue(userService.checkIfTheUserIsOnline(1L));
+        verify(userRepo, never()).findById(anyLong());
     }
 
     @Test
     void checkIfTheUserIsOnlineEqualsFalseTest() {
-        ReflectionTestUtils.setField(userService, "timeAfterLastActivity", 300000);
-        LocalDateTime localDateTime = LocalDateTime.of(
-            2015, Month.JULY, 29, 19, 30, 40);
-        Timestamp userLastActivityTime = Timestamp.valueOf(localDateTime);
-        User user = ModelUtils.getUser();
-
-        when(userRepo.findById(anyLong())).thenReturn(Optional.of(user));
-        when(userRepo.findLastActivityTimeById(anyLong())).thenReturn(Optional.empty());
+        when(userPresenceService.checkOnlineStatus(1L)).thenReturn(Optional.of(false));
 
         assertFalse(userService.checkIfTheUserIsOnline(1L));
     }
@@ -183,11 +180,10 @@ class UserServiceImplTest {
     void testUpdateUserLastActivityTime() {
         Date date = new Date();
 
-        doNothing().when(userRepo).updateUserLastActivityTime(1L, date);
-
         userService.updateUserLastActivityTime(1L, date);
 
-        verify(userRepo).updateUserLastActivityTime(1L, date);
+        verify(userPresenceService).recordActivity(1L, date);
+        verify(userRepo, never()).updateUserLastActivityTime(anyLong(), any());
     }
 
     @Test
@@ -207,6 +203,7 @@ class UserServiceImplTest {
         verify(modelMapper, times(4)).map(any(User.class), eq(UserVO.class));
         verify(userRepo, times(2)).findById(anyLong());
         verify(userRepo).updateUserStatus(2L, String.valueOf(CREATED));
+        verify(userPrincipalCacheService).evictById(2L);
         verify(modelMapper).map(TEST_USER_VO_ROLE_USER, UserStatusDto.class);
     }
 